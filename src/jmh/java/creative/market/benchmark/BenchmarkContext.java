@@ -0,0 +1,43 @@
+package creative.market.benchmark;
+
+import creative.market.ProducemarketApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public final class BenchmarkContext { // 포크(JVM)당 스프링 컨텍스트 하나, 데이터 생성도 한번만
+
+    private static ConfigurableApplicationContext context;
+    private static BenchmarkDataSet dataSet;
+
+    private BenchmarkContext() {
+    }
+
+    public static synchronized <T> T getBean(Class<T> type) {
+        return start().getBean(type);
+    }
+
+    public static synchronized BenchmarkDataSet dataSet() {
+        start();
+        return dataSet;
+    }
+
+    public static synchronized void close() {
+        if (context != null) {
+            context.close();
+            context = null;
+            dataSet = null;
+        }
+    }
+
+    private static ConfigurableApplicationContext start() {
+        if (context == null) {
+            context = new SpringApplicationBuilder(ProducemarketApplication.class)
+                    .profiles("jmh")
+                    .web(WebApplicationType.NONE)
+                    .run();
+            dataSet = context.getBean(BenchmarkDataGenerator.class).generateIfAbsent();
+        }
+        return context;
+    }
+}
@@ -0,0 +1,293 @@
+package creative.market.benchmark;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+@Component
+@Profile({"jmh", "generator"})
+@RequiredArgsConstructor
+@Slf4j
+public class BenchmarkDataGenerator { // 판매자, 구매자, 상품, 주문, 리뷰 대량 생성 (JDBC 배치 insert)
+    // 아이디와 날짜를 직접 지정 -> 같은 seed, 같은 크기면 실행 시점, 기존 데이터와 관계없이 항상 같은 데이터
+    // jmh 프로필: 벤치마크 시작시 생성, generator 프로필: ./gradlew generateData 로 부하 테스트용 데이터 생성
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${bench.seed}")
+    private long seed;
+    @Value("${bench.base-id}")
+    private long baseId; // 테이블마다 baseId 부터 아이디 지정 (운영 데이터와 겹치지 않게 큰 값)
+    @Value("${bench.anchor-date}")
+    private String anchorDate; // 주문일 분포 기준일 (기준일 이전 n개월)
+    @Value("${bench.login-id-prefix}")
+    private String loginIdPrefix; // {prefix}seller-0, {prefix}buyer-0
+    @Value("${bench.password}")
+    private String password;
+    @Value("${bench.sellers}")
+    private int sellerCount;
+    @Value("${bench.buyers}")
+    private int buyerCount;
+    @Value("${bench.products}")
+    private int productCount;
+    @Value("${bench.orders}")
+    private int orderCount;
+    @Value("${bench.max-lines-per-order}")
+    private int maxLinesPerOrder;
+    @Value("${bench.reviews}")
+    private int reviewCount;
+    @Value("${bench.months}")
+    private int months;
+    @Value("${bench.seller-skew}")
+    private double sellerSkew;
+    @Value("${bench.product-skew}")
+    private double productSkew;
+    @Value("${bench.cancel-rate}")
+    private double cancelRate;
+    @Value("${bench.seasonality}")
+    private double[] seasonality; // 1월 ~ 12월 주문량 가중치
+    @Value("${bench.batch-size}")
+    private int batchSize;
+
+    private LocalDateTime anchor;
+
+    @PostConstruct
+    void init() {
+        if (seasonality.length != 12) {
+            throw new IllegalArgumentException("bench.seasonality 는 12개월 가중치가 필요합니다.");
+        }
+        anchor = LocalDate.parse(anchorDate).atStartOfDay();
+    }
+
+    public BenchmarkDataSet generateIfAbsent() {
+        BenchmarkDataSet existing = findExisting();
+        if (existing != null) { // 이미 생성된 데이터 재사용
+            log.info("benchmark data already exists");
+            return existing;
+        }
+
+        Random random = new Random(seed);
+        List<Long> kindGradeIds = jdbcTemplate.queryForList("select kind_grade_id from kind_grade order by kind_grade_id", Long.class);
+        if (kindGradeIds.isEmpty()) {
+            throw new IllegalStateException("품목 분류(kind_grade) 데이터가 없습니다. 분류 데이터를 먼저 적재하세요.");
+        }
+
+        long sellerBaseId = baseId;
+        long buyerBaseId = baseId + sellerCount;
+        insertUsers("Seller", sellerBaseId, sellerCount, sellerLoginId());
+        insertUsers("Buyer", buyerBaseId, buyerCount, buyerLoginId());
+        int[] productPrices = insertProducts(random, kindGradeIds, sellerBaseId);
+
+        OrderLines orderLines = insertOrders(random, buyerBaseId, productPrices);
+        insertBuyerSpendMonths();
+        int reviews = insertReviews(random, orderLines, buyerBaseId);
+
+        log.info("benchmark data generated sellers={}, buyers={}, products={}, orders={}, orderProducts={}, reviews={}",
+                sellerCount, buyerCount, productCount, orderCount, orderLines.size, reviews);
+        return new BenchmarkDataSet(ids(sellerBaseId, sellerCount), ids(buyerBaseId, buyerCount), ids(baseId, productCount), lastOrderMonth());
+    }
+
+    private BenchmarkDataSet findExisting() {
+        List<Long> sellerIds = findUserIds(sellerLoginId());
+        if (sellerIds.isEmpty()) {
+            return null;
+        }
+        List<Long> productIds = jdbcTemplate.queryForList("select p.product_id from product p join user u on u.user_id = p.user_id" +
+                " where u.login_id like ? order by p.product_id", Long.class, sellerLoginId() + "%");
+        return new BenchmarkDataSet(sellerIds, findUserIds(buyerLoginId()), productIds, lastOrderMonth());
+    }
+
+    private List<Long> findUserIds(String loginIdPrefix) {
+        return jdbcTemplate.queryForList("select user_id from user where login_id like ? order by user_id", Long.class, loginIdPrefix + "%");
+    }
+
+    private String sellerLoginId() {
+        return loginIdPrefix + "seller-";
+    }
+
+    private String buyerLoginId() {
+        return loginIdPrefix + "buyer-";
+    }
+
+    private YearMonth lastOrderMonth() {
+        return YearMonth.from(anchor.minusDays(1));
+    }
+
+    private void insertUsers(String dtype, long userBaseId, int count, String loginId) {
+        boolean seller = dtype.equals("Seller");
+        Timestamp changeDate = Timestamp.valueOf(anchor.minusMonths(months));
+        BatchWriter users = new BatchWriter("insert into user (user_id, dtype, name, login_id, password, birth, email, phone_number, status," +
+                " jibun, road, zipcode, detail_address, business_number, business_name, change_date)" +
+                " values (?, ?, ?, ?, ?, ?, ?, ?, 'EXIST', ?, ?, ?, ?, ?, ?, ?)");
+        for (int i = 0; i < count; i++) {
+            users.add(userBaseId + i, dtype, (seller ? "판매자" : "구매자") + i, loginId + i, password, "1990-01-01",
+                    loginId + i + "@gen.com", "010-0000-0000", "지번" + i, "도로명" + i, 10000 + i % 90000, i + "호",
+                    seller ? String.valueOf(1000000000L + i) : null, seller ? "농장" + i : null, seller ? changeDate : null);
+        }
+        users.flush();
+    }
+
+    private int[] insertProducts(Random random, List<Long> kindGradeIds, long sellerBaseId) {
+        // 상품 -> 판매자는 zipf 분포 (상위 판매자가 많은 상품 보유), 품목 분류는 섞은 뒤 순서대로 -> 모든 분류에 고르게 분포
+        List<Long> shuffledKindGradeIds = new ArrayList<>(kindGradeIds);
+        Collections.shuffle(shuffledKindGradeIds, random);
+        SkewedPicker sellerPicker = new SkewedPicker(sellerCount, sellerSkew);
+        LocalDateTime firstOrderDate = lastOrderMonth().minusMonths(months - 1L).atDay(1).atStartOfDay();
+
+        int[] prices = new int[productCount];
+        BatchWriter products = new BatchWriter("insert into product (product_id, name, price, info, kind_grade_id, user_id, created_date, status)" +
+                " values (?, ?, ?, ?, ?, ?, ?, 'EXIST')");
+        BatchWriter images = new BatchWriter("insert into product_image (product_image_id, name, path, type, product_id)" +
+                " values (?, 'gen.png', 'img/product/gen.png', 'SIGNATURE', ?)");
+        for (int i = 0; i < productCount; i++) {
+            prices[i] = (1 + random.nextInt(100)) * 1000;
+            LocalDateTime createdDate = firstOrderDate.minusDays(1 + random.nextInt(30)); // 첫 주문 이전에 등록
+            products.add(baseId + i, "상품" + i, prices[i], "상품 설명" + i,
+                    shuffledKindGradeIds.get(i % shuffledKindGradeIds.size()), sellerBaseId + sellerPicker.pick(random), Timestamp.valueOf(createdDate));
+            images.add(baseId + i, baseId + i);
+        }
+        products.flush();
+        images.flush();
+        return prices;
+    }
+
+    private OrderLines insertOrders(Random random, long buyerBaseId, int[] productPrices) {
+        // 주문 -> 기준일 이전 n개월에 월별 seasonality 가중치로 분포, 상품은 zipf 분포 (인기 상품에 주문 집중)
+        SkewedPicker productPicker = new SkewedPicker(productCount, productSkew);
+        List<YearMonth> yearMonths = new ArrayList<>();
+        double[] cumulativeWeight = new double[months];
+        double sum = 0;
+        for (int i = 0; i < months; i++) {
+            YearMonth ym = lastOrderMonth().minusMonths(months - 1L - i);
+            yearMonths.add(ym);
+            sum += seasonality[ym.getMonthValue() - 1];
+            cumulativeWeight[i] = sum;
+        }
+
+        OrderLines lines = new OrderLines(orderCount * maxLinesPerOrder);
+        BatchWriter orders = new BatchWriter("insert into orders (order_id, jibun, road, zipcode, detail_address, user_id, created_date, active_total_price, active_line_count)" +
+                " values (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        BatchWriter orderProducts = new BatchWriter("insert into order_product (order_product_id, count, price, order_id, product_id, status, ordered_date)" +
+                " values (?, ?, ?, ?, ?, ?, ?)");
+        for (int i = 0; i < orderCount; i++) {
+            YearMonth ym = yearMonths.get(pickIndex(cumulativeWeight, random.nextDouble() * sum));
+            LocalDateTime createdDate = ym.atDay(1 + random.nextInt(ym.lengthOfMonth())).atStartOfDay().plusSeconds(random.nextInt(24 * 60 * 60));
+            int buyerIndex = random.nextInt(buyerCount);
+
+            int lineCount = 1 + random.nextInt(maxLinesPerOrder);
+            long activeTotalPrice = 0;
+            int activeLineCount = 0;
+            for (int j = 0; j < lineCount; j++) {
+                int productIndex = productPicker.pick(random);
+                int count = 1 + random.nextInt(5);
+                String status = random.nextDouble() < cancelRate ? "CANCEL" : "ORDER";
+                if (status.equals("ORDER")) {
+                    activeTotalPrice += (long) count * productPrices[productIndex];
+                    activeLineCount++;
+                }
+                orderProducts.add(baseId + lines.size, count, productPrices[productIndex],
+                        baseId + i, baseId + productIndex, status, Timestamp.valueOf(createdDate));
+                lines.add(buyerIndex, productIndex, createdDate);
+            }
+            orders.add(baseId + i, "지번" + buyerIndex, "도로명" + buyerIndex, 10000 + buyerIndex % 90000, buyerIndex + "호",
+                    buyerBaseId + buyerIndex, Timestamp.valueOf(createdDate), activeTotalPrice, activeLineCount);
+        }
+        orders.flush();
+        orderProducts.flush();
+        return lines;
+    }
+
+    private void insertBuyerSpendMonths() { // 생성한 주문의 구매자 월 결제 금액 (BuyerSpendMonthRepository 집계와 같은 기준)
+        jdbcTemplate.update("insert into buyer_spend_month (buyer_id, ym, total, line_count)" +
+                " select o.user_id, date_format(o.created_date, '%Y-%m'), sum(op.price * op.count), count(*)" +
+                " from orders o join order_product op on op.order_id = o.order_id" +
+                " where op.status = 'ORDER' and o.order_id between ? and ?" +
+                " group by o.user_id, date_format(o.created_date, '%Y-%m')", baseId, baseId + orderCount - 1);
+    }
+
+    private int insertReviews(Random random, OrderLines lines, long buyerBaseId) {
+        // 주문한 (구매자, 상품) 중에서만 리뷰 생성, (상품, 회원)당 1개
+        Set<Long> reviewed = new HashSet<>();
+        BatchWriter reviews = new BatchWriter("insert into review (review_id, rate, content, user_id, product_id, created_date) values (?, ?, '리뷰', ?, ?, ?)");
+        int attempts = 0;
+        while (reviewed.size() < reviewCount && attempts++ < reviewCount * 3) {
+            int line = random.nextInt(lines.size);
+            int buyerIndex = lines.buyerIndexes[line];
+            int productIndex = lines.productIndexes[line];
+            if (!reviewed.add((long) productIndex * buyerCount + buyerIndex)) {
+                continue;
+            }
+            LocalDateTime createdDate = lines.createdDates[line].plusDays(1 + random.nextInt(7));
+            reviews.add(baseId + reviewed.size() - 1, (float) (1 + random.nextInt(5)),
+                    buyerBaseId + buyerIndex, baseId + productIndex, Timestamp.valueOf(createdDate));
+        }
+        reviews.flush();
+        return reviewed.size();
+    }
+
+    private int pickIndex(double[] cumulative, double value) {
+        int index = Arrays.binarySearch(cumulative, value);
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    private List<Long> ids(long from, int count) {
+        return LongStream.range(from, from + count).boxed().collect(Collectors.toList());
+    }
+
+    private class BatchWriter { // batchSize 마다 배치 insert
+
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+
+        private BatchWriter(String sql) {
+            this.sql = sql;
+        }
+
+        private void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+
+    private static class OrderLines { // 리뷰 생성을 위한 주문 상품 (구매자, 상품, 주문일)
+
+        private final int[] buyerIndexes;
+        private final int[] productIndexes;
+        private final LocalDateTime[] createdDates;
+        private int size;
+
+        private OrderLines(int capacity) {
+            buyerIndexes = new int[capacity];
+            productIndexes = new int[capacity];
+            createdDates = new LocalDateTime[capacity];
+        }
+
+        private void add(int buyerIndex, int productIndex, LocalDateTime createdDate) {
+            buyerIndexes[size] = buyerIndex;
+            productIndexes[size] = productIndex;
+            createdDates[size] = createdDate;
+            size++;
+        }
+    }
+}
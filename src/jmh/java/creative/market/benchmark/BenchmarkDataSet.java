@@ -0,0 +1,40 @@
+package creative.market.benchmark;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class BenchmarkDataSet { // 생성된 데이터 아이디 목록
+
+    private final List<Long> sellerIds;
+    private final List<Long> buyerIds;
+    private final List<Long> productIds;
+    private final YearMonth lastOrderMonth; // 주문이 분포된 마지막 월 (기준일 이전 월)
+
+    public BenchmarkDataSet(List<Long> sellerIds, List<Long> buyerIds, List<Long> productIds, YearMonth lastOrderMonth) {
+        this.sellerIds = List.copyOf(sellerIds);
+        this.buyerIds = List.copyOf(buyerIds);
+        this.productIds = List.copyOf(productIds);
+        this.lastOrderMonth = lastOrderMonth;
+    }
+
+    public YearMonth lastOrderMonth() {
+        return lastOrderMonth;
+    }
+
+    public Long randomSellerId() {
+        return random(sellerIds);
+    }
+
+    public Long randomBuyerId() {
+        return random(buyerIds);
+    }
+
+    public Long randomProductId() {
+        return random(productIds);
+    }
+
+    private Long random(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
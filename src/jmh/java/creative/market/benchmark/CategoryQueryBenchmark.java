@@ -0,0 +1,77 @@
+package creative.market.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryQueryBenchmark { // 카테고리 조건 literal 삽입(이전) vs 바인드 파라미터(CategoryCondition) x Connector/J 서버 prepared statement 캐시
+
+    private static final String SELLER_COUNT_SQL = "select count(distinct(p.user_id)) count, date_format(o.created_date,'%Y-%m') date" +
+            " from order_product op" +
+            " join orders o on op.order_id = o.order_id" +
+            " join product p on op.product_id = p.product_id" +
+            " join kind_grade kg on p.kind_grade_id = kg.kind_grade_id" +
+            " join kind k on kg.kind_id = k.kind_id" +
+            " join item i on k.item_code = i.item_code" +
+            " join item_category ic on i.item_category_code = ic.item_category_code" +
+            " where op.status = 'ORDER' and ? <= date_format(o.created_date,'%Y-%m') and date_format(o.created_date,'%Y-%m') <= ?" +
+            " and kg.kind_grade_id = ";
+
+    @Param({"LITERAL", "BIND"})
+    private String sqlMode;
+
+    @Param({"false", "true"})
+    private boolean serverPrepStmtCache; // useServerPrepStmts + cachePrepStmts (application.yml 과 같은 설정)
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private List<Long> kindGradeIds;
+    private String startMonth;
+    private String endMonth;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DataSourceProperties properties = BenchmarkContext.getBean(DataSourceProperties.class);
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        dataSource.setMaximumPoolSize(1);
+        dataSource.addDataSourceProperty("useServerPrepStmts", serverPrepStmtCache);
+        dataSource.addDataSourceProperty("cachePrepStmts", serverPrepStmtCache);
+        dataSource.addDataSourceProperty("prepStmtCacheSize", 250);
+        dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", 8192);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        YearMonth lastOrderMonth = BenchmarkContext.dataSet().lastOrderMonth();
+        kindGradeIds = jdbcTemplate.queryForList("select kind_grade_id from kind_grade", Long.class); // 조건 값마다 literal 문장이 달라짐
+        endMonth = lastOrderMonth.toString();
+        startMonth = lastOrderMonth.minusMonths(11).toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    public List<Long> findSellerCountByKindGrade() { // 기간별 판매 기록이 있는 판매자 수 (findSellerCountOrderProductExistByPeriod 모양)
+        Long kindGradeId = kindGradeIds.get(ThreadLocalRandom.current().nextInt(kindGradeIds.size()));
+        if (sqlMode.equals("LITERAL")) {
+            return jdbcTemplate.query(SELLER_COUNT_SQL + kindGradeId + " group by date",
+                    (rs, rowNum) -> rs.getLong(1), startMonth, endMonth);
+        }
+        return jdbcTemplate.query(SELLER_COUNT_SQL + "? group by date",
+                (rs, rowNum) -> rs.getLong(1), startMonth, endMonth, kindGradeId);
+    }
+}
@@ -0,0 +1,93 @@
+package creative.market.benchmark;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import creative.market.aop.LoginCheckAspect;
+import creative.market.aop.UserType;
+import creative.market.argumentresolver.Login;
+import creative.market.argumentresolver.LoginUserArgumentResolver;
+import creative.market.filter.RequestIdFilter;
+import creative.market.service.dto.LoginUserDTO;
+import creative.market.web.controller.CartController;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class LoggingBenchmark { // 기존 로깅(동기, 요청마다 info) vs 운영 로깅(비동기 JSON, 요청 로그 debug) 요청 처리량 비교
+
+    private static final Logger loginCheckLog = LoggerFactory.getLogger(LoginCheckAspect.class);
+    private static final Logger cartLog = LoggerFactory.getLogger(CartController.class);
+
+    @Param({"legacy", "prod"})
+    private String config;
+
+    private final AtomicLong cartId = new AtomicLong();
+    private final LoginUserArgumentResolver resolver = new LoginUserArgumentResolver();
+    private MethodParameter loginParameter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        context.putProperty("BENCH_LOG_DIR", new File(System.getProperty("java.io.tmpdir"), "market-bench-log").getPath());
+        JoranConfigurator configurator = new JoranConfigurator();
+        configurator.setContext(context);
+        configurator.doConfigure(LoggingBenchmark.class.getResource("/logback-bench-" + config + ".xml"));
+
+        Method method = LoggingBenchmark.class.getDeclaredMethod("handler", LoginUserDTO.class);
+        loginParameter = new MethodParameter(method, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).stop(); // 비동기 큐 비우고 종료
+    }
+
+    @Benchmark
+    public int request() throws Exception { // 필터(requestId) -> 인증 확인 -> 로그인 사용자 조회 -> 컨트롤러 로그, 한 요청에서 찍히는 로그 재현
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/carts");
+        request.getSession().setAttribute(UserType.BUYER.name(), new LoginUserDTO(1L, "구매자", UserType.BUYER));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new RequestIdFilter().doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                UserType[] userTypes = {UserType.BUYER, UserType.SELLER};
+                if (loginCheckLog.isDebugEnabled()) {
+                    loginCheckLog.debug("인증 권한 확인중, 인증 가능 유저 타입={}, 요청 메서드={}", userTypes, "ResultRes creative.market.web.controller.CartController.registerCart(..)");
+                }
+                loginCheckLog.debug("인증 사용자 요청, 사용자 유저 타입={}", UserType.BUYER);
+                try {
+                    if (resolver.supportsParameter(loginParameter)) {
+                        resolver.resolveArgument(loginParameter, null, new ServletWebRequest(req), null);
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                cartLog.info("장바구니 등록 성공 id={}", cartId.incrementAndGet());
+            }
+        }));
+        return response.getStatus();
+    }
+
+    @SuppressWarnings("unused")
+    private void handler(@Login LoginUserDTO loginUserDTO) { // @Login 파라미터 (MethodParameter 생성용)
+    }
+}
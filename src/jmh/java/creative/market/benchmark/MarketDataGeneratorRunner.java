@@ -0,0 +1,23 @@
+package creative.market.benchmark;
+
+import creative.market.ProducemarketApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@Slf4j
+public final class MarketDataGeneratorRunner { // ./gradlew generateData -> generator 프로필로 부하 테스트용 데이터 생성 후 종료
+
+    private MarketDataGeneratorRunner() {
+    }
+
+    public static void main(String[] args) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProducemarketApplication.class)
+                .profiles("generator")
+                .run(args)) {
+            long start = System.currentTimeMillis();
+            context.getBean(BenchmarkDataGenerator.class).generateIfAbsent();
+            log.info("market data generated in {} ms", System.currentTimeMillis() - start);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package creative.market.benchmark;
+
+import creative.market.repository.dto.PageWithTotalDTO;
+import creative.market.repository.dto.SellerTrustScoreByPeriodDTO;
+import creative.market.repository.dto.SellerTrustScorePercentileByPeriodDTO;
+import creative.market.repository.query.OrderProductQueryRepository;
+import creative.market.service.dto.OrderHistoryDTO;
+import creative.market.service.query.OrderProductQueryService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderProductQueryBenchmark { // 신뢰점수, 구매 내역 조회
+
+    private OrderProductQueryRepository orderProductQueryRepository;
+    private OrderProductQueryService orderProductQueryService;
+    private BenchmarkDataSet dataSet;
+    private YearMonth startMonth;
+    private YearMonth endMonth;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        orderProductQueryRepository = BenchmarkContext.getBean(OrderProductQueryRepository.class);
+        orderProductQueryService = BenchmarkContext.getBean(OrderProductQueryService.class);
+        dataSet = BenchmarkContext.dataSet();
+        endMonth = dataSet.lastOrderMonth();
+        startMonth = endMonth.minusMonths(11);
+        startDate = startMonth.atDay(1).atStartOfDay();
+        endDate = endMonth.atEndOfMonth().atTime(LocalTime.MAX);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    public String findSellerTrustScore() {
+        return orderProductQueryRepository.findSellerTrustScore(dataSet.randomSellerId());
+    }
+
+    @Benchmark
+    public List<SellerTrustScoreByPeriodDTO> findSellerTrustScoreByPeriod() {
+        return orderProductQueryRepository.findSellerTrustScoreByPeriod(startMonth, endMonth, dataSet.randomSellerId());
+    }
+
+    @Benchmark
+    public List<SellerTrustScorePercentileByPeriodDTO> findSellerTrustScorePercentileByPeriod() {
+        return orderProductQueryRepository.findSellerTrustScorePercentileByPeriod(startMonth, endMonth, dataSet.randomSellerId());
+    }
+
+    @Benchmark
+    public List<OrderHistoryDTO> findBuyerOrderPerPeriod() {
+        return orderProductQueryService.findBuyerOrderPerPeriod(startDate, endDate, dataSet.randomBuyerId(), null, 0, 10);
+    }
+
+    @Benchmark
+    public PageWithTotalDTO<OrderHistoryDTO> findBuyerOrderHistoryPage() { // 목록 + 개수 + 합계
+        return orderProductQueryService.findBuyerOrderHistoryPage(startDate, endDate, dataSet.randomBuyerId(), null, 0, 10);
+    }
+}
@@ -0,0 +1,39 @@
+package creative.market.benchmark;
+
+import creative.market.domain.Address;
+import creative.market.service.OrderService;
+import creative.market.service.dto.OrderProductParamDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderServiceBenchmark { // 주문 생성 (호출마다 주문이 커밋되므로 반복 실행시 주문 데이터가 늘어남)
+
+    private OrderService orderService;
+    private BenchmarkDataSet dataSet;
+    private Address address;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        orderService = BenchmarkContext.getBean(OrderService.class);
+        dataSet = BenchmarkContext.dataSet();
+        address = Address.builder().jibun("지번").road("도로명").zipcode(12345).detailAddress("101호").build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    public Long order() {
+        List<OrderProductParamDTO> params = List.of(
+                new OrderProductParamDTO(1, dataSet.randomProductId()),
+                new OrderProductParamDTO(2, dataSet.randomProductId()));
+        return orderService.order(dataSet.randomBuyerId(), params, address);
+    }
+}
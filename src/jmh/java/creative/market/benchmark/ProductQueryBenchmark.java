@@ -0,0 +1,42 @@
+package creative.market.benchmark;
+
+import creative.market.repository.dto.ProductSearchConditionReq;
+import creative.market.service.dto.ProductDetailRes;
+import creative.market.service.dto.ProductShortInfoRes;
+import creative.market.service.query.ProductQueryService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProductQueryBenchmark { // 상품 목록, 상품 상세 조회
+
+    private ProductQueryService productQueryService;
+    private BenchmarkDataSet dataSet;
+    private ProductSearchConditionReq latestCondition;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        productQueryService = BenchmarkContext.getBean(ProductQueryService.class);
+        dataSet = BenchmarkContext.dataSet();
+        latestCondition = new ProductSearchConditionReq(null, "latest", null, null, null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkContext.close();
+    }
+
+    @Benchmark
+    public List<ProductShortInfoRes> productShortInfoList() {
+        return productQueryService.productShortInfoList(latestCondition, 0, 20);
+    }
+
+    @Benchmark
+    public ProductDetailRes productDetailInfo() { // KAMIS 는 StubWholesaleAndRetailConfig 로 대체
+        return productQueryService.productDetailInfo(dataSet.randomProductId());
+    }
+}
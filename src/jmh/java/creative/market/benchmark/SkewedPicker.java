@@ -0,0 +1,30 @@
+package creative.market.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class SkewedPicker { // 0 ~ size-1 중 zipf 분포로 선택 (exponent 0 이면 균등)
+
+    private final double[] cumulative;
+
+    public SkewedPicker(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("선택 대상이 존재하지 않습니다.");
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    public int pick(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int position = index >= 0 ? index : -index - 1;
+        return Math.min(position, cumulative.length - 1);
+    }
+}
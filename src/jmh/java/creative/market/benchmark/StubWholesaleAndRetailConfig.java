@@ -0,0 +1,30 @@
+package creative.market.benchmark;
+
+import creative.market.domain.category.KindGrade;
+import creative.market.repository.dto.LatestRetailAndWholesaleDTO;
+import creative.market.util.WholesaleAndRetailUtils;
+import creative.market.util.dto.LatestPriceDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.LocalDate;
+
+@Configuration
+@Profile("jmh")
+public class StubWholesaleAndRetailConfig { // KAMIS 호출 없이 고정된 도소매 가격 반환 -> 외부 API 지연이 측정에 섞이지 않도록
+
+    @Bean
+    @Primary
+    public WholesaleAndRetailUtils stubWholesaleAndRetailUtils(MeterRegistry meterRegistry) {
+        return new WholesaleAndRetailUtils(meterRegistry) {
+            @Override
+            public LatestRetailAndWholesaleDTO getLatestPriceInfo(KindGrade kindGrade) {
+                LocalDate today = LocalDate.now();
+                return new LatestRetailAndWholesaleDTO(new LatestPriceDTO(3000, today), new LatestPriceDTO(25000, today));
+            }
+        };
+    }
+}
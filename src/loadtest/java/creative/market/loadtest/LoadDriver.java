@@ -0,0 +1,246 @@
+package creative.market.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class LoadDriver { // 실행중인 서버에 실제 요청 비율대로 요청 -> 엔드포인트별 처리량, p50/p99 응답시간 출력
+
+    private static final Pattern PRODUCT_ID = Pattern.compile("\"productId\"\\s*:\\s*(\\d+)");
+
+    private final Properties config;
+    private final String baseUrl;
+    private final List<String> mixNames = new ArrayList<>();
+    private final int[] cumulativeWeights;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+    private List<Long> productIds;
+
+    public LoadDriver(Properties config) {
+        this.config = config;
+        this.baseUrl = config.getProperty("load.base-url");
+
+        List<Integer> weights = new ArrayList<>();
+        config.stringPropertyNames().stream()
+                .filter(key -> key.startsWith("load.mix."))
+                .sorted()
+                .forEach(key -> {
+                    mixNames.add(key.substring("load.mix.".length()));
+                    weights.add(Integer.parseInt(config.getProperty(key)));
+                });
+        cumulativeWeights = new int[weights.size()];
+        int sum = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            sum += weights.get(i);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Properties config = new Properties();
+        try (InputStream in = LoadDriver.class.getResourceAsStream("/load-profile.properties")) {
+            config.load(in);
+        }
+        System.getProperties().stringPropertyNames().stream() // -Dload.xxx 로 덮어쓰기
+                .filter(key -> key.startsWith("load."))
+                .forEach(key -> config.setProperty(key, System.getProperty(key)));
+
+        new LoadDriver(config).run();
+    }
+
+    public void run() throws Exception {
+        int users = intConfig("load.users");
+        int warmupSeconds = intConfig("load.warmup-seconds");
+        int durationSeconds = intConfig("load.duration-seconds");
+
+        productIds = loadProductIds();
+        long endTime = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds + durationSeconds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        for (int i = 0; i < users; i++) {
+            int userIndex = i;
+            executor.submit(() -> runUser(userIndex, endTime));
+        }
+
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        measuring = true; // 워밍업 이후 요청만 집계
+        executor.shutdown();
+        executor.awaitTermination(durationSeconds + 60L, TimeUnit.SECONDS);
+
+        printReport(durationSeconds);
+    }
+
+    private void runUser(int userIndex, long endTime) {
+        HttpClient buyerClient = newClient(); // 상품, 장바구니, 주문, 구매자 마이페이지
+        HttpClient sellerClient = newClient(); // 판매자 마이페이지 통계
+        try {
+            login(buyerClient, "load.buyer", userIndex);
+            login(sellerClient, "load.seller", userIndex);
+            while (System.nanoTime() < endTime) {
+                String name = nextRequestName();
+                HttpRequest request = createRequest(name);
+                HttpClient client = name.equals("seller-chart") ? sellerClient : buyerClient;
+                long start = System.nanoTime();
+                int status;
+                try {
+                    status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                } catch (IOException e) {
+                    status = -1;
+                }
+                if (measuring) {
+                    stats.computeIfAbsent(name, key -> new EndpointStats()).record(System.nanoTime() - start, status);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            System.err.println("로그인 실패 user=" + userIndex + " " + e.getMessage());
+        }
+    }
+
+    private HttpClient newClient() {
+        return HttpClient.newBuilder()
+                .cookieHandler(new CookieManager()) // 유저별 세션 유지
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    private void login(HttpClient client, String accountKey, int userIndex) throws IOException, InterruptedException {
+        String loginId = config.getProperty(accountKey + ".login-id-prefix") + (userIndex % intConfig(accountKey + ".login-count"));
+        String body = "{\"loginId\":\"" + loginId + "\",\"password\":\"" + config.getProperty("load.password") + "\"}";
+        HttpResponse<Void> response = client.send(post("/api/user/login", body), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IOException("status=" + response.statusCode() + " loginId=" + loginId);
+        }
+    }
+
+    private String nextRequestName() {
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return mixNames.get(i);
+            }
+        }
+        return mixNames.get(mixNames.size() - 1);
+    }
+
+    private HttpRequest createRequest(String name) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        YearMonth endDate = YearMonth.parse(config.getProperty("load.end-month"));
+        String period = "startDate=" + endDate.minusMonths(5) + "&endDate=" + endDate;
+        switch (name) {
+            case "product-list":
+                return get("/api/products?pageSize=10&pageNum=" + (1 + random.nextInt(5)));
+            case "product-detail":
+                return get("/api/products/" + randomProductId());
+            case "main-page":
+                String[] mainPages = {"latest", "order-count", "review-rate-avg"};
+                return get("/api/products/main-page/" + mainPages[random.nextInt(mainPages.length)]);
+            case "cart":
+                return get("/api/carts");
+            case "order":
+                return post("/api/order", "{\"jibun\":\"지번\",\"road\":\"도로명\",\"zipcode\":12345,\"detailAddress\":\"101호\"," +
+                        "\"orderProducts\":[{\"count\":1,\"productId\":" + randomProductId() + "}]}");
+            case "buyer-mypage":
+                return get("/api/buyer-mypage/order-history?" + period);
+            case "seller-chart":
+                String[] charts = {"order-price-statistics", "order-count-statistics", "trust-score-statistics"};
+                return get("/api/seller-mypage/" + charts[random.nextInt(charts.length)] + "?" + period);
+            default:
+                throw new IllegalArgumentException("알 수 없는 요청입니다. name=" + name);
+        }
+    }
+
+    private List<Long> loadProductIds() throws IOException, InterruptedException { // 상세 조회, 주문에 사용할 상품 아이디
+        HttpClient client = HttpClient.newHttpClient();
+        String body = client.send(get("/api/products?pageSize=200&pageNum=1"), HttpResponse.BodyHandlers.ofString()).body();
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = PRODUCT_ID.matcher(body);
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("상품이 존재하지 않습니다. ./gradlew generateData 로 데이터를 먼저 생성하세요.");
+        }
+        return ids;
+    }
+
+    private Long randomProductId() {
+        return productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private void printReport(int durationSeconds) {
+        System.out.printf("%-16s %10s %10s %10s %10s %8s%n", "endpoint", "count", "req/s", "p50(ms)", "p99(ms)", "errors");
+        long totalCount = 0;
+        for (String name : mixNames) {
+            EndpointStats endpointStats = stats.get(name);
+            if (endpointStats == null) {
+                continue;
+            }
+            long[] latencies = endpointStats.sortedLatencies();
+            totalCount += latencies.length;
+            System.out.printf("%-16s %10d %10.1f %10.1f %10.1f %8d%n", name, latencies.length, (double) latencies.length / durationSeconds,
+                    percentileMillis(latencies, 50), percentileMillis(latencies, 99), endpointStats.errorCount());
+        }
+        System.out.printf("%-16s %10d %10.1f%n", "total", totalCount, (double) totalCount / durationSeconds);
+    }
+
+    private double percentileMillis(long[] sortedLatencies, int percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private int intConfig(String key) {
+        return Integer.parseInt(config.getProperty(key));
+    }
+
+    private static class EndpointStats { // 엔드포인트별 응답시간(ns), 에러 수
+
+        private final List<Long> latencies = new ArrayList<>();
+        private long errors;
+
+        synchronized void record(long latencyNanos, int status) {
+            latencies.add(latencyNanos);
+            if (status < 200 || status >= 400) {
+                errors++;
+            }
+        }
+
+        synchronized long[] sortedLatencies() {
+            return latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+
+        synchronized long errorCount() {
+            return errors;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package creative.market;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import javax.annotation.PostConstruct;
 import java.time.LocalDateTime;
@@ -10,6 +11,7 @@ import java.util.Date;
 import java.util.TimeZone;
 
 @SpringBootApplication
+@EnableScheduling
 @Slf4j
 public class ProducemarketApplication {
 
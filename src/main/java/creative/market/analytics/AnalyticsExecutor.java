@@ -0,0 +1,76 @@
+package creative.market.analytics;
+
+import creative.market.datasource.AnalyticsContext;
+import creative.market.datasource.ReadYourWrites;
+import creative.market.exception.AnalyticsRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+@Component
+public class AnalyticsExecutor implements DisposableBean { // 판매자, 구매자 통계 조회 전용 스레드 풀 -> 톰캣 요청 스레드, 주문 트래픽과 격리
+
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+
+    public AnalyticsExecutor(@Value("${analytics.executor.pool-size:4}") int poolSize,
+                             @Value("${analytics.executor.queue-capacity:20}") int queueCapacity,
+                             @Value("${analytics.executor.query-timeout-seconds:5}") int queryTimeoutSeconds,
+                             PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        // 통계 조회 전체를 timeout 이 있는 readOnly 트랜잭션으로 실행 -> JPA, JdbcTemplate sql 모두 남은 시간이 statement timeout 으로 적용
+        // (통계 전용 풀의 max_execution_time 은 풀을 켠 경우만 적용되므로 기본 데이터소스로 실행될 때도 제한)
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setTimeout(queryTimeoutSeconds);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity); // 큐까지 가득 차면 TaskRejectedException
+        executor.setThreadNamePrefix("analytics-");
+        executor.setTaskDecorator(AnalyticsExecutor::decorate);
+        executor.initialize();
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), "analytics"); // executor.active, executor.queued, executor.rejected
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        try {
+            return CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> query.get()), executor);
+        } catch (TaskRejectedException e) { // 대기 없이 바로 거절 -> 503
+            throw new AnalyticsRejectedException("통계 조회 요청이 많습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static Runnable decorate(Runnable task) { // 요청 스레드의 MDC(requestId), 로그인 사용자(read-your-writes) 전달 + 통계 전용 커넥션 풀 사용 표시
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        Long userId = ReadYourWrites.currentUser();
+        return () -> {
+            MDC.setContextMap(mdc == null ? Collections.emptyMap() : mdc);
+            ReadYourWrites.bindUser(userId);
+            AnalyticsContext.enter();
+            try {
+                task.run();
+            } finally {
+                AnalyticsContext.exit();
+                ReadYourWrites.clear();
+                MDC.clear();
+            }
+        };
+    }
+}
@@ -0,0 +1,432 @@
+package creative.market.analytics;
+
+import creative.market.cache.KindGradeResolver;
+import creative.market.domain.order.OrderStatus;
+import creative.market.repository.dto.CategoryParamDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+@Component
+@ConditionalOnProperty(name = "analytics.order-line-store.enabled", havingValue = "true")
+@Slf4j
+public class OrderLineStore { // 주문 상품을 컬럼별 기본형 배열로 메모리에 보관 -> 판매자 월별 통계를 병렬 스캔으로 계산 (구매자 월 결제 금액은 buyer_spend_month)
+
+    private static final int NONE = -1;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final KindGradeResolver kindGradeResolver; // 품목 분류는 KindGradeResolver 스냅샷 사용
+    private final int chunkSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+    private boolean loading; // 적재 중에만 이벤트를 모아둠 (적재 실패 후에는 버림 -> 다시 적재할 때 DB 에서 읽음)
+    private final List<Runnable> pendingChanges = new ArrayList<>(); // 적재 중 들어온 이벤트 -> 적재 후 순서대로 반영
+
+    // 주문 상품 1건 = 1행 (약 24 byte)
+    private int size;
+    private long[] orderProductIds = new long[1024]; // 적재 순서 = id 오름차순 (이진 탐색)
+    private int sortedSize; // 여기까지 id 오름차순
+    private final Map<Long, Integer> unsortedRows = new HashMap<>(); // 커밋 순서가 id 순서와 다르게 추가된 행
+    private int[] months = new int[1024]; // 주문 년월 (year * 12 + month - 1)
+    private int[] productRows = new int[1024];
+    private long[] amounts = new long[1024]; // 가격 * 개수
+    private final BitSet canceled = new BitSet();
+
+    // 상품 -> 판매자, 품목 등급 (상품 품목 등급이 바뀌면 과거 주문도 새 품목 등급으로 집계 - sql 과 같음)
+    private final Dictionary products = new Dictionary();
+    private int[] productSellers = new int[1024];
+    private int[] productKindGrades = new int[1024];
+
+    private final Dictionary sellers = new Dictionary();
+
+    // 품목 등급 -> 품종, 품목, 부류
+    private final Dictionary kindGrades = new Dictionary();
+    private long[] kindIds = new long[256];
+    private int[] itemCodes = new int[256];
+    private int[] itemCategoryCodes = new int[256];
+
+    public OrderLineStore(DataSource dataSource, KindGradeResolver kindGradeResolver,
+                          @Value("${analytics.order-line-store.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize,
+                          @Value("${analytics.order-line-store.chunk-size:65536}") int chunkSize) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize); // MySQL: Integer.MIN_VALUE -> 한 행씩 스트리밍 (전체를 드라이버 메모리에 올리지 않음)
+        this.chunkSize = chunkSize;
+        this.kindGradeResolver = kindGradeResolver;
+    }
+
+    public boolean isReady() { // 적재 전에는 sql 로 조회
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread loader = new Thread(this::load, "order-line-store-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    void load() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            loading = true;
+            clear(); // 이전 적재가 실패했으면 일부만 적재된 상태 -> 처음부터 다시
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            kindGradeResolver.kindGradePaths().forEach(path ->
+                    putKindGrade(path.getKindGradeId(), path.getKindId(), path.getItemCode(), path.getItemCategoryCode()));
+            streamingJdbcTemplate.query("select product_id, user_id, kind_grade_id from product",
+                    (RowCallbackHandler) rs -> {
+                        putProduct(rs.getLong(1), rs.getLong(2), rs.getLong(3));
+                    });
+            streamingJdbcTemplate.query("select op.order_product_id, o.created_date, op.product_id, op.price * op.count, op.status" +
+                            " from order_product op join orders o on op.order_id = o.order_id" +
+                            " order by op.order_product_id",
+                    (RowCallbackHandler) rs -> {
+                        int row = append(rs.getLong(1), YearMonth.from(rs.getTimestamp(2).toLocalDateTime()), rs.getLong(3), rs.getLong(4));
+                        if (OrderStatus.CANCEL.name().equals(rs.getString(5))) {
+                            canceled.set(row);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            log.error("주문 상품 통계 저장소 적재 실패 -> sql 로 조회", e);
+            lock.writeLock().lock();
+            try {
+                loading = false;
+                pendingChanges.clear(); // 적재하지 않으므로 반영할 일 없음, 계속 쌓이지 않도록 버림
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges.clear();
+            loading = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("주문 상품 통계 저장소 적재 완료 rows={}, products={}, elapsed={}ms", size, products.size(), System.currentTimeMillis() - start);
+    }
+
+    // ---- 커밋된 이벤트 반영 (OrderLineStoreProjection) ----
+
+    public void addOrderLine(long orderProductId, YearMonth month, Long productId, Long sellerId, Long kindGradeId, long amount) {
+        change(() -> {
+            if (findRow(orderProductId) != NONE) { // 적재 sql 에 이미 포함된 주문
+                return;
+            }
+            if (products.get(productId) == NONE) {
+                putProduct(productId, sellerId, kindGradeId);
+            }
+            append(orderProductId, month, productId, amount);
+        });
+    }
+
+    public void cancelOrderLine(long orderProductId) {
+        change(() -> {
+            int row = findRow(orderProductId);
+            if (row != NONE) {
+                canceled.set(row);
+            }
+        });
+    }
+
+    public void registerProduct(Long productId, Long sellerId, Long kindGradeId) {
+        change(() -> putProduct(productId, sellerId, kindGradeId));
+    }
+
+    public void changeProductKindGrade(Long productId, Long kindGradeId) {
+        change(() -> {
+            int productRow = products.get(productId);
+            if (productRow != NONE) {
+                productKindGrades[productRow] = kindGrades.get(kindGradeId);
+            }
+        });
+    }
+
+    private void change(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                change.run();
+            } else if (loading) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ---- 조회 (start ~ end 월별 배열, 취소된 주문 상품 제외) ----
+
+    public long[] totalPricePerMonth(YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO, Long sellerId) { // sellerId null -> 전체 판매자
+        return scanPerMonth(startDate, endDate, categoryParamDTO, sellerId, true);
+    }
+
+    public long[] orderCountPerMonth(YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO, Long sellerId) {
+        return scanPerMonth(startDate, endDate, categoryParamDTO, sellerId, false);
+    }
+
+    public long[] sellerCountPerMonth(YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO) { // 판매 기록이 있는 판매자 수
+        int from = monthIndex(startDate);
+        int monthCount = monthIndex(endDate) - from + 1;
+        BitSet[] sellersPerMonth = read(() -> scan(from, monthCount, kindGradeFilter(categoryParamDTO), () -> newBitSets(monthCount),
+                (bitSets, row, month) -> {
+                    int sellerRow = productSellers[productRows[row]];
+                    if (sellerRow != NONE) { // 적재 후 등록 이벤트 없이 주문된 상품 -> 판매자 모름
+                        bitSets[month].set(sellerRow);
+                    }
+                },
+                (a, b) -> {
+                    for (int i = 0; i < a.length; i++) {
+                        a[i].or(b[i]);
+                    }
+                    return a;
+                }));
+        return Arrays.stream(sellersPerMonth).mapToLong(BitSet::cardinality).toArray();
+    }
+
+    public double[] sellerPricePercentilePerMonth(YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO, Long sellerId, long totalSellerCount) {
+        // PERCENT_RANK() OVER (partition by 월 order by 판매액 desc) 와 같은 값 -> (1 - 나보다 판매액이 큰 판매자 수 / (전체 판매자 수 - 1)) * 100
+        // 판매 기록이 없는 판매자(판매액 0)는 저장소에 없지만 전체 판매자 수에는 포함
+        return read(() -> {
+            long[][] sellerTotalPrices = sellerTotalPricesPerMonth(startDate, endDate, categoryParamDTO);
+            int sellerRow = sellers.get(sellerId);
+            double[] percentiles = new double[sellerTotalPrices.length];
+            for (int month = 0; month < sellerTotalPrices.length; month++) {
+                long sellerTotalPrice = sellerRow == NONE ? 0 : sellerTotalPrices[month][sellerRow];
+                long greaterCount = Arrays.stream(sellerTotalPrices[month]).filter(totalPrice -> totalPrice > sellerTotalPrice).count();
+                double percentRank = totalSellerCount <= 1 ? 0 : (double) greaterCount / (totalSellerCount - 1);
+                percentiles[month] = (1 - percentRank) * 100;
+            }
+            return percentiles;
+        });
+    }
+
+    private long[][] sellerTotalPricesPerMonth(YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO) { // [월][판매자 행] 판매액 (읽기 잠금 안에서 호출)
+        int from = monthIndex(startDate);
+        int monthCount = monthIndex(endDate) - from + 1;
+        int sellerCount = sellers.size();
+        return scan(from, monthCount, kindGradeFilter(categoryParamDTO), () -> new long[monthCount][sellerCount],
+                (sums, row, month) -> {
+                    int sellerRow = productSellers[productRows[row]];
+                    if (sellerRow != NONE) {
+                        sums[month][sellerRow] += amounts[row];
+                    }
+                },
+                (a, b) -> {
+                    for (int i = 0; i < a.length; i++) {
+                        sum(a[i], b[i]);
+                    }
+                    return a;
+                });
+    }
+
+    private long[] scanPerMonth(YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO, Long sellerId, boolean sumAmount) {
+        int from = monthIndex(startDate);
+        int monthCount = monthIndex(endDate) - from + 1;
+        return read(() -> {
+            int sellerRow = sellerId == null ? NONE : sellers.get(sellerId);
+            if (sellerId != null && sellerRow == NONE) {
+                return new long[monthCount];
+            }
+            return scan(from, monthCount, kindGradeFilter(categoryParamDTO), () -> new long[monthCount], (sums, row, month) -> {
+                if (sellerRow == NONE || productSellers[productRows[row]] == sellerRow) {
+                    sums[month] += sumAmount ? amounts[row] : 1;
+                }
+            }, OrderLineStore::sum);
+        });
+    }
+
+    private <A> A scan(int fromMonth, int monthCount, boolean[] kindGradeFilter, Supplier<A> supplier, RowConsumer<A> consumer, BinaryOperator<A> combiner) {
+        // 행을 chunkSize 단위로 나눠 코어별로 부분 집계 후 합침 (읽기 잠금 안에서 호출)
+        int rowCount = size;
+        int chunkCount = (rowCount + chunkSize - 1) / chunkSize;
+        return IntStream.range(0, chunkCount).parallel()
+                .mapToObj(chunk -> {
+                    A accumulator = supplier.get();
+                    int end = Math.min(rowCount, (chunk + 1) * chunkSize);
+                    for (int row = chunk * chunkSize; row < end; row++) {
+                        int month = months[row] - fromMonth;
+                        if (month < 0 || month >= monthCount || canceled.get(row)) {
+                            continue;
+                        }
+                        if (kindGradeFilter != null) {
+                            int kindGradeRow = productKindGrades[productRows[row]];
+                            if (kindGradeRow == NONE || !kindGradeFilter[kindGradeRow]) {
+                                continue;
+                            }
+                        }
+                        consumer.accept(accumulator, row, month);
+                    }
+                    return accumulator;
+                })
+                .reduce(combiner)
+                .orElseGet(supplier);
+    }
+
+    private boolean[] kindGradeFilter(CategoryParamDTO categoryParamDTO) { // 카테고리 조건에 맞는 품목 등급 (조건 없으면 null)
+        if (categoryParamDTO == null || (categoryParamDTO.getItemCategoryCode() == null && categoryParamDTO.getItemCode() == null
+                && categoryParamDTO.getKindId() == null && categoryParamDTO.getKindGradeId() == null)) {
+            return null;
+        }
+        boolean[] filter = new boolean[kindGrades.size()];
+        for (int row = 0; row < filter.length; row++) {
+            filter[row] = (categoryParamDTO.getItemCategoryCode() == null || categoryParamDTO.getItemCategoryCode() == itemCategoryCodes[row])
+                    && (categoryParamDTO.getItemCode() == null || categoryParamDTO.getItemCode() == itemCodes[row])
+                    && (categoryParamDTO.getKindId() == null || categoryParamDTO.getKindId() == kindIds[row])
+                    && (categoryParamDTO.getKindGradeId() == null || categoryParamDTO.getKindGradeId() == kindGrades.idAt(row));
+        }
+        return filter;
+    }
+
+    private <T> T read(Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ---- 저장 (적재 스레드 또는 쓰기 잠금 안에서 호출) ----
+
+    private int append(long orderProductId, YearMonth month, Long productId, long amount) {
+        if (size == orderProductIds.length) {
+            int capacity = size + (size >> 1);
+            orderProductIds = Arrays.copyOf(orderProductIds, capacity);
+            months = Arrays.copyOf(months, capacity);
+            productRows = Arrays.copyOf(productRows, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+        }
+        int row = size++;
+        orderProductIds[row] = orderProductId;
+        months[row] = monthIndex(month);
+        productRows[row] = products.get(productId) == NONE ? putProduct(productId, null, null) : products.get(productId);
+        amounts[row] = amount;
+        if (sortedSize == row && (row == 0 || orderProductIds[row - 1] < orderProductId)) {
+            sortedSize++;
+        } else {
+            unsortedRows.put(orderProductId, row);
+        }
+        return row;
+    }
+
+    private void clear() {
+        size = 0;
+        sortedSize = 0;
+        unsortedRows.clear();
+        canceled.clear();
+        products.clear();
+        sellers.clear();
+        kindGrades.clear();
+    }
+
+    private int findRow(long orderProductId) {
+        int row = Arrays.binarySearch(orderProductIds, 0, sortedSize, orderProductId);
+        return row >= 0 ? row : unsortedRows.getOrDefault(orderProductId, NONE);
+    }
+
+    private int putProduct(Long productId, Long sellerId, Long kindGradeId) {
+        int row = products.put(productId);
+        if (row == productSellers.length) {
+            productSellers = Arrays.copyOf(productSellers, row * 2);
+            productKindGrades = Arrays.copyOf(productKindGrades, row * 2);
+        }
+        productSellers[row] = sellerId == null ? NONE : sellers.put(sellerId);
+        productKindGrades[row] = kindGradeId == null ? NONE : kindGrades.get(kindGradeId);
+        return row;
+    }
+
+    private void putKindGrade(long kindGradeId, long kindId, int itemCode, int itemCategoryCode) {
+        int row = kindGrades.put(kindGradeId);
+        if (row == kindIds.length) {
+            kindIds = Arrays.copyOf(kindIds, row * 2);
+            itemCodes = Arrays.copyOf(itemCodes, row * 2);
+            itemCategoryCodes = Arrays.copyOf(itemCategoryCodes, row * 2);
+        }
+        kindIds[row] = kindId;
+        itemCodes[row] = itemCode;
+        itemCategoryCodes[row] = itemCategoryCode;
+    }
+
+    private static int monthIndex(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    private static long[] sum(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+        return a;
+    }
+
+    private static BitSet[] newBitSets(int count) {
+        BitSet[] bitSets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitSets[i] = new BitSet();
+        }
+        return bitSets;
+    }
+
+    private interface RowConsumer<A> {
+        void accept(A accumulator, int row, int month);
+    }
+
+    private static class Dictionary { // 아이디 -> 0 부터 증가하는 행 번호
+
+        private final Map<Long, Integer> rows = new HashMap<>();
+        private long[] ids = new long[256];
+
+        private int get(Long id) {
+            return rows.getOrDefault(id, NONE);
+        }
+
+        private int put(Long id) {
+            Integer row = rows.get(id);
+            if (row != null) {
+                return row;
+            }
+            int newRow = rows.size();
+            if (newRow == ids.length) {
+                ids = Arrays.copyOf(ids, newRow * 2);
+            }
+            ids[newRow] = id;
+            rows.put(id, newRow);
+            return newRow;
+        }
+
+        private long idAt(int row) {
+            return ids[row];
+        }
+
+        private void clear() {
+            rows.clear();
+        }
+
+        private int size() {
+            return rows.size();
+        }
+    }
+}
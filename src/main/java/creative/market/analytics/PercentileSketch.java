@@ -0,0 +1,56 @@
+package creative.market.analytics;
+
+import java.util.Arrays;
+
+final class PercentileSketch { // 정렬된 값 배열 -> 이분 탐색으로 PERCENT_RANK 계산 (값이 같으면 같은 순위)
+
+    private final double[] sorted;
+
+    private PercentileSketch(double[] sorted) {
+        this.sorted = sorted;
+    }
+
+    static PercentileSketch of(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return new PercentileSketch(sorted);
+    }
+
+    double percentRankDesc(double value, long population) { // PERCENT_RANK() OVER (order by 값 desc), 배열에 없는 모집단은 0 으로 계산
+        long implicitZeros = population - sorted.length;
+        long greater = sorted.length - upperBound(value) + (value < 0 ? implicitZeros : 0);
+        return population <= 1 ? 0 : (double) greater / (population - 1);
+    }
+
+    double percentRankAsc(double value, long population) { // PERCENT_RANK() OVER (order by 값 asc)
+        long implicitZeros = population - sorted.length;
+        long less = lowerBound(value) + (value > 0 ? implicitZeros : 0);
+        return population <= 1 ? 0 : (double) less / (population - 1);
+    }
+
+    private int lowerBound(double value) { // value 보다 작은 값 개수
+        int low = 0, high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(double value) { // value 이하인 값 개수
+        int low = 0, high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,329 @@
+package creative.market.analytics;
+
+import creative.market.cache.CategorySalesLeaderboard.Sale;
+import creative.market.cache.KindGradeResolver;
+import creative.market.cache.KindGradeResolver.KindGradePath;
+import creative.market.datasource.PrimaryReader;
+import creative.market.event.EventWatermark;
+import creative.market.repository.OutboxEventRepository;
+import creative.market.repository.dto.CategoryParamDTO;
+import creative.market.repository.dto.SellerTrustScorePercentileByPeriodDTO;
+import creative.market.repository.dto.SellerTrustScorePerMonthDTO;
+import creative.market.repository.query.OrderProductQueryRepository;
+import creative.market.repository.user.SellerRepository;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "analytics.seller-percentile.enabled", havingValue = "true", matchIfMissing = true)
+public class SellerPercentileIndex { // 월, 카테고리별 판매자 판매액 / 월별 판매자 신뢰점수를 정렬 배열로 보관 -> 한 판매자의 백분위를 이분 탐색으로 계산 (PERCENT_RANK sql 대체)
+
+    private final OrderProductQueryRepository orderProductQueryRepository;
+    private final KindGradeResolver kindGradeResolver;
+    private final SellerRepository sellerRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final PrimaryReader primaryReader;
+    private final Duration reloadInterval;
+    private final Map<YearMonth, SalesMonth> salesMonths = new ConcurrentHashMap<>();
+    private final Map<YearMonth, TrustMonth> trustMonths = new ConcurrentHashMap<>();
+    private final AtomicLong salesGeneration = new AtomicLong(); // evictSales 마다 증가
+    private volatile Taxonomy taxonomy;
+
+    public SellerPercentileIndex(OrderProductQueryRepository orderProductQueryRepository, KindGradeResolver kindGradeResolver, SellerRepository sellerRepository,
+                                 OutboxEventRepository outboxEventRepository, PrimaryReader primaryReader,
+                                 @Value("${analytics.seller-percentile.reload-minutes:10}") long reloadMinutes) {
+        this.orderProductQueryRepository = orderProductQueryRepository;
+        this.kindGradeResolver = kindGradeResolver;
+        this.sellerRepository = sellerRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.primaryReader = primaryReader;
+        this.reloadInterval = Duration.ofMinutes(reloadMinutes);
+    }
+
+    public double[] sellerPricePercentilePerMonth(YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO, Long sellerId, long totalSellerCount) {
+        // (1 - PERCENT_RANK() OVER (partition by 월 order by 판매액 desc)) * 100, 판매 기록이 없는 판매자는 판매액 0 으로 전체 판매자 수에 포함
+        Taxonomy taxonomy = taxonomy();
+        CategoryKey category = taxonomy.keyOf(categoryParamDTO);
+        LocalDateTime now = LocalDateTime.now();
+        int monthCount = (int) startDate.until(endDate, ChronoUnit.MONTHS) + 1;
+        double[] percentiles = new double[monthCount];
+        for (int i = 0; i < monthCount; i++) {
+            SellerTotals totals = salesMonth(startDate.plusMonths(i), now).totals(category, taxonomy);
+            percentiles[i] = (1 - totals.sketch.percentRankDesc(totals.get(sellerId), totalSellerCount)) * 100;
+        }
+        return percentiles;
+    }
+
+    public List<SellerTrustScorePercentileByPeriodDTO> sellerTrustScorePercentilePerMonth(YearMonth startDate, YearMonth endDate, Long sellerId) {
+        // PERCENT_RANK() OVER (partition by 월 order by 신뢰점수 asc) * 100, sql 과 같이 year_month_data 에 있는 월만
+        LocalDateTime now = LocalDateTime.now();
+        loadStaleTrustMonths(startDate, endDate, now);
+        reloadTrustMonthsWithout(startDate, endDate, sellerId, now);
+        List<SellerTrustScorePercentileByPeriodDTO> result = new ArrayList<>();
+        for (YearMonth month = startDate; !month.isAfter(endDate); month = month.plusMonths(1)) {
+            TrustMonth trustMonth = trustMonths.get(month);
+            Double trustScore = trustMonth != null ? trustMonth.scores.get(sellerId) : null;
+            if (trustScore != null) {
+                result.add(new SellerTrustScorePercentileByPeriodDTO(trustMonth.sketch.percentRankAsc(trustScore, trustMonth.scores.size()) * 100, month.toString()));
+            }
+        }
+        return result;
+    }
+
+    // ---- 커밋된 이벤트 반영 (SellerPercentileProjection) ----
+
+    public void recordSales(long eventId, LocalDateTime orderedAt, List<Sale> sales) { // 주문 -> 판매액 증가, 취소 -> 감소 (음수 판매액)
+        Taxonomy taxonomy = this.taxonomy;
+        LocalDateTime now = LocalDateTime.now();
+        salesMonths.computeIfPresent(YearMonth.from(orderedAt), (month, salesMonth) -> { // 적재되지 않은 달은 조회시 DB 에서 적재
+            if (!isFresh(salesMonth.loadedAt, now)) { // 다시 적재할 달은 반영 대신 제거 -> 반영한 이벤트 아이디가 쌓이지 않도록
+                return null;
+            }
+            salesMonth.apply(eventId, sales, taxonomy);
+            return salesMonth;
+        });
+    }
+
+    public void evictSales() { // 상품 품목 등급 변경 -> 과거 판매액도 옮겨지므로 다시 적재
+        salesGeneration.incrementAndGet();
+        salesMonths.clear();
+    }
+
+    private SalesMonth salesMonth(YearMonth month, LocalDateTime now) { // 주기가 지나면 DB 에서 다시 적재 (누락, 중복 반영 보정)
+        SalesMonth existing = salesMonths.get(month);
+        if (existing != null && isFresh(existing.loadedAt, now)) {
+            return existing;
+        }
+        long generation = salesGeneration.get();
+        SalesMonth loaded = loadSalesMonth(month, now); // map 잠금 밖에서 적재 (같은 bin 의 판매 반영, 다른 달 조회가 DB 조회를 기다리지 않도록)
+        SalesMonth stored = salesMonths.compute(month, (m, current) -> {
+            if (current != null && current != existing && isFresh(current.loadedAt, now)) { // 다른 스레드가 먼저 적재
+                return current;
+            }
+            return generation == salesGeneration.get() ? loaded : current; // 적재 중 evict -> 이전 품목 등급 기준일 수 있으므로 저장하지 않음
+        });
+        return stored != null ? stored : loaded;
+    }
+
+    private boolean isFresh(LocalDateTime loadedAt, LocalDateTime now) {
+        return loadedAt.plus(reloadInterval).isAfter(now);
+    }
+
+    private SalesMonth loadSalesMonth(YearMonth month, LocalDateTime now) { // 이벤트로 갱신 -> primary 에서 마지막 아웃박스 이벤트 아이디와 같은 트랜잭션으로 적재
+        return primaryReader.read(() -> {
+            SalesMonth salesMonth = new SalesMonth(now, new EventWatermark(outboxEventRepository.findMaxId()));
+            orderProductQueryRepository.findSellerKindGradeTotalPrices(month.atDay(1).atStartOfDay(), month.atEndOfMonth().atTime(LocalTime.MAX))
+                    .forEach(dto -> salesMonth.add(dto.getKindGradeId(), dto.getSellerId(), dto.getTotalPrice(), null));
+            return salesMonth;
+        });
+    }
+
+    private void loadStaleTrustMonths(YearMonth startDate, YearMonth endDate, LocalDateTime now) { // 적재되지 않았거나 주기가 지난 달을 한번에 적재
+        YearMonth first = null;
+        YearMonth last = null;
+        for (YearMonth month = startDate; !month.isAfter(endDate); month = month.plusMonths(1)) {
+            TrustMonth trustMonth = trustMonths.get(month);
+            if (trustMonth == null || !isFresh(trustMonth.loadedAt, now)) {
+                first = first == null ? month : first;
+                last = month;
+            }
+        }
+        if (first != null) {
+            loadTrustMonths(first, last, now);
+        }
+    }
+
+    private void reloadTrustMonthsWithout(YearMonth startDate, YearMonth endDate, Long sellerId, LocalDateTime now) {
+        // 적재 이후 가입한 판매자는 적재된 달에 점수가 없음 -> 해당 달을 다시 적재 (sql 은 조회 시점의 전체 판매자 기준)
+        YearMonth first = null;
+        YearMonth last = null;
+        for (YearMonth month = startDate; !month.isAfter(endDate); month = month.plusMonths(1)) {
+            TrustMonth trustMonth = trustMonths.get(month);
+            if (trustMonth != null && trustMonth.isJoinedAfterLoad(sellerId)) {
+                first = first == null ? month : first;
+                last = month;
+            }
+        }
+        if (first == null) {
+            return;
+        }
+        loadTrustMonths(first, last, now);
+        // 다시 적재해도 점수가 없으면(판매자가 아닌 아이디 등) 다음 적재 주기까지 다시 적재하지 않음
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            TrustMonth trustMonth = trustMonths.get(month);
+            if (!trustMonth.scores.containsKey(sellerId)) {
+                trustMonth.absentSellerIds.add(sellerId);
+            }
+        }
+    }
+
+    private void loadTrustMonths(YearMonth first, YearMonth last, LocalDateTime now) {
+        long maxSellerId = sellerRepository.findMaxId(); // 점수 조회 전에 조회 -> 이 아이디까지의 판매자는 적재 결과에 포함 (year_month_data 에 없는 달은 점수 없음)
+        Map<String, Map<Long, Double>> scoresPerMonth = orderProductQueryRepository.findAllSellerTrustScorePerMonth(first, last).stream()
+                .collect(Collectors.groupingBy(SellerTrustScorePerMonthDTO::getDate,
+                        Collectors.toMap(SellerTrustScorePerMonthDTO::getSellerId, SellerTrustScorePerMonthDTO::getTrustScore)));
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            trustMonths.put(month, new TrustMonth(scoresPerMonth.getOrDefault(month.toString(), Map.of()), maxSellerId, now));
+        }
+    }
+
+    private Taxonomy taxonomy() {
+        Taxonomy loaded = taxonomy;
+        if (loaded == null) {
+            loaded = new Taxonomy(kindGradeResolver.kindGradePaths()); // KindGradeResolver 와 같은 품목 분류 스냅샷
+            taxonomy = loaded;
+        }
+        return loaded;
+    }
+
+    private enum Level {
+        NONE, ALL, ITEM_CATEGORY, ITEM, KIND, KIND_GRADE
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class CategoryKey {
+
+        private static final CategoryKey NONE = new CategoryKey(Level.NONE, 0); // 조건에 맞는 품목 등급 없음
+        private static final CategoryKey ALL = new CategoryKey(Level.ALL, 0);
+
+        private final Level level;
+        private final long code;
+    }
+
+    private static class Taxonomy { // 품목 등급 -> 품종 -> 품목 -> 부류 -> 전체 (카테고리 합산 경로)
+
+        private final Map<CategoryKey, CategoryKey> parents = new HashMap<>();
+        private final Map<CategoryKey, Set<CategoryKey>> children = new HashMap<>();
+
+        private Taxonomy(List<KindGradePath> kindGradePaths) {
+            for (KindGradePath kindGradePath : kindGradePaths) {
+                List<CategoryKey> path = List.of(new CategoryKey(Level.KIND_GRADE, kindGradePath.getKindGradeId()), new CategoryKey(Level.KIND, kindGradePath.getKindId()),
+                        new CategoryKey(Level.ITEM, kindGradePath.getItemCode()), new CategoryKey(Level.ITEM_CATEGORY, kindGradePath.getItemCategoryCode()),
+                        CategoryKey.ALL);
+                for (int i = 0; i < path.size() - 1; i++) {
+                    parents.put(path.get(i), path.get(i + 1));
+                    children.computeIfAbsent(path.get(i + 1), key -> new LinkedHashSet<>()).add(path.get(i));
+                }
+            }
+        }
+
+        private CategoryKey keyOf(CategoryParamDTO categoryParamDTO) { // 가장 하위 조건 (상위 조건이 맞지 않으면 sql 의 and 조건처럼 결과 없음)
+            List<CategoryKey> conditions = new ArrayList<>();
+            if (categoryParamDTO != null) {
+                Optional.ofNullable(categoryParamDTO.getKindGradeId()).ifPresent(code -> conditions.add(new CategoryKey(Level.KIND_GRADE, code)));
+                Optional.ofNullable(categoryParamDTO.getKindId()).ifPresent(code -> conditions.add(new CategoryKey(Level.KIND, code)));
+                Optional.ofNullable(categoryParamDTO.getItemCode()).ifPresent(code -> conditions.add(new CategoryKey(Level.ITEM, code)));
+                Optional.ofNullable(categoryParamDTO.getItemCategoryCode()).ifPresent(code -> conditions.add(new CategoryKey(Level.ITEM_CATEGORY, code)));
+            }
+            if (conditions.isEmpty()) {
+                return CategoryKey.ALL;
+            }
+            Set<CategoryKey> path = new HashSet<>(ancestorsOf(conditions.get(0)));
+            return path.containsAll(conditions) ? conditions.get(0) : CategoryKey.NONE;
+        }
+
+        private List<CategoryKey> ancestorsOf(CategoryKey key) { // 자기 자신 포함
+            List<CategoryKey> ancestors = new ArrayList<>();
+            for (CategoryKey current = key; current != null; current = parents.get(current)) {
+                ancestors.add(current);
+            }
+            return ancestors;
+        }
+    }
+
+    private static class SalesMonth { // 한 달의 품목 등급별 판매자 판매액 + 카테고리별 합산 결과
+
+        private final LocalDateTime loadedAt;
+        private final EventWatermark watermark;
+        private final Map<Long, Map<Long, Long>> kindGradeSales = new HashMap<>(); // 품목 등급 id -> 판매자 id -> 판매액
+        private final Map<CategoryKey, SellerTotals> rollups = new HashMap<>();
+
+        private SalesMonth(LocalDateTime loadedAt, EventWatermark watermark) {
+            this.loadedAt = loadedAt;
+            this.watermark = watermark;
+        }
+
+        private synchronized void apply(long eventId, List<Sale> sales, Taxonomy taxonomy) {
+            if (!watermark.tryApply(eventId)) { // 적재 결과에 포함, 이미 반영한 이벤트
+                return;
+            }
+            sales.forEach(sale -> add(sale.getKindGradeId(), sale.getSellerId(), sale.getAmount(), taxonomy));
+        }
+
+        private synchronized void add(Long kindGradeId, Long sellerId, long amount, Taxonomy taxonomy) {
+            kindGradeSales.computeIfAbsent(kindGradeId, id -> new HashMap<>()).merge(sellerId, amount, Long::sum);
+            if (taxonomy == null) {
+                rollups.clear();
+            } else {
+                taxonomy.ancestorsOf(new CategoryKey(Level.KIND_GRADE, kindGradeId)).forEach(rollups::remove); // 바뀐 품목 등급이 속한 카테고리만 다시 합산
+            }
+        }
+
+        private synchronized SellerTotals totals(CategoryKey key, Taxonomy taxonomy) { // 하위 카테고리 합산 결과를 합쳐 계산
+            SellerTotals totals = rollups.get(key);
+            if (totals != null) {
+                return totals;
+            }
+            if (key.level == Level.KIND_GRADE) {
+                totals = new SellerTotals(kindGradeSales.getOrDefault(key.code, Map.of()));
+            } else {
+                Map<Long, Long> merged = new HashMap<>();
+                for (CategoryKey child : taxonomy.children.getOrDefault(key, Set.of())) {
+                    totals(child, taxonomy).sellerTotals.forEach((sellerId, totalPrice) -> merged.merge(sellerId, totalPrice, Long::sum));
+                }
+                totals = new SellerTotals(merged);
+            }
+            rollups.put(key, totals);
+            return totals;
+        }
+    }
+
+    private static class SellerTotals { // 판매자별 판매액 + 판매액 정렬 배열
+
+        private final Map<Long, Long> sellerTotals;
+        private final PercentileSketch sketch;
+
+        private SellerTotals(Map<Long, Long> sellerTotals) {
+            this.sellerTotals = new HashMap<>(sellerTotals);
+            this.sketch = PercentileSketch.of(sellerTotals.values().stream().mapToDouble(Long::doubleValue).toArray());
+        }
+
+        private long get(Long sellerId) {
+            return sellerTotals.getOrDefault(sellerId, 0L);
+        }
+    }
+
+    private static class TrustMonth { // 한 달의 판매자별 신뢰점수 + 신뢰점수 정렬 배열
+
+        private final Map<Long, Double> scores;
+        private final PercentileSketch sketch;
+        private final long maxSellerId; // 적재 시점의 마지막 판매자 아이디
+        private final Set<Long> absentSellerIds = ConcurrentHashMap.newKeySet(); // 다시 적재해도 점수가 없는 아이디
+        private final LocalDateTime loadedAt;
+
+        private TrustMonth(Map<Long, Double> scores, long maxSellerId, LocalDateTime loadedAt) {
+            this.scores = scores;
+            this.sketch = PercentileSketch.of(scores.values().stream().mapToDouble(Double::doubleValue).toArray());
+            this.maxSellerId = maxSellerId;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isJoinedAfterLoad(Long sellerId) { // 점수가 없고 적재 이후 생긴 아이디
+            return !scores.containsKey(sellerId) && sellerId > maxSellerId && !absentSellerIds.contains(sellerId);
+        }
+    }
+}
@@ -21,11 +21,13 @@ public class LoginCheckAspect {
     public void doBefore(JoinPoint joinPoint, LoginCheck loginCheck) {
         HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
         UserType[] userTypes = loginCheck.type();
-        log.info("인증 권한 확인중, 인증 가능 유저 타입={}, 요청 메서드={}", userTypes, joinPoint.getSignature());
+        if (log.isDebugEnabled()) { // 매 요청마다 실행 -> debug 일때만 시그니처 조회
+            log.debug("인증 권한 확인중, 인증 가능 유저 타입={}, 요청 메서드={}", userTypes, joinPoint.getSignature());
+        }
 
         for (UserType userType : userTypes) {
             if (SessionUtils.getSession(request, userType.name()) != null) { // 인증 사용자가 요청
-                log.info("인증 사용자 요청, 사용자 유저 타입={}",userType);
+                log.debug("인증 사용자 요청, 사용자 유저 타입={}",userType);
                 return;
             }
         }
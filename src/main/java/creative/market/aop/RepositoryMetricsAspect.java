@@ -0,0 +1,60 @@
+package creative.market.aop;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect { // 리포지토리 메서드별 실행 시간(market.repository.query), 조회 행 수(market.repository.rows)
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(creative.market.repository..*) && @within(org.springframework.stereotype.Repository) && execution(public * *(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        String exception = "none";
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+            recordRows(repository, method, result);
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("market.repository.query")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void recordRows(String repository, String method, Object result) {
+        long rows;
+        if (result instanceof Collection) {
+            rows = ((Collection<?>) result).size();
+        } else if (result instanceof Optional) {
+            rows = ((Optional<?>) result).isPresent() ? 1 : 0;
+        } else {
+            return; // 단건, 집계 결과는 행 수 기록 안함
+        }
+        DistributionSummary.builder("market.repository.rows")
+                .tag("repository", repository)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(rows);
+    }
+}
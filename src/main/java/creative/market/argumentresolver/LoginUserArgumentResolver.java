@@ -17,7 +17,7 @@ public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
-        log.info("LoginUserArgumentResolver supportParameter 실행");
+        log.debug("LoginUserArgumentResolver supportParameter 실행");
 
         boolean hasLoginAnnotation = parameter.hasParameterAnnotation(Login.class);
         boolean hasUserType = LoginUserDTO.class.isAssignableFrom(parameter.getParameterType());
@@ -27,7 +27,7 @@ public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver
 
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
-        log.info("LoginUserArgumentResolver resolveArgument 실행");
+        log.debug("LoginUserArgumentResolver resolveArgument 실행");
 
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
         for (UserType userType : UserType.values()) { // 세션 값이 있는지 확인
@@ -0,0 +1,69 @@
+package creative.market.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import creative.market.datasource.PrimaryReader;
+import creative.market.repository.dto.CartInfoRes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Component
+public class CartCache { // 사용자별 장바구니 조회 결과 캐시
+
+    private final Cache<Long, List<CartInfoRes>> cache;
+    private final PrimaryReader primaryReader;
+
+    public CartCache(@Value("${cache.cart.maximum-size:10000}") long maximumSize,
+                     @Value("${cache.cart.expire-after-write-seconds:600}") long expireAfterWriteSeconds,
+                     MeterRegistry meterRegistry, PrimaryReader primaryReader) {
+        this.primaryReader = primaryReader;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "cart"); // cache.gets{cache=cart,result=hit|miss}
+    }
+
+    public List<CartInfoRes> get(Long userId, Function<Long, List<CartInfoRes>> loader) {
+        // 다른 사용자의 상품 변경으로 제거된 장바구니를 replica 에서 적재하면 복제 지연 동안의 이전 값이 만료까지 남음 -> primary 에서 적재
+        return cache.get(userId, id -> List.copyOf(primaryReader.read(() -> loader.apply(id))));
+    }
+
+    public void evict(Long userId) {
+        evictNowAndAfterCommit(() -> cache.invalidate(userId));
+    }
+
+    public void evictAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        evictNowAndAfterCommit(() -> cache.invalidateAll(userIds));
+    }
+
+    public CacheStats stats() { // hit, miss, eviction 통계
+        return cache.stats();
+    }
+
+    private void evictNowAndAfterCommit(Runnable evict) {
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) { // 커밋 전에 다른 요청이 이전 값을 다시 적재한 경우를 위해 커밋 후 한번 더 제거
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package creative.market.cache;
+
+import creative.market.datasource.PrimaryReader;
+import creative.market.event.EventWatermark;
+import creative.market.repository.OutboxEventRepository;
+import creative.market.repository.dto.SellerIdAndTotalPriceDTO;
+import creative.market.repository.query.OrderProductQueryRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Component
+public class CategorySalesLeaderboard { // 품목 등급별 이번달 판매자 판매액 순위 (커밋된 주문, 취소 이벤트로 갱신 - SalesLeaderboardProjection)
+
+    private final OrderProductQueryRepository orderProductQueryRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final PrimaryReader primaryReader;
+    private final Duration reloadInterval;
+    private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+
+    public CategorySalesLeaderboard(OrderProductQueryRepository orderProductQueryRepository, OutboxEventRepository outboxEventRepository, PrimaryReader primaryReader,
+                                    @Value("${cache.category-sales.reload-minutes:10}") long reloadMinutes) {
+        this.orderProductQueryRepository = orderProductQueryRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.primaryReader = primaryReader;
+        this.reloadInterval = Duration.ofMinutes(reloadMinutes);
+    }
+
+    public Snapshot snapshot(Long kindGradeId, int rankCount, Long sellerId) {
+        YearMonth month = YearMonth.now();
+        LocalDateTime now = LocalDateTime.now();
+        Board existing = boards.get(kindGradeId);
+        if (existing != null && existing.isValid(month, now, reloadInterval)) {
+            return existing.snapshot(rankCount, sellerId);
+        }
+
+        // 달이 바뀌었거나 주기가 지나면 DB 에서 다시 적재 (누락, 중복 반영 보정)
+        // 적재는 map 잠금 밖에서 -> 같은 품목 등급의 주문, 취소 반영과 다른 조회를 막지 않음, 그 사이 다른 스레드가 적재했으면 그 결과 사용
+        Board loaded = load(kindGradeId, month, now);
+        Board board = boards.compute(kindGradeId, (id, current) ->
+                current != null && current != existing && current.isValid(month, now, reloadInterval) ? current : loaded);
+        return board.snapshot(rankCount, sellerId);
+    }
+
+    public void recordOrder(long eventId, LocalDateTime orderedAt, List<Sale> sales) { // 주문 -> 판매액 증가
+        sales.stream()
+                .collect(Collectors.groupingBy(Sale::getKindGradeId, LinkedHashMap::new, Collectors.toList()))
+                .forEach((kindGradeId, kindGradeSales) -> apply(eventId, orderedAt, kindGradeId, kindGradeSales, 1));
+    }
+
+    public void recordCancel(long eventId, LocalDateTime orderedAt, Sale sale) { // 주문 취소 -> 판매액 감소
+        apply(eventId, orderedAt, sale.getKindGradeId(), List.of(sale), -1);
+    }
+
+    public void evict(Long... kindGradeIds) { // 상품 품목 등급 변경 -> 과거 판매 내역도 옮겨지므로 다시 적재
+        Arrays.stream(kindGradeIds).forEach(boards::remove);
+    }
+
+    private void apply(long eventId, LocalDateTime orderedAt, Long kindGradeId, List<Sale> sales, int sign) {
+        boards.computeIfPresent(kindGradeId, (id, board) -> { // 적재되지 않은 품목 등급은 조회시 DB 에서 적재
+            if (!board.isValid(YearMonth.now(), LocalDateTime.now(), reloadInterval)) { // 다시 적재할 순위는 반영 대신 제거 -> 반영한 이벤트 아이디가 쌓이지 않도록
+                return null;
+            }
+            board.apply(eventId, YearMonth.from(orderedAt), sales, sign);
+            return board;
+        });
+    }
+
+    private Board load(Long kindGradeId, YearMonth month, LocalDateTime now) {
+        // 적재 후에는 이벤트로만 갱신 -> replica 의 지연된 값으로 적재하면 다시 적재할 때까지 누락된 주문이 반영되지 않으므로 primary 에서 적재
+        // 같은 트랜잭션에서 마지막 아웃박스 이벤트 아이디를 함께 조회 -> 적재 결과에 포함된 주문, 취소 이벤트는 반영하지 않음
+        return primaryReader.read(() -> {
+            Board board = new Board(month, now, new EventWatermark(outboxEventRepository.findMaxId()));
+            List<SellerIdAndTotalPriceDTO> sellerTotalPrices = orderProductQueryRepository.findKindGradeSellerTotalPrices(kindGradeId, month.atDay(1).atStartOfDay(), now);
+            sellerTotalPrices.forEach(dto -> board.add(month, dto.getSellerId(), dto.getTotalPrice()));
+            return board;
+        });
+    }
+
+    private static class Board { // 판매자별 판매액 + 판매액 내림차순 정렬
+
+        private static final Comparator<SellerSales> RANK = Comparator.comparingLong(SellerSales::getTotalPrice).reversed()
+                .thenComparing(SellerSales::getSellerId);
+
+        private final YearMonth month;
+        private final LocalDateTime loadedAt;
+        private final EventWatermark watermark;
+        private final Map<Long, SellerSales> sellerSales = new HashMap<>();
+        private final TreeSet<SellerSales> ranking = new TreeSet<>(RANK);
+        private long totalPrice;
+
+        private Board(YearMonth month, LocalDateTime loadedAt, EventWatermark watermark) {
+            this.month = month;
+            this.loadedAt = loadedAt;
+            this.watermark = watermark;
+        }
+
+        private boolean isValid(YearMonth currentMonth, LocalDateTime now, Duration reloadInterval) {
+            return month.equals(currentMonth) && loadedAt.plus(reloadInterval).isAfter(now);
+        }
+
+        private synchronized void apply(long eventId, YearMonth orderMonth, List<Sale> sales, int sign) {
+            if (!watermark.tryApply(eventId)) { // 적재 결과에 포함, 이미 반영한 이벤트
+                return;
+            }
+            sales.forEach(sale -> add(orderMonth, sale.getSellerId(), sign * sale.getAmount()));
+        }
+
+        private synchronized void add(YearMonth orderMonth, Long sellerId, long amount) {
+            if (!month.equals(orderMonth)) { // 지난달 주문 취소 -> 이번달 순위와 무관
+                return;
+            }
+            SellerSales before = sellerSales.remove(sellerId);
+            if (before != null) {
+                ranking.remove(before);
+            }
+            long sellerTotalPrice = (before != null ? before.getTotalPrice() : 0) + amount;
+            if (sellerTotalPrice > 0) {
+                SellerSales after = new SellerSales(sellerId, sellerTotalPrice);
+                sellerSales.put(sellerId, after);
+                ranking.add(after);
+            }
+            totalPrice += amount;
+        }
+
+        private synchronized Snapshot snapshot(int rankCount, Long sellerId) {
+            List<SellerSales> topSellers = ranking.stream().limit(rankCount).collect(Collectors.toList());
+            SellerSales seller = sellerSales.get(sellerId);
+            return new Snapshot(totalPrice, topSellers, seller != null ? seller.getTotalPrice() : 0L);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Sale { // 주문 상품 1건의 판매액
+
+        private final Long kindGradeId;
+        private final Long sellerId;
+        private final long amount;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class SellerSales {
+
+        private final Long sellerId;
+        private final long totalPrice;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Snapshot {
+
+        private final long totalPrice; // 품목 등급 이번달 총 판매액
+        private final List<SellerSales> topSellers;
+        private final long sellerTotalPrice; // 요청한 판매자의 판매액
+    }
+}
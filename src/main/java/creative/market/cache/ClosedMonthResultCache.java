@@ -0,0 +1,155 @@
+package creative.market.cache;
+
+import creative.market.domain.analytics.ClosedMonthResult;
+import creative.market.repository.ClosedMonthResultRepository;
+import creative.market.repository.dto.CategoryParamDTO;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+import static creative.market.util.AvailableDay.*;
+
+@Component
+@ConditionalOnProperty(name = "analytics.closed-month-cache.enabled", havingValue = "true")
+@Slf4j
+public class ClosedMonthResultCache implements DisposableBean {
+    // 주문 취소는 주문일로부터 ORDER_CANCEL_AVAILABLE_DAY 일 이내만 가능 -> 말일 + 취소 가능 일수가 지난 달의 판매 집계는 바뀌지 않음
+    // 닫힌 달의 결과는 테이블에 저장해 두고, 저장되지 않은 달부터 종료월까지만 sql 로 집계
+
+    private final ClosedMonthResultRepository closedMonthResultRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("closed-month-cache-"));
+    // 카테고리별 결과의 버전에는 품목 등급 변경 횟수(테이블에 보관, 서버 간 공유)를 포함 -> 변경 전에 집계한 결과는 어느 서버에서도 읽지 않음
+
+    public ClosedMonthResultCache(ClosedMonthResultRepository closedMonthResultRepository, PlatformTransactionManager transactionManager) {
+        this.closedMonthResultRepository = closedMonthResultRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public <T> List<T> perMonth(String name, Long userId, CategoryParamDTO categoryParamDTO, long version, YearMonth startDate, YearMonth endDate,
+                                MonthValue<T> monthValue, BiFunction<YearMonth, YearMonth, List<T>> loader) { // loader: (시작월, 종료월) -> 월별 결과 (월 순서, 빈 달 포함)
+        YearMonth lastClosed = lastClosedMonth(LocalDate.now());
+        if (startDate.isAfter(lastClosed)) {
+            return loader.apply(startDate, endDate);
+        }
+        String resultKey = resultKey(name, userId, categoryParamDTO);
+        boolean categoryFiltered = isCategoryFiltered(categoryParamDTO);
+        long generation = categoryFiltered ? closedMonthResultRepository.findCategoryGeneration() : 0;
+        String resultVersion = categoryFiltered ? version + "@" + generation : String.valueOf(version);
+
+        Map<String, Double> cached = closedMonthResultRepository.findByKey(resultKey, resultVersion, startDate, min(endDate, lastClosed)).stream()
+                .collect(Collectors.toMap(ClosedMonthResult::getYm, ClosedMonthResult::getValue));
+        List<T> result = new ArrayList<>();
+        YearMonth loadFrom = startDate;
+        while (!loadFrom.isAfter(endDate) && cached.containsKey(loadFrom.toString())) { // 앞에서부터 저장된 달
+            result.add(monthValue.factory.apply(cached.get(loadFrom.toString()), loadFrom.toString()));
+            loadFrom = loadFrom.plusMonths(1);
+        }
+        if (loadFrom.isAfter(endDate)) {
+            return result;
+        }
+
+        List<T> loaded = loader.apply(loadFrom, endDate);
+        result.addAll(loaded);
+        Map<String, Double> closedValues = new LinkedHashMap<>();
+        for (T value : loaded) {
+            String date = monthValue.dateOf.apply(value);
+            if (date.compareTo(lastClosed.toString()) <= 0) {
+                closedValues.put(date, monthValue.valueOf.applyAsDouble(value));
+            }
+        }
+        if (!closedValues.isEmpty()) {
+            save(resultKey, resultVersion, categoryFiltered, generation, closedValues);
+        }
+        return result;
+    }
+
+    public void evictCategoryFiltered() { // 상품 품목 등급 변경 -> 과거 판매가 다른 카테고리로 옮겨짐
+        // 버전 증가만 이벤트 전달 트랜잭션에서 (이후 조회는 이전 결과를 읽지 않음), 이전 결과 삭제는 저장 스레드에서 (전달 스레드가 기다리지 않음)
+        transactionTemplate.executeWithoutResult(status -> closedMonthResultRepository.increaseCategoryGeneration());
+        writer.execute(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> closedMonthResultRepository.deleteCategoryFiltered());
+            } catch (Exception e) { // 남은 결과는 버전이 달라 읽지 않음 -> 다음 변경시 삭제
+                log.warn("닫힌 달 카테고리 통계 결과 삭제 실패 error={}", e.getMessage());
+            }
+        });
+    }
+
+    void awaitWrites() throws Exception { // 대기중인 저장, 삭제가 끝날 때까지 (테스트용)
+        writer.submit(() -> { }).get();
+    }
+
+    static YearMonth lastClosedMonth(LocalDate today) { // 말일 주문의 취소 가능 기간까지 지난 마지막 달
+        return YearMonth.from(today.minusDays(ORDER_CANCEL_AVAILABLE_DAY).plusDays(1)).minusMonths(1);
+    }
+
+    private void save(String resultKey, String version, boolean categoryFiltered, long generation, Map<String, Double> valuePerMonth) {
+        // 조회는 readOnly(replica, 통계 전용 풀) 트랜잭션 -> 쓰기는 별도 스레드의 트랜잭션에서 (primary)
+        writer.execute(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (categoryFiltered && generation != closedMonthResultRepository.findCategoryGeneration()) { // 집계 중 품목 등급 변경 -> 읽지 않을 결과
+                        return;
+                    }
+                    closedMonthResultRepository.saveAll(resultKey, version, categoryFiltered, valuePerMonth);
+                });
+            } catch (Exception e) { // 다른 서버가 같은 결과를 먼저 저장한 경우 등 -> 다음 조회에서 다시 저장
+                log.warn("닫힌 달 통계 결과 저장 실패 resultKey={}, error={}", resultKey, e.getMessage());
+            }
+        });
+    }
+
+    private String resultKey(String name, Long userId, CategoryParamDTO categoryParamDTO) {
+        StringJoiner key = new StringJoiner(":").add(name).add(String.valueOf(userId));
+        if (categoryParamDTO != null) {
+            key.add(String.valueOf(categoryParamDTO.getItemCategoryCode()))
+                    .add(String.valueOf(categoryParamDTO.getItemCode()))
+                    .add(String.valueOf(categoryParamDTO.getKindId()))
+                    .add(String.valueOf(categoryParamDTO.getKindGradeId()));
+        }
+        return key.toString();
+    }
+
+    private boolean isCategoryFiltered(CategoryParamDTO categoryParamDTO) {
+        return categoryParamDTO != null && (categoryParamDTO.getItemCategoryCode() != null || categoryParamDTO.getItemCode() != null
+                || categoryParamDTO.getKindId() != null || categoryParamDTO.getKindGradeId() != null);
+    }
+
+    private YearMonth min(YearMonth a, YearMonth b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    @Override
+    public void destroy() {
+        writer.shutdown();
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class MonthValue<T> { // 월별 결과 DTO <-> (년월, 값)
+
+        private final Function<T, String> dateOf;
+        private final ToDoubleFunction<T> valueOf;
+        private final BiFunction<Double, String, T> factory;
+
+        public static <T> MonthValue<T> of(Function<T, String> dateOf, ToDoubleFunction<T> valueOf, BiFunction<Double, String, T> factory) {
+            return new MonthValue<>(dateOf, valueOf, factory);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package creative.market.cache;
+
+import creative.market.datasource.PrimaryReader;
+import creative.market.event.EventWatermark;
+import creative.market.repository.OutboxEventRepository;
+import creative.market.repository.ProductRepository;
+import creative.market.repository.dto.KindGradePriceStatDTO;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KindGradePriceAverage { // 품목 등급별 판매중인 상품 평균 가격 (커밋된 상품 등록, 수정, 삭제 이벤트로 갱신 - PriceAverageProjection + 주기적으로 DB 와 맞춤)
+
+    private final ProductRepository productRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final PrimaryReader primaryReader;
+    private final Map<Long, PriceStat> stats = new ConcurrentHashMap<>();
+
+    public int getAvgPrice(Long kindGradeId) {
+        PriceStat stat = stats.get(kindGradeId);
+        if (stat == null) { // 적재는 map 잠금 밖에서 -> 다른 품목 등급 갱신을 막지 않음, 먼저 적재된 값이 있으면 그 값 사용
+            PriceStat loaded = load(List.of(kindGradeId)).get(kindGradeId);
+            PriceStat existing = stats.putIfAbsent(kindGradeId, loaded);
+            stat = existing != null ? existing : loaded;
+        }
+        return stat.average();
+    }
+
+    public void add(long eventId, Long kindGradeId, int price) { // 상품 등록
+        apply(eventId, kindGradeId, price, 1);
+    }
+
+    public void remove(long eventId, Long kindGradeId, int price) { // 상품 삭제, 판매자 탈퇴
+        apply(eventId, kindGradeId, -price, -1);
+    }
+
+    public void change(long eventId, Long beforeKindGradeId, int beforePrice, Long afterKindGradeId, int afterPrice) { // 상품 가격, 품목 등급 변경
+        if (beforeKindGradeId.equals(afterKindGradeId)) { // 같은 품목 등급 -> 한번에 반영 (이벤트당 한번만 반영)
+            apply(eventId, afterKindGradeId, (long) afterPrice - beforePrice, 0);
+            return;
+        }
+        apply(eventId, beforeKindGradeId, -beforePrice, -1);
+        apply(eventId, afterKindGradeId, afterPrice, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.kind-grade-price.reconcile-interval-ms:600000}",
+            initialDelayString = "${cache.kind-grade-price.reconcile-interval-ms:600000}")
+    public void reconcile() { // 적재된 품목 등급을 DB 값으로 교체 -> 적재와 갱신이 겹쳐 생긴 오차 보정
+        Map<Long, PriceStat> loadedStats = new HashMap<>(stats);
+        if (loadedStats.isEmpty()) {
+            return;
+        }
+        Map<Long, PriceStat> actualStats = load(loadedStats.keySet());
+        loadedStats.forEach((kindGradeId, before) -> {
+            PriceStat actual = actualStats.get(kindGradeId);
+            // 조회하는 동안 갱신된 품목 등급은 DB 값에 그 갱신이 포함됐는지 알 수 없으므로 교체하지 않음 (다음 보정에서 교체)
+            PriceStat after = stats.computeIfPresent(kindGradeId, (id, current) -> current == before ? actual : current);
+            if (after == actual && !actual.equals(before)) {
+                log.info("품목 등급 평균 가격 보정 kindGradeId={}, before={}, actual={}", kindGradeId, before, actual);
+            }
+        });
+    }
+
+    private void apply(long eventId, Long kindGradeId, long price, long count) { // 적재 결과에 포함, 이미 반영한 이벤트는 무시
+        stats.computeIfPresent(kindGradeId, (id, stat) -> stat.watermark.tryApply(eventId) ? stat.plus(price, count) : stat); // 적재되지 않은 품목 등급은 조회시 DB 에서 적재
+    }
+
+    private Map<Long, PriceStat> load(Collection<Long> kindGradeIds) { // 판매중인 상품이 없는 품목 등급 포함
+        return primaryReader.read(() -> { // 적재, 보정 값은 이벤트로만 갱신 -> primary 에서 마지막 아웃박스 이벤트 아이디와 같은 트랜잭션으로 조회
+            EventWatermark watermark = new EventWatermark(outboxEventRepository.findMaxId());
+            Map<Long, PriceStat> loaded = productRepository.findExistProductPriceStats(kindGradeIds).stream()
+                    .collect(Collectors.toMap(KindGradePriceStatDTO::getKindGradeId,
+                            dto -> new PriceStat(dto.getPriceSum(), dto.getProductCount(), watermark)));
+            kindGradeIds.forEach(kindGradeId -> loaded.putIfAbsent(kindGradeId, new PriceStat(0, 0, watermark)));
+            return loaded;
+        });
+    }
+
+    @EqualsAndHashCode
+    @ToString
+    @RequiredArgsConstructor
+    private static class PriceStat { // 가격 합, 상품 수
+
+        private final long priceSum;
+        private final long productCount;
+        @EqualsAndHashCode.Exclude
+        @ToString.Exclude
+        private final EventWatermark watermark; // 적재 이후 반영한 이벤트 (보정 전까지 유지)
+
+        private PriceStat plus(long price, long count) {
+            return new PriceStat(priceSum + price, productCount + count, watermark);
+        }
+
+        private int average() {
+            return productCount <= 0 ? 0 : (int) ((double) priceSum / productCount);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package creative.market.cache;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import creative.market.domain.category.Item;
+import creative.market.domain.category.KindGrade;
+import creative.market.repository.category.KindGradeRepository;
+import creative.market.repository.dto.CategoryParamDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static creative.market.domain.product.QProduct.*;
+
+@Component
+@RequiredArgsConstructor
+public class KindGradeResolver { // 카테고리 조건(부류, 품목, 품종, 품목 등급) -> 품목 등급 id 목록 (조회 sql 은 product.kind_grade_id in (...) 조건만 사용, 분류 테이블 join 안함)
+    // 품목 분류 스냅샷은 SellerPercentileIndex, OrderLineStore 도 kindGradePaths() 로 같이 사용
+
+    private final KindGradeRepository kindGradeRepository;
+    private volatile Snapshot snapshot; // 품목 분류는 기동시 적재 후 바뀌지 않음 -> 처음 조회시 한번 적재
+
+    public Optional<List<Long>> resolve(CategoryParamDTO categoryParamDTO) {
+        if (categoryParamDTO == null) {
+            return Optional.empty();
+        }
+        return resolve(categoryParamDTO.getItemCategoryCode(), categoryParamDTO.getItemCode(),
+                categoryParamDTO.getKindId(), categoryParamDTO.getKindGradeId());
+    }
+
+    public Optional<List<Long>> resolve(Integer itemCategoryCode, Integer itemCode, Long kindId, Long kindGradeId) {
+        // 조건 없음 -> Optional.empty() (필터 안함), 조건에 맞는 품목 등급 없음 -> 빈 목록 (sql 의 and 조건처럼 결과 없음)
+        if (itemCategoryCode == null && itemCode == null && kindId == null && kindGradeId == null) {
+            return Optional.empty();
+        }
+        Snapshot snapshot = snapshot();
+        List<Long> candidates = kindGradeId != null ? (snapshot.paths.containsKey(kindGradeId) ? List.of(kindGradeId) : List.of())
+                : kindId != null ? snapshot.byKind.getOrDefault(kindId, List.of())
+                : itemCode != null ? snapshot.byItem.getOrDefault(itemCode, List.of())
+                : snapshot.byItemCategory.getOrDefault(itemCategoryCode, List.of());
+
+        return Optional.of(candidates.stream()
+                .filter(id -> snapshot.paths.get(id).matches(itemCategoryCode, itemCode, kindId))
+                .collect(Collectors.toList()));
+    }
+
+    public static BooleanExpression kindGradeIn(Optional<List<Long>> kindGradeIds) { // resolve 결과 -> product.kind_grade_id 조건 (빈 목록이면 결과 없음)
+        return kindGradeIds.map(ids -> ids.isEmpty() ? Expressions.FALSE.isTrue() : product.kindGrade.id.in(ids))
+                .orElse(null);
+    }
+
+    public List<KindGradePath> kindGradePaths() { // 전체 품목 등급의 상위 분류 (품목 등급 id 오름차순)
+        return snapshot().pathList;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot loaded = snapshot;
+        if (loaded == null) {
+            loaded = new Snapshot(kindGradeRepository.findAllFetchJoinCategory());
+            snapshot = loaded;
+        }
+        return loaded;
+    }
+
+    private static class Snapshot {
+
+        private final List<KindGradePath> pathList;
+        private final Map<Long, KindGradePath> paths = new HashMap<>(); // 품목 등급 id -> 상위 분류
+        private final Map<Long, List<Long>> byKind = new HashMap<>();
+        private final Map<Integer, List<Long>> byItem = new HashMap<>();
+        private final Map<Integer, List<Long>> byItemCategory = new HashMap<>();
+
+        private Snapshot(List<KindGrade> kindGrades) {
+            pathList = kindGrades.stream()
+                    .sorted(Comparator.comparing(KindGrade::getId)) // 같은 조건은 항상 같은 순서의 목록
+                    .map(kindGrade -> {
+                        Item item = kindGrade.getKind().getItem();
+                        return new KindGradePath(kindGrade.getId(), kindGrade.getKind().getId(), item.getItemCode(), item.getItemCategory().getItemCategoryCode());
+                    })
+                    .collect(Collectors.toUnmodifiableList());
+            pathList.forEach(path -> {
+                paths.put(path.kindGradeId, path);
+                byKind.computeIfAbsent(path.kindId, key -> new ArrayList<>()).add(path.kindGradeId);
+                byItem.computeIfAbsent(path.itemCode, key -> new ArrayList<>()).add(path.kindGradeId);
+                byItemCategory.computeIfAbsent(path.itemCategoryCode, key -> new ArrayList<>()).add(path.kindGradeId);
+            });
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class KindGradePath { // 품목 등급 -> 품종 -> 품목 -> 부류
+
+        private final Long kindGradeId;
+        private final Long kindId;
+        private final int itemCode;
+        private final int itemCategoryCode;
+
+        private boolean matches(Integer itemCategoryCode, Integer itemCode, Long kindId) {
+            return (itemCategoryCode == null || itemCategoryCode == this.itemCategoryCode)
+                    && (itemCode == null || itemCode == this.itemCode)
+                    && (kindId == null || kindId.equals(this.kindId));
+        }
+    }
+}
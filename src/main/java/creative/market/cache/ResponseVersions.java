@@ -0,0 +1,46 @@
+package creative.market.cache;
+
+import creative.market.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class ResponseVersions { // 공개 조회 응답의 ETag 버전 (응답 본문을 만들어 해시하지 않고 싼 값으로 비교)
+
+    private final ProductRepository productRepository;
+    private final long startedAt = System.currentTimeMillis(); // 품목 분류는 기동시 적재 후 바뀌지 않음 -> 기동 시각이 분류 버전
+    private final AtomicLong catalogVersion = new AtomicLong(); // 상품 등록, 수정, 삭제시 증가
+    private final long derivedRefreshMillis;
+
+    public ResponseVersions(ProductRepository productRepository,
+                            @Value("${http-cache.derived-refresh-seconds:60}") long derivedRefreshSeconds) {
+        this.productRepository = productRepository;
+        this.derivedRefreshMillis = derivedRefreshSeconds * 1000;
+    }
+
+    public String taxonomy() { // 부류, 품목, 품종, 등급 메뉴 + 등급 기준
+        return "t" + startedAt;
+    }
+
+    public String catalog() { // 상품 목록, 메인 페이지
+        return "c" + startedAt + "." + catalogVersion.get() + "." + derivedPeriod();
+    }
+
+    public Optional<String> product(Long productId) { // 상품 상세 -> 판매중이 아니면 버전 없음 (그대로 처리해서 에러 응답)
+        return productRepository.findExistProductVersionDate(productId)
+                .map(versionDate -> "p" + productId + "." + versionDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + "." + derivedPeriod());
+    }
+
+    public void catalogChanged() { // 커밋된 상품 변경 이벤트로 호출 (CatalogVersionProjection) -> 커밋 전에 올리면 이전 내용이 새 버전으로 캐시될 수 있음
+        catalogVersion.incrementAndGet();
+    }
+
+    private long derivedPeriod() {
+        // 판매 횟수, 별점, 판매자 순위, 평균 가격, 시세 등 상품 외 데이터로 만든 값 + 다른 서버에서의 변경은 이 주기 안에 반영
+        return System.currentTimeMillis() / derivedRefreshMillis;
+    }
+}
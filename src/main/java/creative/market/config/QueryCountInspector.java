@@ -0,0 +1,13 @@
+package creative.market.config;
+
+import creative.market.util.QueryCounter;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class QueryCountInspector implements StatementInspector { // hibernate 가 실행하는 모든 sql 을 QueryCounter 에 기록
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.record(sql);
+        return sql;
+    }
+}
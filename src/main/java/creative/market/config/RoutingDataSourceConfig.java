@@ -0,0 +1,101 @@
+package creative.market.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import creative.market.datasource.AnalyticsRoutingDataSource;
+import creative.market.datasource.ReadYourWrites;
+import creative.market.datasource.ReplicaLagMonitor;
+import creative.market.datasource.ReplicationRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnExpression("${datasource.replica.enabled:false} or ${analytics.datasource.enabled:false}")
+public class RoutingDataSourceConfig { // @Transactional(readOnly = true) -> replica, 통계 조회 -> 통계 전용 풀, 나머지 -> primary
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username}") String username,
+                                              @Value("${datasource.replica.password:}") String password) {
+        return createDataSource(url, username, password);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "analytics.datasource.enabled", havingValue = "true")
+    @ConfigurationProperties("analytics.datasource.hikari")
+    public HikariDataSource analyticsDataSource(@Value("${analytics.datasource.url}") String url,
+                                                @Value("${analytics.datasource.username}") String username,
+                                                @Value("${analytics.datasource.password:}") String password) {
+        return createDataSource(url, username, password);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+                                               @Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLagSeconds);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+    public ReadYourWrites readYourWrites(@Value("${datasource.replica.sticky-seconds:5}") long stickySeconds) {
+        return new ReadYourWrites(stickySeconds);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 @Qualifier("analyticsDataSource") ObjectProvider<DataSource> analyticsDataSource,
+                                 ObjectProvider<ReplicaLagMonitor> replicaLagMonitor, ObjectProvider<ReadYourWrites> readYourWrites) {
+        DataSource dataSource = primaryDataSource;
+
+        DataSource replica = replicaDataSource.getIfAvailable();
+        if (replica != null) {
+            ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicaLagMonitor.getObject(), readYourWrites.getObject());
+            routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+                    ReplicationRoutingDataSource.PRIMARY, primaryDataSource,
+                    ReplicationRoutingDataSource.REPLICA, replica));
+            routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+            routingDataSource.afterPropertiesSet();
+            // 트랜잭션 시작 시점이 아니라 첫 sql 실행 시점에 커넥션 획득 -> readOnly 여부가 정해진 뒤 라우팅
+            dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        }
+
+        DataSource analytics = analyticsDataSource.getIfAvailable();
+        if (analytics != null) { // 통계 전용 스레드(AnalyticsExecutor)에서 시작한 트랜잭션은 통계 전용 풀 사용
+            dataSource = new AnalyticsRoutingDataSource(dataSource, analytics);
+        }
+        return dataSource;
+    }
+
+    private HikariDataSource createDataSource(String url, String username, String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+}
@@ -1,16 +1,34 @@
 package creative.market.config;
 
 import creative.market.argumentresolver.LoginUserArgumentResolver;
+import creative.market.interceptor.HttpCacheInterceptor;
+import creative.market.interceptor.QueryBudgetInterceptor;
+import creative.market.interceptor.ReadYourWritesInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ObjectProvider<HttpCacheInterceptor> httpCacheInterceptor;
+    private final ObjectProvider<QueryBudgetInterceptor> queryBudgetInterceptor;
+    private final ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) { // query-budget.enabled, datasource.replica.enabled=true 인 경우에만 등록
+        httpCacheInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor).addPathPatterns("/api/**")); // 304 는 다른 처리 없이 바로 응답
+        queryBudgetInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor).addPathPatterns("/api/**"));
+        readYourWritesInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor).addPathPatterns("/api/**"));
+    }
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
        resolvers.add(new LoginUserArgumentResolver());
@@ -0,0 +1,22 @@
+package creative.market.datasource;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AnalyticsContext { // 통계 전용 스레드에서 실행중인지 표시 -> 통계 전용 커넥션 풀로 라우팅
+
+    private static final ThreadLocal<Boolean> analytics = new ThreadLocal<>();
+
+    public static void enter() {
+        analytics.set(Boolean.TRUE);
+    }
+
+    public static void exit() {
+        analytics.remove();
+    }
+
+    public static boolean isAnalytics() {
+        return Boolean.TRUE.equals(analytics.get());
+    }
+}
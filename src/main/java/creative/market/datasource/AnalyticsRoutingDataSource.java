@@ -0,0 +1,26 @@
+package creative.market.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+public class AnalyticsRoutingDataSource extends AbstractRoutingDataSource { // 통계 조회 -> 통계 전용 풀, 나머지 -> 기존 데이터소스
+
+    private static final String DEFAULT = "default";
+    private static final String ANALYTICS = "analytics";
+
+    public AnalyticsRoutingDataSource(DataSource defaultDataSource, DataSource analyticsDataSource) {
+        setTargetDataSources(Map.<Object, Object>of(DEFAULT, defaultDataSource, ANALYTICS, analyticsDataSource));
+        setDefaultTargetDataSource(defaultDataSource);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PrimaryReadContext.isPrimaryRead()) { // 통계 스레드의 캐시 적재 -> 기존 데이터소스(primary) 사용
+            return DEFAULT;
+        }
+        return AnalyticsContext.isAnalytics() ? ANALYTICS : DEFAULT;
+    }
+}
@@ -0,0 +1,26 @@
+package creative.market.datasource;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PrimaryReadContext { // 캐시 적재처럼 replica 지연 값을 오래 보관하면 안되는 조회중인지 표시 -> readOnly, 통계 스레드여도 primary 로 라우팅
+
+    private static final ThreadLocal<Boolean> primaryRead = new ThreadLocal<>();
+
+    public static boolean enter() { // 이미 표시된 경우 false -> 바깥 호출에서 exit
+        if (isPrimaryRead()) {
+            return false;
+        }
+        primaryRead.set(Boolean.TRUE);
+        return true;
+    }
+
+    public static void exit() {
+        primaryRead.remove();
+    }
+
+    public static boolean isPrimaryRead() {
+        return Boolean.TRUE.equals(primaryRead.get());
+    }
+}
@@ -0,0 +1,46 @@
+package creative.market.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+@Component
+public class PrimaryReader { // 캐시 적재 조회를 primary 에서 실행
+    // 다른 사용자의 쓰기로 캐시가 제거된 뒤 replica 에서 적재하면 복제 지연 동안의 이전 값이 캐시 만료까지 남음 (read-your-writes 는 쓴 사용자만 primary)
+
+    private final boolean routed;
+    private final TransactionTemplate transactionTemplate;
+
+    public PrimaryReader(@Value("${datasource.replica.enabled:false}") boolean replicaEnabled,
+                         @Value("${analytics.datasource.enabled:false}") boolean analyticsEnabled,
+                         PlatformTransactionManager transactionManager) {
+        this.routed = replicaEnabled || analyticsEnabled;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 커넥션은 첫 sql 실행 시점에 라우팅 -> 이미 replica 커넥션을 잡은 readOnly 트랜잭션과 분리된 새 트랜잭션에서 조회
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public <T> T read(Supplier<T> query) {
+        if (!routed || isWriteTransaction()) { // 단일 데이터소스, 쓰기 트랜잭션 -> 이미 primary
+            return query.get();
+        }
+        boolean entered = PrimaryReadContext.enter();
+        try {
+            return transactionTemplate.execute(status -> query.get());
+        } finally {
+            if (entered) {
+                PrimaryReadContext.exit();
+            }
+        }
+    }
+
+    private boolean isWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive() && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
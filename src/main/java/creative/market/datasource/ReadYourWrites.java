@@ -0,0 +1,51 @@
+package creative.market.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+
+public class ReadYourWrites { // 사용자가 직접 쓰기(주문 등)를 커밋한 뒤 sticky-seconds 동안은 그 사용자의 읽기도 primary 로
+
+    private static final ThreadLocal<Long> currentUserId = new ThreadLocal<>();
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWrites(long stickySeconds) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickySeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    public static void bindUser(Long userId) { // 요청 시작시 로그인 사용자 바인딩
+        currentUserId.set(userId);
+    }
+
+    public static Long currentUser() { // 다른 스레드(통계 전용 풀)로 바인딩 전달
+        return currentUserId.get();
+    }
+
+    public static void clear() {
+        currentUserId.remove();
+    }
+
+    public boolean isSticky() {
+        Long userId = currentUserId.get();
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    public void markWrite() { // 쓰기 트랜잭션 커밋 후 sticky 시작 (롤백시 복제 지연과 무관하므로 제외)
+        Long userId = currentUserId.get();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package creative.market.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+@Slf4j
+public class ReplicaLagMonitor { // 주기적으로 복제 지연 확인 -> 허용 지연을 넘거나 복제가 멈추면 replica 사용 중지
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private volatile boolean available = true;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagSeconds) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        if (!StringUtils.hasText(lagQuery)) { // 지연 확인 안함 (로컬 임베디드 DB)
+            return;
+        }
+        boolean result;
+        try {
+            Long lagSeconds = replicaJdbcTemplate.query(lagQuery, rs -> { // 결과 없음 -> 복제 설정이 없는 단독 DB
+                if (!rs.next()) {
+                    return 0L;
+                }
+                long lag = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? null : lag; // null -> 복제 중단
+            });
+            result = lagSeconds != null && lagSeconds <= maxLagSeconds;
+            if (!result) {
+                log.warn("replica 지연 허용 초과 lagSeconds={}, maxLagSeconds={}", lagSeconds, maxLagSeconds);
+            }
+        } catch (RuntimeException e) {
+            log.warn("replica 지연 확인 실패 message={}", e.getMessage());
+            result = false;
+        }
+        if (result != available) {
+            log.info("replica 사용 여부 변경 available={}", result);
+        }
+        available = result;
+    }
+}
@@ -0,0 +1,32 @@
+package creative.market.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource { // readOnly 트랜잭션 -> replica, 나머지 -> primary
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWrites readYourWrites;
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor lagMonitor, ReadYourWrites readYourWrites) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() { // LazyConnectionDataSourceProxy 로 감싸야 트랜잭션 readOnly 여부가 정해진 뒤 호출됨
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWrites.markWrite();
+            }
+            return PRIMARY;
+        }
+        if (PrimaryReadContext.isPrimaryRead() || readYourWrites.isSticky() || !lagMonitor.isAvailable()) { // 캐시 적재, 자신의 쓰기 직후, 복제 지연 -> primary 에서 읽기
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+}
@@ -13,6 +13,7 @@ import static javax.persistence.FetchType.*;
 
 @Entity
 @Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_cart_user_product", columnNames = {"user_id", "product_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Cart {
 
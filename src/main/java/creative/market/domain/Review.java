@@ -14,6 +14,8 @@ import java.time.LocalDateTime;
 import static javax.persistence.FetchType.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_review_product_user", columnNames = {"product_id", "user_id"}),
+        indexes = @Index(name = "idx_review_product", columnList = "product_id, review_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Review extends CreatedDate{
@@ -49,6 +51,10 @@ public class Review extends CreatedDate{
         }
     }
 
+    public void assignProduct(Product product) { // 상품 FK 만 지정 (상품의 리뷰 컬렉션을 로딩하지 않음)
+        this.product = product;
+    }
+
     public void changeUser(User user) {
         this.user = user;
     }
@@ -0,0 +1,22 @@
+package creative.market.domain.analytics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Entity
+@Table(name = "backfill_progress")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BackfillProgress { // 기동시 범위별로 나눠 실행하는 적재 작업의 진행 상태 (작업 이름당 1행)
+
+    @Id
+    @Column(length = 50)
+    private String jobName;
+
+    private long lastId; // 적재를 마친 마지막 아이디 -> 중단되면 다음 기동시 이어서 적재
+
+    private boolean completed;
+}
@@ -0,0 +1,36 @@
+package creative.market.domain.analytics;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+@Entity
+@Table(name = "buyer_spend_month")
+@IdClass(BuyerSpendMonth.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BuyerSpendMonth { // 구매자별 월 결제 금액, 주문 상품 수 (주문, 취소시 upsert 로 갱신 -> 구매자 결제 금액 그래프는 기본 키 범위 조회)
+
+    @Id
+    @Column(name = "buyer_id")
+    private Long buyerId;
+
+    @Id
+    @Column(length = 7)
+    private String ym;
+
+    private long total; // 취소되지 않은 주문 상품 결제 금액 합
+
+    private long lineCount; // 취소되지 않은 주문 상품 수
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long buyerId;
+        private String ym;
+    }
+}
@@ -0,0 +1,48 @@
+package creative.market.domain.analytics;
+
+import creative.market.domain.CreatedDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_closed_month_result", columnNames = {"result_key", "ym"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ClosedMonthResult extends CreatedDate { // 취소 가능 기간이 지난 달의 통계 결과 (주문, 취소가 더 생기지 않으므로 다시 집계하지 않음)
+
+    public static final String CATEGORY_GENERATION_KEY = "category-generation"; // 품목 등급 변경 횟수를 보관하는 행 (카테고리 결과 버전에 포함)
+    public static final String CATEGORY_GENERATION_YM = "0000-00";
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "closed_month_result_id")
+    private Long id;
+
+    @Column(name = "result_key", length = 200)
+    private String resultKey; // 조회 종류 + 사용자 + 카테고리 조건
+
+    @Column(length = 7)
+    private String ym;
+
+    private String version; // 결과에 영향을 주는 집계 밖의 값 (판매액 백분위 -> 전체 판매자 수), 다르면 다시 집계
+
+    private boolean categoryFiltered; // 상품 품목 등급 변경시 삭제 대상
+
+    @Column(name = "result_value")
+    private double value;
+
+    public ClosedMonthResult(String resultKey, String ym, String version, boolean categoryFiltered, double value) {
+        this.resultKey = resultKey;
+        this.ym = ym;
+        this.version = version;
+        this.categoryFiltered = categoryFiltered;
+        this.value = value;
+    }
+
+    public void change(String version, double value) {
+        this.version = version;
+        this.value = value;
+    }
+}
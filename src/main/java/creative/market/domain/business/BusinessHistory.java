@@ -11,6 +11,7 @@ import static javax.persistence.CascadeType.*;
 import static javax.persistence.FetchType.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_business_wait_user", columnNames = "wait_user_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BusinessHistory extends ChangeDate {
@@ -32,6 +33,9 @@ public class BusinessHistory extends ChangeDate {
     @JoinColumn(name = "user_id")
     private User user;
 
+    @Column(name = "wait_user_id")
+    private Long waitUserId; // 대기중인 신청만 user_id, 나머지는 null -> 유저당 대기중인 신청 1개
+
     @ManyToOne(fetch = LAZY, cascade = ALL)
     @JoinColumn(name = "image_id")
     private BusinessImage businessImage;
@@ -43,9 +47,15 @@ public class BusinessHistory extends ChangeDate {
         this.status = status;
         this.user = user;
         this.businessImage = businessImage;
+        this.waitUserId = waitUserIdOf(status, user);
     }
 
     public void changeStatus(BusinessStatus status) {
         this.status = status;
+        this.waitUserId = waitUserIdOf(status, user);
+    }
+
+    private Long waitUserIdOf(BusinessStatus status, User user) {
+        return status == BusinessStatus.WAIT && user != null ? user.getId() : null;
     }
 }
@@ -29,16 +29,36 @@ public class Order extends CreatedDate {
     private Address address;
 
     @ManyToOne(fetch = LAZY)
-    @JoinColumn(name = "user_id")
+    @JoinColumn(name = "user_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)) // 월 파티션 테이블은 외래 키 불가
     private User user;
 
     @OneToMany(mappedBy = "order",cascade = CascadeType.ALL,orphanRemoval = true)
     private List<OrderProduct> orderProducts = new ArrayList<>();
+
+    @Column(name = "active_total_price")
+    private Long activeTotalPrice; // 취소되지 않은 주문 상품 결제 금액 합 (주문 취소시 OrderRepository.cancelLine 으로 차감)
+
+    @Column(name = "active_line_count")
+    private Integer activeLineCount; // 취소되지 않은 주문 상품 개수
+
     @Builder
     public Order(Address address, User user,List<OrderProduct> orderProducts) {
         this.address = address;
         this.user = user;
         orderProducts.forEach(orderProduct -> orderProduct.changeOrder(this));
+        this.activeTotalPrice = orderProducts.stream()
+                .filter(orderProduct -> orderProduct.getStatus() == OrderStatus.ORDER)
+                .mapToLong(OrderProduct::getTotalPrice)
+                .sum();
+        this.activeLineCount = (int) orderProducts.stream()
+                .filter(orderProduct -> orderProduct.getStatus() == OrderStatus.ORDER)
+                .count();
+    }
+
+    @Override
+    public void changeCreatedDate(LocalDateTime createdDate) { // 주문 상품의 주문일(파티션 키)도 같이 변경
+        super.changeCreatedDate(createdDate);
+        orderProducts.forEach(orderProduct -> orderProduct.changeOrderedDate(createdDate));
     }
 
     public int getTotalPrice() {
@@ -7,10 +7,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
 import static javax.persistence.FetchType.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_order_product_ordered_date", columnList = "ordered_date"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderProduct {
@@ -25,13 +27,16 @@ public class OrderProduct {
     private int price;
 
     @ManyToOne(fetch = LAZY)
-    @JoinColumn(name = "order_id")
+    @JoinColumn(name = "order_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)) // 월 파티션 테이블은 외래 키 불가
     private Order order;
 
     @ManyToOne(fetch = LAZY)
-    @JoinColumn(name = "product_id")
+    @JoinColumn(name = "product_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Product product;
 
+    @Column(name = "ordered_date")
+    private LocalDateTime orderedDate; // 주문일 (orders.created_date 복사본, order_product 월 파티션 키)
+
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
 
@@ -43,6 +48,13 @@ public class OrderProduct {
         this.status = status;
     }
 
+    @PrePersist
+    private void prePersist() { // 주문이 먼저 저장되므로 주문일 사용 가능
+        if (orderedDate == null) {
+            orderedDate = order != null && order.getCreatedDate() != null ? order.getCreatedDate() : LocalDateTime.now();
+        }
+    }
+
     //== 연관관계 편의 메서드==//
     public void changeOrder(Order order) {
         if (order != null) {
@@ -55,6 +67,10 @@ public class OrderProduct {
         return count * price;
     }
 
+    public void changeOrderedDate(LocalDateTime orderedDate) {
+        this.orderedDate = orderedDate;
+    }
+
     public void cancel() {
         this.status = OrderStatus.CANCEL;
     }
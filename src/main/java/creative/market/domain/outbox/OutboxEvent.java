@@ -0,0 +1,86 @@
+package creative.market.domain.outbox;
+
+import creative.market.domain.CreatedDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.persistence.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_outbox_event_status", columnList = "status, outbox_event_id"),
+        @Index(name = "idx_outbox_event_aggregate", columnList = "aggregate_type, aggregate_id, status"), // aggregate 앞 이벤트 확인
+        @Index(name = "idx_outbox_event_published", columnList = "status, published_date") // 보관 기간 지난 이벤트 삭제
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends CreatedDate { // 도메인 이벤트 -> 변경과 같은 트랜잭션에 저장, 커밋 후 디스패처가 전달
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private AggregateType aggregateType;
+
+    private Long aggregateId;
+
+    private String eventType;
+
+    @Lob
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime publishedDate;
+
+    private String deliveredHandlers; // 전달 완료한 핸들러 이름 (재시도시 다시 전달하지 않음)
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public OutboxEvent(AggregateType aggregateType, Long aggregateId, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+    }
+
+    public boolean isDeliveredTo(String handlerName) {
+        return deliveredHandlers != null && Arrays.asList(deliveredHandlers.split(",")).contains(handlerName);
+    }
+
+    public void delivered(String handlerName) {
+        deliveredHandlers = deliveredHandlers == null ? handlerName : deliveredHandlers + "," + handlerName;
+    }
+
+    public void published(LocalDateTime now) {
+        status = OutboxStatus.PUBLISHED;
+        publishedDate = now;
+        nextAttemptAt = null;
+    }
+
+    public void failed(LocalDateTime now, Exception e, int maxAttempts, Duration retryBackoff) { // 시도할수록 대기 시간 증가, 최대 횟수 초과시 포기
+        attempts++;
+        lastError = StringUtils.abbreviate(e.getClass().getSimpleName() + ": " + e.getMessage(), MAX_ERROR_LENGTH);
+        if (attempts >= maxAttempts) {
+            status = OutboxStatus.FAILED;
+            nextAttemptAt = null;
+            return;
+        }
+        nextAttemptAt = now.plus(retryBackoff.multipliedBy(attempts));
+    }
+}
@@ -0,0 +1,5 @@
+package creative.market.domain.outbox;
+
+public enum OutboxStatus {
+    PENDING, PUBLISHED, FAILED
+}
@@ -34,6 +34,8 @@ public class Product extends CreatedDateAndStatus {
 
     private String info;
 
+    private LocalDateTime changeDate; // 상품 정보, 사진 변경 시각 (상품 상세 ETag 버전)
+
     @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "kind_grade_id")
     private KindGrade kindGrade;
@@ -92,14 +94,22 @@ public class Product extends CreatedDateAndStatus {
 
     public void deleteProductImage(ProductImage productImage) {
         productImages.remove(productImage);
+        changeDate = LocalDateTime.now();
     }
 
 
     public void addProductOrdinalImage(ProductImage productOrdinalImage){
         productOrdinalImage.changeProduct(this);
+        changeDate = LocalDateTime.now();
     }
 
     public void addProductSignatureImage(ProductImage productSignatureImage) {
         productSignatureImage.changeProduct(this);
+        changeDate = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    private void preUpdate() { // 사진만 바뀌어도 위에서 changeDate 를 바꾸므로 상품 update 발생
+        changeDate = LocalDateTime.now();
     }
 }
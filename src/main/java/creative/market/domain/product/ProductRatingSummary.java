@@ -0,0 +1,58 @@
+package creative.market.domain.product;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.util.List;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductRatingSummary { // 상품별 리뷰 수, 별점 합, 별점 분포 (리뷰 등록, 수정, 삭제시 update 문으로 갱신 -> 조회시 리뷰 집계 안함)
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    private long reviewCount;
+
+    private double rateSum;
+
+    private long star1Count;
+    private long star2Count;
+    private long star3Count;
+    private long star4Count;
+    private long star5Count;
+
+    public ProductRatingSummary(Long productId, long reviewCount, double rateSum,
+                                long star1Count, long star2Count, long star3Count, long star4Count, long star5Count) {
+        this.productId = productId;
+        this.reviewCount = reviewCount;
+        this.rateSum = rateSum;
+        this.star1Count = star1Count;
+        this.star2Count = star2Count;
+        this.star3Count = star3Count;
+        this.star4Count = star4Count;
+        this.star5Count = star5Count;
+    }
+
+    public static ProductRatingSummary empty(Long productId) {
+        return new ProductRatingSummary(productId, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    public static int starOf(float rate) { // 별점 -> 분포 구간 (1 ~ 5, 4.5 -> 4)
+        return Math.max(1, Math.min(5, (int) Math.floor(rate)));
+    }
+
+    public double getRateAvg() {
+        return reviewCount == 0 ? 0 : rateSum / reviewCount;
+    }
+
+    public List<Long> getStarCounts() { // 1점 ~ 5점 순서
+        return List.of(star1Count, star2Count, star3Count, star4Count, star5Count);
+    }
+}
@@ -0,0 +1,10 @@
+package creative.market.event;
+
+import creative.market.domain.outbox.AggregateType;
+
+public interface DomainEvent { // 아웃박스에 JSON 으로 저장 -> 필드는 getter 로 노출, aggregate 정보는 저장하지 않음
+
+    AggregateType aggregateType();
+
+    Long aggregateId();
+}
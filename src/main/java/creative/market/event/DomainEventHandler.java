@@ -0,0 +1,10 @@
+package creative.market.event;
+
+import java.util.List;
+
+public interface DomainEventHandler { // 커밋된 도메인 이벤트로 읽기 모델(캐시, 순위 등) 갱신 -> 빈으로 등록하면 디스패처가 전달
+
+    List<Class<? extends DomainEvent>> eventTypes();
+
+    void handle(long eventId, DomainEvent event); // eventId: 아웃박스 이벤트 아이디 (메모리 읽기 모델 중복 반영 확인), 예외 발생시 나중에 다시 전달 (같은 aggregate 이후 이벤트는 대기)
+}
@@ -0,0 +1,41 @@
+package creative.market.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import creative.market.domain.outbox.OutboxEvent;
+import creative.market.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher { // 변경과 같은 트랜잭션에 아웃박스 저장 -> 롤백되면 이벤트도 없음, 커밋되면 반드시 전달
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDispatcher outboxDispatcher;
+    private final ObjectMapper objectMapper;
+
+    public void publish(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive() || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            throw new IllegalStateException("도메인 이벤트는 쓰기 트랜잭션 안에서 발행해야 합니다.");
+        }
+        outboxEventRepository.save(new OutboxEvent(event.aggregateType(), event.aggregateId(), event.getClass().getSimpleName(), toJson(event)));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() { // 주기적인 확인을 기다리지 않고 바로 전달 시작
+                outboxDispatcher.wakeUp();
+            }
+        });
+    }
+
+    private String toJson(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("도메인 이벤트를 저장할 수 없습니다. event=" + event.getClass().getSimpleName(), e);
+        }
+    }
+}
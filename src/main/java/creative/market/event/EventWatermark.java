@@ -0,0 +1,19 @@
+package creative.market.event;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class EventWatermark { // 메모리 읽기 모델을 DB 에서 적재한 시점의 마지막 아웃박스 이벤트 아이디 + 적재 이후 반영한 이벤트 아이디
+    // 적재 결과에 이미 포함된 이벤트, 전달 결과 커밋 실패로 다시 전달된 이벤트를 한번만 반영 (적재 시점에 커밋 중이던 이벤트는 다음 적재에서 반영)
+
+    private final long loadedEventId;
+    private final Set<Long> appliedEventIds = new HashSet<>(); // 다음 적재까지만 보관
+
+    public EventWatermark(long loadedEventId) {
+        this.loadedEventId = loadedEventId;
+    }
+
+    public synchronized boolean tryApply(long eventId) { // 반영할 이벤트면 true
+        return eventId > loadedEventId && appliedEventIds.add(eventId);
+    }
+}
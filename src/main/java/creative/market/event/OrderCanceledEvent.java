@@ -0,0 +1,30 @@
+package creative.market.event;
+
+import creative.market.domain.outbox.AggregateType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class OrderCanceledEvent implements DomainEvent { // 주문 상품 1건 취소
+
+    private Long orderId;
+    private Long buyerId;
+    private LocalDateTime orderedAt;
+    private OrderLine line;
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.ORDER;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return orderId;
+    }
+}
@@ -0,0 +1,18 @@
+package creative.market.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class OrderLine { // 주문 상품 1건
+
+    private Long orderProductId;
+    private Long productId;
+    private Long kindGradeId;
+    private Long sellerId;
+    private long amount; // 가격 * 개수
+}
@@ -0,0 +1,31 @@
+package creative.market.event;
+
+import creative.market.domain.outbox.AggregateType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class OrderPlacedEvent implements DomainEvent {
+
+    private Long orderId;
+    private Long buyerId;
+    private LocalDateTime orderedAt;
+    private List<OrderLine> lines;
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.ORDER;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return orderId;
+    }
+}
@@ -0,0 +1,148 @@
+package creative.market.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import creative.market.domain.outbox.OutboxEvent;
+import creative.market.domain.outbox.OutboxStatus;
+import creative.market.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Slf4j
+public class OutboxDispatcher implements DisposableBean { // 커밋된 아웃박스 이벤트를 한 스레드에서 배치로 핸들러에 전달
+    // 서버가 여러 대면 이벤트마다 한 서버가 가져가서 전달 (다른 서버의 메모리 읽기 모델은 각자의 다시 적재, 보정 주기로 반영)
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final List<DomainEventHandler> handlers;
+    private final Map<String, Class<? extends DomainEvent>> eventTypes = new HashMap<>(); // 아웃박스 eventType -> 역직렬화 클래스
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration retention;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("outbox-dispatcher-"));
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            List<DomainEventHandler> handlers,
+                            @Value("${outbox.batch-size:100}") int batchSize,
+                            @Value("${outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${outbox.retry-backoff-ms:1000}") long retryBackoffMillis,
+                            @Value("${outbox.retention-days:7}") long retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.handlers = handlers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMillis);
+        this.retention = Duration.ofDays(retentionDays);
+        handlers.forEach(handler -> handler.eventTypes().forEach(type -> eventTypes.put(type.getSimpleName(), type)));
+    }
+
+    public void wakeUp() { // 커밋 직후 호출 -> 이미 전달 예약된 경우 생략 (스레드 하나라 순서대로 처리)
+        if (drainRequested.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:5000}")
+    public void poll() { // 재시도 대기 이벤트, 재기동 전 전달하지 못한 이벤트
+        wakeUp();
+    }
+
+    private void drain() {
+        drainRequested.set(false); // 전달 중에 커밋된 이벤트는 다음 실행에서 처리
+        try {
+            while (dispatch() > 0) { // aggregate 별 앞 이벤트만 가져오므로 가져올 이벤트가 없을 때까지
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 이벤트 전달 실패", e);
+        }
+    }
+
+    public int dispatch() { // 한 배치 전달 -> 상태가 바뀐 이벤트 수 리턴
+        Integer changed = transactionTemplate.execute(status -> { // 가져온 이벤트는 전달 결과를 커밋할 때까지 잠금
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.claimPending(now, batchSize);
+            events.forEach(event -> deliver(event, now));
+            return events.size();
+        });
+        return changed == null ? 0 : changed;
+    }
+
+    @Scheduled(cron = "${outbox.purge-cron:0 0 3 * * *}")
+    public void purge() {
+        try {
+            long deleted = purgePublished(LocalDateTime.now().minus(retention));
+            if (deleted > 0) {
+                log.info("전달 완료된 아웃박스 이벤트 삭제 count={}", deleted);
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 이벤트 삭제 실패", e);
+        }
+    }
+
+    public long purgePublished(LocalDateTime cutoff) { // batchSize 배수 단위로 나눠서 삭제 -> 한 트랜잭션이 오래 잠그지 않도록
+        int limit = batchSize * 10;
+        long total = 0;
+        long deleted;
+        do {
+            Long count = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(cutoff, limit));
+            deleted = count == null ? 0 : count;
+            total += deleted;
+        } while (deleted == limit);
+        return total;
+    }
+
+    private void deliver(OutboxEvent event, LocalDateTime now) {
+        try {
+            DomainEvent domainEvent = null;
+            for (DomainEventHandler handler : handlers) {
+                String handlerName = ClassUtils.getUserClass(handler).getSimpleName();
+                if (!supports(handler, event.getEventType()) || event.isDeliveredTo(handlerName)) {
+                    continue;
+                }
+                if (domainEvent == null) {
+                    domainEvent = objectMapper.readValue(event.getPayload(), eventTypes.get(event.getEventType()));
+                }
+                handler.handle(event.getId(), domainEvent);
+                event.delivered(handlerName);
+            }
+            event.published(now);
+        } catch (Exception e) {
+            event.failed(now, e, maxAttempts, retryBackoff);
+            if (event.getStatus() == OutboxStatus.FAILED) {
+                log.error("아웃박스 이벤트 전달 포기 id={}, eventType={}, attempts={}", event.getId(), event.getEventType(), event.getAttempts(), e);
+            } else {
+                log.warn("아웃박스 이벤트 전달 실패, 재시도 예정 id={}, eventType={}, attempts={}, error={}", event.getId(), event.getEventType(), event.getAttempts(), event.getLastError());
+            }
+        }
+    }
+
+    private boolean supports(DomainEventHandler handler, String eventType) {
+        return handler.eventTypes().stream().anyMatch(type -> type.getSimpleName().equals(eventType));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,40 @@
+package creative.market.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import creative.market.domain.outbox.AggregateType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class ProductChangedEvent implements DomainEvent { // 이름, 설명, 사진만 바뀐 경우도 발행
+
+    private Long productId;
+    private Long beforeKindGradeId;
+    private int beforePrice;
+    private Long afterKindGradeId;
+    private int afterPrice;
+
+    @JsonIgnore
+    public boolean isKindGradeChanged() {
+        return !beforeKindGradeId.equals(afterKindGradeId);
+    }
+
+    @JsonIgnore
+    public boolean isPriceChanged() {
+        return beforePrice != afterPrice;
+    }
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.PRODUCT;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return productId;
+    }
+}
@@ -0,0 +1,28 @@
+package creative.market.event;
+
+import creative.market.domain.outbox.AggregateType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class ProductDeletedEvent implements DomainEvent {
+
+    private Long productId;
+    private Long sellerId;
+    private Long kindGradeId;
+    private int price;
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.PRODUCT;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return productId;
+    }
+}
@@ -0,0 +1,28 @@
+package creative.market.event;
+
+import creative.market.domain.outbox.AggregateType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class ReviewUpdatedEvent implements DomainEvent {
+
+    private Long reviewId;
+    private Long productId;
+    private Float beforeRate;
+    private Float afterRate;
+
+    @Override
+    public AggregateType aggregateType() {
+        return AggregateType.REVIEW;
+    }
+
+    @Override
+    public Long aggregateId() {
+        return reviewId;
+    }
+}
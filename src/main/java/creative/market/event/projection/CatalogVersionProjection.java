@@ -0,0 +1,25 @@
+package creative.market.event.projection;
+
+import creative.market.cache.ResponseVersions;
+import creative.market.event.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class CatalogVersionProjection implements DomainEventHandler { // 상품 등록, 수정, 삭제 -> 상품 목록, 메인 페이지 ETag 버전
+
+    private final ResponseVersions responseVersions;
+
+    @Override
+    public List<Class<? extends DomainEvent>> eventTypes() {
+        return List.of(ProductRegisteredEvent.class, ProductChangedEvent.class, ProductDeletedEvent.class);
+    }
+
+    @Override
+    public void handle(long eventId, DomainEvent event) {
+        responseVersions.catalogChanged();
+    }
+}
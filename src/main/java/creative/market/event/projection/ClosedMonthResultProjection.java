@@ -0,0 +1,31 @@
+package creative.market.event.projection;
+
+import creative.market.cache.ClosedMonthResultCache;
+import creative.market.event.DomainEvent;
+import creative.market.event.DomainEventHandler;
+import creative.market.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "analytics.closed-month-cache.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ClosedMonthResultProjection implements DomainEventHandler { // 상품 품목 등급 변경 -> 닫힌 달의 카테고리별 통계 결과 삭제
+
+    private final ClosedMonthResultCache closedMonthResultCache;
+
+    @Override
+    public List<Class<? extends DomainEvent>> eventTypes() {
+        return List.of(ProductChangedEvent.class);
+    }
+
+    @Override
+    public void handle(long eventId, DomainEvent event) {
+        if (((ProductChangedEvent) event).isKindGradeChanged()) {
+            closedMonthResultCache.evictCategoryFiltered();
+        }
+    }
+}
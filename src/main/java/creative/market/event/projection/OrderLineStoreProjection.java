@@ -0,0 +1,43 @@
+package creative.market.event.projection;
+
+import creative.market.analytics.OrderLineStore;
+import creative.market.event.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "analytics.order-line-store.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OrderLineStoreProjection implements DomainEventHandler { // 주문, 취소, 상품 등록, 품목 등급 변경 -> 주문 상품 통계 저장소
+
+    private final OrderLineStore orderLineStore;
+
+    @Override
+    public List<Class<? extends DomainEvent>> eventTypes() {
+        return List.of(OrderPlacedEvent.class, OrderCanceledEvent.class, ProductRegisteredEvent.class, ProductChangedEvent.class);
+    }
+
+    @Override
+    public void handle(long eventId, DomainEvent event) {
+        if (event instanceof OrderPlacedEvent) {
+            OrderPlacedEvent placed = (OrderPlacedEvent) event;
+            YearMonth month = YearMonth.from(placed.getOrderedAt());
+            placed.getLines().forEach(line -> orderLineStore.addOrderLine(line.getOrderProductId(), month,
+                    line.getProductId(), line.getSellerId(), line.getKindGradeId(), line.getAmount()));
+        } else if (event instanceof OrderCanceledEvent) {
+            orderLineStore.cancelOrderLine(((OrderCanceledEvent) event).getLine().getOrderProductId());
+        } else if (event instanceof ProductRegisteredEvent) {
+            ProductRegisteredEvent registered = (ProductRegisteredEvent) event;
+            orderLineStore.registerProduct(registered.getProductId(), registered.getSellerId(), registered.getKindGradeId());
+        } else if (event instanceof ProductChangedEvent) {
+            ProductChangedEvent changed = (ProductChangedEvent) event;
+            if (changed.isKindGradeChanged()) {
+                orderLineStore.changeProductKindGrade(changed.getProductId(), changed.getAfterKindGradeId());
+            }
+        }
+    }
+}
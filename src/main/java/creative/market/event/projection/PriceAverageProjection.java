@@ -0,0 +1,36 @@
+package creative.market.event.projection;
+
+import creative.market.cache.KindGradePriceAverage;
+import creative.market.event.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class PriceAverageProjection implements DomainEventHandler { // 상품 등록, 수정, 삭제 -> 품목 등급별 평균 가격
+
+    private final KindGradePriceAverage kindGradePriceAverage;
+
+    @Override
+    public List<Class<? extends DomainEvent>> eventTypes() {
+        return List.of(ProductRegisteredEvent.class, ProductChangedEvent.class, ProductDeletedEvent.class);
+    }
+
+    @Override
+    public void handle(long eventId, DomainEvent event) {
+        if (event instanceof ProductRegisteredEvent) {
+            ProductRegisteredEvent registered = (ProductRegisteredEvent) event;
+            kindGradePriceAverage.add(eventId, registered.getKindGradeId(), registered.getPrice());
+        } else if (event instanceof ProductDeletedEvent) {
+            ProductDeletedEvent deleted = (ProductDeletedEvent) event;
+            kindGradePriceAverage.remove(eventId, deleted.getKindGradeId(), deleted.getPrice());
+        } else if (event instanceof ProductChangedEvent) {
+            ProductChangedEvent changed = (ProductChangedEvent) event;
+            if (changed.isKindGradeChanged() || changed.isPriceChanged()) {
+                kindGradePriceAverage.change(eventId, changed.getBeforeKindGradeId(), changed.getBeforePrice(), changed.getAfterKindGradeId(), changed.getAfterPrice());
+            }
+        }
+    }
+}
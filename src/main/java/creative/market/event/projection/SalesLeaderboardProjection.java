@@ -0,0 +1,44 @@
+package creative.market.event.projection;
+
+import creative.market.cache.CategorySalesLeaderboard;
+import creative.market.cache.CategorySalesLeaderboard.Sale;
+import creative.market.event.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class SalesLeaderboardProjection implements DomainEventHandler { // 주문, 취소, 상품 품목 등급 변경 -> 품목 등급별 판매 순위
+
+    private final CategorySalesLeaderboard categorySalesLeaderboard;
+
+    @Override
+    public List<Class<? extends DomainEvent>> eventTypes() {
+        return List.of(OrderPlacedEvent.class, OrderCanceledEvent.class, ProductChangedEvent.class);
+    }
+
+    @Override
+    public void handle(long eventId, DomainEvent event) {
+        if (event instanceof OrderPlacedEvent) {
+            OrderPlacedEvent placed = (OrderPlacedEvent) event;
+            categorySalesLeaderboard.recordOrder(eventId, placed.getOrderedAt(), placed.getLines().stream()
+                    .map(this::toSale)
+                    .collect(Collectors.toList()));
+        } else if (event instanceof OrderCanceledEvent) {
+            OrderCanceledEvent canceled = (OrderCanceledEvent) event;
+            categorySalesLeaderboard.recordCancel(eventId, canceled.getOrderedAt(), toSale(canceled.getLine()));
+        } else if (event instanceof ProductChangedEvent) {
+            ProductChangedEvent changed = (ProductChangedEvent) event;
+            if (changed.isKindGradeChanged()) { // 기존 판매 내역도 새 품목 등급으로 집계되므로 두 품목 등급 다시 적재
+                categorySalesLeaderboard.evict(changed.getBeforeKindGradeId(), changed.getAfterKindGradeId());
+            }
+        }
+    }
+
+    private Sale toSale(OrderLine line) {
+        return new Sale(line.getKindGradeId(), line.getSellerId(), line.getAmount());
+    }
+}
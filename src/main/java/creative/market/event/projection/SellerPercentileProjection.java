@@ -0,0 +1,42 @@
+package creative.market.event.projection;
+
+import creative.market.analytics.SellerPercentileIndex;
+import creative.market.cache.CategorySalesLeaderboard.Sale;
+import creative.market.event.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "analytics.seller-percentile.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SellerPercentileProjection implements DomainEventHandler { // 주문, 취소, 상품 품목 등급 변경 -> 판매자 판매액 백분위
+
+    private final SellerPercentileIndex sellerPercentileIndex;
+
+    @Override
+    public List<Class<? extends DomainEvent>> eventTypes() {
+        return List.of(OrderPlacedEvent.class, OrderCanceledEvent.class, ProductChangedEvent.class);
+    }
+
+    @Override
+    public void handle(long eventId, DomainEvent event) {
+        if (event instanceof OrderPlacedEvent) {
+            OrderPlacedEvent placed = (OrderPlacedEvent) event;
+            sellerPercentileIndex.recordSales(eventId, placed.getOrderedAt(), placed.getLines().stream()
+                    .map(line -> new Sale(line.getKindGradeId(), line.getSellerId(), line.getAmount()))
+                    .collect(Collectors.toList()));
+        } else if (event instanceof OrderCanceledEvent) {
+            OrderCanceledEvent canceled = (OrderCanceledEvent) event;
+            OrderLine line = canceled.getLine();
+            sellerPercentileIndex.recordSales(eventId, canceled.getOrderedAt(), List.of(new Sale(line.getKindGradeId(), line.getSellerId(), -line.getAmount())));
+        } else if (event instanceof ProductChangedEvent) {
+            if (((ProductChangedEvent) event).isKindGradeChanged()) {
+                sellerPercentileIndex.evictSales();
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package creative.market.exception;
+
+public class AnalyticsRejectedException extends RuntimeException {
+    public AnalyticsRejectedException() {
+        super();
+    }
+
+    public AnalyticsRejectedException(String message) {
+        super(message);
+    }
+
+    public AnalyticsRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public AnalyticsRejectedException(Throwable cause) {
+        super(cause);
+    }
+
+    protected AnalyticsRejectedException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
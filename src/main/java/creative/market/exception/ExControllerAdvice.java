@@ -1,6 +1,7 @@
 package creative.market.exception;
 
 import creative.market.util.ValidatorMessageUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,10 +21,12 @@ import java.util.NoSuchElementException;
 public class ExControllerAdvice {
 
     private final ValidatorMessageUtils validatorMessageUtils;
+    private final MeterRegistry meterRegistry;
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(BindException.class)
     public ErrorRes BindException(BindException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
         BindingResult bindingResult = ex.getBindingResult();
         log.error("error{}",bindingResult.toString());
         return new ErrorRes(HttpStatus.BAD_REQUEST.value(), validatorMessageUtils.getValidationMessage(bindingResult));
@@ -32,44 +35,60 @@ public class ExControllerAdvice {
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(FileSaveException.class)
     public ErrorRes FileSaveException(FileSaveException ex) { // 파일 저장 오
+        countError(ex, HttpStatus.BAD_REQUEST);
         return new ErrorRes(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
     }
 
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     @ExceptionHandler(LoginAuthenticationException.class)
     public ErrorRes loginAuthExHandle(LoginAuthenticationException ex) {
+        countError(ex, HttpStatus.UNAUTHORIZED);
         return new ErrorRes(HttpStatus.UNAUTHORIZED.value(), ex.getMessage());
     }
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(NoSuchElementException.class)
     public ErrorRes noSuchExHandle(NoSuchElementException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
         return new ErrorRes(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
     }
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(IllegalStateException.class)
     public ErrorRes illegalStateExHandle(IllegalStateException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
         return new ErrorRes(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
     }
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(IllegalArgumentException.class)
     public ErrorRes illegalArgsExHandle(IllegalArgumentException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
         return new ErrorRes(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
     }
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(DuplicateException.class)
     public ErrorRes duplicateExHandle(DuplicateException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
         return new ErrorRes(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
     }
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(NotExistOrder.class)
     public ErrorRes NotExistOrderExHandle(NotExistOrder ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
         return new ErrorRes(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
     }
 
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(AnalyticsRejectedException.class)
+    public ErrorRes analyticsRejectedExHandle(AnalyticsRejectedException ex) { // 통계 조회 스레드 풀 포화
+        countError(ex, HttpStatus.SERVICE_UNAVAILABLE);
+        return new ErrorRes(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage());
+    }
 
+    private void countError(Exception ex, HttpStatus status) { // 예외별 에러 응답 수(market.errors)
+        meterRegistry.counter("market.errors", "exception", ex.getClass().getSimpleName(), "status", String.valueOf(status.value())).increment();
+    }
 }
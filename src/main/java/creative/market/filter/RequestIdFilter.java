@@ -0,0 +1,54 @@
+package creative.market.filter;
+
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter { // 요청별 상관 아이디 -> MDC(requestId) 에 넣어 모든 로그에 포함
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}"); // 로그 오염 방지
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String requestId = (String) request.getAttribute(MDC_KEY); // 비동기 재디스패치 -> 처음 요청의 아이디 사용
+        if (requestId == null) {
+            requestId = resolveRequestId(request.getHeader(REQUEST_ID_HEADER));
+            request.setAttribute(MDC_KEY, requestId);
+        }
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY); // 스레드 재사용시 다른 요청에 남지 않도록 제거
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() { // 통계 조회(CompletableFuture) 응답 로그에도 requestId 포함
+        return false;
+    }
+
+    private String resolveRequestId(String headerValue) { // 앞단(프록시, 프론트)에서 넘어온 아이디가 있으면 그대로 사용
+        if (StringUtils.hasText(headerValue) && VALID_REQUEST_ID.matcher(headerValue).matches()) {
+            return headerValue;
+        }
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+}
@@ -0,0 +1,95 @@
+package creative.market.interceptor;
+
+import creative.market.cache.ResponseVersions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "http-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class HttpCacheInterceptor implements HandlerInterceptor { // @HttpCache 조회 -> 약한 ETag, Cache-Control 설정, 같으면 서비스 호출 없이 304
+
+    private final ResponseVersions responseVersions;
+    private final CacheControl taxonomyCacheControl;
+    private final CacheControl catalogCacheControl;
+    private final CacheControl productCacheControl;
+
+    public HttpCacheInterceptor(ResponseVersions responseVersions,
+                                @Value("${http-cache.taxonomy-max-age-seconds:3600}") long taxonomyMaxAge,
+                                @Value("${http-cache.catalog-max-age-seconds:30}") long catalogMaxAge,
+                                @Value("${http-cache.product-max-age-seconds:10}") long productMaxAge) {
+        this.responseVersions = responseVersions;
+        this.taxonomyCacheControl = CacheControl.maxAge(taxonomyMaxAge, TimeUnit.SECONDS).cachePublic();
+        this.catalogCacheControl = CacheControl.maxAge(catalogMaxAge, TimeUnit.SECONDS).cachePublic();
+        this.productCacheControl = CacheControl.maxAge(productMaxAge, TimeUnit.SECONDS).cachePublic();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod) || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        HttpCache httpCache = ((HandlerMethod) handler).getMethodAnnotation(HttpCache.class);
+        if (httpCache == null) {
+            return true;
+        }
+
+        Optional<String> version = resolveVersion(httpCache.value(), request);
+        if (version.isEmpty()) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(httpCache.value()).getHeaderValue());
+        boolean notModified = new ServletWebRequest(request, response).checkNotModified("W/\"" + version.get() + "\""); // ETag 헤더 설정, 같으면 304 설정
+        return !notModified;
+    }
+
+    private Optional<String> resolveVersion(HttpCacheTarget target, HttpServletRequest request) {
+        switch (target) {
+            case TAXONOMY:
+                return Optional.of(responseVersions.taxonomy());
+            case CATALOG:
+                return Optional.of(responseVersions.catalog());
+            case PRODUCT:
+                return productId(request).flatMap(responseVersions::product);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private CacheControl cacheControl(HttpCacheTarget target) {
+        switch (target) {
+            case TAXONOMY:
+                return taxonomyCacheControl;
+            case CATALOG:
+                return catalogCacheControl;
+            default:
+                return productCacheControl;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<Long> productId(HttpServletRequest request) { // 숫자가 아니면 컨트롤러에서 타입 에러 응답
+        Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables == null || pathVariables.get("productId") == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(pathVariables.get("productId")));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
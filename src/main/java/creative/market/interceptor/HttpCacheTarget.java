@@ -0,0 +1,5 @@
+package creative.market.interceptor;
+
+public enum HttpCacheTarget {
+    TAXONOMY, CATALOG, PRODUCT
+}
@@ -0,0 +1,49 @@
+package creative.market.interceptor;
+
+import creative.market.util.QueryCounter;
+import creative.market.util.QueryCounter.QueryCounts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@Component
+@ConditionalOnProperty(name = "query-budget.enabled", havingValue = "true")
+@Slf4j
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor { // 요청당 sql 수가 예산을 넘으면 경고 로그
+
+    @Value("${query-budget.max-statements:20}")
+    private int maxStatements;
+    @Value("${query-budget.repeat-threshold:5}")
+    private int repeatThreshold; // 같은 sql 이 이 횟수 이상 실행되면 N+1 의심
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryCounts counts = QueryCounter.stop();
+        if (counts == null) {
+            return;
+        }
+
+        if (counts.getTotal() > maxStatements) {
+            log.warn("요청당 쿼리 수 초과 budget={}, {} uri={}, handler={}", maxStatements, counts, request.getRequestURI(), handler);
+        }
+        counts.getMostRepeated()
+                .filter(entry -> entry.getValue() >= repeatThreshold)
+                .ifPresent(entry -> log.warn("N+1 의심 같은 쿼리 {}회 실행 uri={}, handler={}, sql={}", entry.getValue(), request.getRequestURI(), handler, entry.getKey()));
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCounter.stop(); // 통계 조회 등 비동기 처리 -> 요청 스레드 반환 전에 정리, 비동기 재디스패치에서 다시 집계
+    }
+}
@@ -0,0 +1,39 @@
+package creative.market.interceptor;
+
+import creative.market.aop.UserType;
+import creative.market.datasource.ReadYourWrites;
+import creative.market.service.dto.LoginUserDTO;
+import creative.market.util.SessionUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@Component
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor { // 로그인 사용자를 요청 스레드에 바인딩 -> 자신의 쓰기 직후 읽기는 primary 로
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        for (UserType userType : UserType.values()) {
+            LoginUserDTO loginUserDTO = (LoginUserDTO) SessionUtils.getSession(request, userType.name());
+            if (loginUserDTO != null) {
+                ReadYourWrites.bindUser(loginUserDTO.getId());
+                break;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadYourWrites.clear();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReadYourWrites.clear(); // 비동기 처리 -> 요청 스레드 반환 전에 정리, 비동기 재디스패치에서 다시 바인딩
+    }
+}
@@ -0,0 +1,28 @@
+package creative.market.repository;
+
+import creative.market.domain.analytics.BackfillProgress;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class BackfillProgressRepository {
+
+    private final EntityManager em;
+
+    public Optional<BackfillProgress> findByJobName(String jobName) { // 없으면 적재 시작 전
+        return Optional.ofNullable(em.find(BackfillProgress.class, jobName));
+    }
+
+    public void save(String jobName, long lastId, boolean completed) { // 범위 적재와 같은 트랜잭션에서 호출
+        em.createNativeQuery("insert into backfill_progress (job_name, last_id, completed) values (:jobName, :lastId, :completed)" +
+                        " on duplicate key update last_id = values(last_id), completed = values(completed)")
+                .setParameter("jobName", jobName)
+                .setParameter("lastId", lastId)
+                .setParameter("completed", completed)
+                .executeUpdate();
+    }
+}
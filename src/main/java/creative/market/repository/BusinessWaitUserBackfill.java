@@ -0,0 +1,37 @@
+package creative.market.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessWaitUserBackfill {
+    // business_history.wait_user_id 도입 전 대기중인 신청 -> 기동시 user_id 로 채움 (유저당 대기중인 신청 1개 유니크 인덱스 적용)
+    // 도입 전에 같은 유저의 대기중인 신청이 여러 개면 가장 최근 신청만 채움, 이미 채워진 신청이 있는 유저는 건너뜀
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int updated = jdbcTemplate.update("update business_history b join (" +
+                    " select w.user_id, max(w.business_id) as business_id" +
+                    " from business_history w" +
+                    " where w.status = 'WAIT' and w.user_id is not null" +
+                    "   and not exists (select 1 from business_history f where f.wait_user_id = w.user_id)" +
+                    " group by w.user_id" +
+                    ") latest on latest.business_id = b.business_id" +
+                    " set b.wait_user_id = b.user_id where b.wait_user_id is null");
+            if (updated > 0) {
+                log.info("대기중인 사업자 신청 wait_user_id 채움 count={}", updated);
+            }
+        } catch (Exception e) {
+            log.error("대기중인 사업자 신청 wait_user_id 채우기 실패", e);
+        }
+    }
+}
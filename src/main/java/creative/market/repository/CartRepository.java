@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,7 +48,23 @@ public class CartRepository {
                 .fetch();
     }
 
+    public List<Long> findUserIdsByProductId(Long productId) { // 해당 상품을 장바구니에 담은 유저 아이디 목록
+        return queryFactory.select(cart.user.id)
+                .from(cart)
+                .where(cart.product.id.eq(productId))
+                .fetch();
+    }
+
     public void delete(Cart cart) {
         em.remove(cart);
     }
+
+    public long deleteByUserIdAndProductIds(Long userId, Collection<Long> productIds) { // 상품 아이디 목록에 해당하는 장바구니 일괄 삭제
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        return queryFactory.delete(cart)
+                .where(cart.user.id.eq(userId), cart.product.id.in(productIds))
+                .execute();
+    }
 }
@@ -0,0 +1,71 @@
+package creative.market.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import creative.market.domain.analytics.ClosedMonthResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static creative.market.domain.analytics.QClosedMonthResult.*;
+
+@Repository
+@RequiredArgsConstructor
+public class ClosedMonthResultRepository {
+
+    private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
+
+    public List<ClosedMonthResult> findByKey(String resultKey, String version, YearMonth startDate, YearMonth endDate) { // 버전이 다른 결과는 제외
+        return queryFactory.selectFrom(closedMonthResult)
+                .where(closedMonthResult.resultKey.eq(resultKey),
+                        closedMonthResult.version.eq(version),
+                        closedMonthResult.ym.between(startDate.toString(), endDate.toString()))
+                .fetch();
+    }
+
+    public void saveAll(String resultKey, String version, boolean categoryFiltered, Map<String, Double> valuePerMonth) { // 같은 키, 년월이 있으면 버전과 값 교체
+        Map<String, ClosedMonthResult> saved = queryFactory.selectFrom(closedMonthResult)
+                .where(closedMonthResult.resultKey.eq(resultKey),
+                        closedMonthResult.ym.in(valuePerMonth.keySet()))
+                .fetch().stream()
+                .collect(Collectors.toMap(ClosedMonthResult::getYm, Function.identity()));
+
+        valuePerMonth.forEach((ym, value) -> {
+            ClosedMonthResult result = saved.get(ym);
+            if (result == null) {
+                em.persist(new ClosedMonthResult(resultKey, ym, version, categoryFiltered, value));
+            } else {
+                result.change(version, value);
+            }
+        });
+    }
+
+    public long findCategoryGeneration() { // 품목 등급 변경 횟수 (서버 간 공유, 행이 없으면 0)
+        Double generation = queryFactory.select(closedMonthResult.value)
+                .from(closedMonthResult)
+                .where(closedMonthResult.resultKey.eq(ClosedMonthResult.CATEGORY_GENERATION_KEY))
+                .fetchFirst();
+        return generation == null ? 0 : generation.longValue();
+    }
+
+    public void increaseCategoryGeneration() { // 처음이면 1 로 생성, 있으면 1 증가 (동시에 증가해도 유니크 키로 한 행)
+        em.createNativeQuery("insert into closed_month_result (result_key, ym, version, category_filtered, result_value, created_date)" +
+                        " values (:resultKey, :ym, '0', false, 1, now())" +
+                        " on duplicate key update result_value = result_value + 1")
+                .setParameter("resultKey", ClosedMonthResult.CATEGORY_GENERATION_KEY)
+                .setParameter("ym", ClosedMonthResult.CATEGORY_GENERATION_YM)
+                .executeUpdate();
+    }
+
+    public long deleteCategoryFiltered() {
+        return queryFactory.delete(closedMonthResult)
+                .where(closedMonthResult.categoryFiltered.isTrue())
+                .execute();
+    }
+}
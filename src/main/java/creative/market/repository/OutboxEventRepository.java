@@ -0,0 +1,48 @@
+package creative.market.repository;
+
+import creative.market.domain.outbox.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventRepository {
+
+    private final EntityManager em;
+
+    public Long save(OutboxEvent event) {
+        em.persist(event);
+        return event.getId();
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<OutboxEvent> claimPending(LocalDateTime now, int limit) { // 트랜잭션 안에서 호출 -> 커밋까지 다른 서버는 건너뜀 (서버마다 다른 이벤트 전달)
+        // 전달할 시각이 된 이벤트 중 aggregate 별 가장 앞 이벤트만 (앞 이벤트가 재시도 대기중이면 이후 이벤트도 보류, 대기중인 이벤트가 뒤 이벤트를 가리지 않음)
+        return em.createNativeQuery("select e.* from outbox_event e" +
+                        " where e.status = 'PENDING' and (e.next_attempt_at is null or e.next_attempt_at <= :now)" +
+                        " and not exists (select 1 from outbox_event b" +
+                        "   where b.aggregate_type = e.aggregate_type and b.aggregate_id = e.aggregate_id" +
+                        "   and b.status = 'PENDING' and b.outbox_event_id < e.outbox_event_id)" +
+                        " order by e.outbox_event_id" +
+                        " limit :limit" +
+                        " for update skip locked", OutboxEvent.class)
+                .setParameter("now", now)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    public long findMaxId() { // 메모리 읽기 모델 적재와 같은 트랜잭션에서 호출 -> 적재 결과에 포함된 마지막 이벤트
+        return ((Number) em.createNativeQuery("select coalesce(max(outbox_event_id), 0) from outbox_event").getSingleResult()).longValue();
+    }
+
+    public long deletePublishedBefore(LocalDateTime cutoff, int limit) { // 전달 완료 후 보관 기간이 지난 이벤트 삭제 (실패 이벤트는 확인용으로 남김)
+        return em.createNativeQuery("delete from outbox_event where status = 'PUBLISHED' and published_date < :cutoff limit :limit")
+                .setParameter("cutoff", cutoff)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,136 @@
+package creative.market.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import creative.market.domain.product.ProductRatingSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static creative.market.domain.QReview.*;
+import static creative.market.domain.product.QProductRatingSummary.*;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductRatingSummaryRepository {
+
+    private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
+
+    public void save(ProductRatingSummary summary) {
+        em.persist(summary);
+    }
+
+    public boolean insertIfAbsent(ProductRatingSummary summary) { // 요약이 없을 때만 생성 -> 다른 트랜잭션이 먼저 생성했으면 false (기존 요약 유지)
+        // 컬럼명은 기본 naming 전략 기준 (star1Count -> star1count)
+        // insert ignore -> 중복시 영향 행 0 (on duplicate key update 는 Connector/J 기본 useAffectedRows=false 에서 중복에도 1 을 리턴)
+        String sql = "insert ignore into product_rating_summary (product_id, review_count, rate_sum, star1count, star2count, star3count, star4count, star5count)" +
+                " values (:productId, :reviewCount, :rateSum, :star1Count, :star2Count, :star3Count, :star4Count, :star5Count)";
+        List<Long> starCounts = summary.getStarCounts();
+        return em.createNativeQuery(sql)
+                .setParameter("productId", summary.getProductId())
+                .setParameter("reviewCount", summary.getReviewCount())
+                .setParameter("rateSum", summary.getRateSum())
+                .setParameter("star1Count", starCounts.get(0))
+                .setParameter("star2Count", starCounts.get(1))
+                .setParameter("star3Count", starCounts.get(2))
+                .setParameter("star4Count", starCounts.get(3))
+                .setParameter("star5Count", starCounts.get(4))
+                .executeUpdate() == 1; // 중복이면 변경 없음 -> 0
+    }
+
+    public long addRate(Long productId, float rate, int count) { // 리뷰 등록(count = 1), 삭제(count = -1) -> 갱신된 행 수 (요약이 없으면 0)
+        NumberPath<Long> starCount = starCount(ProductRatingSummary.starOf(rate));
+        return queryFactory.update(productRatingSummary)
+                .set(productRatingSummary.reviewCount, productRatingSummary.reviewCount.add(count))
+                .set(productRatingSummary.rateSum, productRatingSummary.rateSum.add((double) rate * count))
+                .set(starCount, starCount.add(count))
+                .where(productRatingSummary.productId.eq(productId))
+                .execute();
+    }
+
+    public long changeRate(Long productId, float beforeRate, float afterRate) { // 리뷰 수정 -> 갱신된 행 수 (요약이 없으면 0)
+        JPAUpdateClause update = queryFactory.update(productRatingSummary)
+                .set(productRatingSummary.rateSum, productRatingSummary.rateSum.add((double) afterRate - beforeRate));
+        int beforeStar = ProductRatingSummary.starOf(beforeRate);
+        int afterStar = ProductRatingSummary.starOf(afterRate);
+        if (beforeStar != afterStar) {
+            update.set(starCount(beforeStar), starCount(beforeStar).subtract(1))
+                    .set(starCount(afterStar), starCount(afterStar).add(1));
+        }
+        return update.where(productRatingSummary.productId.eq(productId))
+                .execute();
+    }
+
+    public Map<Long, ProductRatingSummary> findByProductIds(Collection<Long> productIds) { // 요약이 없는 상품(요약 도입 전 리뷰)은 리뷰 테이블에서 집계
+        Map<Long, ProductRatingSummary> result = queryFactory.selectFrom(productRatingSummary)
+                .where(productRatingSummary.productId.in(productIds))
+                .fetch().stream()
+                .collect(Collectors.toMap(ProductRatingSummary::getProductId, Function.identity()));
+
+        List<Long> missingProductIds = productIds.stream()
+                .filter(productId -> !result.containsKey(productId))
+                .distinct()
+                .collect(Collectors.toList());
+        if (!missingProductIds.isEmpty()) {
+            aggregateReviews(missingProductIds).forEach(summary -> result.put(summary.getProductId(), summary));
+            missingProductIds.forEach(productId -> result.putIfAbsent(productId, ProductRatingSummary.empty(productId)));
+        }
+        return result;
+    }
+
+    public ProductRatingSummary aggregateReviews(Long productId) { // 리뷰 테이블에서 직접 집계 (요약 생성용)
+        List<ProductRatingSummary> summaries = aggregateReviews(List.of(productId));
+        return summaries.isEmpty() ? ProductRatingSummary.empty(productId) : summaries.get(0);
+    }
+
+    private List<ProductRatingSummary> aggregateReviews(List<Long> productIds) {
+        List<Tuple> rows = queryFactory.select(review.product.id, review.count(), review.rate.sum(),
+                        starSum(1), starSum(2), starSum(3), starSum(4), starSum(5))
+                .from(review)
+                .where(review.product.id.in(productIds))
+                .groupBy(review.product.id)
+                .fetch();
+
+        return rows.stream()
+                .map(row -> new ProductRatingSummary(row.get(0, Long.class), number(row, 1).longValue(), number(row, 2).doubleValue(),
+                        number(row, 3).longValue(), number(row, 4).longValue(), number(row, 5).longValue(), number(row, 6).longValue(), number(row, 7).longValue()))
+                .collect(Collectors.toList());
+    }
+
+    private Number number(Tuple row, int index) { // sum 결과 타입은 DB 방언마다 다름
+        Number value = row.get(index, Number.class);
+        return value != null ? value : 0;
+    }
+
+    private NumberExpression<Long> starSum(int star) { // ProductRatingSummary.starOf 와 같은 구간
+        BooleanExpression inStar = star == 1 ? review.rate.lt(2)
+                : star == 5 ? review.rate.goe(5)
+                : review.rate.goe(star).and(review.rate.lt(star + 1));
+        return new CaseBuilder().when(inStar).then(1L).otherwise(0L).sum();
+    }
+
+    private NumberPath<Long> starCount(int star) {
+        switch (star) {
+            case 1:
+                return productRatingSummary.star1Count;
+            case 2:
+                return productRatingSummary.star2Count;
+            case 3:
+                return productRatingSummary.star3Count;
+            case 4:
+                return productRatingSummary.star4Count;
+            default:
+                return productRatingSummary.star5Count;
+        }
+    }
+}
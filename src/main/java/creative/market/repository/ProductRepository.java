@@ -3,10 +3,13 @@ package creative.market.repository;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import creative.market.cache.KindGradeResolver;
 import creative.market.domain.order.OrderStatus;
 import creative.market.domain.product.Product;
 import creative.market.domain.product.ProductStatus;
+import creative.market.repository.dto.KindGradePriceStatDTO;
 import creative.market.repository.dto.ProductSearchConditionReq;
+import creative.market.repository.dto.QKindGradePriceStatDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
@@ -14,12 +17,13 @@ import org.springframework.util.StringUtils;
 import javax.persistence.EntityManager;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static creative.market.cache.KindGradeResolver.kindGradeIn;
 import static creative.market.domain.QReview.*;
 import static creative.market.domain.category.QGrade.*;
-import static creative.market.domain.category.QGradeCriteria.*;
 import static creative.market.domain.category.QItem.*;
 import static creative.market.domain.category.QItemCategory.*;
 import static creative.market.domain.category.QKind.*;
@@ -35,6 +39,7 @@ public class ProductRepository {
 
     private final EntityManager em;
     private final JPAQueryFactory queryFactory;
+    private final KindGradeResolver kindGradeResolver;
 
     public Long save(Product product) {
         em.persist(product);
@@ -61,18 +66,17 @@ public class ProductRepository {
                         .fetchOne());
     }
 
+    public List<Product> findByIds(Collection<Long> ids) { // 주문할 상품 한번에 조회
+        return queryFactory.selectFrom(product)
+                .where(product.id.in(ids), productExistCheck())
+                .fetch();
+    }
+
     public List<Product> findProductByCondition(ProductSearchConditionReq condition, int offset, int limit) { // 조건에 따라 상품 리스트 조회
         return queryFactory.selectFrom(product)
-                .join(product.kindGrade, kindGrade)
-                .join(kindGrade.kind, kind)
-                .join(kind.item, item)
-                .join(item.itemCategory, itemCategory)
-                .join(item.gradeCriteria, gradeCriteria)
                 .where(productNameContains(condition.getProductName()),
-                        itemCategoryEq(condition.getItemCategoryCode()),
-                        itemCodeEq(condition.getItemCode()),
-                        kindEq(condition.getKindId()),
-                        kindGradeEq(condition.getKindGradeId()),
+                        kindGradeIn(kindGradeResolver.resolve(condition.getItemCategoryCode(), condition.getItemCode(),
+                                condition.getKindId(), condition.getKindGradeId())),
                         productExistCheck())
                 .orderBy(orderCondition(condition.getOrderBy()))
                 .offset(offset)
@@ -83,16 +87,9 @@ public class ProductRepository {
     public Long findProductByConditionTotalCount(ProductSearchConditionReq condition) { // 조건에 따라 상품 리스트 조회 count
         return queryFactory.select(product.count())
                 .from(product)
-                .join(product.kindGrade, kindGrade)
-                .join(kindGrade.kind, kind)
-                .join(kind.item, item)
-                .join(item.itemCategory, itemCategory)
-                .join(item.gradeCriteria, gradeCriteria)
                 .where(productNameContains(condition.getProductName()),
-                        itemCategoryEq(condition.getItemCategoryCode()),
-                        itemCodeEq(condition.getItemCode()),
-                        kindEq(condition.getKindId()),
-                        kindGradeEq(condition.getKindGradeId()),
+                        kindGradeIn(kindGradeResolver.resolve(condition.getItemCategoryCode(), condition.getItemCode(),
+                                condition.getKindId(), condition.getKindGradeId())),
                         productExistCheck())
                 .fetchOne();
     }
@@ -140,6 +137,15 @@ public class ProductRepository {
         );
     }
 
+    public Optional<LocalDateTime> findExistProductVersionDate(Long productId) { // 판매중인 상품의 마지막 변경 시각 (변경 이력 없으면 등록 시각)
+        return Optional.ofNullable(
+                queryFactory.select(product.changeDate.coalesce(product.createdDate))
+                        .from(product)
+                        .where(product.id.eq(productId), productExistCheck())
+                        .fetchOne()
+        );
+    }
+
     public Double findProductAvgPrice(Long kindGradeId) { // 상품 평균 가격
         return queryFactory.select(product.price.avg().coalesce(0D))
                 .from(product)
@@ -148,6 +154,14 @@ public class ProductRepository {
                 .fetchOne();
     }
 
+    public List<KindGradePriceStatDTO> findExistProductPriceStats(Collection<Long> kindGradeIds) { // 품목 등급별 판매중인 상품 가격 합, 상품 수
+        return queryFactory.select(new QKindGradePriceStatDTO(product.kindGrade.id, product.price.sum().longValue(), product.count()))
+                .from(product)
+                .where(product.kindGrade.id.in(kindGradeIds), productExistCheck())
+                .groupBy(product.kindGrade.id)
+                .fetch();
+    }
+
     public List<Long> findProductIdByOrderCountDesc(int offset, int limit, LocalDateTime startDate, LocalDateTime endDate) {
         // 전체 카테고리에서 판매횟수 내림차순 정렬 + 상품 등록 날짜 내림차순 정렬 ->  조건에 맞는 productId 리스트 리턴
         return queryFactory.select(product.id)
@@ -218,22 +232,6 @@ public class ProductRepository {
         }
     }
 
-    private BooleanExpression kindGradeEq(Long kindGradeId) {
-        return kindGradeId != null ? kindGrade.id.eq(kindGradeId) : null;
-    }
-
-    private BooleanExpression kindEq(Long kindId) {
-        return kindId != null ? kind.id.eq(kindId) : null;
-    }
-
-    private BooleanExpression itemCodeEq(Integer itemCode) {
-        return itemCode != null ? item.itemCode.eq(itemCode) : null;
-    }
-
-    private BooleanExpression itemCategoryEq(Integer itemCategoryCode) {
-        return itemCategoryCode != null ? itemCategory.itemCategoryCode.eq(itemCategoryCode) : null;
-    }
-
     private BooleanExpression productNameContains(String productName) {
         return StringUtils.hasText(productName) ? product.name.contains(productName) : null;
     }
@@ -1,5 +1,6 @@
 package creative.market.repository;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import creative.market.domain.QReview;
 import creative.market.domain.Review;
@@ -37,11 +38,13 @@ public class ReviewRepository {
                 .fetch();
     }
 
-    public List<Review> findByProductId(Long productId) {
+    public List<Review> findByProductId(Long productId, Long lastReviewId, int limit) { // 최신순, lastReviewId 가 있으면 해당 리뷰 다음부터 (product_id, review_id 인덱스)
         return queryFactory
                 .selectFrom(review)
                 .join(review.user, user).fetchJoin()
-                .where(review.product.id.eq(productId))
+                .where(review.product.id.eq(productId), reviewBefore(lastReviewId))
+                .orderBy(review.id.desc())
+                .limit(limit)
                 .fetch();
     }
 
@@ -50,11 +53,11 @@ public class ReviewRepository {
         return Optional.ofNullable(review);
     }
 
-    public List<Review> findByIdWithProduct(Long reviewId) {
-        return queryFactory
-                .selectFrom(review)
-                .join(review.product, product).fetchJoin()
-                .where(review.id.eq(reviewId))
-                .fetch();
+    public void delete(Review review) { // 상품의 리뷰 컬렉션을 로딩하지 않고 삭제
+        em.remove(review);
+    }
+
+    private BooleanExpression reviewBefore(Long lastReviewId) {
+        return lastReviewId != null ? review.id.lt(lastReviewId) : null;
     }
 }
@@ -5,6 +5,7 @@ import creative.market.domain.category.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import static creative.market.domain.category.QItem.*;
@@ -28,4 +29,12 @@ public class KindGradeRepository {
                 .where(kindGrade.id.eq(kindGradeId))
                 .fetchOne());
     }
+
+    public List<KindGrade> findAllFetchJoinCategory() { // 품목 등급 - 품종 - 품목 - 부류 전체
+        return queryFactory.selectFrom(kindGrade)
+                .join(kindGrade.kind, kind).fetchJoin()
+                .join(kind.item, item).fetchJoin()
+                .join(item.itemCategory, itemCategory).fetchJoin()
+                .fetch();
+    }
 }
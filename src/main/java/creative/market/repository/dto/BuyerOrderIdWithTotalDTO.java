@@ -0,0 +1,33 @@
+package creative.market.repository.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigInteger;
+
+@Getter
+@NoArgsConstructor
+public class BuyerOrderIdWithTotalDTO { // 주문 아이디, 주문 결제 금액 + 윈도우 함수로 구한 전체 주문 개수, 전체 결제 금액
+
+    private Long orderId;
+
+    private Integer activeLineCount;
+
+    private Long activeTotalPrice;
+
+    private Long totalCount;
+
+    private Long totalPrice;
+
+    public BuyerOrderIdWithTotalDTO(BigInteger orderId, Integer activeLineCount, BigInteger activeTotalPrice, BigInteger totalCount, BigInteger totalPrice) {
+        this.orderId = orderId.longValue();
+        this.activeLineCount = activeLineCount;
+        this.activeTotalPrice = activeTotalPrice.longValue();
+        this.totalCount = totalCount.longValue();
+        this.totalPrice = totalPrice.longValue();
+    }
+
+    public BuyerOrderSummaryDTO toSummary() {
+        return new BuyerOrderSummaryDTO(orderId, activeLineCount, activeTotalPrice);
+    }
+}
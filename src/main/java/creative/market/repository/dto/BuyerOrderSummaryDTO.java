@@ -0,0 +1,23 @@
+package creative.market.repository.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class BuyerOrderSummaryDTO { // 주문 아이디 + 주문에 저장된 취소 제외 주문 상품 개수, 결제 금액
+
+    private Long orderId;
+
+    private int activeLineCount;
+
+    private long activeTotalPrice;
+
+    @QueryProjection
+    public BuyerOrderSummaryDTO(Long orderId, Integer activeLineCount, Long activeTotalPrice) {
+        this.orderId = orderId;
+        this.activeLineCount = activeLineCount;
+        this.activeTotalPrice = activeTotalPrice;
+    }
+}
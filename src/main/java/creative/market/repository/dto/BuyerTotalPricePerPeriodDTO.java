@@ -4,8 +4,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.math.BigInteger;
-
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,8 +12,8 @@ public class BuyerTotalPricePerPeriodDTO {
     private String date;
     private Long totalPrice;
 
-    public BuyerTotalPricePerPeriodDTO(BigInteger totalPrice, String date) {
+    public BuyerTotalPricePerPeriodDTO(Long totalPrice, String date) {
         this.date = date;
-        this.totalPrice = totalPrice.longValue();
+        this.totalPrice = totalPrice;
     }
 }
@@ -0,0 +1,23 @@
+package creative.market.repository.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class KindGradePriceStatDTO {
+
+    private Long kindGradeId;
+    private Long priceSum;
+    private Long productCount;
+
+    @QueryProjection
+    public KindGradePriceStatDTO(Long kindGradeId, Long priceSum, Long productCount) {
+        this.kindGradeId = kindGradeId;
+        this.priceSum = priceSum;
+        this.productCount = productCount;
+    }
+}
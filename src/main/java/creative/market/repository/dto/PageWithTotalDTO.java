@@ -0,0 +1,19 @@
+package creative.market.repository.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class PageWithTotalDTO<T> { // 페이지 목록 + 전체 개수 + 전체 금액
+
+    private List<T> content;
+
+    private Long totalCount;
+
+    private Long totalPrice;
+}
@@ -0,0 +1,24 @@
+package creative.market.repository.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigInteger;
+import java.sql.Timestamp;
+
+@Getter
+@NoArgsConstructor
+public class SaleHistoryWithTotalDTO { // 판매 내역 한 행 + 윈도우 함수로 구한 전체 개수, 전체 판매액
+
+    private SaleHistoryRes saleHistory;
+
+    private Long totalCount;
+
+    private Long totalPrice;
+
+    public SaleHistoryWithTotalDTO(BigInteger productId, Integer count, Integer price, String productName, Timestamp createdDate, String jibun, String road, String detailAddress, Integer zipCode, String phoneNumber, String path, BigInteger totalCount, BigInteger totalPrice) {
+        this.saleHistory = new SaleHistoryRes(productId.longValue(), count, price, productName, createdDate.toLocalDateTime(), jibun, road, detailAddress, zipCode, phoneNumber, path);
+        this.totalCount = totalCount.longValue();
+        this.totalPrice = totalPrice.longValue();
+    }
+}
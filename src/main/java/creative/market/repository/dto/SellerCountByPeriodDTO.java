@@ -17,4 +17,9 @@ public class SellerCountByPeriodDTO {
         this.count = count.longValue();
         this.date = date;
     }
+
+    public SellerCountByPeriodDTO(String date, Long count) {
+        this.count = count;
+        this.date = date;
+    }
 }
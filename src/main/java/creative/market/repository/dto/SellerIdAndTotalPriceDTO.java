@@ -0,0 +1,21 @@
+package creative.market.repository.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class SellerIdAndTotalPriceDTO {
+
+    private Long sellerId;
+    private Long totalPrice;
+
+    @QueryProjection
+    public SellerIdAndTotalPriceDTO(Long sellerId, Long totalPrice) {
+        this.sellerId = sellerId;
+        this.totalPrice = totalPrice;
+    }
+}
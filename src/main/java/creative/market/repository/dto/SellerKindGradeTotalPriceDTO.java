@@ -0,0 +1,23 @@
+package creative.market.repository.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class SellerKindGradeTotalPriceDTO {
+
+    private Long sellerId;
+    private Long kindGradeId;
+    private Long totalPrice;
+
+    @QueryProjection
+    public SellerKindGradeTotalPriceDTO(Long sellerId, Long kindGradeId, Long totalPrice) {
+        this.sellerId = sellerId;
+        this.kindGradeId = kindGradeId;
+        this.totalPrice = totalPrice;
+    }
+}
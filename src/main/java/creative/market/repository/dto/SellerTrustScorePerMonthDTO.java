@@ -0,0 +1,23 @@
+package creative.market.repository.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigInteger;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class SellerTrustScorePerMonthDTO {
+
+    private Long sellerId;
+    private Double trustScore;
+    private String date;
+
+    public SellerTrustScorePerMonthDTO(BigInteger sellerId, Double trustScore, String date) {
+        this.sellerId = sellerId.longValue();
+        this.trustScore = trustScore;
+        this.date = date;
+    }
+}
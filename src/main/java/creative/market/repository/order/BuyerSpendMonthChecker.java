@@ -0,0 +1,118 @@
+package creative.market.repository.order;
+
+import creative.market.domain.analytics.BackfillProgress;
+import creative.market.repository.BackfillProgressRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.*;
+
+@Component
+@Slf4j
+public class BuyerSpendMonthChecker {
+    // buyer_spend_month(구매자별 월 결제 금액) 적재, 정합성 확인
+    // 1. 기동시 적재가 끝나지 않았으면 진행 상태(backfill_progress)의 마지막 구매자 아이디 다음부터 batch-size 범위씩 집계 (도입 전 주문)
+    //    범위마다 원본에서 다시 집계 -> 적재 전에 들어온 주문(upsert 로 만든 행)도 덮어씀, 범위 집계와 진행 상태 갱신은 같은 트랜잭션
+    // 2. check-cron 마다 구매자 범위별로 원본(orders + order_product) 집계와 비교 -> 다른 구매자만 다시 집계
+    // 조회 + 쓰기 모두 primary (replica 지연으로 인한 오탐 방지)
+    // 보관 테이블로 옮겨진 달(OrderPartitionMaintenance.archivedBefore)은 원본에 없으므로 비교, 다시 집계에서 제외 (적재된 값 유지)
+
+    static final String BACKFILL_JOB = "buyer-spend-month";
+
+    private final BuyerSpendMonthRepository buyerSpendMonthRepository;
+    private final BackfillProgressRepository backfillProgressRepository;
+    private final OrderPartitionMaintenance orderPartitionMaintenance;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public BuyerSpendMonthChecker(BuyerSpendMonthRepository buyerSpendMonthRepository, BackfillProgressRepository backfillProgressRepository,
+                                  OrderPartitionMaintenance orderPartitionMaintenance,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${buyer-spend-month.batch-size:1000}") int batchSize) {
+        this.buyerSpendMonthRepository = buyerSpendMonthRepository;
+        this.backfillProgressRepository = backfillProgressRepository;
+        this.orderPartitionMaintenance = orderPartitionMaintenance;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            Optional<BackfillProgress> progress = transactionTemplate.execute(status -> backfillProgressRepository.findByJobName(BACKFILL_JOB));
+            if (progress.filter(BackfillProgress::isCompleted).isPresent()) {
+                return;
+            }
+            Long maxBuyerId = transactionTemplate.execute(status -> buyerSpendMonthRepository.findMaxOrderedBuyerId());
+            long startBuyerId = progress.map(BackfillProgress::getLastId).orElse(0L) + 1; // 이전 기동에서 중단된 경우 이어서
+            long backfilledBuyerId = startBuyerId - 1;
+            Optional<YearMonth> since = orderPartitionMaintenance.archivedBefore();
+            int rows = 0;
+            for (long from = startBuyerId; maxBuyerId != null && from <= maxBuyerId; from += batchSize) {
+                long fromBuyerId = from;
+                long toBuyerId = from + batchSize - 1;
+                rows += transactionTemplate.execute(status -> {
+                    int rebuilt = buyerSpendMonthRepository.rebuild(fromBuyerId, toBuyerId, since);
+                    backfillProgressRepository.save(BACKFILL_JOB, toBuyerId, false);
+                    return rebuilt;
+                });
+                backfilledBuyerId = toBuyerId;
+            }
+            long lastBuyerId = backfilledBuyerId;
+            transactionTemplate.executeWithoutResult(status -> backfillProgressRepository.save(BACKFILL_JOB, lastBuyerId, true)); // 이후 구매자는 주문시 upsert 로 반영
+            log.info("구매자 월 결제 금액 적재 rows={}, fromBuyerId={}", rows, startBuyerId);
+        } catch (Exception e) {
+            log.error("구매자 월 결제 금액 적재 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "${buyer-spend-month.check-cron:0 30 4 * * *}")
+    public void check() {
+        try {
+            Long maxBuyerId = transactionTemplate.execute(status -> buyerSpendMonthRepository.findMaxOrderedBuyerId());
+            if (maxBuyerId == null) {
+                return;
+            }
+            int repaired = 0;
+            for (long from = 1; from <= maxBuyerId; from += batchSize) {
+                repaired += checkRange(from, from + batchSize - 1);
+            }
+            if (repaired > 0) {
+                log.warn("구매자 월 결제 금액 불일치 다시 집계 buyers={}", repaired);
+            }
+        } catch (Exception e) {
+            log.error("구매자 월 결제 금액 정합성 확인 실패", e);
+        }
+    }
+
+    public int checkRange(long fromBuyerId, long toBuyerId) { // 불일치 구매자 수 반환
+        Optional<YearMonth> since = orderPartitionMaintenance.archivedBefore();
+        Set<Long> mismatched = transactionTemplate.execute(status -> findMismatchedBuyers(
+                buyerSpendMonthRepository.findRange(fromBuyerId, toBuyerId, since),
+                buyerSpendMonthRepository.aggregateOrders(fromBuyerId, toBuyerId, since)));
+        // 비교 중 들어온 주문으로 다르게 보일 수 있음 -> 다시 집계해도 결과는 같으므로 그대로 진행
+        mismatched.forEach(buyerId -> transactionTemplate.executeWithoutResult(status -> buyerSpendMonthRepository.rebuild(buyerId, buyerId, since)));
+        return mismatched.size();
+    }
+
+    static Set<Long> findMismatchedBuyers(Map<String, long[]> rollup, Map<String, long[]> source) { // 결제 금액, 주문 상품 수가 0 인 달은 없는 달과 같음
+        Set<Long> mismatched = new TreeSet<>();
+        Set<String> keys = new HashSet<>(rollup.keySet());
+        keys.addAll(source.keySet());
+        for (String key : keys) {
+            long[] rollupValue = rollup.getOrDefault(key, new long[2]);
+            long[] sourceValue = source.getOrDefault(key, new long[2]);
+            if (!Arrays.equals(rollupValue, sourceValue)) {
+                mismatched.add(Long.valueOf(key.substring(0, key.indexOf(':'))));
+            }
+        }
+        return mismatched;
+    }
+}
@@ -0,0 +1,106 @@
+package creative.market.repository.order;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import creative.market.domain.analytics.BuyerSpendMonth;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static creative.market.domain.analytics.QBuyerSpendMonth.*;
+
+@Repository
+@RequiredArgsConstructor
+public class BuyerSpendMonthRepository {
+
+    // 원본(orders + order_product) 집계 -> (구매자, 년월)별 취소되지 않은 결제 금액, 주문 상품 수
+    // since: 이 달부터 (이전 달은 보관 테이블로 옮겨져 원본에 없음 -> 집계, 비교, 다시 집계에서 제외하고 적재된 값 유지)
+    private static final String AGGREGATE_ORDERS = "select o.user_id, date_format(o.created_date, '%Y-%m'), sum(op.price * op.count), count(*)" +
+            " from orders o" +
+            " join order_product op on op.order_id = o.order_id" +
+            " where op.status = 'ORDER' and o.user_id between :fromBuyerId and :toBuyerId and o.created_date >= :since" +
+            " group by o.user_id, date_format(o.created_date, '%Y-%m')";
+    private static final YearMonth ALL_MONTHS = YearMonth.of(1970, 1); // 보관된 달이 없는 경우
+
+    private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
+
+    public void add(Long buyerId, LocalDateTime orderedAt, long amount, int lineCount) { // 주문 -> 해당 월 행이 없으면 생성 (동시 주문도 한 문장으로 반영)
+        em.createNativeQuery("insert into buyer_spend_month (buyer_id, ym, total, line_count) values (:buyerId, :ym, :amount, :lineCount)" +
+                        " on duplicate key update total = total + values(total), line_count = line_count + values(line_count)")
+                .setParameter("buyerId", buyerId)
+                .setParameter("ym", YearMonth.from(orderedAt).toString())
+                .setParameter("amount", amount)
+                .setParameter("lineCount", lineCount)
+                .executeUpdate();
+    }
+
+    public void subtract(Long buyerId, LocalDateTime orderedAt, long amount, int lineCount) { // 취소 -> 해당 월 행이 있을 때만 차감
+        // 행이 없으면 아직 적재되지 않은 주문(도입 전 주문) -> 음수 행을 만들지 않고 적재(rebuild)시 취소 상태로 집계
+        em.createNativeQuery("update buyer_spend_month set total = total - :amount, line_count = line_count - :lineCount" +
+                        " where buyer_id = :buyerId and ym = :ym")
+                .setParameter("buyerId", buyerId)
+                .setParameter("ym", YearMonth.from(orderedAt).toString())
+                .setParameter("amount", amount)
+                .setParameter("lineCount", lineCount)
+                .executeUpdate();
+    }
+
+    public List<BuyerSpendMonth> findPerMonth(Long buyerId, YearMonth startDate, YearMonth endDate) { // 기본 키 (buyer_id, ym) 범위 조회
+        return queryFactory.selectFrom(buyerSpendMonth)
+                .where(buyerSpendMonth.buyerId.eq(buyerId),
+                        buyerSpendMonth.ym.between(startDate.toString(), endDate.toString()))
+                .orderBy(buyerSpendMonth.ym.asc())
+                .fetch();
+    }
+
+    public Map<String, long[]> findRange(Long fromBuyerId, Long toBuyerId, Optional<YearMonth> since) { // 구매자:년월 -> {결제 금액, 주문 상품 수}
+        List<BuyerSpendMonth> rows = queryFactory.selectFrom(buyerSpendMonth)
+                .where(buyerSpendMonth.buyerId.between(fromBuyerId, toBuyerId),
+                        buyerSpendMonth.ym.goe(since.orElse(ALL_MONTHS).toString()))
+                .fetch();
+        Map<String, long[]> result = new HashMap<>();
+        rows.forEach(row -> result.put(key(row.getBuyerId(), row.getYm()), new long[]{row.getTotal(), row.getLineCount()}));
+        return result;
+    }
+
+    public Map<String, long[]> aggregateOrders(Long fromBuyerId, Long toBuyerId, Optional<YearMonth> since) { // findRange 와 같은 형식으로 원본 집계
+        List<Object[]> rows = em.createNativeQuery(AGGREGATE_ORDERS)
+                .setParameter("fromBuyerId", fromBuyerId)
+                .setParameter("toBuyerId", toBuyerId)
+                .setParameter("since", since.orElse(ALL_MONTHS).atDay(1).atStartOfDay())
+                .getResultList();
+        Map<String, long[]> result = new HashMap<>();
+        rows.forEach(row -> result.put(key(((Number) row[0]).longValue(), (String) row[1]),
+                new long[]{((Number) row[2]).longValue(), ((Number) row[3]).longValue()}));
+        return result;
+    }
+
+    public int rebuild(Long fromBuyerId, Long toBuyerId, Optional<YearMonth> since) { // 구매자 범위 다시 집계 (트랜잭션 안에서 삭제 + insert select)
+        em.createNativeQuery("delete from buyer_spend_month where buyer_id between :fromBuyerId and :toBuyerId and ym >= :sinceYm")
+                .setParameter("fromBuyerId", fromBuyerId)
+                .setParameter("toBuyerId", toBuyerId)
+                .setParameter("sinceYm", since.orElse(ALL_MONTHS).toString())
+                .executeUpdate();
+        return em.createNativeQuery("insert into buyer_spend_month (buyer_id, ym, total, line_count) " + AGGREGATE_ORDERS)
+                .setParameter("fromBuyerId", fromBuyerId)
+                .setParameter("toBuyerId", toBuyerId)
+                .setParameter("since", since.orElse(ALL_MONTHS).atDay(1).atStartOfDay())
+                .executeUpdate();
+    }
+
+    public Long findMaxOrderedBuyerId() {
+        Number maxBuyerId = (Number) em.createNativeQuery("select max(user_id) from orders").getSingleResult();
+        return maxBuyerId != null ? maxBuyerId.longValue() : null;
+    }
+
+    public static String key(Long buyerId, String ym) {
+        return buyerId + ":" + ym;
+    }
+}
@@ -0,0 +1,56 @@
+package creative.market.repository.order;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Slf4j
+public class OrderActiveTotalBackfill {
+    // orders.active_total_price, active_line_count 도입 전 주문 -> 기동시 order_product 로 한 번 계산
+    // 주문 아이디 backfill-batch-size 범위씩 나눠 실행 (한 문장으로 전체 주문, 주문 상품을 잠그지 않도록)
+    // 이후 주문은 주문 생성시 저장, 취소시 OrderRepository.cancelLine 으로 차감
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int backfillBatchSize;
+
+    public OrderActiveTotalBackfill(JdbcTemplate jdbcTemplate,
+                                    @Value("${order-active-total.backfill-batch-size:10000}") int backfillBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.backfillBatchSize = backfillBatchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            Map<String, Object> range = jdbcTemplate.queryForMap("select min(order_id) as min_id, max(order_id) as max_id" +
+                    " from orders where active_total_price is null or active_line_count is null");
+            if (range.get("min_id") == null) {
+                return;
+            }
+            long maxId = ((Number) range.get("max_id")).longValue();
+            int updated = 0;
+            for (long from = ((Number) range.get("min_id")).longValue(); from <= maxId; from += backfillBatchSize) { // 범위마다 자동 커밋
+                long to = from + backfillBatchSize - 1;
+                updated += jdbcTemplate.update("update orders o left join (" + // 주문 상품이 없는 주문 -> 0
+                        " select op.order_id," +
+                        "   sum(case when op.status = 'ORDER' then op.price * op.count else 0 end) as total_price," +
+                        "   sum(case when op.status = 'ORDER' then 1 else 0 end) as line_count" +
+                        " from order_product op" +
+                        " where op.order_id between ? and ?" +
+                        " group by op.order_id" +
+                        ") t on t.order_id = o.order_id" +
+                        " set o.active_total_price = coalesce(t.total_price, 0), o.active_line_count = coalesce(t.line_count, 0)" +
+                        " where (o.active_total_price is null or o.active_line_count is null) and o.order_id between ? and ?", from, to, from, to);
+            }
+            log.info("주문 결제 금액, 주문 상품 개수 채움 count={}", updated);
+        } catch (Exception e) {
+            log.error("주문 결제 금액, 주문 상품 개수 채우기 실패", e);
+        }
+    }
+}
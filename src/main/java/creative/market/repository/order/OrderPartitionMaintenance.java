@@ -0,0 +1,205 @@
+package creative.market.repository.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@Slf4j
+public class OrderPartitionMaintenance {
+    // orders(created_date), order_product(ordered_date) 월별 RANGE COLUMNS 파티션 관리 (파티션 전환은 db/order-partition.sql 로 한 번 실행)
+    // 0. 기동시 ordered_date 가 없는 주문 상품(컬럼 도입 전 주문) 채우기 -> 기간 조건이 ordered_date 도 비교하므로 파티션 여부와 관계없이 실행
+    //    주문 상품 아이디 backfill-batch-size 범위씩 나눠 실행 (한 문장으로 전체를 잠그지 않도록)
+    // 1. p_max(MAXVALUE) 를 나눠 앞으로 future-months 개월까지 월 파티션(pyyyyMM) 생성
+    // 2. archive-after-months 개월보다 오래된 월 파티션 -> EXCHANGE PARTITION 으로 떼어내 {테이블}_archive 로 이동 후 파티션 삭제
+    // 1, 2 는 GET_LOCK 으로 한 서버에서만 실행 (잠금은 커넥션 단위 -> 잠금을 얻은 커넥션에서 ddl 실행)
+
+    private static final List<PartitionedTable> TABLES = List.of(new PartitionedTable("orders"), new PartitionedTable("order_product"));
+    private static final String MAX_PARTITION = "p_max";
+    private static final Pattern MONTH_PARTITION = Pattern.compile("p(\\d{6})");
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String LOCK_NAME = "order_partition_maintenance";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int futureMonths;
+    private final int archiveAfterMonths;
+    private final int backfillBatchSize;
+
+    public OrderPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                     @Value("${order-partition.enabled:false}") boolean enabled,
+                                     @Value("${order-partition.future-months:3}") int futureMonths,
+                                     @Value("${order-partition.archive-after-months:0}") int archiveAfterMonths,
+                                     @Value("${order-partition.backfill-batch-size:10000}") int backfillBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.futureMonths = futureMonths;
+        this.archiveAfterMonths = archiveAfterMonths;
+        this.backfillBatchSize = backfillBatchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        backfillOrderedDate();
+        maintain();
+    }
+
+    public void backfillOrderedDate() {
+        try {
+            Map<String, Object> range = jdbcTemplate.queryForMap("select min(order_product_id) as min_id, max(order_product_id) as max_id" +
+                    " from order_product where ordered_date is null");
+            if (range.get("min_id") == null) {
+                return;
+            }
+            long maxId = ((Number) range.get("max_id")).longValue();
+            int updated = 0;
+            for (long from = ((Number) range.get("min_id")).longValue(); from <= maxId; from += backfillBatchSize) { // 범위마다 자동 커밋
+                updated += jdbcTemplate.update("update order_product op join orders o on op.order_id = o.order_id" +
+                        " set op.ordered_date = o.created_date" +
+                        " where op.ordered_date is null and op.order_product_id between ? and ?", from, from + backfillBatchSize - 1);
+            }
+            log.info("주문 상품 주문일 채움 count={}", updated);
+        } catch (Exception e) {
+            log.error("주문 상품 주문일 채우기 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "${order-partition.cron:0 0 4 * * *}")
+    public void maintain() { // ddl 은 트랜잭션 밖에서 실행 (primary)
+        if (!enabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                JdbcTemplate lockedJdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+                Integer locked = lockedJdbcTemplate.queryForObject("select get_lock(?, 0)", Integer.class, LOCK_NAME);
+                if (locked == null || locked != 1) {
+                    log.info("다른 서버에서 파티션 관리 중");
+                    return null;
+                }
+                try {
+                    maintain(lockedJdbcTemplate);
+                } finally {
+                    lockedJdbcTemplate.queryForObject("select release_lock(?)", Integer.class, LOCK_NAME);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("파티션 관리 잠금 실패", e);
+        }
+    }
+
+    public Optional<YearMonth> archivedBefore() { // 이 달 이전 주문은 보관 테이블로 옮겨짐 (원본 테이블 기준 집계, 비교에서 제외)
+        return enabled && archiveAfterMonths > 0 ? Optional.of(YearMonth.now().minusMonths(archiveAfterMonths)) : Optional.empty();
+    }
+
+    private void maintain(JdbcTemplate jdbcTemplate) {
+        YearMonth now = YearMonth.now();
+        for (PartitionedTable table : TABLES) {
+            try {
+                List<Partition> partitions = findPartitions(jdbcTemplate, table.name);
+                if (partitions.isEmpty()) {
+                    log.warn("{} 테이블이 파티션되지 않음, db/order-partition.sql 실행 필요", table.name);
+                    continue;
+                }
+                addMonthPartitions(jdbcTemplate, table, partitions, now.plusMonths(futureMonths));
+                if (archiveAfterMonths > 0) {
+                    archive(jdbcTemplate, table, findPartitions(jdbcTemplate, table.name), now.minusMonths(archiveAfterMonths));
+                }
+            } catch (Exception e) {
+                log.error("{} 파티션 관리 실패", table.name, e);
+            }
+        }
+    }
+
+    private void addMonthPartitions(JdbcTemplate jdbcTemplate, PartitionedTable table, List<Partition> partitions, YearMonth until) { // p_max 를 [마지막 월 파티션 다음달 ~ until] + p_max 로 재구성
+        if (partitions.size() < 2 || !partitions.get(partitions.size() - 1).name.equals(MAX_PARTITION)) {
+            log.warn("{} 테이블에 {} 파티션이 없어 월 파티션을 만들 수 없음", table.name, MAX_PARTITION);
+            return;
+        }
+        YearMonth from = YearMonth.parse(partitions.get(partitions.size() - 2).upperBound.substring(0, 7)); // p_max 하한 = 이전 파티션 상한(해당 월 1일)
+        if (from.isAfter(until)) {
+            return;
+        }
+        StringJoiner newPartitions = new StringJoiner(", ");
+        for (YearMonth month = from; !month.isAfter(until); month = month.plusMonths(1)) {
+            newPartitions.add("partition p" + month.format(PARTITION_MONTH) + " values less than ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+        newPartitions.add("partition " + MAX_PARTITION + " values less than (maxvalue)");
+        jdbcTemplate.execute("alter table " + table.name + " reorganize partition " + MAX_PARTITION + " into (" + newPartitions + ")");
+        log.info("{} 월 파티션 생성 {} ~ {}", table.name, from, until);
+    }
+
+    private void archive(JdbcTemplate jdbcTemplate, PartitionedTable table, List<Partition> partitions, YearMonth before) { // before 이전 월 파티션 -> 보관 테이블
+        prepareArchiveTables(jdbcTemplate, table);
+        moveExchangedRows(jdbcTemplate, table); // 이전 실행이 교환 후 중단된 경우
+        for (Partition partition : partitions) {
+            Matcher matcher = MONTH_PARTITION.matcher(partition.name);
+            if (!matcher.matches() || !YearMonth.parse(matcher.group(1), PARTITION_MONTH).isBefore(before)) {
+                continue;
+            }
+            jdbcTemplate.execute("alter table " + table.name + " exchange partition " + partition.name + " with table " + table.exchangeTable()); // 메타데이터만 교환
+            moveExchangedRows(jdbcTemplate, table);
+            jdbcTemplate.execute("alter table " + table.name + " drop partition " + partition.name);
+            log.info("{} 파티션 {} 보관 테이블로 이동", table.name, partition.name);
+        }
+    }
+
+    private void prepareArchiveTables(JdbcTemplate jdbcTemplate, PartitionedTable table) { // 원본과 같은 구조, 파티션 없음 (EXCHANGE PARTITION 조건)
+        for (String name : List.of(table.archiveTable(), table.exchangeTable())) {
+            jdbcTemplate.execute("create table if not exists " + name + " like " + table.name);
+            if (!findPartitions(jdbcTemplate, name).isEmpty()) {
+                jdbcTemplate.execute("alter table " + name + " remove partitioning");
+            }
+        }
+    }
+
+    private void moveExchangedRows(JdbcTemplate jdbcTemplate, PartitionedTable table) { // 중단 후 다시 실행해도 중복 저장 안함
+        jdbcTemplate.execute("insert ignore into " + table.archiveTable() + " select * from " + table.exchangeTable());
+        jdbcTemplate.execute("truncate table " + table.exchangeTable());
+    }
+
+    private List<Partition> findPartitions(JdbcTemplate jdbcTemplate, String tableName) {
+        return jdbcTemplate.query("select partition_name, partition_description from information_schema.partitions" +
+                        " where table_schema = database() and table_name = ? and partition_name is not null" +
+                        " order by partition_ordinal_position",
+                (rs, rowNum) -> new Partition(rs.getString(1), rs.getString(2).replace("'", "")), tableName);
+    }
+
+    @RequiredArgsConstructor
+    private static class PartitionedTable {
+
+        private final String name;
+
+        private String archiveTable() {
+            return name + "_archive";
+        }
+
+        private String exchangeTable() {
+            return name + "_exchange";
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Partition {
+
+        private final String name;
+        private final String upperBound; // 2022-02-01 00:00:00, MAXVALUE
+    }
+}
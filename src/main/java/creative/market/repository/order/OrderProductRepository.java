@@ -3,6 +3,7 @@ package creative.market.repository.order;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import creative.market.cache.KindGradeResolver;
 import creative.market.domain.order.OrderProduct;
 import creative.market.domain.order.OrderStatus;
 
@@ -15,11 +16,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-import static creative.market.domain.category.QGradeCriteria.gradeCriteria;
-import static creative.market.domain.category.QItem.item;
-import static creative.market.domain.category.QItemCategory.itemCategory;
-import static creative.market.domain.category.QKind.kind;
-import static creative.market.domain.category.QKindGrade.kindGrade;
+import static creative.market.cache.KindGradeResolver.kindGradeIn;
 import static creative.market.domain.order.QOrder.*;
 import static creative.market.domain.order.QOrderProduct.*;
 import static creative.market.domain.product.QProduct.product;
@@ -31,6 +28,7 @@ public class OrderProductRepository {
 
     private final JPAQueryFactory queryFactory;
     private final EntityManager em;
+    private final KindGradeResolver kindGradeResolver;
 
     public Optional<OrderProduct> findById(Long orderProductId) {
         return Optional.ofNullable(
@@ -38,15 +36,29 @@ public class OrderProductRepository {
         );
     }
 
-    public Optional<OrderProduct> findByIdWithOrder(Long orderProductId) {
+    public Optional<OrderProduct> findByIdWithOrder(Long orderProductId) { // 주문, 상품 함께 조회 (취소 검증, 취소 이벤트의 판매자, 품목 등급)
         return Optional.ofNullable(
                 queryFactory.selectFrom(orderProduct)
                         .join(orderProduct.order).fetchJoin()
+                        .join(orderProduct.product).fetchJoin()
                         .where(orderProduct.id.eq(orderProductId))
                         .fetchOne()
         );
     }
 
+    public boolean cancel(OrderProduct findOrderProduct) { // 주문 상태인 경우에만 취소, 취소 여부 반환
+        long updateCount = queryFactory.update(orderProduct)
+                .set(orderProduct.status, OrderStatus.CANCEL)
+                .where(orderProduct.id.eq(findOrderProduct.getId()), orderStatus())
+                .execute();
+
+        if (updateCount == 0) {
+            return false;
+        }
+        em.refresh(findOrderProduct); // 벌크 연산은 영속성 컨텍스트를 거치지 않으므로 다시 조회
+        return true;
+    }
+
     public List<OrderProduct> findByProductIdAndUserId(Long productId, Long userId) {
         return queryFactory
                 .selectFrom(orderProduct)
@@ -60,16 +72,8 @@ public class OrderProductRepository {
                 .from(orderProduct)
                 .join(orderProduct.order, order)
                 .join(orderProduct.product, product)
-                .join(product.kindGrade, kindGrade)
-                .join(kindGrade.kind, kind)
-                .join(kind.item, item)
-                .join(item.itemCategory, itemCategory)
-                .join(item.gradeCriteria, gradeCriteria)
-                .where(itemCategoryEq(categoryParam.getItemCategoryCode()),
-                        itemCodeEq(categoryParam.getItemCode()),
-                        kindEq(categoryParam.getKindId()),
-                        kindGradeEq(categoryParam.getKindGradeId()),
-                        dateBetween(startDate, endDate),
+                .where(kindGradeIn(kindGradeResolver.resolve(categoryParam)),
+                        dateBetween(startDate, endDate), orderedDateBetween(startDate, endDate),
                         orderStatus()
                 )
                 .fetchOne();
@@ -96,26 +100,14 @@ public class OrderProductRepository {
         return getTotalPrice().avg().longValue();
     }
 
-    private BooleanExpression kindGradeEq(Long kindGradeId) {
-        return kindGradeId != null ? kindGrade.id.eq(kindGradeId) : null;
-    }
-
-    private BooleanExpression kindEq(Long kindId) {
-        return kindId != null ? kind.id.eq(kindId) : null;
-    }
-
-    private BooleanExpression itemCodeEq(Integer itemCode) {
-        return itemCode != null ? item.itemCode.eq(itemCode) : null;
-    }
-
-    private BooleanExpression itemCategoryEq(Integer itemCategoryCode) {
-        return itemCategoryCode != null ? itemCategory.itemCategoryCode.eq(itemCategoryCode) : null;
-    }
-
     private BooleanExpression dateBetween(LocalDateTime startDate, LocalDateTime endDate) {
         return startDate != null && endDate != null ? order.createdDate.between(startDate, endDate) : null;
     }
 
+    private BooleanExpression orderedDateBetween(LocalDateTime startDate, LocalDateTime endDate) { // dateBetween 과 같은 기간 (order_product 월 파티션 pruning)
+        return startDate != null && endDate != null ? orderProduct.orderedDate.between(startDate, endDate) : null;
+    }
+
     private BooleanExpression orderStatus() {
         return orderProduct.status.eq(OrderStatus.ORDER);
     }
@@ -8,6 +8,8 @@ import org.springframework.stereotype.Repository;
 import javax.persistence.EntityManager;
 import java.util.Optional;
 
+import static creative.market.domain.order.QOrder.*;
+
 @Repository
 @RequiredArgsConstructor
 public class OrderRepository {
@@ -22,4 +24,12 @@ public class OrderRepository {
     public Optional<Order> findById(Long id) {
         return Optional.ofNullable(em.find(Order.class,id));
     }
+
+    public void cancelLine(Long orderId, long lineTotalPrice) { // 주문 상품 취소 -> 주문의 결제 금액, 주문 상품 개수 차감 (동시 취소도 한 문장으로 반영)
+        queryFactory.update(order)
+                .set(order.activeTotalPrice, order.activeTotalPrice.subtract(lineTotalPrice))
+                .set(order.activeLineCount, order.activeLineCount.subtract(1))
+                .where(order.id.eq(orderId))
+                .execute();
+    }
 }
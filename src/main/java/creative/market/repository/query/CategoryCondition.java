@@ -0,0 +1,35 @@
+package creative.market.repository.query;
+
+import javax.persistence.Query;
+import java.util.List;
+import java.util.Optional;
+
+final class CategoryCondition { // 카테고리 조건(KindGradeResolver 로 변환한 품목 등급 id 목록) -> 바인드 파라미터 sql (분류 테이블 join 없이 product.kind_grade_id 로 필터)
+
+    private final List<Long> kindGradeIds; // null 이면 조건 없음
+
+    private CategoryCondition(List<Long> kindGradeIds) {
+        this.kindGradeIds = kindGradeIds;
+    }
+
+    static CategoryCondition of(Optional<List<Long>> kindGradeIds) {
+        return new CategoryCondition(kindGradeIds.orElse(null));
+    }
+
+    String toSql() { // where 절에 붙일 조건 (값은 sql 문자열에 넣지 않음), 컬럼 별칭 p 필요
+        if (kindGradeIds == null) {
+            return "";
+        }
+        if (kindGradeIds.isEmpty()) { // 조건에 맞는 품목 등급 없음
+            return " and 1 = 0";
+        }
+        return " and p.kind_grade_id in (:kindGradeIds)"; // 목록 크기는 in_clause_parameter_padding 으로 2의 거듭제곱 단위 -> 문장 종류 제한
+    }
+
+    Query bind(Query query) { // toSql() 로 만든 조건의 파라미터 지정
+        if (kindGradeIds != null && !kindGradeIds.isEmpty()) {
+            query.setParameter("kindGradeIds", kindGradeIds);
+        }
+        return query;
+    }
+}
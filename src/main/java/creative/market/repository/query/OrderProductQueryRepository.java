@@ -1,15 +1,19 @@
 package creative.market.repository.query;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import creative.market.cache.KindGradeResolver;
 import creative.market.domain.order.OrderStatus;
+import creative.market.domain.order.QOrder;
 import creative.market.domain.product.ProductImageType;
 import creative.market.repository.dto.*;
 import lombok.RequiredArgsConstructor;
 import org.qlrm.mapper.JpaResultMapper;
 import org.springframework.stereotype.Repository;
-import org.springframework.util.StringUtils;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
@@ -17,11 +21,7 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.List;
 
-import static creative.market.domain.category.QGradeCriteria.gradeCriteria;
-import static creative.market.domain.category.QItem.item;
-import static creative.market.domain.category.QItemCategory.itemCategory;
-import static creative.market.domain.category.QKind.kind;
-import static creative.market.domain.category.QKindGrade.kindGrade;
+import static creative.market.cache.KindGradeResolver.kindGradeIn;
 import static creative.market.domain.order.QOrder.order;
 import static creative.market.domain.order.QOrderProduct.orderProduct;
 import static creative.market.domain.product.QProduct.product;
@@ -32,72 +32,34 @@ import static creative.market.domain.user.QUser.user;
 @RequiredArgsConstructor
 public class OrderProductQueryRepository {
 
+    private static final String TRUST_SCORE = "ifNull(log10(count)*16.666 + op.rate*6 + op.date_score,0)"; // 판매 횟수, 평점, 활동 기간으로 계산한 신뢰점수
+
     private final JPAQueryFactory queryFactory;
     private final EntityManager em;
     private final JpaResultMapper jpaResultMapper;
+    private final KindGradeResolver kindGradeResolver;
 
-    public List<SellerAndTotalPricePerCategoryDTO> findCategoryTopRankSellerNameAndPrice(CategoryParamDTO categoryParam, LocalDateTime startDate, LocalDateTime endDate, int rankCount) {// 카테고리별 판매 상위 판매자 및 판매 가격 조회
-        return queryFactory.select(new QSellerAndTotalPricePerCategoryDTO(user.name, getTotalPrice().coalesce(0L)))
+    public List<SellerIdAndTotalPriceDTO> findKindGradeSellerTotalPrices(Long kindGradeId, LocalDateTime startDate, LocalDateTime endDate) { // 품목 등급별 판매자별 판매액 (판매 순위 적재용)
+        return queryFactory.select(new QSellerIdAndTotalPriceDTO(product.user.id, getTotalPrice().coalesce(0L)))
                 .from(orderProduct)
                 .join(orderProduct.order, order)
                 .join(orderProduct.product, product)
-                .join(product.user, user)
-                .join(product.kindGrade, kindGrade)
-                .join(kindGrade.kind, kind)
-                .join(kind.item, item)
-                .join(item.itemCategory, itemCategory)
-                .join(item.gradeCriteria, gradeCriteria)
-                .where(itemCategoryEq(categoryParam.getItemCategoryCode()),
-                        itemCodeEq(categoryParam.getItemCode()),
-                        kindEq(categoryParam.getKindId()),
-                        kindGradeEq(categoryParam.getKindGradeId()),
-                        dateBetween(startDate, endDate),
+                .where(product.kindGrade.id.eq(kindGradeId),
+                        dateBetween(startDate, endDate), orderedDateBetween(startDate, endDate),
                         orderStatus())
-                .orderBy(getTotalPrice().desc())
-                .groupBy(user)
-                .offset(0)
-                .limit(rankCount)
+                .groupBy(product.user.id)
                 .fetch();
     }
 
-    public SellerAndTotalPricePerCategoryDTO findCategorySellerNameAndPrice(CategoryParamDTO categoryParam, LocalDateTime startDate, LocalDateTime endDate, Long userId) {//선택된 카테고리 판매 내역에서 판매자의 이름 및 판매 가격 조회
-        return queryFactory.select(new QSellerAndTotalPricePerCategoryDTO(user.name, getTotalPrice().coalesce(0L)))
+    public List<SellerKindGradeTotalPriceDTO> findSellerKindGradeTotalPrices(LocalDateTime startDate, LocalDateTime endDate) { // 판매자, 품목 등급별 판매액 (판매액 백분위 적재용)
+        return queryFactory.select(new QSellerKindGradeTotalPriceDTO(product.user.id, product.kindGrade.id, getTotalPrice().coalesce(0L)))
                 .from(orderProduct)
                 .join(orderProduct.order, order)
                 .join(orderProduct.product, product)
-                .join(product.user, user)
-                .join(product.kindGrade, kindGrade)
-                .join(kindGrade.kind, kind)
-                .join(kind.item, item)
-                .join(item.itemCategory, itemCategory)
-                .join(item.gradeCriteria, gradeCriteria)
-                .where(itemCategoryEq(categoryParam.getItemCategoryCode()),
-                        itemCodeEq(categoryParam.getItemCode()),
-                        kindEq(categoryParam.getKindId()),
-                        kindGradeEq(categoryParam.getKindGradeId()),
-                        dateBetween(startDate, endDate),
-                        userEq(userId),
-                        orderStatus()
-                )
-                .fetchOne();
-    }
-
-    //
-    public List<BuyerTotalPricePerPeriodDTO> findBuyerTotalPricePerPeriod(YearMonth startDate, YearMonth endDate, Long userId) {// 구매자의 기간별 결제 금액
-        String sql = "select cast(ifNull(sum(op.price * op.count),0) AS SIGNED ) as totalPrice, month_year_tb.ym as date" +
-                " from (select opp.price as price, opp.count as count, o.created_date as created_date from order_product opp join orders o on opp.order_id = o.order_id where opp.status = 'ORDER' and o.user_id =:userId) op" +
-                " right outer join year_month_data" +
-                " as month_year_tb on date_format(op.created_date,'%Y-%m') = month_year_tb.ym" +
-                " where month_year_tb.ym>=:startDate and  month_year_tb.ym<=:endDate" +
-                " group by month_year_tb.ym" +
-                " order by month_year_tb.ym";
-
-        Query query = em.createNativeQuery(sql)
-                .setParameter("userId", userId)
-                .setParameter("startDate", startDate.toString())
-                .setParameter("endDate", endDate.toString());
-
-        return jpaResultMapper.list(query, BuyerTotalPricePerPeriodDTO.class);
+                .where(dateBetween(startDate, endDate), orderedDateBetween(startDate, endDate),
+                        orderStatus())
+                .groupBy(product.user.id, product.kindGrade.id)
+                .fetch();
     }
 
     public List<SellerPricePerPeriodDTO> findAllSellerTotalPricePerPeriodAndCategory(YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO) {//기간별 판매액 비교(카테고리별 전체 판매자 기간별 총 금액)
@@ -119,17 +81,15 @@ public class OrderProductQueryRepository {
                 " group by month_year_tb.ym" +
                 " order by month_year_tb.ym";
 */
+        CategoryCondition categoryCondition = CategoryCondition.of(kindGradeResolver.resolve(categoryParamDTO));
+        PeriodCondition periodCondition = PeriodCondition.of(startDate, endDate);
         StringBuilder sb = new StringBuilder();
         String sql = sb.append("select cast(ifNull(sum(op.price * op.count),0) as SIGNED) as totalPrice, month_year_tb.ym as date")
                 .append(" from (select opp.price as price, opp.count as count, o.created_date as created_date")
                 .append("    from order_product opp")
                 .append("    join orders o on opp.order_id = o.order_id ")
                 .append("    join product p on opp.product_id = p.product_id")
-                .append("    join kind_grade kg on p.kind_grade_id = kg.kind_grade_id")
-                .append("    join kind k on kg.kind_id = k.kind_id")
-                .append("    join item i on k.item_code = i.item_code")
-                .append("    join item_category ic on i.item_category_code = ic.item_category_code")
-                .append("    where opp.status = 'ORDER' ").append(categoryDynamic(categoryParamDTO)).append(") op")
+                .append("    where opp.status = 'ORDER' ").append(periodCondition.toSql("o", "opp")).append(categoryCondition.toSql()).append(") op")
                 .append(" right outer join  year_month_data")
                 .append(" as month_year_tb on date_format(op.created_date,'%Y-%m') = month_year_tb.ym")
                 .append(" where month_year_tb.ym>=:startDate and  month_year_tb.ym<=:endDate")
@@ -140,6 +100,8 @@ public class OrderProductQueryRepository {
         Query query = em.createNativeQuery(sql)
                 .setParameter("startDate", startDate.toString())
                 .setParameter("endDate", endDate.toString());
+        categoryCondition.bind(query);
+        periodCondition.bind(query);
 
         return jpaResultMapper.list(query, SellerPricePerPeriodDTO.class);
     }
@@ -164,6 +126,8 @@ public class OrderProductQueryRepository {
                 " order by month_year_tb.ym";
 */
 
+        CategoryCondition categoryCondition = CategoryCondition.of(kindGradeResolver.resolve(categoryParamDTO));
+        PeriodCondition periodCondition = PeriodCondition.of(startDate, endDate);
         StringBuilder sb = new StringBuilder();
         String sql = sb.append("select cast(ifNull(sum(op.price * op.count),0) as SIGNED) as totalPrice, month_year_tb.ym as date")
                 .append(" from (select opp.price as price, opp.count as count, o.created_date as created_date")
@@ -171,11 +135,7 @@ public class OrderProductQueryRepository {
                 .append("    join orders o on opp.order_id = o.order_id ")
                 .append("    join product p on opp.product_id = p.product_id")
                 .append("    join user u on p.user_id = u.user_id")
-                .append("    join kind_grade kg on p.kind_grade_id = kg.kind_grade_id")
-                .append("    join kind k on kg.kind_id = k.kind_id")
-                .append("    join item i on k.item_code = i.item_code")
-                .append("    join item_category ic on i.item_category_code = ic.item_category_code")
-                .append("    where opp.status = 'ORDER' and u.user_id =:userId " ).append(categoryDynamic(categoryParamDTO)).append(") op")
+                .append("    where opp.status = 'ORDER' and u.user_id =:userId " ).append(periodCondition.toSql("o", "opp")).append(categoryCondition.toSql()).append(") op")
                 .append(" right outer join  year_month_data")
                 .append(" as month_year_tb on date_format(op.created_date,'%Y-%m') = month_year_tb.ym")
                 .append(" where month_year_tb.ym>=:startDate and  month_year_tb.ym<=:endDate")
@@ -187,6 +147,8 @@ public class OrderProductQueryRepository {
                 .setParameter("startDate", startDate.toString())
                 .setParameter("endDate", endDate.toString())
                 .setParameter("userId", userId);
+        categoryCondition.bind(query);
+        periodCondition.bind(query);
 
         return jpaResultMapper.list(query, SellerPricePerPeriodDTO.class);
     }
@@ -222,8 +184,22 @@ public class OrderProductQueryRepository {
         order by date;
 */
 
-        StringBuilder sb = new StringBuilder();
-        String sql = sb
+        CategoryCondition categoryCondition = CategoryCondition.of(kindGradeResolver.resolve(categoryParamDTO));
+        PeriodCondition periodCondition = PeriodCondition.of(startDate, endDate);
+        String sql = sellerTotalPricePercentileSql(periodCondition, categoryCondition);
+
+        Query query = em.createNativeQuery(sql)
+                .setParameter("startDate", startDate.toString())
+                .setParameter("endDate", endDate.toString())
+                .setParameter("userId", userId);
+        categoryCondition.bind(query);
+        periodCondition.bind(query);
+        return jpaResultMapper.list(query, SellerPercentileDTO.class);
+
+    }
+
+    static String sellerTotalPricePercentileSql(PeriodCondition periodCondition, CategoryCondition categoryCondition) { // 파라미터: startDate, endDate, userId + 기간, 카테고리 조건
+        return new StringBuilder()
                 .append("select (1 - op.percent_ranking)*100 as percentile, ym as date ")
                 .append(" from(")
                 .append("   select ym_seller.user_id, ifNull(sum(count*price),0) as total_price, ym, PERCENT_RANK() OVER (partition by ym ORDER BY ifNull(sum(count*price),0) desc) AS percent_ranking")
@@ -233,11 +209,7 @@ public class OrderProductQueryRepository {
                 .append("           join orders o on op.order_id = o.order_id ")
                 .append("           join product p on op.product_id = p.product_id")
                 .append("           join user u on p.user_id = u.user_id")
-                .append("           join kind_grade kg on p.kind_grade_id = kg.kind_grade_id")
-                .append("           join kind k on kg.kind_id = k.kind_id")
-                .append("           join item i on k.item_code = i.item_code")
-                .append("           join item_category ic on i.item_category_code = ic.item_category_code")
-                .append("       where op.status = 'ORDER'").append(categoryDynamic(categoryParamDTO))
+                .append("       where op.status = 'ORDER'").append(periodCondition.toSql("o", "op")).append(categoryCondition.toSql())
                 .append("   ) op")
                 .append("   right join ")
                 .append("   (")
@@ -251,13 +223,6 @@ public class OrderProductQueryRepository {
                 .append(" where op.user_id =:userId")
                 .append(" order by date")
                 .toString();
-
-        Query query = em.createNativeQuery(sql)
-                .setParameter("startDate", startDate.toString())
-                .setParameter("endDate", endDate.toString())
-                .setParameter("userId", userId);
-        return jpaResultMapper.list(query, SellerPercentileDTO.class);
-
     }
 
     public List<SellerOrderCountPerPeriodDTO> findAllSellerTotalCountPerPeriodAndCategory(YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO) {//기간별 판매횟수 비교(카테고리별 전체 판매자 기간별 총 판매횟수)
@@ -281,6 +246,8 @@ public class OrderProductQueryRepository {
                 "order by month_year_tb.ym;";
         */
 
+        CategoryCondition categoryCondition = CategoryCondition.of(kindGradeResolver.resolve(categoryParamDTO));
+        PeriodCondition periodCondition = PeriodCondition.of(startDate, endDate);
         StringBuilder sb = new StringBuilder();
         String sql = sb
                 .append(" select count(op.order_product_id) as totalCount, month_year_tb.ym as date")
@@ -288,11 +255,7 @@ public class OrderProductQueryRepository {
                 .append("   from order_product opp")
                 .append("   join orders o on opp.order_id = o.order_id ")
                 .append("   join product p on opp.product_id = p.product_id")
-                .append("   join kind_grade kg on p.kind_grade_id = kg.kind_grade_id")
-                .append("   join kind k on kg.kind_id = k.kind_id")
-                .append("   join item i on k.item_code = i.item_code")
-                .append("   join item_category ic on i.item_category_code = ic.item_category_code")
-                .append("   where opp.status = 'ORDER' ").append(categoryDynamic(categoryParamDTO))
+                .append("   where opp.status = 'ORDER' ").append(periodCondition.toSql("o", "opp")).append(categoryCondition.toSql())
                 .append(" ) op")
                 .append(" right outer join  year_month_data as month_year_tb")
                 .append(" on date_format(op.created_date,'%Y-%m') = month_year_tb.ym")
@@ -304,6 +267,8 @@ public class OrderProductQueryRepository {
         Query query = em.createNativeQuery(sql)
                 .setParameter("startDate", startDate.toString())
                 .setParameter("endDate", endDate.toString());
+        categoryCondition.bind(query);
+        periodCondition.bind(query);
 
         return jpaResultMapper.list(query, SellerOrderCountPerPeriodDTO.class);
     }
@@ -330,6 +295,8 @@ public class OrderProductQueryRepository {
                 "order by month_year_tb.ym;";
 */
 
+        CategoryCondition categoryCondition = CategoryCondition.of(kindGradeResolver.resolve(categoryParamDTO));
+        PeriodCondition periodCondition = PeriodCondition.of(startDate, endDate);
         StringBuilder sb = new StringBuilder();
         String sql = sb
                 .append("select count(op.order_product_id) as totalCount, month_year_tb.ym as date")
@@ -338,11 +305,7 @@ public class OrderProductQueryRepository {
                 .append("   join orders o on opp.order_id = o.order_id ")
                 .append("   join product p on opp.product_id = p.product_id")
                 .append("   join user u on p.user_id = u.user_id")
-                .append("   join kind_grade kg on p.kind_grade_id = kg.kind_grade_id")
-                .append("   join kind k on kg.kind_id = k.kind_id")
-                .append("   join item i on k.item_code = i.item_code")
-                .append("   join item_category ic on i.item_category_code = ic.item_category_code")
-                .append("   where opp.status = 'ORDER' and u.user_id = :userId").append(categoryDynamic(categoryParamDTO))
+                .append("   where opp.status = 'ORDER' and u.user_id = :userId").append(periodCondition.toSql("o", "opp")).append(categoryCondition.toSql())
                 .append(" ) op")
                 .append(" right outer join  year_month_data as month_year_tb ")
                 .append(" on date_format(op.created_date,'%Y-%m') = month_year_tb.ym")
@@ -355,6 +318,8 @@ public class OrderProductQueryRepository {
                 .setParameter("startDate", startDate.toString())
                 .setParameter("endDate", endDate.toString())
                 .setParameter("userId", userId);
+        categoryCondition.bind(query);
+        periodCondition.bind(query);
 
         return jpaResultMapper.list(query, SellerOrderCountPerPeriodDTO.class);
     }
@@ -383,6 +348,8 @@ public class OrderProductQueryRepository {
         order by ym_tb.ym;
         */
 
+        CategoryCondition categoryCondition = CategoryCondition.of(kindGradeResolver.resolve(categoryParamDTO));
+        PeriodCondition periodCondition = PeriodCondition.of(startDate, endDate);
         StringBuilder sb = new StringBuilder();
         String sql = sb
                 .append(" select ym as date, ifnull(count,0) count")
@@ -392,11 +359,7 @@ public class OrderProductQueryRepository {
                 .append("       join orders o on op.order_id = o.order_id ")
                 .append("       join product p on op.product_id = p.product_id")
                 .append("       join user u on p.user_id = u.user_id")
-                .append("       join kind_grade kg on p.kind_grade_id = kg.kind_grade_id")
-                .append("       join kind k on kg.kind_id = k.kind_id")
-                .append("       join item i on k.item_code = i.item_code")
-                .append("       join item_category ic on i.item_category_code = ic.item_category_code")
-                .append("   where op.status = 'ORDER' and :startDate <= date_format(o.created_date,'%Y-%m') and date_format(o.created_date,'%Y-%m') <= :endDate ").append(categoryDynamic(categoryParamDTO))
+                .append("   where op.status = 'ORDER'").append(periodCondition.toSql("o", "op")).append(categoryCondition.toSql())
                 .append("   group by date")
                 .append("   order by null")
                 .append(" ) op")
@@ -409,6 +372,8 @@ public class OrderProductQueryRepository {
         Query query = em.createNativeQuery(sql)
                 .setParameter("startDate", startDate.toString())
                 .setParameter("endDate", endDate.toString());
+        categoryCondition.bind(query);
+        periodCondition.bind(query);
 
         return jpaResultMapper.list(query, SellerCountByPeriodDTO.class);
 
@@ -416,6 +381,7 @@ public class OrderProductQueryRepository {
 
     public List<SellerTrustScoreByPeriodDTO> findSellerTrustScoreByPeriod(YearMonth startDate, YearMonth endDate, Long userId) {
 
+        PeriodCondition periodCondition = PeriodCondition.of(startDate, endDate);
         String sql =
                 "  select ifNull((log10(count)*16.666 + op.rate*6 + op.date_score),0) as trust_score, ym as date\n" +
                 "   from(\n" +
@@ -442,7 +408,7 @@ public class OrderProductQueryRepository {
                 "                        join orders o on op.order_id = o.order_id\n" +
                 "                        join product p on op.product_id = p.product_id\n" +
                 "                        join user u on p.user_id = u.user_id\n" +
-                "                        where op.status = 'ORDER'\n" +
+                "                        where op.status = 'ORDER'" + periodCondition.toSql("o", "op") + "\n" +
                 "         ) op \n" +
                 "                        join\n" +
                 "                        ( select rv.rate as rate, us.user_id as user_id, rv.date as date\n" +
@@ -476,19 +442,53 @@ public class OrderProductQueryRepository {
                 .setParameter("startDate", startDate.toString())
                 .setParameter("endDate", endDate.toString())
                 .setParameter("userId", userId);
+        periodCondition.bind(query);
 
         return jpaResultMapper.list(query, SellerTrustScoreByPeriodDTO.class);
     }
 
     public List<SellerTrustScorePercentileByPeriodDTO> findSellerTrustScorePercentileByPeriod(YearMonth startDate, YearMonth endDate, Long userId) {
 
+        PeriodCondition periodCondition = PeriodCondition.of(startDate, endDate);
         String sql =
                 "select op.percent_ranking*100 AS percentile, op.date as date\n" +
                         "from (\n" +
-                        "  select op.user_id, PERCENT_RANK() OVER (partition by ym ORDER BY ifNull(log10(count)*16.666 + op.rate*6 + op.date_score,0) asc) AS percent_ranking,\n" +
+                        "  select op.user_id, PERCENT_RANK() OVER (partition by ym ORDER BY " + TRUST_SCORE + " asc) AS percent_ranking,\n" +
                         "      ym as date\n" +
                         "   from(\n" +
-                        "                select ym_seller.user_id,ifNull(count(op.user_id),0) count, ym, ifNull(op.rate,0) as rate,\n" +
+                        sellerTrustScoreElementsSql(periodCondition) + ") op\n" +
+                        "    order by date\n" +
+                        "                ) op\n" +
+                        "                where op.user_id = :userId";
+
+        Query query = em.createNativeQuery(sql)
+                .setParameter("startDate", startDate.toString())
+                .setParameter("endDate", endDate.toString())
+                .setParameter("userId", userId);
+        periodCondition.bind(query);
+
+        return jpaResultMapper.list(query, SellerTrustScorePercentileByPeriodDTO.class);
+    }
+
+    public List<SellerTrustScorePerMonthDTO> findAllSellerTrustScorePerMonth(YearMonth startDate, YearMonth endDate) { // 기간별 전체 판매자 신뢰점수 (신뢰점수 백분위 적재용, 백분위 sql 과 같은 점수식)
+
+        PeriodCondition periodCondition = PeriodCondition.of(startDate, endDate);
+        Query query = em.createNativeQuery(allSellerTrustScorePerMonthSql(periodCondition))
+                .setParameter("startDate", startDate.toString())
+                .setParameter("endDate", endDate.toString());
+        periodCondition.bind(query);
+
+        return jpaResultMapper.list(query, SellerTrustScorePerMonthDTO.class);
+    }
+
+    static String allSellerTrustScorePerMonthSql(PeriodCondition periodCondition) { // 파라미터: startDate, endDate + 기간 조건
+        return "select op.user_id, " + TRUST_SCORE + " as score, ym as date\n" +
+                "   from(\n" +
+                sellerTrustScoreElementsSql(periodCondition) + ") op";
+    }
+
+    private static String sellerTrustScoreElementsSql(PeriodCondition periodCondition) { // 월별 판매자 판매 횟수, 평점, 활동 기간 점수 (판매자 전체 x 기간 내 월)
+        return "                select ym_seller.user_id,ifNull(count(op.user_id),0) count, ym, ifNull(op.rate,0) as rate,\n" +
                         "                @diff \\:= timestampdiff(MONTH, date_format(ym_seller.change_date, '%Y-%m-%d'), date_format(STR_TO_DATE(ym,'%Y-%m'), '%Y-%m-01')),\n" +
                         "       CASE\n" +
                         "      when(@diff >= 24) then 20\n" +
@@ -511,7 +511,7 @@ public class OrderProductQueryRepository {
                         "                        join orders o on op.order_id = o.order_id\n" +
                         "                        join product p on op.product_id = p.product_id\n" +
                         "                        join user u on p.user_id = u.user_id\n" +
-                        "                        where op.status = 'ORDER'\n" +
+                        "                        where op.status = 'ORDER'" + periodCondition.toSql("o", "op") + "\n" +
                         "         ) op \n" +
                         "                        join\n" +
                         "                        ( select rv.rate as rate, us.user_id as user_id, rv.date as date\n" +
@@ -537,17 +537,7 @@ public class OrderProductQueryRepository {
                         "                      where user.dtype='Seller' and :startDate <= ym and ym <= :endDate\n" +
                         "                ) ym_seller\n" +
                         "                on op.user_id=ym_seller.user_id and op.date = ym_seller.ym\n" +
-                        "                group by ym_seller.user_id, ym) op\n" +
-                        "    order by date\n" +
-                        "                ) op\n" +
-                        "                where op.user_id = :userId";
-
-        Query query = em.createNativeQuery(sql)
-                .setParameter("startDate", startDate.toString())
-                .setParameter("endDate", endDate.toString())
-                .setParameter("userId", userId);
-
-        return jpaResultMapper.list(query, SellerTrustScorePercentileByPeriodDTO.class);
+                        "                group by ym_seller.user_id, ym";
     }
 
     public String findSellerTrustScore(Long userId) {
@@ -614,68 +604,80 @@ public class OrderProductQueryRepository {
                 .getSingleResult());
     }
 
-    private String categoryDynamic(CategoryParamDTO categoryParamDTO) {
-        StringBuilder stringBuilder = new StringBuilder();
-
-        Integer itemCategoryCode = categoryParamDTO.getItemCategoryCode();
-        Integer itemCode = categoryParamDTO.getItemCode();
-        Long kindId = categoryParamDTO.getKindId();
-        Long kindGradeId = categoryParamDTO.getKindGradeId();
-
-        if (itemCategoryCode != null) { // 부류가 null 이 아닌경우 where 절에 추가
-            addQuery("ic.item_category_code", String.valueOf(itemCategoryCode), stringBuilder);
-        }
-        if (itemCode != null) { // 품목이 null 이 아닌경우 where 절에 추가
-            addQuery("i.item_code", String.valueOf(itemCode), stringBuilder);
-        }
-        if (kindId != null) { // 품종이 null 이 아닌경우 where 절에 추가
-            addQuery("k.kind_id", kindId.toString(), stringBuilder);
-        }
-        if (kindGradeId != null) { // 픔정등급이 null 이 아닌경우 where 절에 추가
-            addQuery("kg.kind_grade_id", kindGradeId.toString(), stringBuilder);
-        }
-
-        return stringBuilder.toString();
-    }
-
-    private StringBuilder addQuery(String columnName, String value, StringBuilder stringBuilder) {
-        return StringUtils.hasText(value) ? stringBuilder.append(" and ").append(columnName).append(" = ").append(value) : stringBuilder;
-
+    public List<BuyerOrderSummaryDTO> findBuyerOrderIdsPerPeriod(LocalDateTime startDate, LocalDateTime endDate, Long userId, Long lastOrderId, int offset, int pageSize) {
+        // 주문 단위 페이징 (주문일 내림차순, 같은 시각이면 주문 아이디 내림차순), lastOrderId 가 있으면 해당 주문 다음부터 조회
+        // 주문 상품 개수, 결제 금액은 orders 에 저장된 값 (order_product 집계 없음)
+        return queryFactory
+                .select(new QBuyerOrderSummaryDTO(order.id, order.activeLineCount.coalesce(0), order.activeTotalPrice.coalesce(0L)))
+                .from(order)
+                .join(order.user, user)
+                .where(dateBetween(startDate, endDate), userEq(userId), orderBefore(lastOrderId))
+                .orderBy(order.createdDate.desc(), order.id.desc())
+                .offset(lastOrderId != null ? 0 : offset)
+                .limit(pageSize)
+                .fetch();
     }
 
-    public List<BuyerOrderPerPeriodDTO> findBuyerOrderPerPeriod(LocalDateTime startDate, LocalDateTime endDate, Long userId, int offset, int pageSize) {
+    public List<BuyerOrderPerPeriodDTO> findBuyerOrderProductsByOrderIds(List<Long> orderIds) { // 페이징된 주문들의 주문 상품 한번에 조회
+        // 대표 이미지는 left join (이미지가 없는 상품의 주문 상품도 조회 -> 주문 아이디 페이지, 전체 개수와 같은 주문 목록)
         return queryFactory
                 .select(new QBuyerOrderPerPeriodDTO(order.id, product.id, orderProduct.id, order.createdDate, product.name, orderProduct.count, orderProduct.price, productImage.path, orderProduct.status.stringValue()))
                 .from(orderProduct)
                 .join(orderProduct.order, order)
-                .join(order.user, user)
                 .join(orderProduct.product, product)
-                .join(product.productImages, productImage)
-                .where(dateBetween(startDate, endDate), userEq(userId), productImageType())
-                .offset(offset)
-                .limit(pageSize)
+                .leftJoin(product.productImages, productImage).on(productImageType())
+                .where(order.id.in(orderIds))
+                .orderBy(order.createdDate.desc(), order.id.desc(), orderProduct.id.asc())
                 .fetch();
     }
 
-    public Long findBuyerOrderTotalPricePerPeriod(LocalDateTime startDate, LocalDateTime endDate, Long userId) {
+    public List<BuyerOrderIdWithTotalDTO> findBuyerOrderIdsWithTotalPerPeriod(LocalDateTime startDate, LocalDateTime endDate, Long userId, Long lastOrderId, int offset, int pageSize) {
+        // 주문 아이디 페이징 + 전체 주문 개수, 전체 결제 금액(취소 제외) 한번에 조회 (orders 에 저장된 결제 금액 사용, order_product 조인 없음)
+        // 윈도우 함수는 where 이후에 계산되므로 기간 전체를 구한 뒤 바깥에서 lastOrderId 조건, 페이징 적용
+        StringBuilder sb = new StringBuilder();
+        sb.append("select t.order_id, t.active_line_count, t.active_total_price, t.total_count, t.total_price")
+                .append(" from (")
+                .append("   select o.order_id as order_id, o.created_date as created_date,")
+                .append("       coalesce(o.active_line_count, 0) as active_line_count, cast(coalesce(o.active_total_price, 0) as SIGNED) as active_total_price,")
+                .append("       count(*) over() as total_count, cast(sum(coalesce(o.active_total_price, 0)) over() as SIGNED) as total_price")
+                .append("   from orders o")
+                .append("   where o.user_id = :userId and o.created_date between :startDate and :endDate")
+                .append(" ) t");
+        if (lastOrderId != null) {
+            sb.append(" join orders last_o on last_o.order_id = :lastOrderId")
+                    .append(" where t.created_date < last_o.created_date")
+                    .append("   or (t.created_date = last_o.created_date and t.order_id < last_o.order_id)");
+        }
+        sb.append(" order by t.created_date desc, t.order_id desc");
+
+        Query query = em.createNativeQuery(sb.toString())
+                .setParameter("userId", userId)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .setFirstResult(lastOrderId != null ? 0 : offset)
+                .setMaxResults(pageSize);
+        if (lastOrderId != null) {
+            query.setParameter("lastOrderId", lastOrderId);
+        }
+
+        return jpaResultMapper.list(query, BuyerOrderIdWithTotalDTO.class);
+    }
+
+    public Long findBuyerOrderTotalPricePerPeriod(LocalDateTime startDate, LocalDateTime endDate, Long userId) { // 주문에 저장된 결제 금액 합
         return queryFactory
-                .select(getTotalPrice().coalesce(0L))
-                .from(orderProduct)
-                .join(orderProduct.order, order)
+                .select(order.activeTotalPrice.sum().coalesce(0L))
+                .from(order)
                 .join(order.user, user)
-                .where(dateBetween(startDate, endDate), userEq(userId), orderStatus())
+                .where(dateBetween(startDate, endDate), userEq(userId))
                 .fetchOne();
     }
 
     public Long findBuyerOrderPerPeriodTotalCount(LocalDateTime startDate, LocalDateTime endDate, Long userId) {
         return queryFactory
-                .select(order.countDistinct())
-                .from(orderProduct)
-                .join(orderProduct.order, order)
+                .select(order.count())
+                .from(order)
                 .join(order.user, user)
-                .join(orderProduct.product, product)
-                .join(product.productImages, productImage)
-                .where(dateBetween(startDate, endDate), userEq(userId), productImageType())
+                .where(dateBetween(startDate, endDate), userEq(userId))
                 .fetchOne();
     }
 
@@ -687,20 +689,43 @@ public class OrderProductQueryRepository {
                 .join(orderProduct.order, order)
                 .join(order.user, user)
                 .join(product.productImages, productImage)
-                .where(dateBetween(startDate, endDate), orderStatus(), product.user.id.eq(userId), productImageType())
-                .orderBy(order.createdDate.desc())
+                .where(dateBetween(startDate, endDate), orderedDateBetween(startDate, endDate), orderStatus(), product.user.id.eq(userId), productImageType())
+                .orderBy(order.createdDate.desc(), orderProduct.id.desc()) // findSaleHistoryWithTotalPerPeriod 와 같은 순서
                 .offset(offset)
                 .limit(limit)
                 .fetch();
     }
 
+    public List<SaleHistoryWithTotalDTO> findSaleHistoryWithTotalPerPeriod(LocalDateTime startDate, LocalDateTime endDate, Long userId, int offset, int limit) {
+        // 판매 내역 페이징 + 전체 판매 개수, 전체 판매액 한번에 조회
+        String sql = "select p.product_id, op.count, op.price, p.name, o.created_date, o.jibun, o.road, o.detail_address, o.zipcode, u.phone_number, pi.path," +
+                " count(*) over() as total_count, cast(sum(op.price * op.count) over() as SIGNED) as total_price" +
+                " from order_product op" +
+                " join product p on op.product_id = p.product_id" +
+                " join orders o on op.order_id = o.order_id" +
+                " join user u on o.user_id = u.user_id" +
+                " join product_image pi on pi.product_id = p.product_id" +
+                " where o.created_date between :startDate and :endDate and op.ordered_date between :startDate and :endDate" +
+                " and op.status = 'ORDER' and p.user_id = :userId and pi.type = 'SIGNATURE'" +
+                " order by o.created_date desc, op.order_product_id desc"; // 같은 주문일은 주문 상품 아이디로 순서 고정
+
+        Query query = em.createNativeQuery(sql)
+                .setParameter("userId", userId)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .setFirstResult(offset)
+                .setMaxResults(limit);
+
+        return jpaResultMapper.list(query, SaleHistoryWithTotalDTO.class);
+    }
+
     public Long findSaleHistoryPerPeriodCount(LocalDateTime startDate, LocalDateTime endDate, Long userId) {
         return queryFactory
                 .select(orderProduct.count())
                 .from(orderProduct)
                 .join(orderProduct.product, product)
                 .join(orderProduct.order, order)
-                .where(dateBetween(startDate, endDate), orderStatus(), product.user.id.eq(userId))
+                .where(dateBetween(startDate, endDate), orderedDateBetween(startDate, endDate), orderStatus(), product.user.id.eq(userId))
                 .fetchOne();
     }
 
@@ -710,7 +735,7 @@ public class OrderProductQueryRepository {
                 .from(orderProduct)
                 .join(orderProduct.product, product)
                 .join(orderProduct.order, order)
-                .where(dateBetween(startDate, endDate), orderStatus(), product.user.id.eq(userId))
+                .where(dateBetween(startDate, endDate), orderedDateBetween(startDate, endDate), orderStatus(), product.user.id.eq(userId))
                 .fetchOne();
     }
 
@@ -719,24 +744,25 @@ public class OrderProductQueryRepository {
         return orderProduct.price.multiply(orderProduct.count).sum().longValue();
     }
 
-    private BooleanExpression kindGradeEq(Long kindGradeId) {
-        return kindGradeId != null ? kindGrade.id.eq(kindGradeId) : null;
-    }
-
-    private BooleanExpression kindEq(Long kindId) {
-        return kindId != null ? kind.id.eq(kindId) : null;
+    private BooleanExpression dateBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return startDate != null && endDate != null ? order.createdDate.between(startDate, endDate) : null;
     }
 
-    private BooleanExpression itemCodeEq(Integer itemCode) {
-        return itemCode != null ? item.itemCode.eq(itemCode) : null;
+    private BooleanExpression orderedDateBetween(LocalDateTime startDate, LocalDateTime endDate) { // dateBetween 과 같은 기간 (order_product 월 파티션 pruning)
+        return startDate != null && endDate != null ? orderProduct.orderedDate.between(startDate, endDate) : null;
     }
 
-    private BooleanExpression itemCategoryEq(Integer itemCategoryCode) {
-        return itemCategoryCode != null ? itemCategory.itemCategoryCode.eq(itemCategoryCode) : null;
-    }
+    private BooleanExpression orderBefore(Long lastOrderId) { // (createdDate, id) 기준 lastOrderId 주문보다 이전 주문
+        if (lastOrderId == null) {
+            return null;
+        }
+        QOrder lastOrder = new QOrder("lastOrder");
+        JPQLQuery<LocalDateTime> cursorCreatedDate = JPAExpressions.select(lastOrder.createdDate)
+                .from(lastOrder)
+                .where(lastOrder.id.eq(lastOrderId));
 
-    private BooleanExpression dateBetween(LocalDateTime startDate, LocalDateTime endDate) {
-        return startDate != null && endDate != null ? order.createdDate.between(startDate, endDate) : null;
+        return order.createdDate.lt(cursorCreatedDate)
+                .or(order.createdDate.eq(cursorCreatedDate).and(order.id.lt(lastOrderId)));
     }
 
     private BooleanExpression userEq(Long userId) {
@@ -0,0 +1,30 @@
+package creative.market.repository.query;
+
+import javax.persistence.Query;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+final class PeriodCondition { // 기간(월) 조건 -> 주문일 범위 sql (date_format 없이 컬럼 그대로 비교 -> orders, order_product 월 파티션 pruning)
+
+    private final LocalDateTime start;
+    private final LocalDateTime endExclusive;
+
+    private PeriodCondition(LocalDateTime start, LocalDateTime endExclusive) {
+        this.start = start;
+        this.endExclusive = endExclusive;
+    }
+
+    static PeriodCondition of(YearMonth startDate, YearMonth endDate) { // 시작월 1일 0시 이상, 종료월 다음달 1일 0시 미만
+        return new PeriodCondition(startDate.atDay(1).atStartOfDay(), endDate.plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    String toSql(String orderAlias, String orderProductAlias) { // where 절에 붙일 조건 (order_product.ordered_date 는 orders.created_date 복사본)
+        return " and " + orderAlias + ".created_date >= :periodStart and " + orderAlias + ".created_date < :periodEnd" +
+                " and " + orderProductAlias + ".ordered_date >= :periodStart and " + orderProductAlias + ".ordered_date < :periodEnd";
+    }
+
+    Query bind(Query query) { // toSql() 로 만든 조건의 파라미터 지정
+        return query.setParameter("periodStart", start)
+                .setParameter("periodEnd", endExclusive);
+    }
+}
@@ -37,6 +37,21 @@ public class SellerRepository {
                 .fetchOne());
     }
 
+    public Long countAll() { // 탈퇴한 판매자 포함 (판매액 백분위 모수)
+        return queryFactory
+                .select(seller.count())
+                .from(seller)
+                .fetchOne();
+    }
+
+    public long findMaxId() { // 탈퇴한 판매자 포함, 판매자가 없으면 0
+        Long maxId = queryFactory
+                .select(seller.id.max())
+                .from(seller)
+                .fetchOne();
+        return maxId != null ? maxId : 0L;
+    }
+
     private BooleanExpression sellerExistCheck() {
         return seller.status.eq(UserStatus.EXIST);
     }
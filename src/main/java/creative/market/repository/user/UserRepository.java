@@ -11,7 +11,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static creative.market.domain.user.QUser.*;
 
@@ -29,6 +33,17 @@ public class UserRepository {
                 .fetchOne());
     }
 
+    public Map<Long, String> findNamesByIds(Collection<Long> ids) { // 아이디별 이름 (탈퇴 회원 포함)
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return queryFactory.select(user.id, user.name)
+                .from(user)
+                .where(user.id.in(ids))
+                .fetch().stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(user.id), tuple -> tuple.get(user.name)));
+    }
+
     private BooleanExpression userExistCheck() {
         return user.status.eq(UserStatus.EXIST);
     }
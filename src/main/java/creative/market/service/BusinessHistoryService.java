@@ -9,6 +9,7 @@ import creative.market.repository.user.BuyerRepository;
 import creative.market.service.dto.UploadFileDTO;
 import creative.market.util.FileSubPath;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,12 +27,11 @@ public class BusinessHistoryService {
     @Transactional
     public Long createBusiness(BusinessHistory businessHistory) {
 
-        businessHistoryRepository.findByUserIdAndStatus(businessHistory.getUser().getId())
-                .ifPresent((b) -> {
-                    throw new DuplicateException("이미 사업자를 신청했습니다");
-                });
-
-        return businessHistoryRepository.save(businessHistory);
+        try {
+            return businessHistoryRepository.save(businessHistory);
+        } catch (DataIntegrityViolationException e) { // 대기중인 신청 유니크 인덱스(wait_user_id) 충돌
+            throw new DuplicateException("이미 사업자를 신청했습니다", e);
+        }
     }
 
     @Transactional
@@ -1,5 +1,6 @@
 package creative.market.service;
 
+import creative.market.cache.CartCache;
 import creative.market.domain.Cart;
 import creative.market.domain.product.Product;
 import creative.market.domain.user.User;
@@ -10,12 +11,13 @@ import creative.market.repository.ProductRepository;
 import creative.market.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +28,7 @@ public class CartService {
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final CartCache cartCache;
 
     @Transactional
     public Long register(Long productId, int count, Long userId) {
@@ -37,12 +40,12 @@ public class CartService {
                 .orElseThrow(() -> new NoSuchElementException("회원이 존재하지 않습니다."));
 
         // 본인이 등록한 상품을 장바구니에 담으려는 경우 예외 발생
-        checkMyProduct(product.getId(),userId);
-
-        duplicateCart(userId, productId); // 해당 상품이 이미 장바구니에 존재하는지
+        checkMyProduct(product, userId);
 
+        // 해당 상품이 이미 장바구니에 존재하는지는 (user_id, product_id) 유니크 인덱스로 확인
         Cart cart = createCart(product, user, count);
-        cartRepository.save(cart);
+        saveCart(cart);
+        cartCache.evict(userId);
 
         return cart.getId();
     }
@@ -58,15 +61,13 @@ public class CartService {
         userAccessCheck(cart, user);
 
         cartRepository.delete(cart);
+        cartCache.evict(userId);
     }
 
     @Transactional
     public void deleteCartListByProductIds(List<Long> productIds, Long userId) { // 상품 아이디에 해당하는 cart 가 존재시 제거
-        List<Cart> deleteCartList = cartRepository.findByUserId(userId).stream()
-                .filter(cart -> productIds.contains(cart.getProduct().getId()))
-                .collect(Collectors.toList());
-
-        deleteCartList.forEach(cart -> delete(cart.getId(), userId));
+        cartRepository.deleteByUserIdAndProductIds(userId, new HashSet<>(productIds));
+        cartCache.evict(userId);
     }
 
     private void userAccessCheck(Cart cart, User user) {
@@ -75,12 +76,11 @@ public class CartService {
         }
     }
 
-    private void duplicateCart(Long userId, Long productId) {
-        long count = cartRepository.findByUserIdFetchJoinProductAndKind(userId).stream()
-                .filter(cart -> cart.getProduct().getId().equals(productId))
-                .count();
-        if (count > 0) {
-            throw new DuplicateException("이미 장바구니에 해당 상품이 존재합니다.");
+    private void saveCart(Cart cart) {
+        try {
+            cartRepository.save(cart);
+        } catch (DataIntegrityViolationException e) { // (user_id, product_id) 유니크 인덱스 충돌
+            throw new DuplicateException("이미 장바구니에 해당 상품이 존재합니다.", e);
         }
     }
 
@@ -92,8 +92,7 @@ public class CartService {
                 .build();
     }
 
-    private void checkMyProduct(Long productId, Long userId) {
-        Product product = productRepository.findById(productId).orElseThrow(NoSuchElementException::new);
+    private void checkMyProduct(Product product, Long userId) {
         if (product.getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("본인이 등록한 상품은 구매할 수 없습니다.");
         }
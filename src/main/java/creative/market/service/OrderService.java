@@ -7,7 +7,12 @@ import creative.market.domain.order.OrderStatus;
 import creative.market.domain.product.Product;
 import creative.market.domain.product.ProductStatus;
 import creative.market.domain.user.User;
+import creative.market.event.DomainEventPublisher;
+import creative.market.event.OrderCanceledEvent;
+import creative.market.event.OrderLine;
+import creative.market.event.OrderPlacedEvent;
 import creative.market.exception.LoginAuthenticationException;
+import creative.market.repository.order.BuyerSpendMonthRepository;
 import creative.market.repository.order.OrderProductRepository;
 import creative.market.repository.order.OrderRepository;
 import creative.market.repository.ProductRepository;
@@ -20,7 +25,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static creative.market.util.AvailableDay.*;
@@ -35,7 +42,9 @@ public class OrderService {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final OrderProductRepository orderProductRepository;
+    private final BuyerSpendMonthRepository buyerSpendMonthRepository;
     private final CartService cartService;
+    private final DomainEventPublisher domainEventPublisher;
 
 
     @Transactional
@@ -48,11 +57,14 @@ public class OrderService {
         // 구매하는 상품이 장바구니에 있는 경우 장바구니에서 삭제
         deleteOrderCartList(orderProductParams, userId);
 
+        // 주문할 상품 한번에 조회 (상품마다 조회하지 않도록, 주문 이벤트의 판매자, 품목 등급도 여기서 사용)
+        Map<Long, Product> products = findOrderProducts(orderProductParams);
+
         // 본인이 등록한 상품을 구매하려는 경우 + 존재하지 않는 상품인 경우 예외 발생
-        checkMyProducts(orderProductParams, userId);
+        checkMyProducts(orderProductParams, products, userId);
 
         // orderProducts 생성
-        List<OrderProduct> orderProducts = createOrderProducts(orderProductParams);
+        List<OrderProduct> orderProducts = createOrderProducts(orderProductParams, products);
 
         // order 생성
         Order order = createOrder(orderProducts, user, address);
@@ -60,18 +72,40 @@ public class OrderService {
         // order 저장
         orderRepository.save(order);
 
+        // 구매자 월 결제 금액 반영
+        buyerSpendMonthRepository.add(userId, order.getCreatedDate(), order.getActiveTotalPrice(), order.getActiveLineCount());
+
+        // 주문 이벤트 (판매 순위 등은 커밋 후 반영)
+        domainEventPublisher.publish(new OrderPlacedEvent(order.getId(), userId, order.getCreatedDate(), orderProducts.stream()
+                .map(this::toOrderLine)
+                .collect(Collectors.toList())));
+
         return order.getId();
     }
 
-    private void checkMyProducts(List<OrderProductParamDTO> orderProductParams, Long userId) {
+    private Map<Long, Product> findOrderProducts(List<OrderProductParamDTO> orderProductParams) {
+        List<Long> productIds = orderProductParams.stream()
+                .map(OrderProductParamDTO::getProductId).distinct().collect(Collectors.toList());
+        return productRepository.findByIds(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    private Product getOrderProduct(Map<Long, Product> products, Long productId) {
+        //존재하지 않는 상품인 경우 예외 발생
+        Product product = products.get(productId);
+        if (product == null) {
+            throw new NoSuchElementException("주문할 상품이 존재하지 않습니다.");
+        }
+        return product;
+    }
+
+    private void checkMyProducts(List<OrderProductParamDTO> orderProductParams, Map<Long, Product> products, Long userId) {
         for (OrderProductParamDTO orderProductParam : orderProductParams) {
-            checkMyProduct(orderProductParam, userId);
+            checkMyProduct(getOrderProduct(products, orderProductParam.getProductId()), userId);
         }
     }
 
-    private void checkMyProduct(OrderProductParamDTO param, Long userId) {
-        //존재하지 않는 상품인 경우 예외 발생
-        Product product = productRepository.findById(param.getProductId()).orElseThrow(() -> new NoSuchElementException("주문할 상품이 존재하지 않습니다."));
+    private void checkMyProduct(Product product, Long userId) {
         //본인이 등록한 상품을 구매하려는 경우
         if (product.getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("본인이 등록한 상품은 구매할 수 없습니다.");
@@ -100,7 +134,20 @@ public class OrderService {
         //구매일로부터 주문 취소 가능 날짜 확인
         checkValidPeriod(orderProduct);
 
-        orderProduct.cancel();
+        // 주문 상태인 경우에만 취소 (동시 취소 요청시 하나만 성공)
+        if (!orderProductRepository.cancel(orderProduct)) {
+            throw new IllegalArgumentException("이미 주문이 취소되었습니다.");
+        }
+        Order order = orderProduct.getOrder();
+        long canceledPrice = (long) orderProduct.getPrice() * orderProduct.getCount();
+        orderRepository.cancelLine(order.getId(), canceledPrice);
+        buyerSpendMonthRepository.subtract(userId, order.getCreatedDate(), canceledPrice, 1);
+        domainEventPublisher.publish(new OrderCanceledEvent(order.getId(), userId, order.getCreatedDate(), toOrderLine(orderProduct)));
+    }
+
+    private OrderLine toOrderLine(OrderProduct orderProduct) {
+        Product product = orderProduct.getProduct();
+        return new OrderLine(orderProduct.getId(), product.getId(), product.getKindGrade().getId(), product.getUser().getId(), (long) orderProduct.getPrice() * orderProduct.getCount());
     }
 
     private void checkValidPeriod(OrderProduct orderProduct) {
@@ -137,15 +184,13 @@ public class OrderService {
                 .address(address).build();
     }
 
-    private List<OrderProduct> createOrderProducts(List<OrderProductParamDTO> orderProductParams) {
+    private List<OrderProduct> createOrderProducts(List<OrderProductParamDTO> orderProductParams, Map<Long, Product> products) {
         return orderProductParams.stream()
-                .map(orderProductParam -> createOrderProduct(orderProductParam))
+                .map(orderProductParam -> createOrderProduct(orderProductParam, getOrderProduct(products, orderProductParam.getProductId())))
                 .collect(Collectors.toList());
     }
 
-    private OrderProduct createOrderProduct(OrderProductParamDTO param) {
-        Product product = productRepository.findById(param.getProductId())
-                .orElseThrow(() -> new NoSuchElementException("주문할 상품이 존재하지 않습니다."));
+    private OrderProduct createOrderProduct(OrderProductParamDTO param, Product product) {
         return OrderProduct.builder()
                 .product(product)
                 .price(product.getPrice())
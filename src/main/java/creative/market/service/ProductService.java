@@ -1,13 +1,21 @@
 package creative.market.service;
 
+import creative.market.cache.CartCache;
 import creative.market.domain.category.KindGrade;
 import creative.market.domain.product.Product;
 import creative.market.domain.product.ProductImage;
 import creative.market.domain.product.ProductImageType;
+import creative.market.domain.product.ProductRatingSummary;
 import creative.market.domain.product.ProductStatus;
 import creative.market.domain.user.User;
+import creative.market.event.DomainEventPublisher;
+import creative.market.event.ProductChangedEvent;
+import creative.market.event.ProductDeletedEvent;
+import creative.market.event.ProductRegisteredEvent;
 import creative.market.exception.FileSaveException;
 import creative.market.exception.LoginAuthenticationException;
+import creative.market.repository.CartRepository;
+import creative.market.repository.ProductRatingSummaryRepository;
 import creative.market.repository.category.KindGradeRepository;
 import creative.market.repository.ProductRepository;
 import creative.market.repository.user.UserRepository;
@@ -38,8 +46,12 @@ import java.util.stream.Collectors;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductRatingSummaryRepository productRatingSummaryRepository;
     private final KindGradeRepository kindGradeRepository;
     private final UserRepository userRepository;
+    private final CartRepository cartRepository;
+    private final CartCache cartCache;
+    private final DomainEventPublisher domainEventPublisher;
     @Value("${images}")
     private String rootPath;
 
@@ -72,6 +84,8 @@ public class ProductService {
                 .signatureProductImage(sigProductImage)
                 .build();
         productRepository.save(product);
+        productRatingSummaryRepository.save(ProductRatingSummary.empty(product.getId())); // 리뷰 등록, 수정, 삭제시 update 문으로 갱신
+        domainEventPublisher.publish(new ProductRegisteredEvent(product.getId(), user.getId(), kindGrade.getId(), product.getPrice()));
         log.info("등록된 productId={}", product.getId());
 
         return product.getId();
@@ -88,6 +102,7 @@ public class ProductService {
 
         //상품 삭제
         product.changeStatus(ProductStatus.DELETED);
+        domainEventPublisher.publish(new ProductDeletedEvent(product.getId(), product.getUser().getId(), product.getKindGrade().getId(), product.getPrice()));
         return product.getId();
     }
 
@@ -115,6 +130,9 @@ public class ProductService {
 
         sellerAccessCheck(productId, userId); // 상품을 등록한 사람인지 체크
 
+        Long beforeKindGradeId = findProduct.getKindGrade().getId();
+        int beforePrice = findProduct.getPrice();
+
         //상품 수정
         findProduct.changeProduct(findKindGrade, updateFormReq.getProductName(), updateFormReq.getPrice(), updateFormReq.getInfo());
 
@@ -122,6 +140,11 @@ public class ProductService {
         changeSignatureImage(findProduct, updateFormReq.getSigImg());
         changeOrdinalImage(findProduct, updateFormReq.getImg());
 
+        // 상품 이름, 가격, 사진 변경 -> 해당 상품을 담은 장바구니 캐시 제거
+        cartCache.evictAll(cartRepository.findUserIdsByProductId(productId));
+
+        // 품목 등급, 가격 변경은 판매 순위, 평균 가격 등에 커밋 후 반영
+        domainEventPublisher.publish(new ProductChangedEvent(productId, beforeKindGradeId, beforePrice, findKindGrade.getId(), findProduct.getPrice()));
 
         return findProduct.getId();
     }
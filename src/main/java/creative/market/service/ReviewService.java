@@ -2,30 +2,42 @@ package creative.market.service;
 
 import creative.market.domain.Review;
 import creative.market.domain.product.Product;
+import creative.market.domain.product.ProductRatingSummary;
 import creative.market.domain.user.User;
+import creative.market.event.DomainEventPublisher;
+import creative.market.event.ReviewCreatedEvent;
+import creative.market.event.ReviewDeletedEvent;
+import creative.market.event.ReviewUpdatedEvent;
 import creative.market.exception.DuplicateException;
 import creative.market.exception.LoginAuthenticationException;
+import creative.market.repository.ProductRatingSummaryRepository;
 import creative.market.repository.ProductRepository;
 import creative.market.repository.ReviewRepository;
 import creative.market.repository.order.OrderProductRepository;
 import creative.market.repository.user.UserRepository;
 import creative.market.web.dto.ReviewReq;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.LongSupplier;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ReviewService {
 
+    private static final int MAX_PAGE_SIZE = 100; // 리뷰 페이지 크기 상한 (요청 값이 커도 한번에 조회하는 행 수 제한)
+
     private final ReviewRepository reviewRepository;
     private final ProductRepository productRepository;
+    private final ProductRatingSummaryRepository productRatingSummaryRepository;
     private final UserRepository userRepository;
     private final OrderProductRepository orderProductRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Transactional
     public Long save(Review review, Long productId, Long userId) {
@@ -36,22 +48,28 @@ public class ReviewService {
         User findUser = userRepository.findById(userId)
                 .orElseThrow(() -> new NoSuchElementException("회원이 존재하지 않습니다."));
 
-        if(!reviewRepository.findByProductIdAndUserId(findProduct.getId(), findUser.getId()).isEmpty()) {
-            throw new DuplicateException("리뷰를 중복 등록할수 없습니다.");
-        }
-
         if(orderProductRepository.findByProductIdAndUserId(productId, userId).isEmpty()) {
             throw new NoSuchElementException("주문내역이 존재하지 않는 상품입니다.");
         }
 
         review.changeUser(findUser);
-        review.changeProduct(findProduct);
+        review.assignProduct(findProduct);
 
-        reviewRepository.save(review);
+        saveReview(review);
+        applyToRatingSummary(productId, () -> productRatingSummaryRepository.addRate(productId, review.getRate(), 1));
+        domainEventPublisher.publish(new ReviewCreatedEvent(review.getId(), productId, userId, review.getRate()));
 
         return review.getId();
     }
 
+    private void saveReview(Review review) {
+        try {
+            reviewRepository.save(review);
+        } catch (DataIntegrityViolationException e) { // (product_id, user_id) 유니크 인덱스 충돌
+            throw new DuplicateException("리뷰를 중복 등록할수 없습니다.", e);
+        }
+    }
+
     @Transactional
     public void update(Long reviewId, ReviewReq reviewReq, Long userId) {
 
@@ -60,30 +78,51 @@ public class ReviewService {
 
         checkUser(findReview, userId);
 
+        Float beforeRate = findReview.getRate();
         findReview.changeReview(reviewReq.getRate(), reviewReq.getContent());
+        Long productId = findReview.getProduct().getId();
+        applyToRatingSummary(productId, () -> productRatingSummaryRepository.changeRate(productId, beforeRate, findReview.getRate()));
+        domainEventPublisher.publish(new ReviewUpdatedEvent(reviewId, productId, beforeRate, findReview.getRate()));
     }
 
-    public List<Review> findByProductId(Long productId) {
+    public List<Review> findByProductId(Long productId, Long lastReviewId, int pageSize) {
 
         productRepository.findById(productId)
                 .orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
 
-        return reviewRepository.findByProductId(productId);
+        return reviewRepository.findByProductId(productId, lastReviewId, Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE)));
+    }
+
+    public ProductRatingSummary findRatingSummary(Long productId) {
+
+        productRepository.findById(productId)
+                .orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
+
+        return productRatingSummaryRepository.findByProductIds(List.of(productId)).get(productId);
     }
 
     @Transactional
     public void delete(Long reviewId, Long userId) {
 
-        List<Review> findReview = reviewRepository.findByIdWithProduct(reviewId);
-        if(findReview.isEmpty()) {
-            throw new NoSuchElementException("리뷰가 존재하지 않습니다.");
-        }
-
-        Review review = findReview.get(0);
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new NoSuchElementException("리뷰가 존재하지 않습니다."));
 
         checkUser(review, userId);
 
-        review.getProduct().getReviews().remove(review);
+        Long productId = review.getProduct().getId();
+        reviewRepository.delete(review);
+        applyToRatingSummary(productId, () -> productRatingSummaryRepository.addRate(productId, review.getRate(), -1));
+        domainEventPublisher.publish(new ReviewDeletedEvent(reviewId, productId, userId, review.getRate()));
+    }
+
+    private void applyToRatingSummary(Long productId, LongSupplier update) { // 요약 update 문 -> 요약이 없으면 생성
+        if (update.getAsLong() > 0) {
+            return;
+        }
+        // 요약 도입 전 상품 -> 리뷰 테이블에서 집계해 생성 (집계 쿼리 전에 flush 되므로 방금 변경한 리뷰 포함)
+        if (!productRatingSummaryRepository.insertIfAbsent(productRatingSummaryRepository.aggregateReviews(productId))) {
+            update.getAsLong(); // 동시에 첫 리뷰가 등록되어 다른 트랜잭션이 먼저 생성 -> 생성된 요약에 반영
+        }
     }
 
     private void checkUser(Review review, Long userId) {
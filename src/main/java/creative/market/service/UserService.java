@@ -4,6 +4,8 @@ import creative.market.aop.UserType;
 import creative.market.domain.Address;
 import creative.market.domain.product.ProductStatus;
 import creative.market.domain.user.*;
+import creative.market.event.DomainEventPublisher;
+import creative.market.event.ProductDeletedEvent;
 import creative.market.exception.DuplicateException;
 import creative.market.exception.LoginAuthenticationException;
 import creative.market.repository.user.AdminRepository;
@@ -27,6 +29,7 @@ public class UserService {
     private final BuyerRepository buyerRepository;
     private final SellerRepository sellerRepository;
     private final AdminRepository adminRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
     public Optional<User> findById(Long id) {
         return userRepository.findById(id);
@@ -96,7 +99,10 @@ public class UserService {
         if(userType.equals(UserType.SELLER)) {
             findUser.getProducts().stream()
                     .filter(p -> p.getStatus().equals(ProductStatus.EXIST))
-                    .forEach(p -> p.changeStatus(ProductStatus.DELETED));
+                    .forEach(p -> {
+                        p.changeStatus(ProductStatus.DELETED);
+                        domainEventPublisher.publish(new ProductDeletedEvent(p.getId(), findUser.getId(), p.getKindGrade().getId(), p.getPrice()));
+                    });
         }
 
         return findUser.getId();
@@ -17,7 +17,7 @@ public class OrderHistoryDTO {
 
     private int totalCount;
 
-    private int totalPrice;
+    private long totalPrice;
 
     private String createdDate;
 
@@ -2,6 +2,7 @@ package creative.market.service.dto;
 
 import creative.market.domain.product.Product;
 import creative.market.domain.product.ProductImage;
+import creative.market.domain.product.ProductRatingSummary;
 import creative.market.repository.dto.LatestRetailAndWholesaleDTO;
 import lombok.Getter;
 import lombok.Setter;
@@ -28,8 +29,10 @@ public class ProductDetailRes {
     private String signatureImgSrc;
     private int productAvgPrice;
     private LatestRetailAndWholesaleDTO latestMarketPrice;
+    private RatingSummaryRes ratingSummary;
 
-    public ProductDetailRes(Product product, String sellerRank, String sellerPercent,int productAvgPrice, LatestRetailAndWholesaleDTO latestMarketPrice) {
+    public ProductDetailRes(Product product, String sellerRank, String sellerPercent,int productAvgPrice, LatestRetailAndWholesaleDTO latestMarketPrice,
+                            ProductRatingSummary ratingSummary) {
         this.productId = product.getId();
         this.kindGradeId = product.getKindGrade().getId();
         this.productName = product.getName();
@@ -46,5 +49,6 @@ public class ProductDetailRes {
         this.signatureImgSrc = product.getSignatureProductImage().getPath();
         this.productAvgPrice = productAvgPrice;
         this.latestMarketPrice = latestMarketPrice;
+        this.ratingSummary = new RatingSummaryRes(ratingSummary);
     }
 }
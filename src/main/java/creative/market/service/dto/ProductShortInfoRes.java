@@ -1,6 +1,7 @@
 package creative.market.service.dto;
 
 import creative.market.domain.product.Product;
+import creative.market.domain.product.ProductRatingSummary;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -20,8 +21,10 @@ public class ProductShortInfoRes {
     private String sellerRank;
     private String sellerPercent;
     private String signatureImgSrc;
+    private long reviewCount;
+    private String rateAvg;
 
-    public ProductShortInfoRes(Product product, String rank, String percent) {
+    public ProductShortInfoRes(Product product, String rank, String percent, ProductRatingSummary ratingSummary) {
         productId = product.getId();
         productName = product.getName();
         price = product.getPrice();
@@ -30,6 +33,8 @@ public class ProductShortInfoRes {
         sellerRank = rank;
         sellerPercent = percent;
         signatureImgSrc = product.getSignatureProductImage().getPath();
+        reviewCount = ratingSummary.getReviewCount();
+        rateAvg = String.format("%.1f", ratingSummary.getRateAvg());
 
     }
 }
@@ -0,0 +1,24 @@
+package creative.market.service.dto;
+
+import creative.market.domain.product.ProductRatingSummary;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RatingSummaryRes {
+
+    private long reviewCount;
+    private String rateAvg;
+    private List<Long> starCounts; // 1점 ~ 5점 리뷰 수
+
+    public RatingSummaryRes(ProductRatingSummary summary) {
+        this.reviewCount = summary.getReviewCount();
+        this.rateAvg = String.format("%.1f", summary.getRateAvg());
+        this.starCounts = summary.getStarCounts();
+    }
+}
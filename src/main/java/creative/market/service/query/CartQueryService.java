@@ -1,5 +1,6 @@
 package creative.market.service.query;
 
+import creative.market.cache.CartCache;
 import creative.market.repository.CartRepository;
 import creative.market.repository.dto.CartInfoRes;
 import lombok.RequiredArgsConstructor;
@@ -13,8 +14,13 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CartQueryService {
     private final CartRepository cartRepository;
+    private final CartCache cartCache;
 
     public List<CartInfoRes> getCartList(Long userId) {
+        return cartCache.get(userId, this::findCartList);
+    }
+
+    private List<CartInfoRes> findCartList(Long userId) {
         return cartRepository.findByUserIdFetchJoinProductAndKind(userId).stream()
                 .map(CartInfoRes::new)
                 .collect(Collectors.toList());
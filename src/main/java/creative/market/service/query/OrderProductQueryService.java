@@ -1,22 +1,29 @@
 package creative.market.service.query;
 
-import creative.market.domain.order.OrderStatus;
+import creative.market.analytics.OrderLineStore;
+import creative.market.analytics.SellerPercentileIndex;
+import creative.market.cache.ClosedMonthResultCache;
+import creative.market.cache.ClosedMonthResultCache.MonthValue;
+import creative.market.domain.analytics.BuyerSpendMonth;
 import creative.market.exception.NotExistOrder;
 import creative.market.repository.dto.*;
+import creative.market.repository.order.BuyerSpendMonthRepository;
 import creative.market.repository.order.OrderProductRepository;
 import creative.market.repository.query.OrderProductQueryRepository;
+import creative.market.repository.user.SellerRepository;
 import creative.market.service.dto.*;
+import creative.market.util.PagingQueryMode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.*;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,50 +32,94 @@ import java.util.stream.Collectors;
 @Slf4j
 public class OrderProductQueryService {
 
+    private static final MonthValue<SellerPricePerPeriodDTO> TOTAL_PRICE = MonthValue.of(SellerPricePerPeriodDTO::getDate,
+            SellerPricePerPeriodDTO::getTotalPrice, (value, date) -> new SellerPricePerPeriodDTO(value.longValue(), date));
+    private static final MonthValue<SellerOrderCountPerPeriodDTO> ORDER_COUNT = MonthValue.of(SellerOrderCountPerPeriodDTO::getDate,
+            SellerOrderCountPerPeriodDTO::getTotalCount, (value, date) -> new SellerOrderCountPerPeriodDTO(value.longValue(), date));
+    private static final MonthValue<SellerCountByPeriodDTO> SELLER_COUNT = MonthValue.of(SellerCountByPeriodDTO::getDate,
+            SellerCountByPeriodDTO::getCount, (value, date) -> new SellerCountByPeriodDTO(date, value.longValue()));
+    private static final MonthValue<SellerPercentileDTO> PRICE_PERCENTILE = MonthValue.of(SellerPercentileDTO::getDate,
+            dto -> Double.parseDouble(dto.getPercentile()), (value, date) -> new SellerPercentileDTO(value, date));
+
     private final OrderProductQueryRepository orderProductQueryRepository;
     private final OrderProductRepository orderProductRepository;
+    private final BuyerSpendMonthRepository buyerSpendMonthRepository;
+    private final SellerRepository sellerRepository;
+    private final ObjectProvider<OrderLineStore> orderLineStore; // analytics.order-line-store.enabled=true 이고 적재가 끝난 경우 sql 대신 사용
+    private final ObjectProvider<SellerPercentileIndex> sellerPercentileIndex; // analytics.seller-percentile.enabled=false 이면 PERCENT_RANK sql 로 조회
+    private final ObjectProvider<ClosedMonthResultCache> closedMonthResultCache; // analytics.closed-month-cache.enabled=true 이면 sql 조회시 닫힌 달은 저장된 결과 사용
+    @Value("${paging.query-mode.order-history:COMBINED}")
+    private PagingQueryMode orderHistoryQueryMode;
+    @Value("${paging.query-mode.sale-history:COMBINED}")
+    private PagingQueryMode saleHistoryQueryMode;
+
+    public PageWithTotalDTO<OrderHistoryDTO> findBuyerOrderHistoryPage(LocalDateTime startDate, LocalDateTime endDate, Long userId, Long lastOrderId, int offset, int pageSize) {
+        // 구매 내역 + 전체 주문 개수 + 전체 결제 금액
+        if (orderHistoryQueryMode == PagingQueryMode.COMBINED) {
+            List<BuyerOrderIdWithTotalDTO> orderIdsWithTotal = orderProductQueryRepository.findBuyerOrderIdsWithTotalPerPeriod(startDate, endDate, userId, lastOrderId, offset, pageSize);
+            if (!orderIdsWithTotal.isEmpty()) {
+                List<BuyerOrderSummaryDTO> orders = orderIdsWithTotal.stream()
+                        .map(BuyerOrderIdWithTotalDTO::toSummary)
+                        .collect(Collectors.toList());
+                BuyerOrderIdWithTotalDTO total = orderIdsWithTotal.get(0);
+                return new PageWithTotalDTO<>(groupByOrder(orders), total.getTotalCount(), total.getTotalPrice());
+            }
+            if (offset == 0 && lastOrderId == null) { // 첫 페이지가 비어있으면 기간 내 주문 없음
+                return new PageWithTotalDTO<>(new ArrayList<>(), 0L, 0L);
+            }
+            // 범위를 벗어난 페이지는 윈도우 함수 결과가 없으므로 따로 조회
+        }
 
-    public List<OrderHistoryDTO> findBuyerOrderPerPeriod(LocalDateTime startDate, LocalDateTime endDate, Long userId, int offset, int pageSize) {
-        List<BuyerOrderPerPeriodDTO> list = orderProductQueryRepository.findBuyerOrderPerPeriod(startDate, endDate, userId, offset, pageSize);
-        DateFormat f = new SimpleDateFormat("yyyy-MM-dd hh:mm");
-
-        log.info("list size = {}", list.size());
-
-        List<Map<Long, List<BuyerOrderPerPeriodDTO>>> collect = list.stream()
-                .collect(Collectors.groupingBy(BuyerOrderPerPeriodDTO::getOrderId))
-                .entrySet().stream().sorted((o1, o2) -> {
-                    Date d1 = null;
-                    Date d2 = null;
-                    try {
-                        d1 = f.parse(o1.getValue().get(0).getCreatedDate());
-                        d2 = f.parse(o2.getValue().get(0).getCreatedDate());
-                    } catch (ParseException e) {
-                    }
-                    return -d1.compareTo(d2);
-                }).map(entry -> {
-                    Map<Long, List<BuyerOrderPerPeriodDTO>> map = new HashMap();
-                    map.put(entry.getKey(), entry.getValue());
-                    return map;
-                })
-                .collect(Collectors.toList());
+        return new PageWithTotalDTO<>(findBuyerOrderPerPeriod(startDate, endDate, userId, lastOrderId, offset, pageSize),
+                orderProductQueryRepository.findBuyerOrderPerPeriodTotalCount(startDate, endDate, userId),
+                orderProductQueryRepository.findBuyerOrderTotalPricePerPeriod(startDate, endDate, userId));
+    }
 
-        List<OrderHistoryDTO> result = new ArrayList<>();
+    public List<OrderHistoryDTO> findBuyerOrderPerPeriod(LocalDateTime startDate, LocalDateTime endDate, Long userId, Long lastOrderId, int offset, int pageSize) {
+        // 1. 주문 아이디 페이징 (주문일 최신순)
+        List<BuyerOrderSummaryDTO> orders = orderProductQueryRepository.findBuyerOrderIdsPerPeriod(startDate, endDate, userId, lastOrderId, offset, pageSize);
+        if (orders.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return groupByOrder(orders);
+    }
+
+    public PageWithTotalDTO<SaleHistoryRes> findSaleHistoryPage(LocalDateTime startDate, LocalDateTime endDate, Long userId, int offset, int pageSize) {
+        // 판매 내역 + 전체 판매 개수 + 전체 판매액
+        if (saleHistoryQueryMode == PagingQueryMode.COMBINED) {
+            List<SaleHistoryWithTotalDTO> saleHistoryWithTotal = orderProductQueryRepository.findSaleHistoryWithTotalPerPeriod(startDate, endDate, userId, offset, pageSize);
+            if (!saleHistoryWithTotal.isEmpty()) {
+                List<SaleHistoryRes> saleHistory = saleHistoryWithTotal.stream()
+                        .map(SaleHistoryWithTotalDTO::getSaleHistory)
+                        .collect(Collectors.toList());
+                SaleHistoryWithTotalDTO total = saleHistoryWithTotal.get(0);
+                return new PageWithTotalDTO<>(saleHistory, total.getTotalCount(), total.getTotalPrice());
+            }
+            if (offset == 0) { // 첫 페이지가 비어있으면 기간 내 판매 없음
+                return new PageWithTotalDTO<>(new ArrayList<>(), 0L, 0L);
+            }
+            // 범위를 벗어난 페이지는 윈도우 함수 결과가 없으므로 따로 조회
+        }
 
-        for(Map map : collect) {
-            for (Object o : map.keySet()) {
-                List<BuyerOrderPerPeriodDTO> dtos = (List<BuyerOrderPerPeriodDTO>) map.get(o);
-                Long key = (Long) o;
-                int sum = dtos.stream()
-                        .filter(dto -> dto.getStatus().equals(OrderStatus.ORDER.toString()))
-                        .mapToInt(v -> v.getCount() * v.getPrice())
-                        .sum();
+        return new PageWithTotalDTO<>(orderProductQueryRepository.findSaleHistoryPerPeriod(startDate, endDate, userId, offset, pageSize),
+                orderProductQueryRepository.findSaleHistoryPerPeriodCount(startDate, endDate, userId),
+                orderProductQueryRepository.findSaleHistoryTotalPricePerPeriod(startDate, endDate, userId));
+    }
 
-                int cnt = (int) dtos.stream()
-                        .filter(dto -> dto.getStatus().equals(OrderStatus.ORDER.toString()))
-                        .count();
+    private List<OrderHistoryDTO> groupByOrder(List<BuyerOrderSummaryDTO> orders) {
+        // 2. 주문 상품 한번에 조회 후 주문 순서대로 묶기 (취소 제외 주문 상품 개수, 결제 금액은 주문에 저장된 값)
+        List<Long> orderIds = orders.stream()
+                .map(BuyerOrderSummaryDTO::getOrderId)
+                .collect(Collectors.toList());
+        Map<Long, List<BuyerOrderPerPeriodDTO>> orderProductsByOrderId = new HashMap<>();
+        orderIds.forEach(orderId -> orderProductsByOrderId.put(orderId, new ArrayList<>()));
+        orderProductQueryRepository.findBuyerOrderProductsByOrderIds(orderIds)
+                .forEach(dto -> orderProductsByOrderId.get(dto.getOrderId()).add(dto));
 
-                result.add(new OrderHistoryDTO(key, cnt, sum, dtos.get(0).getCreatedDate(), dtos));
-            }
+        List<OrderHistoryDTO> result = new ArrayList<>();
+        for (BuyerOrderSummaryDTO order : orders) {
+            List<BuyerOrderPerPeriodDTO> dtos = orderProductsByOrderId.get(order.getOrderId()); // 주문마다 주문 상품 1개 이상
+            result.add(new OrderHistoryDTO(order.getOrderId(), order.getActiveLineCount(), order.getActiveTotalPrice(), dtos.get(0).getCreatedDate(), dtos));
         }
 
         return result;
@@ -79,7 +130,14 @@ public class OrderProductQueryService {
     }
 
     public TrustScorePercentileGraphByPeriodRes findSellerTrustScorePercentileByPeriod(YearMonth startDate, YearMonth endDate, Long sellerId) {
-        return convertToTrustScorePercentileGraphByPeriod(orderProductQueryRepository.findSellerTrustScorePercentileByPeriod(startDate, endDate, sellerId));
+        return convertToTrustScorePercentileGraphByPeriod(findSellerTrustScorePercentileList(startDate, endDate, sellerId));
+    }
+
+    public List<SellerTrustScorePercentileByPeriodDTO> findSellerTrustScorePercentileList(YearMonth startDate, YearMonth endDate, Long sellerId) { // 기간별 신뢰점수 백분위
+        // 인덱스는 기간 내 월을 모두 적재하고 적재 이후 가입한 판매자는 다시 적재 -> 점수가 없는 달(year_month_data 에 없는 달)은 sql 도 결과 없음
+        return Optional.ofNullable(sellerPercentileIndex.getIfAvailable())
+                .map(index -> index.sellerTrustScorePercentilePerMonth(startDate, endDate, sellerId))
+                .orElseGet(() -> orderProductQueryRepository.findSellerTrustScorePercentileByPeriod(startDate, endDate, sellerId));
     }
 
     public PriceCompareByPeriodRes findSellerTotalPriceCompareByPeriod(YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO, Long sellerId) { // 기간별 판매액 비교 그래프
@@ -89,11 +147,11 @@ public class OrderProductQueryService {
 
 
         //전체 판매자
-        List<SellerPricePerPeriodDTO> allSellerTotalPrice = orderProductQueryRepository.findAllSellerTotalPricePerPeriodAndCategory(startDate, endDate, categoryParamDTO);
+        List<SellerPricePerPeriodDTO> allSellerTotalPrice = findTotalPricePerPeriod(startDate, endDate, categoryParamDTO, null);
         List<SellerPricePerPeriodDTO> allSellerAvgPricePerPeriodList = convertToTotalSellerAvgPrice(allSellerTotalPrice, startDate, endDate, categoryParamDTO);
 
         //특정 판매자
-        List<SellerPricePerPeriodDTO> sellerTotalPricePerPeriodList = orderProductQueryRepository.findSellerTotalPricePerPeriodAndCategory(startDate, endDate, categoryParamDTO, sellerId);
+        List<SellerPricePerPeriodDTO> sellerTotalPricePerPeriodList = findTotalPricePerPeriod(startDate, endDate, categoryParamDTO, sellerId);
         return convertToPriceCompareByPeriodDTO(allSellerAvgPricePerPeriodList, sellerTotalPricePerPeriodList);
     }
 
@@ -102,9 +160,9 @@ public class OrderProductQueryService {
         checkOrderProductExist(sellerId); // 특정 판매자의 상품이 판매된 적이 있는지
 
         // 월별 특정 판매자 판매액 백분위
-        List<SellerPercentileDTO> sellerPricePercentile = orderProductQueryRepository.findSellerTotalPricePercentileByPeriodAndCategory(startDate, endDate, categoryParamDTO, sellerId);
+        List<SellerPercentileDTO> sellerPricePercentile = findSellerPricePercentilePerPeriod(startDate, endDate, categoryParamDTO, sellerId);
         // 월별 특정 판매자 판매횟수
-        List<SellerOrderCountPerPeriodDTO> sellerTotalOrderCountPerPeriodList = orderProductQueryRepository.findSellerTotalOrderCountPerPeriodAndCategory(startDate, endDate, categoryParamDTO, sellerId);
+        List<SellerOrderCountPerPeriodDTO> sellerTotalOrderCountPerPeriodList = findOrderCountPerPeriod(startDate, endDate, categoryParamDTO, sellerId);
 
         // 판매횟수 없는 경우 백분위 0으로 변경
         List<SellerPercentileDTO> convertedSellerPricePercentile = convertNotExistOrderPercentile(sellerPricePercentile,sellerTotalOrderCountPerPeriodList);
@@ -133,14 +191,89 @@ public class OrderProductQueryService {
         checkOrderProductExist(sellerId); // 특정 판매자의 상품이 판매된 적이 있는지
 
         //전체 판매자
-        List<SellerOrderCountPerPeriodDTO> allSellerTotalOrderCount = orderProductQueryRepository.findAllSellerTotalCountPerPeriodAndCategory(startDate, endDate, categoryParamDTO);
+        List<SellerOrderCountPerPeriodDTO> allSellerTotalOrderCount = findOrderCountPerPeriod(startDate, endDate, categoryParamDTO, null);
         List<SellerOrderCountPerPeriodDTO> allSellerAvgOrderCountPerPeriodList = convertToTotalSellerAvgOrderCount(allSellerTotalOrderCount, startDate, endDate, categoryParamDTO);
 
         //특정 판매자
-        List<SellerOrderCountPerPeriodDTO> sellerTotalOrderCountPerPeriodList = orderProductQueryRepository.findSellerTotalOrderCountPerPeriodAndCategory(startDate, endDate, categoryParamDTO, sellerId);
+        List<SellerOrderCountPerPeriodDTO> sellerTotalOrderCountPerPeriodList = findOrderCountPerPeriod(startDate, endDate, categoryParamDTO, sellerId);
         return convertToOrderCountCompareByPeriodDTO(allSellerAvgOrderCountPerPeriodList, sellerTotalOrderCountPerPeriodList);
     }
 
+    public List<BuyerTotalPricePerPeriodDTO> findBuyerTotalPricePerPeriod(YearMonth startDate, YearMonth endDate, Long buyerId) { // 구매자의 기간별 결제 금액
+        // 구매자 월 결제 금액(buyer_spend_month) 기본 키 범위 조회, 주문 없는 달은 0
+        Map<String, Long> totalPerMonth = buyerSpendMonthRepository.findPerMonth(buyerId, startDate, endDate).stream()
+                .collect(Collectors.toMap(BuyerSpendMonth::getYm, BuyerSpendMonth::getTotal));
+        List<BuyerTotalPricePerPeriodDTO> result = new ArrayList<>();
+        for (YearMonth month = startDate; !month.isAfter(endDate); month = month.plusMonths(1)) {
+            result.add(new BuyerTotalPricePerPeriodDTO(totalPerMonth.getOrDefault(month.toString(), 0L), month.toString()));
+        }
+        return result;
+    }
+
+    private List<SellerPricePerPeriodDTO> findTotalPricePerPeriod(YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO, Long sellerId) { // sellerId null -> 전체 판매자
+        return readyOrderLineStore()
+                .map(store -> toPerPeriod(startDate, store.totalPricePerMonth(startDate, endDate, categoryParamDTO, sellerId), SellerPricePerPeriodDTO::new))
+                .orElseGet(() -> closedMonthCached("totalPrice", sellerId, categoryParamDTO, 0, startDate, endDate, TOTAL_PRICE,
+                        (from, to) -> sellerId == null
+                                ? orderProductQueryRepository.findAllSellerTotalPricePerPeriodAndCategory(from, to, categoryParamDTO)
+                                : orderProductQueryRepository.findSellerTotalPricePerPeriodAndCategory(from, to, categoryParamDTO, sellerId)));
+    }
+
+    private List<SellerOrderCountPerPeriodDTO> findOrderCountPerPeriod(YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO, Long sellerId) { // sellerId null -> 전체 판매자
+        return readyOrderLineStore()
+                .map(store -> toPerPeriod(startDate, store.orderCountPerMonth(startDate, endDate, categoryParamDTO, sellerId), SellerOrderCountPerPeriodDTO::new))
+                .orElseGet(() -> closedMonthCached("orderCount", sellerId, categoryParamDTO, 0, startDate, endDate, ORDER_COUNT,
+                        (from, to) -> sellerId == null
+                                ? orderProductQueryRepository.findAllSellerTotalCountPerPeriodAndCategory(from, to, categoryParamDTO)
+                                : orderProductQueryRepository.findSellerTotalOrderCountPerPeriodAndCategory(from, to, categoryParamDTO, sellerId)));
+    }
+
+    private List<SellerCountByPeriodDTO> findSellerCountPerPeriod(YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO) {
+        return readyOrderLineStore()
+                .map(store -> toPerPeriod(startDate, store.sellerCountPerMonth(startDate, endDate, categoryParamDTO), (count, date) -> new SellerCountByPeriodDTO(date, count)))
+                .orElseGet(() -> closedMonthCached("sellerCount", null, categoryParamDTO, 0, startDate, endDate, SELLER_COUNT,
+                        (from, to) -> orderProductQueryRepository.findSellerCountOrderProductExistByPeriod(from, to, categoryParamDTO)));
+    }
+
+    private List<SellerPercentileDTO> findSellerPricePercentilePerPeriod(YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO, Long sellerId) {
+        Optional<OrderLineStore> store = readyOrderLineStore();
+        SellerPercentileIndex index = sellerPercentileIndex.getIfAvailable();
+        double[] percentiles;
+        if (store.isPresent()) {
+            percentiles = store.get().sellerPricePercentilePerMonth(startDate, endDate, categoryParamDTO, sellerId, sellerRepository.countAll());
+        } else if (index != null) {
+            percentiles = index.sellerPricePercentilePerMonth(startDate, endDate, categoryParamDTO, sellerId, sellerRepository.countAll());
+        } else { // 판매 기록이 없는 판매자도 모수에 포함 -> 판매자 수가 바뀌면 닫힌 달도 다시 집계
+            return closedMonthCached("pricePercentile", sellerId, categoryParamDTO, sellerRepository.countAll(), startDate, endDate, PRICE_PERCENTILE,
+                    (from, to) -> orderProductQueryRepository.findSellerTotalPricePercentileByPeriodAndCategory(from, to, categoryParamDTO, sellerId));
+        }
+        List<SellerPercentileDTO> result = new ArrayList<>();
+        for (int i = 0; i < percentiles.length; i++) {
+            result.add(new SellerPercentileDTO(percentiles[i], startDate.plusMonths(i).toString()));
+        }
+        return result;
+    }
+
+    private <T> List<T> closedMonthCached(String name, Long userId, CategoryParamDTO categoryParamDTO, long version, YearMonth startDate, YearMonth endDate,
+                                          MonthValue<T> monthValue, BiFunction<YearMonth, YearMonth, List<T>> loader) {
+        ClosedMonthResultCache cache = closedMonthResultCache.getIfAvailable();
+        return cache == null ? loader.apply(startDate, endDate)
+                : cache.perMonth(name, userId, categoryParamDTO, version, startDate, endDate, monthValue, loader);
+    }
+
+    private Optional<OrderLineStore> readyOrderLineStore() {
+        return Optional.ofNullable(orderLineStore.getIfAvailable())
+                .filter(OrderLineStore::isReady);
+    }
+
+    private <T> List<T> toPerPeriod(YearMonth startDate, long[] valuePerMonth, BiFunction<Long, String, T> converter) { // 월별 배열 -> (값, 년월) DTO
+        List<T> result = new ArrayList<>();
+        for (int i = 0; i < valuePerMonth.length; i++) {
+            result.add(converter.apply(valuePerMonth[i], startDate.plusMonths(i).toString()));
+        }
+        return result;
+    }
+
     private void checkOrderProductExist(Long sellerId) {// 특정 판매자의 상품이 판매된 적이 있는지
         Long count = orderProductRepository.findOrderProductCountBySeller(sellerId);
         if (count == 0) {
@@ -165,13 +298,13 @@ public class OrderProductQueryService {
 
     private List<SellerPricePerPeriodDTO> convertToTotalSellerAvgPrice(List<SellerPricePerPeriodDTO> allSellerTotalPrice, YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO) {
         List<SellerPricePerPeriodDTO> sellerPricePerPeriodDTOS = new ArrayList<>();
-        List<SellerCountByPeriodDTO> countByPeriod = orderProductQueryRepository.findSellerCountOrderProductExistByPeriod(startDate, endDate, categoryParamDTO);
+        List<SellerCountByPeriodDTO> countByPeriod = findSellerCountPerPeriod(startDate, endDate, categoryParamDTO);
 
         for (int i = 0; i < countByPeriod.size(); i++) {
             Long sellerCount = countByPeriod.get(i).getCount(); // 월별 판매자 수
             String date = countByPeriod.get(i).getDate(); // 년월  (2020-01)
             Long totalPrice = allSellerTotalPrice.get(i).getTotalPrice(); // 월별 카테고리별 총 판매액
-            log.info("date={}, 판매자 총 수={}, 전체 총 판매자 판매액={}",date,sellerCount,totalPrice);
+            log.debug("date={}, 판매자 총 수={}, 전체 총 판매자 판매액={}",date,sellerCount,totalPrice);
             if (sellerCount == 0) {
                 sellerPricePerPeriodDTOS.add(new SellerPricePerPeriodDTO(0L, date));
             } else {
@@ -228,7 +361,7 @@ public class OrderProductQueryService {
 
     private List<SellerOrderCountPerPeriodDTO> convertToTotalSellerAvgOrderCount(List<SellerOrderCountPerPeriodDTO> allSellerOrderCountList, YearMonth startDate, YearMonth endDate, CategoryParamDTO categoryParamDTO) {
         List<SellerOrderCountPerPeriodDTO> sellerOrderCountPerPeriodDTOS = new ArrayList<>();
-        List<SellerCountByPeriodDTO> countByPeriod = orderProductQueryRepository.findSellerCountOrderProductExistByPeriod(startDate, endDate, categoryParamDTO);
+        List<SellerCountByPeriodDTO> countByPeriod = findSellerCountPerPeriod(startDate, endDate, categoryParamDTO);
 
         for (int i = 0; i < countByPeriod.size(); i++) {
             Long sellerCount = countByPeriod.get(i).getCount(); // 월별 판매자 수
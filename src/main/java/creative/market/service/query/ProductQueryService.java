@@ -1,7 +1,10 @@
 package creative.market.service.query;
 
+import creative.market.cache.KindGradePriceAverage;
 import creative.market.domain.category.KindGrade;
 import creative.market.domain.product.Product;
+import creative.market.domain.product.ProductRatingSummary;
+import creative.market.repository.ProductRatingSummaryRepository;
 import creative.market.repository.ProductRepository;
 import creative.market.repository.dto.*;
 import creative.market.repository.query.OrderProductQueryRepository;
@@ -17,6 +20,7 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
@@ -25,12 +29,18 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ProductQueryService {
     private final ProductRepository productRepository;
+    private final ProductRatingSummaryRepository productRatingSummaryRepository;
     private final WholesaleAndRetailUtils wholesaleAndRetailUtils;
     private final OrderProductQueryRepository orderProductQueryRepository;
+    private final KindGradePriceAverage kindGradePriceAverage;
+    private final OrderProductQueryService orderProductQueryService;
 
     public List<ProductShortInfoRes> productShortInfoList(ProductSearchConditionReq condition, int offset, int limit) {
 
         List<Product> findProducts = productRepository.findProductByCondition(condition, offset, limit);
+        Map<Long, ProductRatingSummary> ratingSummaries = productRatingSummaryRepository.findByProductIds(findProducts.stream()
+                .map(Product::getId)
+                .collect(Collectors.toList())); // 리뷰 수, 평균 별점 (한번에 조회)
         YearMonth startDate = YearMonth.now();
         YearMonth endDate = startDate;
         List<ProductShortInfoRes> result = new ArrayList<>();
@@ -43,9 +53,9 @@ public class ProductQueryService {
             String rank = trustScoreToRank(trustScore);
 
             //신뢰점수 백분위
-            SellerTrustScorePercentileByPeriodDTO trustPercentileScore = orderProductQueryRepository.findSellerTrustScorePercentileByPeriod(startDate, endDate, sellerId).get(0);
+            String trustPercentileScore = findTrustScorePercentile(startDate, endDate, sellerId);
 
-            result.add(new ProductShortInfoRes(product, rank, trustPercentileScore.getPercentile()));
+            result.add(new ProductShortInfoRes(product, rank, trustPercentileScore, ratingSummaries.get(product.getId())));
         }
 
         return result;
@@ -67,11 +77,13 @@ public class ProductQueryService {
         String rank = trustScoreToRank(trustScore);
 
         //신뢰점수 백분위
-        SellerTrustScorePercentileByPeriodDTO trustPercentileScore = orderProductQueryRepository.findSellerTrustScorePercentileByPeriod(startDate, endDate, sellerId).get(0);
+        String trustPercentileScore = findTrustScorePercentile(startDate, endDate, sellerId);
 
-        int productAvgPrice = productRepository.findProductAvgPrice(kindGrade.getId()).intValue();// 상품 평균 가격
+        int productAvgPrice = kindGradePriceAverage.getAvgPrice(kindGrade.getId());// 판매중인 상품 평균 가격 (메모리)
 
-        return new ProductDetailRes(product, rank, trustPercentileScore.getPercentile(), productAvgPrice, retailAndWholesalePriceResult);
+        ProductRatingSummary ratingSummary = productRatingSummaryRepository.findByProductIds(List.of(productId)).get(productId);
+
+        return new ProductDetailRes(product, rank, trustPercentileScore, productAvgPrice, retailAndWholesalePriceResult, ratingSummary);
     }
 
     public ProductUpdateFormRes productUpdateForm(Long productId) {
@@ -98,6 +110,13 @@ public class ProductQueryService {
                 .collect(Collectors.toList());
     }
 
+    private String findTrustScorePercentile(YearMonth startDate, YearMonth endDate, Long sellerId) { // 이번 달이 year_month_data 에 없으면 백분위 없음 -> 0
+        return orderProductQueryService.findSellerTrustScorePercentileList(startDate, endDate, sellerId).stream()
+                .findFirst()
+                .map(SellerTrustScorePercentileByPeriodDTO::getPercentile)
+                .orElseGet(() -> new SellerTrustScorePercentileByPeriodDTO(0D, startDate.toString()).getPercentile());
+    }
+
     private Product findProductById(Long productId) {
         return productRepository.findById(productId)
                 .orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
@@ -0,0 +1,6 @@
+package creative.market.util;
+
+public enum PagingQueryMode {
+    SEPARATE, // 목록, 개수, 합계 각각 조회
+    COMBINED // 윈도우 함수로 목록, 개수, 합계 한번에 조회
+}
@@ -0,0 +1,106 @@
+package creative.market.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class QueryCounter { // 현재 스레드(요청, 테스트)에서 실행된 SQL 수 집계, start() 이후부터 집계
+
+    private static final ThreadLocal<QueryCounts> COUNTS = new ThreadLocal<>();
+
+    public static void start() {
+        COUNTS.set(new QueryCounts());
+    }
+
+    public static QueryCounts current() {
+        QueryCounts counts = COUNTS.get();
+        return counts != null ? counts : new QueryCounts();
+    }
+
+    public static QueryCounts stop() {
+        QueryCounts counts = COUNTS.get();
+        COUNTS.remove();
+        return counts;
+    }
+
+    public static void record(String sql) {
+        QueryCounts counts = COUNTS.get();
+        if (counts != null) {
+            counts.record(sql);
+        }
+    }
+
+    public static class QueryCounts {
+
+        private static final int MAX_TRACKED_STATEMENTS = 200;
+
+        private int select;
+        private int insert;
+        private int update;
+        private int delete;
+        private int other;
+        private final Map<String, Integer> statementCounts = new LinkedHashMap<>(); // sql 별 실행 횟수 -> N+1 확인
+
+        private void record(String sql) {
+            String statement = stripComment(sql);
+            String type = statement.length() >= 6 ? statement.substring(0, 6).toLowerCase() : "";
+            switch (type) {
+                case "select":
+                    select++;
+                    break;
+                case "insert":
+                    insert++;
+                    break;
+                case "update":
+                    update++;
+                    break;
+                case "delete":
+                    delete++;
+                    break;
+                default:
+                    other++;
+            }
+            if (statementCounts.containsKey(statement) || statementCounts.size() < MAX_TRACKED_STATEMENTS) {
+                statementCounts.merge(statement, 1, Integer::sum);
+            }
+        }
+
+        private String stripComment(String sql) { // use_sql_comments 로 붙은 /* ... */ 제거
+            String statement = sql.trim();
+            while (statement.startsWith("/*") && statement.contains("*/")) {
+                statement = statement.substring(statement.indexOf("*/") + 2).trim();
+            }
+            return statement;
+        }
+
+        public int getSelect() {
+            return select;
+        }
+
+        public int getInsert() {
+            return insert;
+        }
+
+        public int getUpdate() {
+            return update;
+        }
+
+        public int getDelete() {
+            return delete;
+        }
+
+        public int getTotal() {
+            return select + insert + update + delete + other;
+        }
+
+        public Optional<Map.Entry<String, Integer>> getMostRepeated() { // 가장 많이 실행된 sql
+            return statementCounts.entrySet().stream()
+                    .max(Map.Entry.comparingByValue());
+        }
+
+        @Override
+        public String toString() {
+            return "total=" + getTotal() + ", select=" + select + ", insert=" + insert + ", update=" + update + ", delete=" + delete;
+        }
+    }
+}
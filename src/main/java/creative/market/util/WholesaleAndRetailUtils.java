@@ -5,6 +5,9 @@ import creative.market.domain.category.KindGrade;
 import creative.market.repository.dto.LatestRetailAndWholesaleDTO;
 import creative.market.util.dto.LatestConvertPriceDTO;
 import creative.market.util.dto.LatestPriceDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
@@ -20,9 +23,12 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class WholesaleAndRetailUtils {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${api.id}")
     private static String id;
     @Value("${api.key}")
@@ -129,6 +135,8 @@ public class WholesaleAndRetailUtils {
     private String getApiData(String url) {
         String result;
         StringBuilder sb = new StringBuilder();
+        String outcome = "success";
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             BufferedReader bf;
             bf = new BufferedReader(new InputStreamReader(new URL(url).openStream(), "UTF-8"));
@@ -139,7 +147,10 @@ public class WholesaleAndRetailUtils {
 
 
         } catch (Exception e) {
+            outcome = "error";
             log.error("API 호출 에러 발생 message = {}",e.getMessage());
+        } finally {
+            sample.stop(Timer.builder("market.kamis.request").tag("outcome", outcome).register(meterRegistry)); // KAMIS 응답 시간
         }
         return sb.toString();
     }
@@ -1,11 +1,12 @@
 package creative.market.web.controller;
 
 
+import creative.market.analytics.AnalyticsExecutor;
 import creative.market.aop.LoginCheck;
 import creative.market.aop.UserType;
 import creative.market.argumentresolver.Login;
 import creative.market.repository.dto.BuyerTotalPricePerPeriodDTO;
-import creative.market.repository.query.OrderProductQueryRepository;
+import creative.market.repository.dto.PageWithTotalDTO;
 import creative.market.service.dto.LoginUserDTO;
 import creative.market.service.dto.OrderHistoryDTO;
 import creative.market.service.query.OrderProductQueryService;
@@ -24,6 +25,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -32,8 +34,8 @@ import java.util.List;
 public class BuyerMyPageController {
 
     private final OrderProductQueryService orderProductQueryService;
-    private final OrderProductQueryRepository orderProductQueryRepository;
     private final YearMonthPeriodReqValidator yearMonthPeriodValidator;
+    private final AnalyticsExecutor analyticsExecutor;
 
     @InitBinder(value = "yearMonthPeriodReq")
     public void init(WebDataBinder dataBinder){
@@ -44,6 +46,7 @@ public class BuyerMyPageController {
     public PagingResultPriceRes getOrderHistoryByPeriod(@Valid YearMonthPeriodReq yearMonthPeriodReq,
                                                    @RequestParam(defaultValue = "10") @Min(1) int pageSize,
                                                    @RequestParam(defaultValue = "1") @Min(1) int pageNum,
+                                                   @RequestParam(required = false) Long lastOrderId, // 이전 페이지 마지막 주문 아이디 (있으면 offset 대신 사용)
                                                    @Login LoginUserDTO loginUserDTO) {
 
         int offset = PagingUtils.getOffset(pageNum, pageSize);
@@ -51,21 +54,21 @@ public class BuyerMyPageController {
         LocalDateTime startDate = startMonthOfDayLocalDateTime(yearMonthPeriodReq.getStartDate()); // 시작 날짜
         LocalDateTime endDate = endMonthOfDayLocalDateTime(yearMonthPeriodReq.getEndDate()); // 종료 날짜
 
-        int total = orderProductQueryRepository.findBuyerOrderPerPeriodTotalCount(startDate, endDate, loginUserDTO.getId()).intValue();
-        List<OrderHistoryDTO> result = orderProductQueryService.findBuyerOrderPerPeriod(startDate, endDate, loginUserDTO.getId(), offset, pageSize);
-        Long totalPrice = orderProductQueryRepository.findBuyerOrderTotalPricePerPeriod(startDate, endDate, loginUserDTO.getId());
+        PageWithTotalDTO<OrderHistoryDTO> page = orderProductQueryService.findBuyerOrderHistoryPage(startDate, endDate, loginUserDTO.getId(), lastOrderId, offset, pageSize);
 
-        return new PagingResultPriceRes(result, totalPrice, pageNum, total);
+        return new PagingResultPriceRes(page.getContent(), page.getTotalPrice(), pageNum, page.getTotalCount().intValue());
     }
 
     @GetMapping("/order-price-statistics")
     @LoginCheck(type = {UserType.BUYER, UserType.SELLER})
-    public ResultRes getOrderPriceByPeriod(@Valid YearMonthPeriodReq yearMonthPeriodReq, @Login LoginUserDTO loginUserDTO) {
+    public CompletableFuture<ResultRes> getOrderPriceByPeriod(@Valid YearMonthPeriodReq yearMonthPeriodReq, @Login LoginUserDTO loginUserDTO) {
 
         checkRightPeriod(yearMonthPeriodReq.getStartDate(), yearMonthPeriodReq.getEndDate());
 
-        List<BuyerTotalPricePerPeriodDTO> buyerTotalPricePerPeriod = orderProductQueryRepository.findBuyerTotalPricePerPeriod(yearMonthPeriodReq.getStartDate(), yearMonthPeriodReq.getEndDate(), loginUserDTO.getId());
-        return new ResultRes<>(new BuyerTotalPricePerPeriodRes(buyerTotalPricePerPeriod));
+        return analyticsExecutor.submit(() -> {
+            List<BuyerTotalPricePerPeriodDTO> buyerTotalPricePerPeriod = orderProductQueryService.findBuyerTotalPricePerPeriod(yearMonthPeriodReq.getStartDate(), yearMonthPeriodReq.getEndDate(), loginUserDTO.getId());
+            return new ResultRes<>(new BuyerTotalPricePerPeriodRes(buyerTotalPricePerPeriod));
+        });
     }
 
     private void checkRightPeriod(YearMonth startDate, YearMonth endDate) {
@@ -1,17 +1,21 @@
 package creative.market.web.controller;
 
+import creative.market.analytics.AnalyticsExecutor;
+import creative.market.cache.CategorySalesLeaderboard;
+import creative.market.cache.CategorySalesLeaderboard.SellerSales;
+import creative.market.cache.CategorySalesLeaderboard.Snapshot;
 import creative.market.aop.LoginCheck;
 import creative.market.aop.UserType;
 import creative.market.argumentresolver.Login;
 import creative.market.domain.product.Product;
 import creative.market.exception.FileSaveException;
+import creative.market.interceptor.HttpCache;
+import creative.market.interceptor.HttpCacheTarget;
 import creative.market.repository.ProductRepository;
-import creative.market.repository.dto.CategoryParamDTO;
 import creative.market.repository.dto.ProductSearchConditionReq;
 import creative.market.repository.dto.SellerAndTotalPricePerCategoryDTO;
-import creative.market.repository.order.OrderProductRepository;
-import creative.market.repository.query.OrderProductQueryRepository;
 import creative.market.repository.query.ProductQueryRepository;
+import creative.market.repository.user.UserRepository;
 import creative.market.service.ProductService;
 import creative.market.service.dto.LoginUserDTO;
 import creative.market.service.dto.RegisterProductDTO;
@@ -35,7 +39,11 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -47,14 +55,16 @@ public class ProductController {
     private String rootPath;
     private final ProductRepository productRepository;
     private final ProductQueryRepository productQueryRepository;
-    private final OrderProductQueryRepository orderProductQueryRepository;
-    private final OrderProductRepository orderProductRepository;
     private final ProductService productService;
     private final ProductQueryService productQueryService;
+    private final AnalyticsExecutor analyticsExecutor;
+    private final CategorySalesLeaderboard categorySalesLeaderboard;
+    private final UserRepository userRepository;
 
     private final static int MAIN_PAGE_LIMIT = 4;
 
     @GetMapping
+    @HttpCache(HttpCacheTarget.CATALOG)
     public PagingResultRes getProductList(@Valid ProductSearchConditionReq searchCondition,
                                           @RequestParam(defaultValue = "10") @Min(1) int pageSize,
                                           @RequestParam(defaultValue = "1") @Min(1) int pageNum) {// 상품 리스트 조회
@@ -67,6 +77,7 @@ public class ProductController {
     }
 
     @GetMapping("/{productId}")
+    @HttpCache(HttpCacheTarget.PRODUCT)
     public ResultRes getProductDetail(@PathVariable Long productId) { // 상품 상세 조회
         return new ResultRes(productQueryService.productDetailInfo(productId));
     }
@@ -118,30 +129,36 @@ public class ProductController {
     }
 
     @GetMapping("/statistics/{productId}")
-    public ResultRes totalPricePercentByCategory(@PathVariable Long productId) {
+    public CompletableFuture<ResultRes> totalPricePercentByCategory(@PathVariable Long productId) {
 
-        Product product = productRepository.findById(productId).orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
-        CategoryParamDTO categoryParamDTO = new CategoryParamDTO(null, null, null, product.getKindGrade().getId());
+        return analyticsExecutor.submit(() -> {
+            Product product = productRepository.findById(productId).orElseThrow(() -> new NoSuchElementException("상품이 존재하지 않습니다."));
+            Long sellerId = product.getUser().getId();
+            int rankCount = 5; // 원형 그래프에서 보여줄 top rank 개수
 
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = LocalDateTime.of(endDate.getYear(), endDate.getMonth(), 1, 0, 0); // 이번달 1일부터
-        int rankCount = 5; // 원형 그래프에서 보여줄 top rank 개수
+            // 이번달 품목 등급 총 판매액, 판매액 top 5 판매자, 상품 판매자 판매액 (주문, 취소시 갱신되는 메모리 순위)
+            Snapshot snapshot = categorySalesLeaderboard.snapshot(product.getKindGrade().getId(), rankCount, sellerId);
 
-        //기간별 카테고리 총 판매액
-        Long totalPriceSum = orderProductRepository.findCategoryOrderTotalPriceSum(categoryParamDTO, startDate, endDate);
+            // 판매자 이름 한번에 조회
+            Set<Long> sellerIds = snapshot.getTopSellers().stream().map(SellerSales::getSellerId).collect(Collectors.toSet());
+            sellerIds.add(sellerId);
+            Map<Long, String> sellerNames = userRepository.findNamesByIds(sellerIds);
 
-        // 기간별 카테고리에서 상품 판매액 top 5 정보
-        List<SellerAndTotalPricePerCategoryDTO> topRankPricePercent = orderProductQueryRepository.findCategoryTopRankSellerNameAndPrice(categoryParamDTO, startDate, endDate, rankCount);
-        List<PercentAndPriceRes> priceTopRankPercentRes = convertToPricePercentDTOS(topRankPricePercent, totalPriceSum, productId);
+            Long totalPriceSum = snapshot.getTotalPrice();
+            List<SellerAndTotalPricePerCategoryDTO> topRankPricePercent = snapshot.getTopSellers().stream()
+                    .map(sellerSales -> new SellerAndTotalPricePerCategoryDTO(sellerNames.get(sellerSales.getSellerId()), sellerSales.getTotalPrice()))
+                    .collect(Collectors.toList());
+            List<PercentAndPriceRes> priceTopRankPercentRes = convertToPricePercentDTOS(topRankPricePercent, totalPriceSum, productId);
 
-        //기간별 카테고리에서 상품 판매자 판매액 정보
-        SellerAndTotalPricePerCategoryDTO SellerPricePercent = orderProductQueryRepository.findCategorySellerNameAndPrice(categoryParamDTO, startDate, endDate, product.getUser().getId());
-        PercentAndPriceRes percentAndPriceRes = convertToPricePercentDTO(SellerPricePercent, totalPriceSum, productId);
+            SellerAndTotalPricePerCategoryDTO SellerPricePercent = new SellerAndTotalPricePerCategoryDTO(sellerNames.get(sellerId), snapshot.getSellerTotalPrice());
+            PercentAndPriceRes percentAndPriceRes = convertToPricePercentDTO(SellerPricePercent, totalPriceSum, productId);
 
-        return new ResultRes(new PricePercentPieGraphPerCategoryRes(priceTopRankPercentRes, percentAndPriceRes));
+            return new ResultRes(new PricePercentPieGraphPerCategoryRes(priceTopRankPercentRes, percentAndPriceRes));
+        });
     }
 
     @GetMapping("/main-page/latest")
+    @HttpCache(HttpCacheTarget.CATALOG)
     public ResultRes mainPageLatestByAllCategory() { // 메인 페이지 시간순 조회
 
         int offset = 0;
@@ -149,6 +166,7 @@ public class ProductController {
     }
 
     @GetMapping("/main-page/order-count")
+    @HttpCache(HttpCacheTarget.CATALOG)
     public ResultRes mainPageOrderCntByAllCategory() { // 메인 페이지 판매 횟수순 조회
 
         int offset = 0;
@@ -160,6 +178,7 @@ public class ProductController {
     }
 
     @GetMapping("/main-page/review-rate-avg")
+    @HttpCache(HttpCacheTarget.CATALOG)
     public ResultRes mainPageReviewRateAvgByAllCategory() { // 메인 페이지 별점 평균 순 조회
 
         int offset = 0;
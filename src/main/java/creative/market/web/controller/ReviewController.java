@@ -9,6 +9,7 @@ import creative.market.repository.ProductRepository;
 import creative.market.service.ProductService;
 import creative.market.service.ReviewService;
 import creative.market.service.dto.LoginUserDTO;
+import creative.market.service.dto.RatingSummaryRes;
 import creative.market.web.dto.MessageRes;
 import creative.market.web.dto.ResultRes;
 import creative.market.web.dto.ReviewReq;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -45,9 +47,11 @@ public class ReviewController {
     }
 
     @GetMapping("/{productId}")
-    public ResultRes getReviews(@PathVariable Long productId) {
+    public ResultRes getReviews(@PathVariable Long productId,
+                                @RequestParam(required = false) Long lastReviewId, // 이전 페이지 마지막 리뷰 아이디 (없으면 첫 페이지)
+                                @RequestParam(defaultValue = "20") @Min(1) int pageSize) {
 
-        List<Review> reviews = reviewService.findByProductId(productId);
+        List<Review> reviews = reviewService.findByProductId(productId, lastReviewId, pageSize);
 
         List<ReviewRes> result = reviews.stream()
                 .map(ReviewRes::new)
@@ -56,6 +60,12 @@ public class ReviewController {
         return new ResultRes(result);
     }
 
+    @GetMapping("/{productId}/summary")
+    public ResultRes getRatingSummary(@PathVariable Long productId) { // 리뷰 수, 평균 별점, 별점 분포
+
+        return new ResultRes(new RatingSummaryRes(reviewService.findRatingSummary(productId)));
+    }
+
     @LoginCheck(type = {UserType.ADMIN,UserType.SELLER,UserType.BUYER})
     @PatchMapping("/{reviewId}")
     public ResultRes updateReview(@PathVariable Long reviewId, @RequestBody @Valid ReviewReq reviewReq, @Login LoginUserDTO loginUserDTO) {
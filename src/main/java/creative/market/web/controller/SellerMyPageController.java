@@ -1,10 +1,13 @@
 package creative.market.web.controller;
 
+import creative.market.analytics.AnalyticsExecutor;
 import creative.market.aop.LoginCheck;
 import creative.market.aop.UserType;
 import creative.market.argumentresolver.Login;
 import creative.market.repository.ProductRepository;
 import creative.market.repository.dto.CategoryParamDTO;
+import creative.market.repository.dto.PageWithTotalDTO;
+import creative.market.repository.dto.SaleHistoryRes;
 import creative.market.repository.query.OrderProductQueryRepository;
 import creative.market.service.dto.LoginUserDTO;
 import creative.market.service.query.OrderProductQueryService;
@@ -23,6 +26,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.YearMonth;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -35,6 +39,8 @@ public class SellerMyPageController {
     private final OrderProductQueryRepository orderProductQueryRepository;
     private final OrderProductQueryService orderProductQueryService;
     private final YearMonthPeriodReqValidator yearMonthPeriodValidator;
+    private final AnalyticsExecutor analyticsExecutor;
+
     @InitBinder(value = "yearMonthPeriodReq")
     public void init(WebDataBinder dataBinder){
         dataBinder.addValidators(yearMonthPeriodValidator);
@@ -66,12 +72,11 @@ public class SellerMyPageController {
         LocalDateTime startDate = startMonthOfDayLocalDateTime(yearMonthPeriodReq.getStartDate()); // 시작 날짜
         LocalDateTime endDate = endMonthOfDayLocalDateTime(yearMonthPeriodReq.getEndDate()); // 종료 날짜
 
-        Long total = orderProductQueryRepository.findSaleHistoryPerPeriodCount(startDate, endDate, loginUserDTO.getId());
         int offset = PagingUtils.getOffset(pageNum, pageSize);
-        int totalPageNum = PagingUtils.getTotalPageNum(total, pageSize);
-        Long totalPrice = orderProductQueryRepository.findSaleHistoryTotalPricePerPeriod(startDate, endDate, loginUserDTO.getId());
+        PageWithTotalDTO<SaleHistoryRes> page = orderProductQueryService.findSaleHistoryPage(startDate, endDate, loginUserDTO.getId(), offset, pageSize);
+        int totalPageNum = PagingUtils.getTotalPageNum(page.getTotalCount(), pageSize);
 
-        return new PagingResultPriceRes(orderProductQueryRepository.findSaleHistoryPerPeriod(startDate, endDate, loginUserDTO.getId(), offset, pageSize), totalPrice, pageNum, totalPageNum);
+        return new PagingResultPriceRes(page.getContent(), page.getTotalPrice(), pageNum, totalPageNum);
     }
 
     @GetMapping("trust-score")
@@ -82,50 +87,50 @@ public class SellerMyPageController {
 
     @GetMapping("/trust-score-statistics")
     @LoginCheck(type = UserType.SELLER)
-    public ResultRes getTrustScoreByPeriod(@Valid YearMonthPeriodReq yearMonthPeriodReq, @Login LoginUserDTO loginUserDTO) { // 기간별 신뢰점수 그래프
+    public CompletableFuture<ResultRes> getTrustScoreByPeriod(@Valid YearMonthPeriodReq yearMonthPeriodReq, @Login LoginUserDTO loginUserDTO) { // 기간별 신뢰점수 그래프
         YearMonth startDate = yearMonthPeriodReq.getStartDate();
         YearMonth endDate = yearMonthPeriodReq.getEndDate();
 
-        return new ResultRes(orderProductQueryService.findSellerTrustScoreByPeriod(startDate, endDate, loginUserDTO.getId()));
+        return analyticsExecutor.submit(() -> new ResultRes(orderProductQueryService.findSellerTrustScoreByPeriod(startDate, endDate, loginUserDTO.getId())));
     }
 
     @GetMapping("/trust-score-percentile-statistics")
     @LoginCheck(type = UserType.SELLER)
-    public ResultRes getTrustScorePercentileByPeriod(@Valid YearMonthPeriodReq yearMonthPeriodReq, @Login LoginUserDTO loginUserDTO) { //기간별 신뢰점수 백분위 그래프
+    public CompletableFuture<ResultRes> getTrustScorePercentileByPeriod(@Valid YearMonthPeriodReq yearMonthPeriodReq, @Login LoginUserDTO loginUserDTO) { //기간별 신뢰점수 백분위 그래프
         YearMonth startDate = yearMonthPeriodReq.getStartDate();
         YearMonth endDate = yearMonthPeriodReq.getEndDate();
 
-        return new ResultRes(orderProductQueryService.findSellerTrustScorePercentileByPeriod(startDate, endDate, loginUserDTO.getId()));
+        return analyticsExecutor.submit(() -> new ResultRes(orderProductQueryService.findSellerTrustScorePercentileByPeriod(startDate, endDate, loginUserDTO.getId())));
     }
 
     @GetMapping("/order-price-statistics")
     @LoginCheck(type = {UserType.SELLER})
-    public ResultRes getOrderPriceByPeriod(@Valid YearMonthPeriodReq yearMonthPeriodReq, CategoryParamDTO categoryParamDTO,
+    public CompletableFuture<ResultRes> getOrderPriceByPeriod(@Valid YearMonthPeriodReq yearMonthPeriodReq, CategoryParamDTO categoryParamDTO,
                                            @Login LoginUserDTO loginUserDTO) { // 기간별 판매액 비교 그래프
         YearMonth startDate = yearMonthPeriodReq.getStartDate();
         YearMonth endDate = yearMonthPeriodReq.getEndDate();
 
-        return new ResultRes<>(orderProductQueryService.findSellerTotalPriceCompareByPeriod(startDate,endDate,categoryParamDTO,loginUserDTO.getId()));
+        return analyticsExecutor.submit(() -> new ResultRes<>(orderProductQueryService.findSellerTotalPriceCompareByPeriod(startDate,endDate,categoryParamDTO,loginUserDTO.getId())));
     }
 
     @GetMapping("/order-price-percentile-statistics")
     @LoginCheck(type = {UserType.SELLER})
-    public ResultRes getOrderPricePercentileByPeriod(@Valid YearMonthPeriodReq yearMonthPeriodReq, CategoryParamDTO categoryParamDTO,
+    public CompletableFuture<ResultRes> getOrderPricePercentileByPeriod(@Valid YearMonthPeriodReq yearMonthPeriodReq, CategoryParamDTO categoryParamDTO,
                                                      @Login LoginUserDTO loginUserDTO) { // 기간별 해당 판매자 판매액 백분위 그래프
         YearMonth startDate = yearMonthPeriodReq.getStartDate();
         YearMonth endDate = yearMonthPeriodReq.getEndDate();
 
-        return new ResultRes<>(orderProductQueryService.findSellerPercentileList(startDate,endDate,categoryParamDTO, loginUserDTO.getId()));
+        return analyticsExecutor.submit(() -> new ResultRes<>(orderProductQueryService.findSellerPercentileList(startDate,endDate,categoryParamDTO, loginUserDTO.getId())));
     }
 
     @GetMapping("/order-count-statistics")
     @LoginCheck(type = {UserType.SELLER})
-    public ResultRes getOrderCountByPeriod(@Valid YearMonthPeriodReq yearMonthPeriodReq, CategoryParamDTO categoryParamDTO,
+    public CompletableFuture<ResultRes> getOrderCountByPeriod(@Valid YearMonthPeriodReq yearMonthPeriodReq, CategoryParamDTO categoryParamDTO,
                                            @Login LoginUserDTO loginUserDTO) { // 기간별 판매횟수 비교 그래프
         YearMonth startDate = yearMonthPeriodReq.getStartDate();
         YearMonth endDate = yearMonthPeriodReq.getEndDate();
 
-        return new ResultRes<>(orderProductQueryService.findSellerTotalOrderCountCompareByPeriod(startDate,endDate,categoryParamDTO,loginUserDTO.getId()));
+        return analyticsExecutor.submit(() -> new ResultRes<>(orderProductQueryService.findSellerTotalOrderCountCompareByPeriod(startDate,endDate,categoryParamDTO,loginUserDTO.getId())));
     }
 
     private LocalDateTime startMonthOfDayLocalDateTime(YearMonth yearMonth) { // MonthYear -> 시작 LocalDateTime 으로 변경
@@ -27,7 +27,7 @@ public class WholesaleAndRetailController {
     @GetMapping("/yearly")
     public String yearlyWholesaleAndRetail(@RequestParam Long kindGradeId){
         WholesaleAndRetailApiParam params = getMonthAndYearApiParams(kindGradeId);
-        log.info("[최근 5년 연도별 도소매 api] itemCategoryCode ={} itemCode={} kindCode={} gradeRank={}", params.itemCategoryCode, params.itemCode, params.kindCode, params.gradeRank);
+        log.debug("[최근 5년 연도별 도소매 api] itemCategoryCode ={} itemCode={} kindCode={} gradeRank={}", params.itemCategoryCode, params.itemCode, params.kindCode, params.gradeRank);
 
         return apiUtils.getYearData(params.itemCategoryCode, params.itemCode, params.kindCode, params.gradeRank);
     }
@@ -36,7 +36,7 @@ public class WholesaleAndRetailController {
     @GetMapping("/monthly")
     public String monthlyWholesaleAndRetail(@RequestParam int year, @RequestParam Long kindGradeId){
         WholesaleAndRetailApiParam params = getMonthAndYearApiParams(kindGradeId);
-        log.info("[월별 도소매 api]itemCategoryCode ={} itemCode={} kindCode={} gradeRank={}", params.itemCategoryCode, params.itemCode, params.kindCode, params.gradeRank);
+        log.debug("[월별 도소매 api]itemCategoryCode ={} itemCode={} kindCode={} gradeRank={}", params.itemCategoryCode, params.itemCode, params.kindCode, params.gradeRank);
 
         return apiUtils.getMonthlyWholeSalesAndRetailData(year, params.itemCategoryCode, params.itemCode, params.kindCode, params.gradeRank);
     }
@@ -46,7 +46,7 @@ public class WholesaleAndRetailController {
                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
                                @RequestParam Long kindGradeId){
         DayWholesaleAndRetailApiParam params = getDayApiParams(kindGradeId);
-        log.info("[일별 도매 api]itemCategoryCode ={} itemCode={} kindCode={} gradeRank={}", params.itemCategoryCode, params.itemCode, params.kindCode, params.gradeId);
+        log.debug("[일별 도매 api]itemCategoryCode ={} itemCode={} kindCode={} gradeRank={}", params.itemCategoryCode, params.itemCode, params.kindCode, params.gradeId);
 
         return apiUtils.getDayWholeSalesData(start, end, params.itemCategoryCode, params.itemCode, params.kindCode, params.gradeId);
     }
@@ -56,7 +56,7 @@ public class WholesaleAndRetailController {
                             @RequestParam(value = "end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
                             @RequestParam Long kindGradeId){
         DayWholesaleAndRetailApiParam params = getDayApiParams(kindGradeId);
-        log.info("[일별 소매 api]itemCategoryCode ={} itemCode={} kindCode={} gradeRank={}", params.itemCategoryCode, params.itemCode, params.kindCode, params.gradeId);
+        log.debug("[일별 소매 api]itemCategoryCode ={} itemCode={} kindCode={} gradeRank={}", params.itemCategoryCode, params.itemCode, params.kindCode, params.gradeId);
 
         return apiUtils.getDayRetailData(start, end, params.itemCategoryCode, params.itemCode, params.kindCode, params.gradeId);
 
@@ -2,6 +2,9 @@ package creative.market.web.controller.category;
 
 import creative.market.util.FileStoreUtils;
 import creative.market.util.FileSubPath;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -11,25 +14,43 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 
 @RestController
 @RequestMapping("/img")
 @Slf4j
+@RequiredArgsConstructor
 public class ImageController { // 이미지 전송
 
+    private final MeterRegistry meterRegistry;
     @Value("${images}")
     private String rootPath;
 
     @GetMapping("/product/{imageName}")
     public Resource downloadProductImg(@PathVariable String imageName) throws MalformedURLException { // 상품 사진 보내기
-        log.info("요청 사진 이름 = {}",imageName);
-        return new UrlResource("file:"+ FileStoreUtils.getFullPath(rootPath, FileSubPath.PRODUCT_PATH +imageName));
+        log.debug("요청 사진 이름 = {}",imageName);
+        return recordBytes(new UrlResource("file:"+ FileStoreUtils.getFullPath(rootPath, FileSubPath.PRODUCT_PATH +imageName)), "product");
     }
 
     @GetMapping("/business/{imageName}")
     public Resource downloadBusinessImg(@PathVariable String imageName) throws MalformedURLException { // 사업자 사진 보내기
-        log.info("요청 사진 이름 = {}",imageName);
-        return new UrlResource("file:"+ FileStoreUtils.getFullPath(rootPath, FileSubPath.BUSINESS_PATH +imageName));
+        log.debug("요청 사진 이름 = {}",imageName);
+        return recordBytes(new UrlResource("file:"+ FileStoreUtils.getFullPath(rootPath, FileSubPath.BUSINESS_PATH +imageName)), "business");
+    }
+
+    private Resource recordBytes(Resource resource, String type) { // 전송한 이미지 크기(market.image.bytes)
+        try {
+            if (resource.exists()) {
+                DistributionSummary.builder("market.image.bytes")
+                        .baseUnit("bytes")
+                        .tag("type", type)
+                        .register(meterRegistry)
+                        .record(resource.contentLength());
+            }
+        } catch (IOException e) {
+            log.warn("이미지 크기 확인 실패 message = {}", e.getMessage());
+        }
+        return resource;
     }
 }
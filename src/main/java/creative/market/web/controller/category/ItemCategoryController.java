@@ -1,5 +1,7 @@
 package creative.market.web.controller.category;
 
+import creative.market.interceptor.HttpCache;
+import creative.market.interceptor.HttpCacheTarget;
 import creative.market.service.category.ItemCategoryService;
 import creative.market.service.category.KindGradeService;
 import creative.market.service.dto.CriteriaSrcAndRetailUnitRes;
@@ -20,11 +22,13 @@ public class ItemCategoryController {
     private final KindGradeService kindGradeService;
 
     @GetMapping
+    @HttpCache(HttpCacheTarget.TAXONOMY)
     public CategoryRes itemCategoryMenu() { // 부류,품목,품종,등급 선택 메뉴
         return new CategoryRes(itemCategoryService.findItemCategoryMenu());
     }
 
     @GetMapping("/{kindGradeId}")
+    @HttpCache(HttpCacheTarget.TAXONOMY)
     public ResultRes itemCriteriaSrcAndUnit(@PathVariable Long kindGradeId) {// 등급 src, 단위 조회
         CriteriaSrcAndRetailUnitRes criteriaAndUnit = kindGradeService.findSrcAndRetailById(kindGradeId);
         return new ResultRes(criteriaAndUnit);
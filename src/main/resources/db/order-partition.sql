@@ -0,0 +1,38 @@
+-- orders, order_product 월별 RANGE COLUMNS 파티션 전환 (MySQL 8, 한 번만 실행)
+-- 실행 후 order-partition.enabled=true -> OrderPartitionMaintenance 가 p_max 를 월 파티션으로 나누고 이후 달을 미리 생성
+-- 파티션 테이블은 외래 키를 가질 수 없고, 모든 유니크 키(기본 키 포함)에 파티션 컬럼이 포함되어야 함
+
+-- 1. orders, order_product 관련 외래 키 삭제 (조회 결과로 나온 문장 실행, 엔티티는 NO_CONSTRAINT 로 매핑되어 다시 생성되지 않음)
+select concat('alter table ', table_name, ' drop foreign key ', constraint_name, ';')
+from information_schema.key_column_usage
+where table_schema = database()
+  and referenced_table_name is not null
+  and (table_name in ('orders', 'order_product') or referenced_table_name in ('orders', 'order_product'));
+
+-- 2. 주문 상품 주문일 채우기 (ordered_date 도입 전 주문)
+update order_product op
+    join orders o on op.order_id = o.order_id
+set op.ordered_date = o.created_date
+where op.ordered_date is null;
+
+-- 3. 기본 키에 파티션 컬럼 포함
+alter table orders
+    modify created_date datetime(6) not null,
+    drop primary key,
+    add primary key (order_id, created_date);
+
+alter table order_product
+    modify ordered_date datetime(6) not null,
+    drop primary key,
+    add primary key (order_product_id, ordered_date);
+
+-- 4. 파티션 전환 (p_old 상한을 가장 오래된 주문 월 1일로 변경, 이후 달은 maintenance 가 p_max 에서 나눔)
+alter table orders partition by range columns (created_date) (
+    partition p_old values less than ('2022-01-01'),
+    partition p_max values less than (maxvalue)
+);
+
+alter table order_product partition by range columns (ordered_date) (
+    partition p_old values less than ('2022-01-01'),
+    partition p_max values less than (maxvalue)
+);
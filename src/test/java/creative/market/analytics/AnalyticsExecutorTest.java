@@ -0,0 +1,101 @@
+package creative.market.analytics;
+
+import creative.market.datasource.AnalyticsContext;
+import creative.market.datasource.ReadYourWrites;
+import creative.market.exception.AnalyticsRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AnalyticsExecutorTest {
+
+    EmbeddedDatabase dataSource = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName("analytics-executor").build();
+    AnalyticsExecutor analyticsExecutor = new AnalyticsExecutor(1, 1, 5, new DataSourceTransactionManager(dataSource), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        analyticsExecutor.destroy();
+        dataSource.shutdown();
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    @DisplayName("통계 전용 스레드에서 실행되고 통계 전용 풀 사용 표시")
+    void submitSuccess() throws Exception {
+        //when
+        Boolean analytics = analyticsExecutor.submit(AnalyticsContext::isAnalytics).get(1, TimeUnit.SECONDS);
+
+        //then
+        assertThat(analytics).isTrue();
+        assertThat(AnalyticsContext.isAnalytics()).isFalse();
+    }
+
+    @Test
+    @DisplayName("timeout 이 있는 readOnly 트랜잭션에서 실행 -> sql 에 statement timeout 적용")
+    void submitWithTransactionTimeout() throws Exception {
+        //when
+        Integer timeToLive = analyticsExecutor.submit(() -> {
+            ConnectionHolder connectionHolder = (ConnectionHolder) TransactionSynchronizationManager.getResource(dataSource);
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? connectionHolder.getTimeToLiveInSeconds() : null;
+        }).get(1, TimeUnit.SECONDS);
+
+        //then
+        assertThat(timeToLive).isBetween(1, 5);
+    }
+
+    @Test
+    @DisplayName("요청 스레드의 로그인 사용자 바인딩을 통계 스레드에 전달하고 실행 후 제거")
+    void submitPropagatesReadYourWritesUser() throws Exception {
+        //given
+        ReadYourWrites.bindUser(1L);
+        Long propagated = analyticsExecutor.submit(ReadYourWrites::currentUser).get(1, TimeUnit.SECONDS);
+
+        //when
+        ReadYourWrites.clear();
+        Long afterTask = analyticsExecutor.submit(ReadYourWrites::currentUser).get(1, TimeUnit.SECONDS); // 같은 스레드(pool-size 1) 재사용
+
+        //then
+        assertThat(propagated).isEqualTo(1L);
+        assertThat(afterTask).isNull();
+    }
+
+    @Test
+    @DisplayName("실행중, 대기중 요청이 가득 차면 바로 거절")
+    void submitRejected() throws Exception {
+        //given
+        CountDownLatch latch = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = analyticsExecutor.submit(() -> await(latch));
+        CompletableFuture<Boolean> queued = analyticsExecutor.submit(() -> await(latch));
+
+        //when then
+        assertThatThrownBy(() -> analyticsExecutor.submit(() -> true))
+                .isInstanceOf(AnalyticsRejectedException.class)
+                .hasMessage("통계 조회 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+
+        latch.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package creative.market.analytics;
+
+import creative.market.cache.KindGradeResolver;
+import creative.market.cache.KindGradeResolver.KindGradePath;
+import creative.market.repository.dto.CategoryParamDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OrderLineStoreTest { // 임베디드 DB 에서 적재 후 sql 과 같은 기준(취소 제외, 현재 품목 등급)으로 집계하는지 확인
+
+    static final YearMonth JAN = YearMonth.of(2022, 1);
+    static final YearMonth FEB = YearMonth.of(2022, 2);
+
+    // 품목 등급 10: 품종 1 - 품목 111 - 부류 100, 품목 등급 20: 품종 2 - 품목 211 - 부류 200
+    KindGradeResolver kindGradeResolver = new StubKindGradeResolver(List.of(new KindGradePath(10L, 1L, 111, 100), new KindGradePath(20L, 2L, 211, 200)));
+    EmbeddedDatabase database;
+    OrderLineStore orderLineStore;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName("order_line_store").build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table product (product_id bigint, user_id bigint, kind_grade_id bigint)");
+        jdbcTemplate.execute("create table orders (order_id bigint, user_id bigint, created_date timestamp)");
+        jdbcTemplate.execute("create table order_product (order_product_id bigint, order_id bigint, product_id bigint, price int, count int, status varchar(10))");
+
+        jdbcTemplate.update("insert into product values (1000, 1, 10), (2000, 2, 20)"); // 판매자 1: 품목 등급 10, 판매자 2: 품목 등급 20
+        jdbcTemplate.update("insert into orders values (1, 7, '2022-01-10 10:00:00'), (2, 8, '2022-02-10 10:00:00')");
+        jdbcTemplate.update("insert into order_product values (1, 1, 1000, 1000, 2, 'ORDER'), (2, 1, 2000, 500, 1, 'ORDER'), (3, 2, 1000, 1000, 1, 'CANCEL'), (4, 2, 2000, 300, 3, 'ORDER')");
+
+        orderLineStore = new OrderLineStore(database, kindGradeResolver, 100, 2);
+        orderLineStore.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("월별 판매액, 판매 횟수, 판매자 수 (취소 제외)")
+    void perMonth() throws Exception {
+        assertThat(orderLineStore.isReady()).isTrue();
+        assertThat(orderLineStore.totalPricePerMonth(JAN, FEB, new CategoryParamDTO(), null)).containsExactly(2500L, 900L);
+        assertThat(orderLineStore.totalPricePerMonth(JAN, FEB, new CategoryParamDTO(), 1L)).containsExactly(2000L, 0L);
+        assertThat(orderLineStore.orderCountPerMonth(JAN, FEB, new CategoryParamDTO(), null)).containsExactly(2L, 1L);
+        assertThat(orderLineStore.sellerCountPerMonth(JAN, FEB, new CategoryParamDTO())).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("카테고리 조건과 품목 등급 변경")
+    void category() throws Exception {
+        //given
+        CategoryParamDTO itemCategory100 = new CategoryParamDTO(100, null, null, null);
+
+        //when
+        long[] before = orderLineStore.totalPricePerMonth(JAN, FEB, itemCategory100, null);
+        orderLineStore.changeProductKindGrade(2000L, 10L); // 과거 주문도 새 품목 등급으로 집계
+        long[] after = orderLineStore.totalPricePerMonth(JAN, FEB, itemCategory100, null);
+
+        //then
+        assertThat(before).containsExactly(2000L, 0L);
+        assertThat(after).containsExactly(2500L, 900L);
+    }
+
+    @Test
+    @DisplayName("이벤트로 들어온 주문, 취소 반영 (적재된 주문 중복 반영 안함)")
+    void events() throws Exception {
+        //when
+        orderLineStore.addOrderLine(4L, FEB, 2000L, 2L, 20L, 900L); // 이미 적재된 주문
+        orderLineStore.addOrderLine(5L, FEB, 3000L, 3L, 20L, 100L); // 적재 후 등록된 상품
+        orderLineStore.cancelOrderLine(2L);
+
+        //then
+        assertThat(orderLineStore.totalPricePerMonth(JAN, FEB, new CategoryParamDTO(), null)).containsExactly(2000L, 1000L);
+        assertThat(orderLineStore.sellerCountPerMonth(JAN, FEB, new CategoryParamDTO())).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("판매자를 모르는 상품의 주문은 판매자 수에서 제외")
+    void sellerCountWithoutSeller() throws Exception {
+        //given
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.update("insert into order_product values (5, 2, 3000, 100, 1, 'ORDER')"); // 상품 테이블에 없는 상품 (판매자 모름)
+        orderLineStore = new OrderLineStore(database, kindGradeResolver, 100, 2);
+        orderLineStore.load();
+
+        //when
+        long[] sellerCounts = orderLineStore.sellerCountPerMonth(JAN, FEB, new CategoryParamDTO());
+
+        //then
+        assertThat(sellerCounts).containsExactly(2L, 1L);
+        assertThat(orderLineStore.totalPricePerMonth(JAN, FEB, new CategoryParamDTO(), null)).containsExactly(2500L, 1000L);
+    }
+
+    @Test
+    @DisplayName("적재 실패 후 들어온 이벤트는 버리고 다시 적재하면 DB 기준으로 적재")
+    void loadFailure() throws Exception {
+        //given
+        EmbeddedDatabase emptyDatabase = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName("order_line_store_empty").build();
+        try {
+            OrderLineStore failedStore = new OrderLineStore(emptyDatabase, kindGradeResolver, 100, 2);
+            failedStore.load(); // 테이블이 없어서 실패
+
+            //when
+            failedStore.addOrderLine(9L, FEB, 1000L, 1L, 10L, 100L); // 적재 실패 후 이벤트
+            boolean readyAfterFailure = failedStore.isReady();
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(emptyDatabase);
+            jdbcTemplate.execute("create table product (product_id bigint, user_id bigint, kind_grade_id bigint)");
+            jdbcTemplate.execute("create table orders (order_id bigint, user_id bigint, created_date timestamp)");
+            jdbcTemplate.execute("create table order_product (order_product_id bigint, order_id bigint, product_id bigint, price int, count int, status varchar(10))");
+            failedStore.load();
+
+            //then
+            assertThat(readyAfterFailure).isFalse();
+            assertThat(failedStore.isReady()).isTrue();
+            assertThat(failedStore.totalPricePerMonth(JAN, FEB, new CategoryParamDTO(), null)).containsExactly(0L, 0L);
+        } finally {
+            emptyDatabase.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("다시 적재하면 이전 적재 내용을 지우고 처음부터 적재")
+    void reload() throws Exception {
+        //when
+        orderLineStore.load();
+
+        //then
+        assertThat(orderLineStore.totalPricePerMonth(JAN, FEB, new CategoryParamDTO(), null)).containsExactly(2500L, 900L);
+        assertThat(orderLineStore.sellerCountPerMonth(JAN, FEB, new CategoryParamDTO())).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("판매액 백분위는 판매 기록 없는 판매자를 포함한 PERCENT_RANK 와 같다")
+    void percentile() throws Exception {
+        //when 판매자 3명 (1명은 판매 기록 없음)
+        double[] seller1 = orderLineStore.sellerPricePercentilePerMonth(JAN, FEB, new CategoryParamDTO(), 1L, 3);
+        double[] seller2 = orderLineStore.sellerPricePercentilePerMonth(JAN, FEB, new CategoryParamDTO(), 2L, 3);
+
+        //then 1월: 1(2000) > 2(500) > 3(0), 2월: 2(900) > 1(0) = 3(0)
+        assertThat(seller1).containsExactly(100D, 50D);
+        assertThat(seller2).containsExactly(50D, 100D);
+    }
+
+    static class StubKindGradeResolver extends KindGradeResolver { // 품목 분류 스냅샷 고정
+
+        private final List<KindGradePath> kindGradePaths;
+
+        StubKindGradeResolver(List<KindGradePath> kindGradePaths) {
+            super(null);
+            this.kindGradePaths = kindGradePaths;
+        }
+
+        @Override
+        public List<KindGradePath> kindGradePaths() {
+            return kindGradePaths;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package creative.market.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PercentileSketchTest { // PERCENT_RANK() 와 같은 값인지 확인 (값이 같으면 같은 순위)
+
+    @Test
+    @DisplayName("내림차순 백분위 순위 (배열에 없는 모집단은 0)")
+    void percentRankDesc() throws Exception {
+        //given 판매액 300, 200, 200 + 판매 기록 없는 판매자 2명
+        PercentileSketch sketch = PercentileSketch.of(new double[]{200, 300, 200});
+
+        //then
+        assertThat(sketch.percentRankDesc(300, 5)).isEqualTo(0D);
+        assertThat(sketch.percentRankDesc(200, 5)).isEqualTo(0.25D);
+        assertThat(sketch.percentRankDesc(0, 5)).isEqualTo(0.75D);
+    }
+
+    @Test
+    @DisplayName("오름차순 백분위 순위")
+    void percentRankAsc() throws Exception {
+        //given
+        PercentileSketch sketch = PercentileSketch.of(new double[]{10.5, 0, 30, 10.5});
+
+        //then
+        assertThat(sketch.percentRankAsc(0, 4)).isEqualTo(0D);
+        assertThat(sketch.percentRankAsc(10.5, 4)).isEqualTo(1 / 3D);
+        assertThat(sketch.percentRankAsc(30, 4)).isEqualTo(1D);
+    }
+
+    @Test
+    @DisplayName("모집단이 1명 이하면 0")
+    void singlePopulation() throws Exception {
+        assertThat(PercentileSketch.of(new double[]{100}).percentRankDesc(100, 1)).isEqualTo(0D);
+        assertThat(PercentileSketch.of(new double[0]).percentRankAsc(0, 0)).isEqualTo(0D);
+    }
+}
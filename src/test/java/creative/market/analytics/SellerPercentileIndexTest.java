@@ -0,0 +1,244 @@
+package creative.market.analytics;
+
+import creative.market.cache.KindGradeResolver;
+import creative.market.domain.Address;
+import creative.market.domain.category.KindGrade;
+import creative.market.domain.product.Product;
+import creative.market.domain.user.Buyer;
+import creative.market.domain.user.Seller;
+import creative.market.datasource.PrimaryReader;
+import creative.market.repository.OutboxEventRepository;
+import creative.market.repository.ProductRepository;
+import creative.market.repository.category.KindGradeRepository;
+import creative.market.repository.dto.CategoryParamDTO;
+import creative.market.repository.dto.SellerPercentileDTO;
+import creative.market.repository.dto.SellerTrustScorePercentileByPeriodDTO;
+import creative.market.repository.order.OrderRepository;
+import creative.market.repository.query.OrderProductQueryRepository;
+import creative.market.repository.user.SellerRepository;
+import creative.market.service.OrderService;
+import creative.market.service.dto.OrderProductParamDTO;
+import creative.market.util.QueryCountAssert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class SellerPercentileIndexTest { // 인덱스 결과가 PERCENT_RANK sql 결과와 같은지
+
+    @Autowired
+    EntityManager em;
+    @Autowired
+    OrderService orderService;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    KindGradeRepository kindGradeRepository;
+    @Autowired
+    KindGradeResolver kindGradeResolver;
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    SellerRepository sellerRepository;
+    @Autowired
+    OrderProductQueryRepository orderProductQueryRepository;
+    @Autowired
+    OutboxEventRepository outboxEventRepository;
+    @Autowired
+    PrimaryReader primaryReader;
+
+    SellerPercentileIndex index;
+    Seller seller1;
+    Seller seller2;
+    Seller seller3;
+    KindGrade rice; // 식량작물-쌀-일반계-상품
+    YearMonth startDate = YearMonth.now().minusMonths(2);
+    YearMonth endDate = YearMonth.now();
+
+    @BeforeEach
+    void before() {
+        index = new SellerPercentileIndex(orderProductQueryRepository, kindGradeResolver, sellerRepository, outboxEventRepository, primaryReader, 10); // 다른 테스트가 적재한 빈 대신 새로 적재
+        seller1 = createSeller("percentile1");
+        seller2 = createSeller("percentile2");
+        seller3 = createSeller("percentile3"); // 판매 기록 없음
+        Buyer buyer = Buyer.builder().name("구매자").loginId("percentileBuyer").password("1").birth("19990101").email("buyer@percentile.com")
+                .phoneNumber("010-0000-0000").address(createAddress()).build();
+        em.persist(buyer);
+
+        rice = kindGradeRepository.findById(432L).orElseThrow(NoSuchElementException::new);
+        Product product1 = createProduct(seller1, 1000, 432L); // 식량작물-쌀-일반계-상품
+        Product product2 = createProduct(seller2, 2000, 432L);
+        Product product3 = createProduct(seller2, 3000, 468L); // 식량작물-감자-수미-상품
+        Product product4 = createProduct(seller1, 4000, 669L); // 특용작물-참깨-백색(국산)-상품
+
+        order(buyer, product1, 3, LocalDateTime.now().minusMonths(2));
+        order(buyer, product2, 1, LocalDateTime.now().minusMonths(2));
+        order(buyer, product3, 2, LocalDateTime.now().minusMonths(1));
+        order(buyer, product4, 1, LocalDateTime.now().minusMonths(1));
+        order(buyer, product1, 2, LocalDateTime.now());
+        order(buyer, product2, 2, LocalDateTime.now());
+        em.flush();
+    }
+
+    @AfterEach
+    void afterEach() {
+        QueryCountAssert.clear();
+    }
+
+    @Test
+    @DisplayName("판매액 백분위, 전체 / 부류 / 품목 / 품종 / 품목 등급 합산 결과가 sql 과 같음")
+    void sellerPricePercentileEqualsSql() throws Exception {
+        //given
+        Integer itemCategoryCode = rice.getKind().getItem().getItemCategory().getItemCategoryCode();
+        Integer itemCode = rice.getKind().getItem().getItemCode();
+        List<CategoryParamDTO> categories = List.of(
+                new CategoryParamDTO(null, null, null, null),
+                new CategoryParamDTO(itemCategoryCode, null, null, null),
+                new CategoryParamDTO(itemCategoryCode, itemCode, null, null),
+                new CategoryParamDTO(null, null, rice.getKind().getId(), null),
+                new CategoryParamDTO(null, null, null, rice.getId()));
+
+        //when then
+        for (CategoryParamDTO category : categories) {
+            for (Seller seller : List.of(seller1, seller2, seller3)) {
+                assertThat(indexPricePercentile(category, seller))
+                        .isEqualTo(percentiles(orderProductQueryRepository.findSellerTotalPricePercentileByPeriodAndCategory(startDate, endDate, category, seller.getId())));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("판매액 백분위, 상위 카테고리와 맞지 않는 하위 카테고리 조건은 sql 과 같이 판매 기록 없음")
+    void sellerPricePercentileMismatchedCategoryEqualsSql() throws Exception {
+        //given
+        KindGrade sesame = kindGradeRepository.findById(669L).orElseThrow(NoSuchElementException::new);
+        CategoryParamDTO mismatched = new CategoryParamDTO(sesame.getKind().getItem().getItemCategory().getItemCategoryCode(), null, null, rice.getId()); // 특용작물 + 쌀 품목 등급
+
+        //when
+        List<String> result = indexPricePercentile(mismatched, seller1);
+
+        //then
+        assertThat(result).isEqualTo(percentiles(orderProductQueryRepository.findSellerTotalPricePercentileByPeriodAndCategory(startDate, endDate, mismatched, seller1.getId())));
+    }
+
+    @Test
+    @DisplayName("신뢰점수 백분위가 sql 과 같음")
+    void sellerTrustScorePercentileEqualsSql() throws Exception {
+        for (Seller seller : List.of(seller1, seller2, seller3)) {
+            //when
+            List<SellerTrustScorePercentileByPeriodDTO> result = index.sellerTrustScorePercentilePerMonth(startDate, endDate, seller.getId());
+
+            //then
+            assertThat(trustPercentiles(result))
+                    .isEqualTo(trustPercentiles(orderProductQueryRepository.findSellerTrustScorePercentileByPeriod(startDate, endDate, seller.getId())));
+        }
+    }
+
+    @Test
+    @DisplayName("신뢰점수 백분위, 적재 이후 가입한 판매자는 해당 달을 다시 적재")
+    void sellerTrustScorePercentileNewSeller() throws Exception {
+        //given
+        index.sellerTrustScorePercentilePerMonth(startDate, endDate, seller1.getId()); // 적재
+        Seller newSeller = createSeller("percentile4");
+        em.flush();
+
+        //when
+        List<SellerTrustScorePercentileByPeriodDTO> result = index.sellerTrustScorePercentilePerMonth(startDate, endDate, newSeller.getId());
+
+        //then
+        assertThat(result).isNotEmpty();
+        assertThat(trustPercentiles(result))
+                .isEqualTo(trustPercentiles(orderProductQueryRepository.findSellerTrustScorePercentileByPeriod(startDate, endDate, newSeller.getId())));
+    }
+
+    @Test
+    @DisplayName("신뢰점수 백분위, 다시 적재해도 점수가 없는 아이디는 적재 주기 동안 다시 적재하지 않음")
+    void sellerTrustScorePercentileAbsentSellerCached() throws Exception {
+        //given
+        Long absentSellerId = Long.MAX_VALUE; // 판매자가 아닌 아이디
+        index.sellerTrustScorePercentilePerMonth(startDate, endDate, absentSellerId); // 적재 + 한번 다시 적재
+        QueryCountAssert.reset();
+
+        //when
+        List<SellerTrustScorePercentileByPeriodDTO> result = index.sellerTrustScorePercentilePerMonth(startDate, endDate, absentSellerId);
+
+        //then
+        assertThat(result).isEmpty();
+        QueryCountAssert.assertSelectCount(0);
+    }
+
+    private List<String> indexPricePercentile(CategoryParamDTO category, Seller seller) {
+        double[] percentiles = index.sellerPricePercentilePerMonth(startDate, endDate, category, seller.getId(), sellerRepository.countAll());
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < percentiles.length; i++) {
+            result.add(startDate.plusMonths(i) + "=" + new SellerPercentileDTO(percentiles[i], startDate.plusMonths(i).toString()).getPercentile());
+        }
+        return result;
+    }
+
+    private List<String> percentiles(List<SellerPercentileDTO> result) {
+        return result.stream()
+                .map(dto -> dto.getDate() + "=" + new SellerPercentileDTO(Double.parseDouble(dto.getPercentile()), dto.getDate()).getPercentile())
+                .collect(Collectors.toList());
+    }
+
+    private List<String> trustPercentiles(List<SellerTrustScorePercentileByPeriodDTO> result) {
+        return result.stream()
+                .map(dto -> dto.getDate() + "=" + dto.getPercentile())
+                .collect(Collectors.toList());
+    }
+
+    private void order(Buyer buyer, Product product, int count, LocalDateTime createdDate) {
+        Long orderId = orderService.order(buyer.getId(), new ArrayList<>(List.of(new OrderProductParamDTO(count, product.getId()))), createAddress());
+        orderRepository.findById(orderId).orElseThrow(() -> new NoSuchElementException("주문 내역이 존재하지 않습니다."))
+                .changeCreatedDate(createdDate);
+    }
+
+    private Product createProduct(Seller seller, int price, Long kindGradeId) {
+        KindGrade kindGrade = kindGradeRepository.findById(kindGradeId).orElseThrow(() -> new NoSuchElementException("존재하지 않는 카테고리입니다"));
+        Product product = Product.builder()
+                .name("상품" + price)
+                .price(price)
+                .info("상품입니다")
+                .kindGrade(kindGrade)
+                .user(seller).build();
+        productRepository.save(product);
+        return product;
+    }
+
+    private Seller createSeller(String loginId) {
+        Seller seller = Seller.builder().name(loginId)
+                .loginId(loginId)
+                .password("1")
+                .birth("19990101")
+                .email(loginId + "@percentile.com")
+                .phoneNumber("010-1111-1111")
+                .address(createAddress())
+                .businessName("상호명").build();
+        em.persist(seller);
+        return seller;
+    }
+
+    private Address createAddress() {
+        return Address.builder()
+                .jibun("1111")
+                .road("봉사산로")
+                .zipcode(12345)
+                .detailAddress("1동1호").build();
+    }
+}
@@ -0,0 +1,150 @@
+package creative.market.cache;
+
+import creative.market.cache.CategorySalesLeaderboard.Sale;
+import creative.market.cache.CategorySalesLeaderboard.SellerSales;
+import creative.market.cache.CategorySalesLeaderboard.Snapshot;
+import creative.market.cache.KindGradePriceAverageTest.StubOutboxEventRepository;
+import creative.market.datasource.PrimaryReader;
+import creative.market.repository.dto.SellerIdAndTotalPriceDTO;
+import creative.market.repository.query.OrderProductQueryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CategorySalesLeaderboardTest { // DB 적재 결과를 고정한 조회 저장소로 적재, 주문, 취소 반영 확인
+
+    static final Long KIND_GRADE_ID = 10L;
+
+    StubQueryRepository queryRepository = new StubQueryRepository();
+    StubOutboxEventRepository outboxEventRepository = new StubOutboxEventRepository();
+    PrimaryReader primaryReader = new PrimaryReader(false, false, null); // 단일 데이터소스 -> 그대로 조회
+
+    @Test
+    @DisplayName("처음 조회시 한번 적재, 판매액 내림차순 순위와 요청한 판매자 판매액")
+    void snapshotLoad() throws Exception {
+        //given
+        queryRepository.totalPrices.add(new SellerIdAndTotalPriceDTO(1L, 1000L));
+        queryRepository.totalPrices.add(new SellerIdAndTotalPriceDTO(2L, 3000L));
+        CategorySalesLeaderboard leaderboard = new CategorySalesLeaderboard(queryRepository, outboxEventRepository, primaryReader, 10);
+
+        //when
+        Snapshot first = leaderboard.snapshot(KIND_GRADE_ID, 5, 1L);
+        Snapshot second = leaderboard.snapshot(KIND_GRADE_ID, 1, 3L);
+
+        //then
+        assertThat(queryRepository.loadCount).isEqualTo(1);
+        assertThat(first.getTotalPrice()).isEqualTo(4000L);
+        assertThat(sellerIds(first)).containsExactly(2L, 1L);
+        assertThat(first.getSellerTotalPrice()).isEqualTo(1000L);
+        assertThat(sellerIds(second)).containsExactly(2L);
+        assertThat(second.getSellerTotalPrice()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("적재된 품목 등급은 주문, 취소로 순위 갱신, 지난달 주문 취소는 무시")
+    void recordOrderAndCancel() throws Exception {
+        //given
+        queryRepository.totalPrices.add(new SellerIdAndTotalPriceDTO(1L, 1000L));
+        queryRepository.totalPrices.add(new SellerIdAndTotalPriceDTO(2L, 3000L));
+        CategorySalesLeaderboard leaderboard = new CategorySalesLeaderboard(queryRepository, outboxEventRepository, primaryReader, 10);
+        leaderboard.snapshot(KIND_GRADE_ID, 5, 1L);
+        LocalDateTime now = LocalDateTime.now();
+
+        //when
+        leaderboard.recordOrder(1, now, List.of(new Sale(KIND_GRADE_ID, 1L, 5000L), new Sale(KIND_GRADE_ID, 3L, 500L)));
+        leaderboard.recordCancel(2, now, new Sale(KIND_GRADE_ID, 3L, 500L));
+        leaderboard.recordCancel(3, now.minusMonths(1), new Sale(KIND_GRADE_ID, 2L, 3000L));
+        Snapshot snapshot = leaderboard.snapshot(KIND_GRADE_ID, 5, 1L);
+
+        //then
+        assertThat(queryRepository.loadCount).isEqualTo(1);
+        assertThat(snapshot.getTotalPrice()).isEqualTo(9000L);
+        assertThat(sellerIds(snapshot)).containsExactly(1L, 2L);
+        assertThat(snapshot.getSellerTotalPrice()).isEqualTo(6000L);
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 품목 등급의 주문은 무시, 조회시 DB 에서 적재")
+    void recordOrderBeforeLoad() throws Exception {
+        //given
+        queryRepository.totalPrices.add(new SellerIdAndTotalPriceDTO(1L, 1000L));
+        CategorySalesLeaderboard leaderboard = new CategorySalesLeaderboard(queryRepository, outboxEventRepository, primaryReader, 10);
+
+        //when
+        leaderboard.recordOrder(1, LocalDateTime.now(), List.of(new Sale(KIND_GRADE_ID, 1L, 5000L))); // DB 적재 결과에 이미 포함
+        Snapshot snapshot = leaderboard.snapshot(KIND_GRADE_ID, 5, 1L);
+
+        //then
+        assertThat(snapshot.getTotalPrice()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("품목 등급 제거, 다시 적재 주기가 지나면 DB 에서 다시 적재")
+    void reload() throws Exception {
+        //given
+        queryRepository.totalPrices.add(new SellerIdAndTotalPriceDTO(1L, 1000L));
+        CategorySalesLeaderboard leaderboard = new CategorySalesLeaderboard(queryRepository, outboxEventRepository, primaryReader, 10);
+        CategorySalesLeaderboard alwaysReload = new CategorySalesLeaderboard(queryRepository, outboxEventRepository, primaryReader, 0);
+
+        //when
+        leaderboard.snapshot(KIND_GRADE_ID, 5, 1L);
+        leaderboard.evict(KIND_GRADE_ID);
+        queryRepository.totalPrices.add(new SellerIdAndTotalPriceDTO(2L, 2000L));
+        Snapshot afterEvict = leaderboard.snapshot(KIND_GRADE_ID, 5, 1L);
+        alwaysReload.snapshot(KIND_GRADE_ID, 5, 1L);
+        alwaysReload.snapshot(KIND_GRADE_ID, 5, 1L);
+
+        //then
+        assertThat(afterEvict.getTotalPrice()).isEqualTo(3000L);
+        assertThat(queryRepository.loadCount).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("적재 결과에 포함된 이벤트, 다시 전달된 이벤트는 반영하지 않음")
+    void recordOncePerEvent() throws Exception {
+        //given
+        queryRepository.totalPrices.add(new SellerIdAndTotalPriceDTO(1L, 1000L));
+        outboxEventRepository.maxId = 10; // 10번 이벤트까지 DB 적재 결과에 포함
+        CategorySalesLeaderboard leaderboard = new CategorySalesLeaderboard(queryRepository, outboxEventRepository, primaryReader, 10);
+        leaderboard.snapshot(KIND_GRADE_ID, 5, 1L);
+        LocalDateTime now = LocalDateTime.now();
+
+        //when
+        leaderboard.recordOrder(10, now, List.of(new Sale(KIND_GRADE_ID, 1L, 1000L)));
+        leaderboard.recordOrder(11, now, List.of(new Sale(KIND_GRADE_ID, 1L, 2000L), new Sale(KIND_GRADE_ID, 2L, 500L)));
+        leaderboard.recordOrder(11, now, List.of(new Sale(KIND_GRADE_ID, 1L, 2000L), new Sale(KIND_GRADE_ID, 2L, 500L))); // 전달 결과 커밋 실패 후 다시 전달
+        Snapshot snapshot = leaderboard.snapshot(KIND_GRADE_ID, 5, 1L);
+
+        //then
+        assertThat(snapshot.getTotalPrice()).isEqualTo(3500L);
+        assertThat(snapshot.getSellerTotalPrice()).isEqualTo(3000L);
+    }
+
+    private List<Long> sellerIds(Snapshot snapshot) {
+        return snapshot.getTopSellers().stream()
+                .map(SellerSales::getSellerId)
+                .collect(Collectors.toList());
+    }
+
+    static class StubQueryRepository extends OrderProductQueryRepository { // 품목 등급 판매자별 판매액 적재 결과 고정
+
+        final List<SellerIdAndTotalPriceDTO> totalPrices = new ArrayList<>();
+        int loadCount;
+
+        StubQueryRepository() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public List<SellerIdAndTotalPriceDTO> findKindGradeSellerTotalPrices(Long kindGradeId, LocalDateTime startDate, LocalDateTime endDate) {
+            loadCount++;
+            return new ArrayList<>(totalPrices);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package creative.market.cache;
+
+import creative.market.cache.ClosedMonthResultCache.MonthValue;
+import creative.market.domain.analytics.ClosedMonthResult;
+import creative.market.repository.ClosedMonthResultRepository;
+import creative.market.repository.dto.CategoryParamDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClosedMonthResultCacheTest {
+
+    static final YearMonth LAST_CLOSED = ClosedMonthResultCache.lastClosedMonth(LocalDate.now());
+    static final MonthValue<MonthTotal> MONTH_TOTAL = MonthValue.of(MonthTotal::getDate, MonthTotal::getValue, (value, date) -> new MonthTotal(date, value));
+    static final CategoryParamDTO ITEM_CATEGORY = new CategoryParamDTO(100, null, null, null);
+
+    StubClosedMonthResultRepository repository = new StubClosedMonthResultRepository();
+    ClosedMonthResultCache cache = new ClosedMonthResultCache(repository, new StubTransactionManager());
+    List<String> loadedRanges = new ArrayList<>(); // loader 호출 (시작월~종료월)
+
+    @AfterEach
+    void tearDown() {
+        cache.destroy();
+    }
+
+    @Test
+    @DisplayName("말일 주문의 취소 가능 기간이 지나야 달이 닫힘")
+    void lastClosedMonth() throws Exception {
+        //given
+        LocalDate cancelableLastDay = LocalDate.of(2022, 11, 2); // 10월 31일 주문은 11월 2일까지 취소 가능
+        LocalDate closedDay = LocalDate.of(2022, 11, 3);
+
+        //when
+        YearMonth beforeClose = ClosedMonthResultCache.lastClosedMonth(cancelableLastDay);
+        YearMonth afterClose = ClosedMonthResultCache.lastClosedMonth(closedDay);
+
+        //then
+        assertThat(beforeClose).isEqualTo(YearMonth.of(2022, 9));
+        assertThat(afterClose).isEqualTo(YearMonth.of(2022, 10));
+    }
+
+    @Test
+    @DisplayName("월초에 닫히는 달은 전전달")
+    void lastClosedMonthAtMonthStart() throws Exception {
+        //given
+        LocalDate today = LocalDate.of(2023, 3, 1); // 2월 28일 주문은 3월 2일까지 취소 가능
+
+        //when
+        YearMonth lastClosed = ClosedMonthResultCache.lastClosedMonth(today);
+
+        //then
+        assertThat(lastClosed).isEqualTo(YearMonth.of(2023, 1));
+    }
+
+    @Test
+    @DisplayName("저장된 닫힌 달 + 저장되지 않은 달부터 sql 로 집계한 결과를 월 순서로 합치고, 새로 집계한 닫힌 달만 저장")
+    void perMonthMergesCachedAndLoaded() throws Exception {
+        //given
+        repository.rows.add(new ClosedMonthResult("total:null", LAST_CLOSED.minusMonths(2).toString(), "0", false, 10));
+        repository.rows.add(new ClosedMonthResult("total:null", LAST_CLOSED.minusMonths(1).toString(), "0", false, 20));
+
+        //when
+        List<MonthTotal> result = perMonth(null, 0, LAST_CLOSED.minusMonths(2), LAST_CLOSED.plusMonths(1));
+        cache.awaitWrites();
+
+        //then
+        assertThat(result).extracting(MonthTotal::getValue).containsExactly(10.0, 20.0, 1.0, 1.0);
+        assertThat(loadedRanges).containsExactly(LAST_CLOSED + "~" + LAST_CLOSED.plusMonths(1));
+        assertThat(repository.saved).containsExactly(Map.of(LAST_CLOSED.toString(), 1.0)); // 닫히지 않은 달은 저장 안함
+    }
+
+    @Test
+    @DisplayName("앞에서부터 이어진 저장된 달만 사용, 중간에 빠진 달이 있으면 그 달부터 다시 집계")
+    void perMonthUsesCachedPrefixOnly() throws Exception {
+        //given
+        repository.rows.add(new ClosedMonthResult("total:null", LAST_CLOSED.minusMonths(2).toString(), "0", false, 10));
+        repository.rows.add(new ClosedMonthResult("total:null", LAST_CLOSED.toString(), "0", false, 30)); // 전달이 빠짐
+
+        //when
+        List<MonthTotal> result = perMonth(null, 0, LAST_CLOSED.minusMonths(2), LAST_CLOSED);
+
+        //then
+        assertThat(result).extracting(MonthTotal::getValue).containsExactly(10.0, 1.0, 1.0);
+        assertThat(loadedRanges).containsExactly(LAST_CLOSED.minusMonths(1) + "~" + LAST_CLOSED);
+    }
+
+    @Test
+    @DisplayName("버전이 다르면 저장된 결과를 사용하지 않고 다시 집계")
+    void perMonthVersionMismatch() throws Exception {
+        //given
+        repository.rows.add(new ClosedMonthResult("total:null", LAST_CLOSED.toString(), "3", false, 10)); // 판매자 수 3 일때 결과
+
+        //when
+        List<MonthTotal> result = perMonth(null, 4, LAST_CLOSED, LAST_CLOSED);
+        cache.awaitWrites();
+
+        //then
+        assertThat(result).extracting(MonthTotal::getValue).containsExactly(1.0);
+        assertThat(loadedRanges).containsExactly(LAST_CLOSED + "~" + LAST_CLOSED);
+        assertThat(repository.savedVersions).containsExactly("4");
+    }
+
+    @Test
+    @DisplayName("카테고리 결과는 품목 등급 변경 횟수를 버전에 포함 -> 변경 전 결과는 읽지 않음")
+    void perMonthCategoryGeneration() throws Exception {
+        //given
+        perMonth(ITEM_CATEGORY, 0, LAST_CLOSED, LAST_CLOSED);
+        cache.awaitWrites();
+
+        //when
+        cache.evictCategoryFiltered(); // 다른 서버의 변경이어도 테이블의 변경 횟수로 판단
+        perMonth(ITEM_CATEGORY, 0, LAST_CLOSED, LAST_CLOSED);
+        cache.awaitWrites();
+
+        //then
+        assertThat(loadedRanges).hasSize(2); // 변경 후에는 다시 집계
+        assertThat(repository.savedVersions).containsExactly("0@0", "0@1");
+    }
+
+    @Test
+    @DisplayName("집계 중 품목 등급이 바뀌면 카테고리 결과를 저장하지 않음")
+    void perMonthSkipsSaveOnGenerationChange() throws Exception {
+        //when
+        cache.perMonth("total", null, ITEM_CATEGORY, 0, LAST_CLOSED, LAST_CLOSED, MONTH_TOTAL, (from, to) -> {
+            repository.generation++; // 집계 중 다른 서버에서 품목 등급 변경
+            return List.of(new MonthTotal(from.toString(), 1.0));
+        });
+        cache.awaitWrites();
+
+        //then
+        assertThat(repository.saved).isEmpty();
+    }
+
+    private List<MonthTotal> perMonth(CategoryParamDTO categoryParamDTO, long version, YearMonth startDate, YearMonth endDate) {
+        return cache.perMonth("total", null, categoryParamDTO, version, startDate, endDate, MONTH_TOTAL, (from, to) -> {
+            loadedRanges.add(from + "~" + to);
+            List<MonthTotal> loaded = new ArrayList<>();
+            for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                loaded.add(new MonthTotal(month.toString(), 1.0));
+            }
+            return loaded;
+        });
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class MonthTotal {
+
+        private final String date;
+        private final double value;
+    }
+
+    static class StubClosedMonthResultRepository extends ClosedMonthResultRepository { // 메모리에 보관
+
+        private final List<ClosedMonthResult> rows = new ArrayList<>();
+        private final List<Map<String, Double>> saved = new ArrayList<>();
+        private final List<String> savedVersions = new ArrayList<>();
+        private long generation;
+
+        StubClosedMonthResultRepository() {
+            super(null, null);
+        }
+
+        @Override
+        public List<ClosedMonthResult> findByKey(String resultKey, String version, YearMonth startDate, YearMonth endDate) {
+            return rows.stream()
+                    .filter(row -> row.getResultKey().equals(resultKey) && row.getVersion().equals(version)
+                            && row.getYm().compareTo(startDate.toString()) >= 0 && row.getYm().compareTo(endDate.toString()) <= 0)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public void saveAll(String resultKey, String version, boolean categoryFiltered, Map<String, Double> valuePerMonth) {
+            saved.add(valuePerMonth);
+            savedVersions.add(version);
+            valuePerMonth.forEach((ym, value) -> rows.add(new ClosedMonthResult(resultKey, ym, version, categoryFiltered, value)));
+        }
+
+        @Override
+        public long findCategoryGeneration() {
+            return generation;
+        }
+
+        @Override
+        public void increaseCategoryGeneration() {
+            generation++;
+        }
+
+        @Override
+        public long deleteCategoryFiltered() {
+            List<ClosedMonthResult> deleted = rows.stream()
+                    .filter(ClosedMonthResult::isCategoryFiltered)
+                    .collect(Collectors.toList());
+            rows.removeAll(deleted);
+            return deleted.size();
+        }
+    }
+
+    static class StubTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package creative.market.cache;
+
+import creative.market.datasource.PrimaryReader;
+import creative.market.repository.OutboxEventRepository;
+import creative.market.repository.ProductRepository;
+import creative.market.repository.dto.KindGradePriceStatDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class KindGradePriceAverageTest { // DB 조회 결과를 고정한 상품 저장소로 적재, 갱신, 보정 확인
+
+    static final Long KIND_GRADE_ID = 10L;
+
+    StubProductRepository productRepository = new StubProductRepository();
+    StubOutboxEventRepository outboxEventRepository = new StubOutboxEventRepository();
+    KindGradePriceAverage kindGradePriceAverage = new KindGradePriceAverage(productRepository, outboxEventRepository, new PrimaryReader(false, false, null)); // 단일 데이터소스 -> 그대로 조회
+
+    @Test
+    @DisplayName("처음 조회시 한번 적재, 이후 등록, 수정, 삭제 반영")
+    void loadAndApply() throws Exception {
+        //given
+        productRepository.priceStats.put(KIND_GRADE_ID, new long[]{3000, 2});
+
+        //when
+        int loaded = kindGradePriceAverage.getAvgPrice(KIND_GRADE_ID);
+        kindGradePriceAverage.add(1, KIND_GRADE_ID, 3000);
+        kindGradePriceAverage.change(2, KIND_GRADE_ID, 1000, KIND_GRADE_ID, 4000);
+        kindGradePriceAverage.remove(3, KIND_GRADE_ID, 2000);
+        int applied = kindGradePriceAverage.getAvgPrice(KIND_GRADE_ID);
+
+        //then
+        assertThat(loaded).isEqualTo(1500);
+        assertThat(applied).isEqualTo(3500); // (3000 + 3000 - 1000 + 4000 - 2000) / 2
+        assertThat(productRepository.loadCount).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 품목 등급 갱신은 무시, 판매중인 상품이 없으면 0")
+    void applyBeforeLoad() throws Exception {
+        //when
+        kindGradePriceAverage.add(1, KIND_GRADE_ID, 3000);
+
+        //then
+        assertThat(kindGradePriceAverage.getAvgPrice(KIND_GRADE_ID)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("보정시 DB 값으로 교체")
+    void reconcile() throws Exception {
+        //given
+        productRepository.priceStats.put(KIND_GRADE_ID, new long[]{3000, 2});
+        kindGradePriceAverage.getAvgPrice(KIND_GRADE_ID);
+        kindGradePriceAverage.add(1, KIND_GRADE_ID, 9000); // 커밋되지 않은 갱신 등으로 생긴 오차
+        productRepository.priceStats.put(KIND_GRADE_ID, new long[]{6000, 3});
+
+        //when
+        kindGradePriceAverage.reconcile();
+
+        //then
+        assertThat(kindGradePriceAverage.getAvgPrice(KIND_GRADE_ID)).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("보정 조회 중 갱신된 품목 등급은 교체하지 않음")
+    void reconcileKeepsConcurrentUpdate() throws Exception {
+        //given
+        productRepository.priceStats.put(KIND_GRADE_ID, new long[]{3000, 2});
+        kindGradePriceAverage.getAvgPrice(KIND_GRADE_ID);
+        productRepository.onLoad = () -> kindGradePriceAverage.add(1, KIND_GRADE_ID, 6000); // 보정 조회 중 상품 등록 이벤트
+
+        //when
+        kindGradePriceAverage.reconcile();
+
+        //then
+        assertThat(kindGradePriceAverage.getAvgPrice(KIND_GRADE_ID)).isEqualTo(3000); // (3000 + 6000) / 3
+    }
+
+    @Test
+    @DisplayName("적재 결과에 포함된 이벤트, 다시 전달된 이벤트는 반영하지 않음")
+    void applyOncePerEvent() throws Exception {
+        //given
+        productRepository.priceStats.put(KIND_GRADE_ID, new long[]{3000, 2});
+        outboxEventRepository.maxId = 10; // 10번 이벤트까지 DB 적재 결과에 포함
+        kindGradePriceAverage.getAvgPrice(KIND_GRADE_ID);
+
+        //when
+        kindGradePriceAverage.add(10, KIND_GRADE_ID, 9000);
+        kindGradePriceAverage.add(11, KIND_GRADE_ID, 3000);
+        kindGradePriceAverage.add(11, KIND_GRADE_ID, 3000); // 전달 결과 커밋 실패 후 다시 전달
+
+        //then
+        assertThat(kindGradePriceAverage.getAvgPrice(KIND_GRADE_ID)).isEqualTo(2000); // (3000 + 3000) / 3
+    }
+
+    static class StubOutboxEventRepository extends OutboxEventRepository { // 적재 시점 마지막 아웃박스 이벤트 아이디 고정
+
+        long maxId;
+
+        StubOutboxEventRepository() {
+            super(null);
+        }
+
+        @Override
+        public long findMaxId() {
+            return maxId;
+        }
+    }
+
+    static class StubProductRepository extends ProductRepository { // 품목 등급별 [가격 합, 상품 수] 고정
+
+        final Map<Long, long[]> priceStats = new HashMap<>();
+        Runnable onLoad = () -> {
+        };
+        int loadCount;
+
+        StubProductRepository() {
+            super(null, null, null);
+        }
+
+        @Override
+        public List<KindGradePriceStatDTO> findExistProductPriceStats(Collection<Long> kindGradeIds) {
+            loadCount++;
+            onLoad.run();
+            List<KindGradePriceStatDTO> result = new ArrayList<>();
+            kindGradeIds.stream()
+                    .filter(priceStats::containsKey)
+                    .forEach(id -> result.add(new KindGradePriceStatDTO(id, priceStats.get(id)[0], priceStats.get(id)[1])));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package creative.market.cache;
+
+import creative.market.cache.KindGradeResolver.KindGradePath;
+import creative.market.domain.category.KindGrade;
+import creative.market.repository.category.KindGradeRepository;
+import creative.market.repository.dto.CategoryParamDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class KindGradeResolverTest {
+
+    @Autowired
+    KindGradeResolver kindGradeResolver;
+    @Autowired
+    KindGradeRepository kindGradeRepository;
+
+    @Test
+    @DisplayName("카테고리 조건 없으면 필터 안함")
+    void resolveNoCondition() throws Exception {
+        //given
+        CategoryParamDTO categoryParam = new CategoryParamDTO();
+
+        //when
+        Optional<List<Long>> kindGradeIds = kindGradeResolver.resolve(categoryParam);
+
+        //then
+        assertThat(kindGradeIds).isEmpty();
+    }
+
+    @Test
+    @DisplayName("품목 조건 -> 해당 품목의 모든 품목 등급")
+    void resolveItem() throws Exception {
+        //given
+        List<KindGrade> kindGrades = kindGradeRepository.findAllFetchJoinCategory();
+        int itemCode = kindGrades.get(0).getKind().getItem().getItemCode();
+        List<Long> expected = kindGrades.stream()
+                .filter(kindGrade -> kindGrade.getKind().getItem().getItemCode() == itemCode)
+                .map(KindGrade::getId)
+                .collect(Collectors.toList());
+
+        //when
+        Optional<List<Long>> kindGradeIds = kindGradeResolver.resolve(new CategoryParamDTO(null, itemCode, null, null));
+
+        //then
+        assertThat(kindGradeIds).isPresent();
+        assertThat(kindGradeIds.get()).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("상위 조건이 맞지 않으면 빈 목록")
+    void resolveInconsistentCondition() throws Exception {
+        //given
+        KindGrade kindGrade = kindGradeRepository.findAllFetchJoinCategory().get(0);
+        int otherItemCode = kindGrade.getKind().getItem().getItemCode() + 1;
+
+        //when
+        Optional<List<Long>> kindGradeIds = kindGradeResolver.resolve(new CategoryParamDTO(null, otherItemCode, null, kindGrade.getId()));
+
+        //then
+        assertThat(kindGradeIds).isPresent();
+        assertThat(kindGradeIds.get()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("품목 분류 스냅샷 (판매자 백분위 인덱스, 주문 상품 통계 저장소 공유) -> 품목 등급 id 오름차순, 상위 분류 포함")
+    void kindGradePaths() throws Exception {
+        //given
+        Map<Long, KindGrade> kindGrades = kindGradeRepository.findAllFetchJoinCategory().stream()
+                .collect(Collectors.toMap(KindGrade::getId, Function.identity()));
+
+        //when
+        List<KindGradePath> paths = kindGradeResolver.kindGradePaths();
+
+        //then
+        assertThat(paths).extracting(KindGradePath::getKindGradeId).isSorted().containsExactlyInAnyOrderElementsOf(kindGrades.keySet());
+        paths.forEach(path -> {
+            KindGrade kindGrade = kindGrades.get(path.getKindGradeId());
+            assertThat(path.getKindId()).isEqualTo(kindGrade.getKind().getId());
+            assertThat(path.getItemCode()).isEqualTo(kindGrade.getKind().getItem().getItemCode());
+            assertThat(path.getItemCategoryCode()).isEqualTo(kindGrade.getKind().getItem().getItemCategory().getItemCategoryCode());
+        });
+    }
+}
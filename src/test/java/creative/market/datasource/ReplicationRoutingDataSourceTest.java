@@ -0,0 +1,150 @@
+package creative.market.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReplicationRoutingDataSourceTest { // primary, replica 를 각각 임베디드 DB 로 띄워서 라우팅 확인
+
+    EmbeddedDatabase primary;
+    EmbeddedDatabase replica;
+    ReplicaLagMonitor lagMonitor;
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate readTransaction;
+    TransactionTemplate writeTransaction;
+    PrimaryReader primaryReader;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+        lagMonitor = new ReplicaLagMonitor(replica, "select 0 as Seconds_Behind_Source", 5);
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(lagMonitor, new ReadYourWrites(60));
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(ReplicationRoutingDataSource.PRIMARY, primary, ReplicationRoutingDataSource.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        primaryReader = new PrimaryReader(true, false, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica 에서 읽는다")
+    void readOnlyToReplica() throws Exception {
+        assertThat(currentDatabase(readTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary 를 사용한다")
+    void writeToPrimary() throws Exception {
+        assertThat(currentDatabase(writeTransaction)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("자신의 쓰기 직후 읽기는 primary, 다른 사용자는 replica")
+    void readYourWrites() throws Exception {
+        //given
+        ReadYourWrites.bindUser(1L);
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("update db_name set name = name"));
+
+        //when
+        String writerRead = currentDatabase(readTransaction);
+        ReadYourWrites.bindUser(2L);
+        String otherRead = currentDatabase(readTransaction);
+
+        //then
+        assertThat(writerRead).isEqualTo("primary");
+        assertThat(otherRead).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 읽기 라우팅에 영향 없음")
+    void rollbackNotSticky() throws Exception {
+        //given
+        ReadYourWrites.bindUser(1L);
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("update db_name set name = name");
+            status.setRollbackOnly();
+        });
+
+        //when
+        String result = currentDatabase(readTransaction);
+
+        //then
+        assertThat(result).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("캐시 적재 조회는 replica 커넥션을 잡은 readOnly 트랜잭션 안에서도 primary 에서 읽는다")
+    void cacheLoadToPrimary() throws Exception {
+        //when
+        String[] result = readTransaction.execute(status -> new String[]{
+                jdbcTemplate.queryForObject("select name from db_name", String.class),
+                primaryReader.read(() -> jdbcTemplate.queryForObject("select name from db_name", String.class)),
+                jdbcTemplate.queryForObject("select name from db_name", String.class)});
+
+        //then
+        assertThat(result).containsExactly("replica", "primary", "replica");
+        assertThat(PrimaryReadContext.isPrimaryRead()).isFalse();
+    }
+
+    @Test
+    @DisplayName("복제 지연 확인 실패시 primary 에서 읽는다")
+    void replicaUnavailable() throws Exception {
+        //given
+        ReplicaLagMonitor brokenMonitor = new ReplicaLagMonitor(replica, "select * from not_exist_table", 5);
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(brokenMonitor, new ReadYourWrites(60));
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(ReplicationRoutingDataSource.PRIMARY, primary, ReplicationRoutingDataSource.REPLICA, replica));
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readTransaction.setReadOnly(true);
+
+        //when
+        brokenMonitor.check();
+
+        //then
+        assertThat(brokenMonitor.isAvailable()).isFalse();
+        assertThat(currentDatabase(readTransaction)).isEqualTo("primary");
+    }
+
+    private String currentDatabase(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from db_name", String.class));
+    }
+
+    private EmbeddedDatabase createDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name)
+                .build();
+        new JdbcTemplate(database).execute("create table db_name (name varchar(20))");
+        new JdbcTemplate(database).update("insert into db_name values (?)", name);
+        return database;
+    }
+}
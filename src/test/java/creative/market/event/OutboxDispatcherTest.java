@@ -0,0 +1,174 @@
+package creative.market.event;
+
+import creative.market.domain.outbox.OutboxEvent;
+import creative.market.domain.outbox.OutboxStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "outbox.retry-backoff-ms=0")
+@Transactional
+class OutboxDispatcherTest { // 리뷰 이벤트는 운영 핸들러가 없어서 테스트 핸들러만 받음, aggregate 아이디는 음수로 구분
+
+    @Autowired
+    DomainEventPublisher domainEventPublisher;
+    @Autowired
+    OutboxDispatcher outboxDispatcher;
+    @Autowired
+    RecordingHandler recordingHandler;
+    @Autowired
+    EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        recordingHandler.reset();
+    }
+
+    @Test
+    @DisplayName("이벤트를 핸들러에 한번만 전달하고 전달 완료 표시")
+    void dispatchOnce() throws Exception {
+        //given
+        domainEventPublisher.publish(new ReviewCreatedEvent(-1L, 1L, 1L, 5F));
+
+        //when
+        outboxDispatcher.dispatch();
+        outboxDispatcher.dispatch();
+
+        //then
+        assertThat(recordingHandler.getDelivered()).containsExactly("created:-1");
+        OutboxEvent outboxEvent = findOutboxEvents(-1L).get(0);
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        assertThat(outboxEvent.isDeliveredTo("RecordingHandler")).isTrue();
+    }
+
+    @Test
+    @DisplayName("전달 실패시 재시도, 같은 aggregate 의 이후 이벤트는 앞 이벤트 전달 후 전달")
+    void retryInOrder() throws Exception {
+        //given
+        recordingHandler.failOnce(-2L);
+        domainEventPublisher.publish(new ReviewCreatedEvent(-2L, 1L, 1L, 5F));
+        domainEventPublisher.publish(new ReviewDeletedEvent(-2L, 1L, 1L, 5F));
+        domainEventPublisher.publish(new ReviewCreatedEvent(-3L, 1L, 1L, 4F));
+
+        //when
+        outboxDispatcher.dispatch();
+        List<String> firstDelivered = new ArrayList<>(recordingHandler.getDelivered());
+        OutboxEvent failedEvent = findOutboxEvents(-2L).get(0);
+        int failedAttempts = failedEvent.getAttempts();
+        OutboxStatus failedStatus = failedEvent.getStatus();
+        outboxDispatcher.dispatch(); // 재시도 -> 앞 이벤트 전달
+        outboxDispatcher.dispatch(); // 앞 이벤트 전달 후 다음 이벤트 전달
+
+        //then
+        assertThat(firstDelivered).containsExactly("created:-3");
+        assertThat(failedAttempts).isEqualTo(1);
+        assertThat(failedStatus).isEqualTo(OutboxStatus.PENDING);
+        assertThat(recordingHandler.getDelivered()).containsExactly("created:-3", "created:-2", "deleted:-2");
+        assertThat(findOutboxEvents(-2L)).extracting(OutboxEvent::getStatus)
+                .containsExactly(OutboxStatus.PUBLISHED, OutboxStatus.PUBLISHED);
+    }
+
+    @Test
+    @DisplayName("재시도 대기중인 이벤트가 있어도 다른 aggregate 의 이후 이벤트는 전달")
+    void notStarvedByBackoff() throws Exception {
+        //given
+        recordingHandler.failOnce(-4L);
+        domainEventPublisher.publish(new ReviewCreatedEvent(-4L, 1L, 1L, 5F));
+        outboxDispatcher.dispatch();
+        OutboxEvent backoffEvent = findOutboxEvents(-4L).get(0);
+        ReflectionTestUtils.setField(backoffEvent, "nextAttemptAt", LocalDateTime.now().plusHours(1)); // 재시도 대기
+        em.flush();
+
+        //when
+        domainEventPublisher.publish(new ReviewDeletedEvent(-4L, 1L, 1L, 5F));
+        domainEventPublisher.publish(new ReviewCreatedEvent(-5L, 1L, 1L, 4F));
+        outboxDispatcher.dispatch();
+
+        //then
+        assertThat(recordingHandler.getDelivered()).containsExactly("created:-5");
+        assertThat(findOutboxEvents(-4L)).extracting(OutboxEvent::getStatus)
+                .containsExactly(OutboxStatus.PENDING, OutboxStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 전달 완료 이벤트만 삭제, 전달 전 이벤트는 유지")
+    void purgePublished() throws Exception {
+        //given
+        domainEventPublisher.publish(new ReviewCreatedEvent(-6L, 1L, 1L, 5F));
+        outboxDispatcher.dispatch();
+        recordingHandler.failOnce(-7L);
+        domainEventPublisher.publish(new ReviewCreatedEvent(-7L, 1L, 1L, 5F));
+        outboxDispatcher.dispatch();
+
+        //when
+        outboxDispatcher.purgePublished(LocalDateTime.now().plusDays(1));
+        em.clear();
+
+        //then
+        assertThat(findOutboxEvents(-6L)).isEmpty();
+        assertThat(findOutboxEvents(-7L)).extracting(OutboxEvent::getStatus)
+                .containsExactly(OutboxStatus.PENDING);
+    }
+
+    private List<OutboxEvent> findOutboxEvents(Long aggregateId) {
+        return em.createQuery("select o from OutboxEvent o where o.aggregateId = :aggregateId order by o.id", OutboxEvent.class)
+                .setParameter("aggregateId", aggregateId)
+                .getResultList();
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+
+    static class RecordingHandler implements DomainEventHandler {
+
+        private final List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        private final Set<Long> failOnce = Collections.synchronizedSet(new HashSet<>());
+
+        @Override
+        public List<Class<? extends DomainEvent>> eventTypes() {
+            return List.of(ReviewCreatedEvent.class, ReviewDeletedEvent.class);
+        }
+
+        @Override
+        public void handle(long eventId, DomainEvent event) {
+            if (event.aggregateId() >= 0) { // 테스트에서 발행하지 않은 이벤트
+                return;
+            }
+            if (failOnce.remove(event.aggregateId())) {
+                throw new IllegalStateException("전달 실패");
+            }
+            delivered.add((event instanceof ReviewCreatedEvent ? "created:" : "deleted:") + event.aggregateId());
+        }
+
+        List<String> getDelivered() {
+            return delivered;
+        }
+
+        void failOnce(Long aggregateId) {
+            failOnce.add(aggregateId);
+        }
+
+        void reset() {
+            delivered.clear();
+            failOnce.clear();
+        }
+    }
+}
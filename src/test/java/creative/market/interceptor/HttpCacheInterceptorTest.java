@@ -0,0 +1,182 @@
+package creative.market.interceptor;
+
+import creative.market.cache.ResponseVersions;
+import creative.market.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HttpCacheInterceptorTest { // 컨트롤러 없이 핸들러 메서드만 만들어서 ETag, 304 확인
+
+    StubProductRepository productRepository = new StubProductRepository();
+    ResponseVersions responseVersions = new ResponseVersions(productRepository, 60);
+    HttpCacheInterceptor interceptor = new HttpCacheInterceptor(responseVersions, 3600, 30, 10);
+
+    @Test
+    @DisplayName("처음 요청은 ETag, Cache-Control 설정 후 처리, 같은 ETag 로 다시 요청하면 304")
+    void notModified() throws Exception {
+        //given
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        boolean firstHandled = interceptor.preHandle(get("/api/products"), firstResponse, handler("catalog"));
+        String etag = firstResponse.getHeader(HttpHeaders.ETAG);
+
+        //when
+        MockHttpServletRequest request = get("/api/products");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean handled = interceptor.preHandle(request, response, handler("catalog"));
+
+        //then
+        assertThat(firstHandled).isTrue();
+        assertThat(etag).startsWith("W/\"c");
+        assertThat(firstResponse.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=30, public");
+        assertThat(handled).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("상품 변경 후에는 이전 ETag 로 요청해도 처리 (버전 증가)")
+    void catalogChanged() throws Exception {
+        //given
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        interceptor.preHandle(get("/api/products"), firstResponse, handler("catalog"));
+        String etag = firstResponse.getHeader(HttpHeaders.ETAG);
+
+        //when
+        responseVersions.catalogChanged();
+        MockHttpServletRequest request = get("/api/products");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean handled = interceptor.preHandle(request, response, handler("catalog"));
+
+        //then
+        assertThat(handled).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("상품 상세 ETag 는 상품 변경 시각으로 만들고 변경되면 달라짐")
+    void productEtag() throws Exception {
+        //given
+        productRepository.versionDates.put(1L, LocalDateTime.of(2022, 10, 1, 10, 0));
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        interceptor.preHandle(productRequest("1"), firstResponse, handler("product"));
+        String etag = firstResponse.getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest sameRequest = productRequest("1");
+        sameRequest.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse sameResponse = new MockHttpServletResponse();
+        boolean sameHandled = interceptor.preHandle(sameRequest, sameResponse, handler("product"));
+
+        //when
+        productRepository.versionDates.put(1L, LocalDateTime.of(2022, 10, 2, 10, 0)); // 상품 수정
+        MockHttpServletRequest changedRequest = productRequest("1");
+        changedRequest.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse changedResponse = new MockHttpServletResponse();
+        boolean changedHandled = interceptor.preHandle(changedRequest, changedResponse, handler("product"));
+
+        //then
+        assertThat(etag).startsWith("W/\"p1.");
+        assertThat(firstResponse.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=10, public");
+        assertThat(sameHandled).isFalse();
+        assertThat(sameResponse.getStatus()).isEqualTo(304);
+        assertThat(changedHandled).isTrue();
+        assertThat(changedResponse.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("판매중이 아닌 상품, 숫자가 아닌 상품 아이디는 캐시 헤더 없이 그대로 처리")
+    void productWithoutVersion() throws Exception {
+        //given
+        MockHttpServletResponse deletedResponse = new MockHttpServletResponse();
+        MockHttpServletResponse invalidResponse = new MockHttpServletResponse();
+
+        //when
+        boolean deletedHandled = interceptor.preHandle(productRequest("2"), deletedResponse, handler("product"));
+        boolean invalidHandled = interceptor.preHandle(productRequest("abc"), invalidResponse, handler("product"));
+
+        //then
+        assertThat(deletedHandled).isTrue();
+        assertThat(deletedResponse.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(invalidHandled).isTrue();
+        assertThat(invalidResponse.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    @DisplayName("@HttpCache 가 없는 조회, GET 이 아닌 요청은 캐시 헤더 없이 처리")
+    void notTarget() throws Exception {
+        //given
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/api/products");
+        MockHttpServletResponse postResponse = new MockHttpServletResponse();
+        MockHttpServletResponse noCacheResponse = new MockHttpServletResponse();
+
+        //when
+        boolean postHandled = interceptor.preHandle(post, postResponse, handler("catalog"));
+        boolean noCacheHandled = interceptor.preHandle(get("/api/carts"), noCacheResponse, handler("noCache"));
+
+        //then
+        assertThat(postHandled).isTrue();
+        assertThat(postResponse.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(noCacheHandled).isTrue();
+        assertThat(noCacheResponse.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    private MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    private MockHttpServletRequest productRequest(String productId) {
+        MockHttpServletRequest request = get("/api/products/" + productId);
+        Map<String, String> pathVariables = new HashMap<>();
+        pathVariables.put("productId", productId);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, pathVariables);
+        return request;
+    }
+
+    private HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(new TestController(), TestController.class.getMethod(methodName));
+    }
+
+    static class TestController {
+
+        @HttpCache(HttpCacheTarget.CATALOG)
+        public String catalog() {
+            return "catalog";
+        }
+
+        @HttpCache(HttpCacheTarget.PRODUCT)
+        public String product() {
+            return "product";
+        }
+
+        public String noCache() {
+            return "noCache";
+        }
+    }
+
+    static class StubProductRepository extends ProductRepository { // 판매중인 상품의 변경 시각 고정
+
+        final Map<Long, LocalDateTime> versionDates = new HashMap<>();
+
+        StubProductRepository() {
+            super(null, null, null);
+        }
+
+        @Override
+        public Optional<LocalDateTime> findExistProductVersionDate(Long productId) {
+            return Optional.ofNullable(versionDates.get(productId));
+        }
+    }
+}
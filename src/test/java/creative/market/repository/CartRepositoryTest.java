@@ -10,6 +10,7 @@ import creative.market.service.dto.RegisterProductDTO;
 import creative.market.service.dto.UploadFileDTO;
 import creative.market.util.FileStoreUtils;
 import creative.market.util.FileSubPath;
+import creative.market.util.QueryCountAssert;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -84,6 +85,8 @@ class CartRepositoryTest {
 
     @AfterEach
     private void afterEach() {
+        QueryCountAssert.clear();
+
         // 저장된 사진 제거
         List<Product> findProducts = productRepository.findAll();
         findProducts.forEach(product -> product.getProductImages()
@@ -119,6 +122,53 @@ class CartRepositoryTest {
 
     }
 
+    @Test
+    @DisplayName("장바구니 상품 아이디로 일괄 삭제")
+    void deleteByProductIds() throws Exception {
+        //given
+        Seller seller1 = createSeller("성호창222", createAddress("122", "122", 12222, "2311114"));
+        em.persist(seller1);
+
+        Product product1 = productRepository.findAll().get(0);
+        Product product2 = productRepository.findAll().get(1);
+
+        Long findCartId1 = cartService.register(product1.getId(), 4, seller1.getId());
+        Long findCartId2 = cartService.register(product2.getId(), 3, seller1.getId());
+
+        //when
+        long deleteCount = cartRepository.deleteByUserIdAndProductIds(seller1.getId(), List.of(product1.getId()));
+
+        //then
+        Assertions.assertThat(deleteCount).isEqualTo(1);
+        Assertions.assertThat(cartRepository.findByUserIdFetchJoinProductAndKind(seller1.getId()))
+                .extracting("id").containsExactly(findCartId2);
+    }
+
+    @Test
+    @DisplayName("장바구니 조회시 상품, 품목 fetch join 으로 쿼리 1번 실행")
+    void readCartListSelectCount() throws Exception {
+        //given
+        Seller seller1 = createSeller("성호창222", createAddress("122", "122", 12222, "2311114"));
+        em.persist(seller1);
+
+        Product product1 = productRepository.findAll().get(0);
+        Product product2 = productRepository.findAll().get(1);
+
+        cartService.register(product1.getId(), 4, seller1.getId());
+        cartService.register(product2.getId(), 3, seller1.getId());
+        em.flush();
+        em.clear();
+
+        //when
+        QueryCountAssert.reset();
+        List<Cart> findCart = cartRepository.findByUserIdFetchJoinProductAndKind(seller1.getId());
+        findCart.forEach(cart -> cart.getProduct().getName());
+
+        //then
+        Assertions.assertThat(findCart.size()).isEqualTo(2);
+        QueryCountAssert.assertSelectCount(1);
+    }
+
     private Seller createSeller(String name, Address address) {
         Seller seller = Seller.builder()
                 .name(name)
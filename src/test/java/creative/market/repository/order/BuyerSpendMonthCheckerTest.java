@@ -0,0 +1,32 @@
+package creative.market.repository.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BuyerSpendMonthCheckerTest {
+
+    @Test
+    @DisplayName("결제 금액이나 주문 상품 수가 다른 구매자만 다시 집계 대상")
+    void findMismatchedBuyers() throws Exception {
+        //given
+        Map<String, long[]> rollup = Map.of(
+                "1:2022-10", new long[]{10000, 2},
+                "2:2022-10", new long[]{5000, 1},
+                "3:2022-11", new long[]{0, 0}); // 모두 취소된 달
+        Map<String, long[]> source = Map.of(
+                "1:2022-10", new long[]{10000, 2},
+                "2:2022-10", new long[]{3000, 1},
+                "4:2022-11", new long[]{7000, 1}); // 적재 안 된 구매자
+
+        //when
+        Set<Long> mismatched = BuyerSpendMonthChecker.findMismatchedBuyers(rollup, source);
+
+        //then
+        assertThat(mismatched).containsExactly(2L, 4L);
+    }
+}
@@ -0,0 +1,241 @@
+package creative.market.repository.order;
+
+import creative.market.domain.Address;
+import creative.market.domain.analytics.BackfillProgress;
+import creative.market.domain.analytics.BuyerSpendMonth;
+import creative.market.domain.category.KindGrade;
+import creative.market.domain.order.OrderProduct;
+import creative.market.domain.product.Product;
+import creative.market.domain.user.Buyer;
+import creative.market.domain.user.Seller;
+import creative.market.repository.BackfillProgressRepository;
+import creative.market.repository.ProductRepository;
+import creative.market.repository.category.KindGradeRepository;
+import creative.market.repository.dto.BuyerTotalPricePerPeriodDTO;
+import creative.market.service.OrderService;
+import creative.market.service.dto.OrderProductParamDTO;
+import creative.market.service.query.OrderProductQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static creative.market.repository.order.BuyerSpendMonthRepository.key;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+class BuyerSpendMonthRepositoryTest {
+
+    @Autowired
+    EntityManager em;
+    @Autowired
+    OrderService orderService;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    KindGradeRepository kindGradeRepository;
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    BuyerSpendMonthRepository buyerSpendMonthRepository;
+    @Autowired
+    BuyerSpendMonthChecker buyerSpendMonthChecker;
+    @Autowired
+    BackfillProgressRepository backfillProgressRepository;
+    @Autowired
+    OrderProductQueryService orderProductQueryService;
+
+    Seller seller;
+    Buyer buyer;
+    Product product1; // 1000 원
+    Product product2; // 3000 원
+    YearMonth thisMonth = YearMonth.now();
+    YearMonth lastMonth = thisMonth.minusMonths(1);
+    YearMonth twoMonthsAgo = thisMonth.minusMonths(2);
+
+    @BeforeEach
+    void before() {
+        seller = createSeller("spendSeller");
+        buyer = createBuyer("spendBuyer");
+        product1 = createProduct(seller, 1000);
+        product2 = createProduct(seller, 3000);
+
+        // 원본: 지난달 3000 원 1건, 이번달 1000 원 1건 (3000 원 x 2 는 취소)
+        // 적재: 주문 후 주문일을 바꿔 이번달 4000 원 2건 (원본과 다름)
+        Long orderId1 = order(buyer, new OrderProductParamDTO(3, product1.getId()));
+        Long orderId2 = order(buyer, new OrderProductParamDTO(1, product1.getId()), new OrderProductParamDTO(2, product2.getId()));
+        orderService.orderCancel(findOrderProduct(orderId2, product2).getId(), buyer.getId());
+        changeCreatedDate(orderId1, LocalDateTime.now().minusMonths(1));
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("원본 집계는 구매자, 주문 월별 취소되지 않은 결제 금액과 주문 상품 수")
+    void aggregateOrders() throws Exception {
+        //when
+        Map<String, long[]> result = buyerSpendMonthRepository.aggregateOrders(buyer.getId(), buyer.getId(), Optional.empty());
+
+        //then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(key(buyer.getId(), lastMonth.toString()))).containsExactly(3000L, 1L);
+        assertThat(result.get(key(buyer.getId(), thisMonth.toString()))).containsExactly(1000L, 1L);
+    }
+
+    @Test
+    @DisplayName("다시 집계하면 원본과 같아지고, 원본에 없는 달(음수 행 포함)은 삭제")
+    void rebuild() throws Exception {
+        //given
+        buyerSpendMonthRepository.add(buyer.getId(), LocalDateTime.now().minusMonths(2), -5000L, -1); // 이전 취소 방식으로 생긴 음수 행
+
+        //when
+        buyerSpendMonthRepository.rebuild(buyer.getId(), buyer.getId(), Optional.empty());
+
+        //then
+        assertThat(BuyerSpendMonthChecker.findMismatchedBuyers(
+                buyerSpendMonthRepository.findRange(buyer.getId(), buyer.getId(), Optional.empty()),
+                buyerSpendMonthRepository.aggregateOrders(buyer.getId(), buyer.getId(), Optional.empty()))).isEmpty();
+        assertThat(buyerSpendMonthRepository.findPerMonth(buyer.getId(), twoMonthsAgo, thisMonth))
+                .extracting(BuyerSpendMonth::getYm, BuyerSpendMonth::getTotal, BuyerSpendMonth::getLineCount)
+                .containsExactly(tuple(lastMonth.toString(), 3000L, 1L), tuple(thisMonth.toString(), 1000L, 1L));
+    }
+
+    @Test
+    @DisplayName("보관된 달 이전은 다시 집계하지 않고 적재된 값 유지")
+    void rebuildSince() throws Exception {
+        //given
+        buyerSpendMonthRepository.add(buyer.getId(), LocalDateTime.now().minusMonths(1), 500L, 1);
+
+        //when
+        buyerSpendMonthRepository.rebuild(buyer.getId(), buyer.getId(), Optional.of(thisMonth));
+
+        //then
+        assertThat(buyerSpendMonthRepository.findPerMonth(buyer.getId(), lastMonth, thisMonth))
+                .extracting(BuyerSpendMonth::getYm, BuyerSpendMonth::getTotal, BuyerSpendMonth::getLineCount)
+                .containsExactly(tuple(lastMonth.toString(), 500L, 1L), tuple(thisMonth.toString(), 1000L, 1L));
+    }
+
+    @Test
+    @DisplayName("취소 차감은 해당 월 행이 없으면 음수 행을 만들지 않음")
+    void subtractWithoutRow() throws Exception {
+        //when
+        buyerSpendMonthRepository.subtract(buyer.getId(), LocalDateTime.now().minusMonths(2), 1000L, 1);
+
+        //then
+        assertThat(buyerSpendMonthRepository.findPerMonth(buyer.getId(), twoMonthsAgo, twoMonthsAgo)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기동시 적재는 진행 상태의 구매자 다음부터 이어서 적재하고 완료 표시")
+    void backfillResumes() throws Exception {
+        //given
+        Buyer nextBuyer = createBuyer("spendBuyer2"); // 진행 상태 이후 구매자
+        Long orderId = order(nextBuyer, new OrderProductParamDTO(1, product2.getId()));
+        changeCreatedDate(orderId, LocalDateTime.now().minusMonths(1));
+        em.flush();
+        backfillProgressRepository.save(BuyerSpendMonthChecker.BACKFILL_JOB, buyer.getId(), false); // buyer 까지 적재 후 중단
+
+        //when
+        buyerSpendMonthChecker.backfill();
+
+        //then
+        assertThat(buyerSpendMonthRepository.findPerMonth(buyer.getId(), lastMonth, thisMonth)) // 이미 적재된 범위는 다시 집계하지 않음
+                .extracting(BuyerSpendMonth::getYm, BuyerSpendMonth::getTotal, BuyerSpendMonth::getLineCount)
+                .containsExactly(tuple(thisMonth.toString(), 4000L, 2L));
+        assertThat(buyerSpendMonthRepository.findPerMonth(nextBuyer.getId(), lastMonth, thisMonth))
+                .extracting(BuyerSpendMonth::getYm, BuyerSpendMonth::getTotal, BuyerSpendMonth::getLineCount)
+                .containsExactly(tuple(lastMonth.toString(), 3000L, 1L));
+        em.clear();
+        BackfillProgress progress = backfillProgressRepository.findByJobName(BuyerSpendMonthChecker.BACKFILL_JOB).orElseThrow(NoSuchElementException::new);
+        assertThat(progress.isCompleted()).isTrue();
+        assertThat(progress.getLastId()).isGreaterThanOrEqualTo(nextBuyer.getId());
+    }
+
+    @Test
+    @DisplayName("구매자 기간별 결제 금액, 주문 없는 달은 0")
+    void buyerTotalPricePerPeriod() throws Exception {
+        //given
+        buyerSpendMonthRepository.rebuild(buyer.getId(), buyer.getId(), Optional.empty());
+
+        //when
+        List<BuyerTotalPricePerPeriodDTO> result = orderProductQueryService.findBuyerTotalPricePerPeriod(thisMonth.minusMonths(3), thisMonth, buyer.getId());
+
+        //then
+        assertThat(result).extracting("date")
+                .containsExactly(thisMonth.minusMonths(3).toString(), twoMonthsAgo.toString(), lastMonth.toString(), thisMonth.toString());
+        assertThat(result).extracting("totalPrice").containsExactly(0L, 0L, 3000L, 1000L);
+    }
+
+    private Long order(Buyer buyer, OrderProductParamDTO... orderProductParams) {
+        return orderService.order(buyer.getId(), new ArrayList<>(List.of(orderProductParams)), createAddress());
+    }
+
+    private void changeCreatedDate(Long orderId, LocalDateTime createdDate) {
+        orderRepository.findById(orderId).orElseThrow(() -> new NoSuchElementException("주문 내역이 존재하지 않습니다."))
+                .changeCreatedDate(createdDate);
+    }
+
+    private OrderProduct findOrderProduct(Long orderId, Product product) {
+        return orderRepository.findById(orderId).orElseThrow(() -> new NoSuchElementException("주문 내역이 존재하지 않습니다."))
+                .getOrderProducts().stream()
+                .filter(orderProduct -> orderProduct.getProduct().getId().equals(product.getId()))
+                .findFirst().orElseThrow(() -> new NoSuchElementException("존재하지 않는 주문 내역입니다"));
+    }
+
+    private Product createProduct(Seller seller, int price) {
+        KindGrade kindGrade = kindGradeRepository.findById(432L).orElseThrow(() -> new NoSuchElementException("존재하지 않는 카테고리입니다"));
+        Product product = Product.builder()
+                .name("상품" + price)
+                .price(price)
+                .info("상품입니다")
+                .kindGrade(kindGrade)
+                .user(seller).build();
+        productRepository.save(product);
+        return product;
+    }
+
+    private Seller createSeller(String loginId) {
+        Seller seller = Seller.builder().name(loginId)
+                .loginId(loginId)
+                .password("1")
+                .birth("19990101")
+                .email(loginId + "@spend.com")
+                .phoneNumber("010-1111-1111")
+                .address(createAddress())
+                .businessName("상호명").build();
+        em.persist(seller);
+        return seller;
+    }
+
+    private Buyer createBuyer(String loginId) {
+        Buyer buyer = Buyer.builder().name(loginId)
+                .loginId(loginId)
+                .password("1")
+                .birth("19990101")
+                .email(loginId + "@spend.com")
+                .phoneNumber("010-0000-0000")
+                .address(createAddress()).build();
+        em.persist(buyer);
+        return buyer;
+    }
+
+    private Address createAddress() {
+        return Address.builder()
+                .jibun("1111")
+                .road("봉사산로")
+                .zipcode(12345)
+                .detailAddress("1동1호").build();
+    }
+}
@@ -0,0 +1,113 @@
+package creative.market.repository.query;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderPartitionPruningTest { // 테스트 스키마에 db/order-partition.sql 과 같은 파티션 테이블을 만들어 실제 통계 sql 실행 계획 확인 (ddl 이 있어 트랜잭션 없음)
+
+    private static final String SCHEMA = "market_partition_test";
+    private static final List<String> TABLES = List.of("orders", "order_product", "product", "user", "review", "year_month_data"); // 통계 sql 이 읽는 테이블
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    YearMonth month = YearMonth.of(2022, 6);
+
+    @BeforeEach
+    void before() {
+        String source = jdbcTemplate.queryForObject("select database()", String.class);
+        jdbcTemplate.execute("drop database if exists " + SCHEMA);
+        jdbcTemplate.execute("create database " + SCHEMA);
+        for (String table : TABLES) { // like 는 외래 키를 복사하지 않음
+            jdbcTemplate.execute("create table " + SCHEMA + ".`" + table + "` like " + source + ".`" + table + "`");
+        }
+        jdbcTemplate.execute("alter table " + SCHEMA + ".orders modify created_date datetime(6) not null, drop primary key, add primary key (order_id, created_date)");
+        jdbcTemplate.execute("alter table " + SCHEMA + ".order_product modify ordered_date datetime(6) not null, drop primary key, add primary key (order_product_id, ordered_date)");
+        jdbcTemplate.execute("alter table " + SCHEMA + ".orders partition by range columns (created_date) (" + monthPartitions() + ")");
+        jdbcTemplate.execute("alter table " + SCHEMA + ".order_product partition by range columns (ordered_date) (" + monthPartitions() + ")");
+    }
+
+    @AfterEach
+    void after() {
+        jdbcTemplate.execute("drop database if exists " + SCHEMA);
+    }
+
+    @Test
+    @DisplayName("판매액 백분위 sql 은 주문, 주문 상품 모두 해당 월 파티션만 읽음")
+    void sellerTotalPricePercentilePrunesPartitions() throws Exception {
+        //given
+        PeriodCondition periodCondition = PeriodCondition.of(month, month);
+        String sql = OrderProductQueryRepository.sellerTotalPricePercentileSql(periodCondition, CategoryCondition.of(Optional.of(List.of(432L))));
+        Map<String, Object> params = Map.of("startDate", month.toString(), "endDate", month.toString(), "userId", 1L,
+                "kindGradeIds", List.of(432L), "periodStart", month.atDay(1).atStartOfDay(), "periodEnd", month.plusMonths(1).atDay(1).atStartOfDay());
+
+        //when
+        List<Map<String, Object>> plan = explain(sql, params);
+
+        //then
+        assertThat(partitionedRows(plan)).hasSize(2)
+                .allSatisfy(row -> assertThat(row.get("partitions")).isEqualTo("p202206"));
+    }
+
+    @Test
+    @DisplayName("신뢰점수 sql 은 주문을 해당 월 파티션만 읽음 (평점 집계의 주문 상품은 기간 조건 없음)")
+    void allSellerTrustScorePrunesPartitions() throws Exception {
+        //given
+        String sql = OrderProductQueryRepository.allSellerTrustScorePerMonthSql(PeriodCondition.of(month, month));
+        Map<String, Object> params = Map.of("startDate", month.toString(), "endDate", month.toString(),
+                "periodStart", month.atDay(1).atStartOfDay(), "periodEnd", month.plusMonths(1).atDay(1).atStartOfDay());
+
+        //when
+        List<Map<String, Object>> plan = explain(sql, params);
+
+        //then
+        assertThat(partitionedRows(plan))
+                .filteredOn(row -> "o".equals(row.get("table")))
+                .isNotEmpty()
+                .allSatisfy(row -> assertThat(row.get("partitions")).isEqualTo("p202206"));
+        assertThat(partitionedRows(plan))
+                .filteredOn(row -> "op".equals(row.get("table")))
+                .anySatisfy(row -> assertThat(row.get("partitions")).isEqualTo("p202206"));
+    }
+
+    private String monthPartitions() { // p_old | 해당 월 | p_max
+        return "partition p_old values less than ('" + month.atDay(1) + "')," +
+                " partition p" + month.toString().replace("-", "") + " values less than ('" + month.plusMonths(1).atDay(1) + "')," +
+                " partition p_max values less than (maxvalue)";
+    }
+
+    private List<Map<String, Object>> explain(String sql, Map<String, Object> params) { // 테스트 스키마를 기본 스키마로 지정한 커넥션에서 실행
+        return jdbcTemplate.execute((ConnectionCallback<List<Map<String, Object>>>) connection -> {
+            String catalog = connection.getCatalog();
+            connection.setCatalog(SCHEMA);
+            try {
+                return new NamedParameterJdbcTemplate(new SingleConnectionDataSource(connection, true)).queryForList("explain " + sql, params);
+            } finally {
+                connection.setCatalog(catalog);
+            }
+        });
+    }
+
+    private List<Map<String, Object>> partitionedRows(List<Map<String, Object>> plan) { // 파티션 테이블(orders, order_product)을 읽는 행
+        return plan.stream()
+                .filter(row -> row.get("partitions") != null)
+                .collect(Collectors.toList());
+    }
+}
@@ -4,6 +4,8 @@ import creative.market.domain.Address;
 import creative.market.domain.category.KindGrade;
 import creative.market.domain.order.Order;
 import creative.market.domain.product.Product;
+import creative.market.domain.product.ProductImage;
+import creative.market.domain.product.ProductImageType;
 import creative.market.domain.user.Buyer;
 import creative.market.domain.user.Seller;
 import creative.market.repository.ProductRepository;
@@ -13,7 +15,11 @@ import creative.market.repository.order.OrderRepository;
 import creative.market.repository.user.SellerRepository;
 import creative.market.service.OrderService;
 import creative.market.service.dto.OrderProductParamDTO;
+import creative.market.service.dto.OrderHistoryDTO;
+import creative.market.service.query.OrderProductQueryService;
+import creative.market.util.QueryCountAssert;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +34,7 @@ import java.time.LocalTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -55,6 +62,9 @@ class OrderProductQueryRepositoryTest {
     @Autowired
     OrderProductQueryRepository orderProductQueryRepository;
 
+    @Autowired
+    OrderProductQueryService orderProductQueryService;
+
     @BeforeEach
     public void before(){
         Address buyerAddress = createAddress("1111", "봉사산로3", 11111, "3동4호");
@@ -95,181 +105,9 @@ class OrderProductQueryRepositoryTest {
 
     }
 
-    @Test
-    @DisplayName("기간별 특정 카테고리에서 판매자 총 판매액, 총 판매액 > 0 ")
-    void findCategorySellerNameAndPriceSuccess1() throws Exception {
-        //given
-        String loginId = "2";
-        String pw = "22";
-        Long kindGradeId = 432L;
-        Seller seller = sellerRepository.findByLoginIdAndPassword(loginId, pw).orElseThrow(NoSuchElementException::new);
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusHours(2);
-        CategoryParamDTO categoryParamDTO = new CategoryParamDTO(null, null, null, kindGradeId);
-
-        //when
-        SellerAndTotalPricePerCategoryDTO result = orderProductQueryRepository.findCategorySellerNameAndPrice(categoryParamDTO, startDate, endDate, seller.getId());
-
-        //then
-        assertThat(result.getSellerName()).isEqualTo(seller.getName());
-
-        // 3000 * 2 + 5000 * 1
-        assertThat(result.getTotalPrice()).isEqualTo(11000);
-    }
-
-    @Test
-    @DisplayName("기간별 특정 카테고리에서 특정 판매자 총 판매액, 총 판매액이 = 0")
-    void findCategorySellerNameAndPriceSuccess2() throws Exception {
-        //given
-        String loginId = "2";
-        String pw = "22";
-        Long kindGradeId = 432L;
-        Seller seller = sellerRepository.findByLoginIdAndPassword(loginId, pw).orElseThrow(NoSuchElementException::new);
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusMinutes(10);
-        CategoryParamDTO categoryParamDTO = new CategoryParamDTO(null, null, null, kindGradeId);
-
-        //when
-        SellerAndTotalPricePerCategoryDTO result = orderProductQueryRepository.findCategorySellerNameAndPrice(categoryParamDTO, startDate, endDate, seller.getId());
-
-        //then
-        assertThat(result.getSellerName()).isNull();
-        assertThat(result.getTotalPrice()).isEqualTo(0);
-    }
-
-    @Test
-    @DisplayName("기간별 특정 카테고리에서 상위 판매자 판매액과 이름 리스트, 해당 판매자와 판매액이 있는 경우(list.size > 0)")
-    void findCategorySellerNameAndPriceTopRankListSuccess1() throws Exception {
-        //given
-        Long kindGradeId = 432L;
-        int rankCount1 = 2; // 상위 2명
-        int rankCount2 = 3; // 상위 3명
-        int rankCount3 = 6; // 상위 6명
-
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusMonths(3);
-
-        CategoryParamDTO categoryParamDTO = new CategoryParamDTO(null, null, null, kindGradeId);
-
-        //when
-        List<SellerAndTotalPricePerCategoryDTO> result1 = orderProductQueryRepository.findCategoryTopRankSellerNameAndPrice(categoryParamDTO, startDate, endDate, rankCount1);
-        List<SellerAndTotalPricePerCategoryDTO> result2 = orderProductQueryRepository.findCategoryTopRankSellerNameAndPrice(categoryParamDTO, startDate, endDate, rankCount2);
-        List<SellerAndTotalPricePerCategoryDTO> result3 = orderProductQueryRepository.findCategoryTopRankSellerNameAndPrice(categoryParamDTO, startDate, endDate, rankCount3);
-
-        //then
-
-        // kindGradeId=432 일 경우 기간내 판매액
-        // -> 김현민 : 200,000원
-        // -> 강대현 : 100,000원
-        // -> 강병관 : 22,000원
-        assertThat(result1.size()).isEqualTo(2);
-        assertThat(result1).extracting("totalPrice").containsExactly(200000L, 100000L);
-        assertThat(result1).extracting("sellerName").containsExactly("김현민", "강대현");
-
-        assertThat(result2.size()).isEqualTo(3);
-        assertThat(result2).extracting("totalPrice").containsExactly(200000L, 100000L, 22000L);
-        assertThat(result2).extracting("sellerName").containsExactly("김현민", "강대현", "강병관");
-
-        assertThat(result3.size()).isEqualTo(3);
-        assertThat(result3).extracting("totalPrice").containsExactly(200000L, 100000L, 22000L);
-        assertThat(result3).extracting("sellerName").containsExactly("김현민", "강대현", "강병관");
-    }
-
-    @Test
-    @DisplayName("기간별 특정 카테고리에서 상위 판매자 판매액과 이름 리스트, 해당 판매자와 판매액이 없는 경우(list.size == 0)")
-    void findCategorySellerNameAndPriceTopRankListSuccess2() throws Exception {
-        //given
-        Long kindGradeId = 434L;
-        int rankCount1 = 2; // 상위 2명
-        int rankCount2 = 3; // 상위 3명
-
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusMinutes(1);
-
-        CategoryParamDTO categoryParamDTO = new CategoryParamDTO(null, null, null, kindGradeId);
-
-        //when
-        List<SellerAndTotalPricePerCategoryDTO> result1 = orderProductQueryRepository.findCategoryTopRankSellerNameAndPrice(categoryParamDTO, startDate, endDate, rankCount1);
-        List<SellerAndTotalPricePerCategoryDTO> result2 = orderProductQueryRepository.findCategoryTopRankSellerNameAndPrice(categoryParamDTO, startDate, endDate, rankCount2);
-
-        //then
-
-        // kindGradeId=434 일 경우 기간내 판매액이 없음
-        assertThat(result1.size()).isEqualTo(0);
-        assertThat(result2.size()).isEqualTo(0);
-
-
-    }
-
-    @Test
-    void findBuyerTotalPricePerPeriod() throws Exception {
-        //given
-        Address orderAddress = createAddress("1111", "봉사산로", 12345, "동호수");
-        Seller productOwner1 = createSeller("강대현2", "111", "11", "19990212", "sd12fwf@mae.com", "010-3544-4444", createAddress("1111", "봉사산로", 12345, "1동1호"), "상호명1");
-        em.persist(productOwner1);
-        Buyer productBuyer = createBuyer("성호창32", "311111", "332222222", "19990512", "sdfw67f@mae.com", "010-3774-5555", orderAddress);
-        em.persist(productBuyer);
-
-        Product product1 = getProduct("상품111", 1000, "상품입니다111", 432L, productOwner1);
-        Product product2 = getProduct("상품222", 5000, "상품입니다222", 432L, productOwner1);
-        Product product3 = getProduct("상품111", 10000, "상품입니다333", 432L, productOwner1);
-        Product product4 = getProduct("상품222", 20000, "상품입니다444", 432L, productOwner1);
-
-        for (int i = 0; i < 4; i++) { // 주문
-            LocalDateTime now = LocalDateTime.now();
-
-            OrderProductParamDTO orderProductParam1 = new OrderProductParamDTO(i + 1, product1.getId());
-            OrderProductParamDTO orderProductParam2 = new OrderProductParamDTO(i + 2, product2.getId());
-            List<OrderProductParamDTO> orderParamList1 = addOrderProductParamDTO(orderProductParam1, orderProductParam2);
-
-            Long orderId = orderService.order(productBuyer.getId(), orderParamList1, orderAddress);
-            Order findOrder = orderRepository.findById(orderId).orElseThrow(() -> new NoSuchElementException("주문 내역이 존재하지 않습니다."));
-            findOrder.changeCreatedDate(now.minusMonths(i).withMinute(1));
-
-            OrderProductParamDTO orderProductParam3 = new OrderProductParamDTO(i + 1, product3.getId());
-            OrderProductParamDTO orderProductParam4 = new OrderProductParamDTO(i + 2, product4.getId());
-            List<OrderProductParamDTO> orderParamList2 = addOrderProductParamDTO(orderProductParam3, orderProductParam4);
-
-            Long orderId2 = orderService.order(productBuyer.getId(), orderParamList2, orderAddress);
-            Order findOrder2 = orderRepository.findById(orderId2).orElseThrow(() -> new NoSuchElementException("주문 내역이 존재하지 않습니다."));
-            findOrder2.changeCreatedDate(now.minusMonths(i).withMinute(2));
-        }
-//        기간별 구매자 결제 금액
-//        이번달 : 1000*1 + 5000 * 2 + 10000* 1 + 20000 * 2 = 61000
-//        1달전 : 1000*2 + 5000 * 3 + 10000* 2 + 20000 *3 = 77000
-//        2달전 : 1000*3 + 5000 * 4 + 10000* 3 + 20000 *4 = 133000
-//        3달전 : 1000*4 + 5000 * 5 + 10000* 4 + 20000 *5 = 169000
-//        4달전 : 0
-//        5달전 : 0
-
-        //when
-        YearMonth startDate1 = YearMonth.now().minusMonths(5);// 5달전
-        YearMonth endDate1 = YearMonth.now(); // 이번달
-        List<BuyerTotalPricePerPeriodDTO> result1 = orderProductQueryRepository.findBuyerTotalPricePerPeriod(startDate1, endDate1, productBuyer.getId());
-
-        YearMonth startDate2 = YearMonth.now().minusMonths(3); // 3달전
-        YearMonth endDate2 = YearMonth.now().minusMonths(2); // 2달전
-        List<BuyerTotalPricePerPeriodDTO> result2 = orderProductQueryRepository.findBuyerTotalPricePerPeriod(startDate2, endDate2, productBuyer.getId());
-
-        //then
-
-        String fiveMonthsAgo = LocalDateTime.now().minusMonths(5).format(DateTimeFormatter.ofPattern("yyyy-MM")); //5달전
-        String fourMonthsAgo = LocalDateTime.now().minusMonths(4).format(DateTimeFormatter.ofPattern("yyyy-MM")); //4달전
-        String threeMonthsAgo = LocalDateTime.now().minusMonths(3).format(DateTimeFormatter.ofPattern("yyyy-MM")); //3달전
-        String twoMonthsAgo = LocalDateTime.now().minusMonths(2).format(DateTimeFormatter.ofPattern("yyyy-MM")); //2달전
-        String oneMonthsAgo = LocalDateTime.now().minusMonths(1).format(DateTimeFormatter.ofPattern("yyyy-MM")); //1달전
-        String now = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM")); //이번달
-
-        //6달전 ~ 이번달
-        assertThat(result1.size()).isEqualTo(6);
-        assertThat(result1).extracting("date").containsExactly(fiveMonthsAgo, fourMonthsAgo, threeMonthsAgo, twoMonthsAgo, oneMonthsAgo, now);
-        assertThat(result1).extracting("totalPrice").containsExactly(0L, 0L, 169000L, 133000L, 97000L, 61000L);
-
-        //2달전~ 3달전
-        assertThat(result2.size()).isEqualTo(2);
-        assertThat(result2).extracting("date").containsExactly(threeMonthsAgo, twoMonthsAgo);
-        assertThat(result2).extracting("totalPrice").containsExactly(169000L, 133000L);
-
+    @AfterEach
+    void afterEach() {
+        QueryCountAssert.clear();
     }
 
     @Test
@@ -1149,6 +987,219 @@ class OrderProductQueryRepositoryTest {
         assertThat(result3).extracting("totalCount").containsExactly(0L,24L,12L);
     }
 
+    @Test
+    @DisplayName("구매 내역 주문 단위 페이징, 주문일이 같으면 주문 아이디 내림차순")
+    void findBuyerOrderIdsPerPeriodTie() throws Exception {
+        //given
+        Buyer buyer = createBuyer("페이징구매자", "keyset", "keyset", "19990512", "keyset@mae.com", "010-1111-2222", createAddress("1111", "봉사산로3", 11111, "3동4호"));
+        Seller seller = createSeller("페이징판매자", "keysetSeller", "keyset", "19990112", "keysetSeller@mae.com", "010-3333-4444", createAddress("1111", "봉사산로", 12345, "1동1호"), "상호명");
+        em.persist(buyer);
+        em.persist(seller);
+        Product product = getProductWithImage("페이징상품", 1000, "상품입니다", 432L, seller);
+
+        LocalDateTime tiedDate = LocalDateTime.now().minusDays(1).withNano(0);
+        List<Long> tiedOrderIds = createOrders(buyer, product, 3, tiedDate); // 같은 주문일 3건
+        Long latestOrderId = createOrders(buyer, product, 1, tiedDate.plusHours(1)).get(0);
+        em.flush();
+        LocalDateTime startDate = tiedDate.minusDays(1);
+        LocalDateTime endDate = LocalDateTime.now();
+
+        //when
+        List<Long> firstPage = orderIds(orderProductQueryRepository.findBuyerOrderIdsPerPeriod(startDate, endDate, buyer.getId(), null, 0, 2));
+        List<Long> secondPage = orderIds(orderProductQueryRepository.findBuyerOrderIdsPerPeriod(startDate, endDate, buyer.getId(), null, 2, 2));
+
+        //then
+        assertThat(firstPage).containsExactly(latestOrderId, tiedOrderIds.get(2));
+        assertThat(secondPage).containsExactly(tiedOrderIds.get(1), tiedOrderIds.get(0));
+    }
+
+    @Test
+    @DisplayName("구매 내역 주문 단위 페이징, lastOrderId 가 있으면 해당 주문 다음부터 조회")
+    void findBuyerOrderIdsPerPeriodAfterLastOrder() throws Exception {
+        //given
+        Buyer buyer = createBuyer("페이징구매자", "keyset", "keyset", "19990512", "keyset@mae.com", "010-1111-2222", createAddress("1111", "봉사산로3", 11111, "3동4호"));
+        Seller seller = createSeller("페이징판매자", "keysetSeller", "keyset", "19990112", "keysetSeller@mae.com", "010-3333-4444", createAddress("1111", "봉사산로", 12345, "1동1호"), "상호명");
+        em.persist(buyer);
+        em.persist(seller);
+        Product product = getProductWithImage("페이징상품", 1000, "상품입니다", 432L, seller);
+
+        LocalDateTime tiedDate = LocalDateTime.now().minusDays(1).withNano(0);
+        Long oldestOrderId = createOrders(buyer, product, 1, tiedDate.minusHours(1)).get(0);
+        List<Long> tiedOrderIds = createOrders(buyer, product, 3, tiedDate);
+        em.flush();
+        LocalDateTime startDate = tiedDate.minusDays(1);
+        LocalDateTime endDate = LocalDateTime.now();
+
+        //when
+        // 같은 주문일 중 가운데 주문 다음부터 -> offset 과 달리 앞 페이지에 주문이 추가되어도 중복, 누락 없음
+        List<Long> afterTied = orderIds(orderProductQueryRepository.findBuyerOrderIdsPerPeriod(startDate, endDate, buyer.getId(), tiedOrderIds.get(1), 0, 10));
+        List<Long> afterTiedCombined = orderProductQueryRepository.findBuyerOrderIdsWithTotalPerPeriod(startDate, endDate, buyer.getId(), tiedOrderIds.get(1), 0, 10).stream()
+                .map(BuyerOrderIdWithTotalDTO::getOrderId)
+                .collect(Collectors.toList());
+
+        //then
+        assertThat(afterTied).containsExactly(tiedOrderIds.get(0), oldestOrderId);
+        assertThat(afterTiedCombined).isEqualTo(afterTied);
+    }
+
+    @Test
+    @DisplayName("판매 내역 한번에 조회(COMBINED)와 따로 조회(SEPARATE) 결과가 같음, 같은 주문일은 주문 상품 아이디 내림차순")
+    void saleHistoryCombinedEqualsSeparate() throws Exception {
+        //given
+        Buyer buyer = createBuyer("페이징구매자", "keyset", "keyset", "19990512", "keyset@mae.com", "010-1111-2222", createAddress("1111", "봉사산로3", 11111, "3동4호"));
+        Seller seller = createSeller("페이징판매자", "keysetSeller", "keyset", "19990112", "keysetSeller@mae.com", "010-3333-4444", createAddress("1111", "봉사산로", 12345, "1동1호"), "상호명");
+        em.persist(buyer);
+        em.persist(seller);
+        Product product = getProductWithImage("페이징상품", 1000, "상품입니다", 432L, seller);
+
+        LocalDateTime tiedDate = LocalDateTime.now().minusDays(1).withNano(0);
+        createOrders(buyer, product, 5, tiedDate); // 같은 주문일, 개수 1 ~ 5
+        em.flush();
+        LocalDateTime startDate = tiedDate.minusDays(1);
+        LocalDateTime endDate = LocalDateTime.now();
+
+        for (int offset = 0; offset < 6; offset += 2) {
+            //when
+            List<SaleHistoryWithTotalDTO> combined = orderProductQueryRepository.findSaleHistoryWithTotalPerPeriod(startDate, endDate, seller.getId(), offset, 2);
+            List<SaleHistoryRes> separate = orderProductQueryRepository.findSaleHistoryPerPeriod(startDate, endDate, seller.getId(), offset, 2);
+
+            //then
+            assertThat(combined).extracting(dto -> dto.getSaleHistory().getCount())
+                    .isEqualTo(separate.stream().map(SaleHistoryRes::getCount).collect(Collectors.toList()));
+            assertThat(combined).allSatisfy(dto -> {
+                assertThat(dto.getTotalCount()).isEqualTo(orderProductQueryRepository.findSaleHistoryPerPeriodCount(startDate, endDate, seller.getId()));
+                assertThat(dto.getTotalPrice()).isEqualTo(orderProductQueryRepository.findSaleHistoryTotalPricePerPeriod(startDate, endDate, seller.getId()));
+            });
+        }
+        assertThat(orderProductQueryRepository.findSaleHistoryWithTotalPerPeriod(startDate, endDate, seller.getId(), 0, 10))
+                .extracting(dto -> dto.getSaleHistory().getCount())
+                .containsExactly(5, 4, 3, 2, 1);
+        assertThat(orderProductQueryRepository.findSaleHistoryTotalPricePerPeriod(startDate, endDate, seller.getId())).isEqualTo(15000L);
+    }
+
+    @Test
+    @DisplayName("구매 내역 한번에 조회(COMBINED)와 따로 조회(SEPARATE) 결과가 같음")
+    void buyerOrderHistoryCombinedEqualsSeparate() throws Exception {
+        //given
+        Buyer buyer = createBuyer("페이징구매자", "keyset", "keyset", "19990512", "keyset@mae.com", "010-1111-2222", createAddress("1111", "봉사산로3", 11111, "3동4호"));
+        Seller seller = createSeller("페이징판매자", "keysetSeller", "keyset", "19990112", "keysetSeller@mae.com", "010-3333-4444", createAddress("1111", "봉사산로", 12345, "1동1호"), "상호명");
+        em.persist(buyer);
+        em.persist(seller);
+        Product product = getProductWithImage("페이징상품", 1000, "상품입니다", 432L, seller);
+
+        LocalDateTime tiedDate = LocalDateTime.now().minusDays(1).withNano(0);
+        createOrders(buyer, product, 3, tiedDate);
+        createOrders(buyer, product, 2, tiedDate.minusHours(1));
+        em.flush();
+        LocalDateTime startDate = tiedDate.minusDays(1);
+        LocalDateTime endDate = LocalDateTime.now();
+
+        for (int offset = 0; offset < 6; offset += 2) {
+            //when
+            List<BuyerOrderIdWithTotalDTO> combined = orderProductQueryRepository.findBuyerOrderIdsWithTotalPerPeriod(startDate, endDate, buyer.getId(), null, offset, 2);
+            List<BuyerOrderSummaryDTO> separate = orderProductQueryRepository.findBuyerOrderIdsPerPeriod(startDate, endDate, buyer.getId(), null, offset, 2);
+
+            //then
+            assertThat(combined).extracting(BuyerOrderIdWithTotalDTO::getOrderId).isEqualTo(orderIds(separate));
+            assertThat(combined).allSatisfy(dto -> {
+                assertThat(dto.getTotalCount()).isEqualTo(orderProductQueryRepository.findBuyerOrderPerPeriodTotalCount(startDate, endDate, buyer.getId()));
+                assertThat(dto.getTotalPrice()).isEqualTo(orderProductQueryRepository.findBuyerOrderTotalPricePerPeriod(startDate, endDate, buyer.getId()));
+            });
+        }
+        assertThat(orderProductQueryRepository.findBuyerOrderPerPeriodTotalCount(startDate, endDate, buyer.getId())).isEqualTo(5L);
+        assertThat(orderProductQueryRepository.findBuyerOrderTotalPricePerPeriod(startDate, endDate, buyer.getId())).isEqualTo(9000L); // (1+2+3 + 1+2) * 1000
+    }
+
+    @Test
+    @DisplayName("구매 내역 주문 상품은 대표 사진이 없어도 조회 (주문 아이디 페이지와 같은 주문 목록)")
+    void buyerOrderProductsWithoutImage() throws Exception {
+        //given
+        Buyer buyer = createBuyer("사진없음구매자", "noImage", "noImage", "19990512", "noImage@mae.com", "010-1111-2222", createAddress("1111", "봉사산로3", 11111, "3동4호"));
+        Seller seller = createSeller("사진없음판매자", "noImageSeller", "noImage", "19990112", "noImageSeller@mae.com", "010-3333-4444", createAddress("1111", "봉사산로", 12345, "1동1호"), "상호명");
+        em.persist(buyer);
+        em.persist(seller);
+        Product withImage = getProductWithImage("사진상품", 1000, "상품입니다", 432L, seller);
+        Product withoutImage = getProduct("사진없는상품", 2000, "상품입니다", 432L, seller);
+
+        LocalDateTime createdDate = LocalDateTime.now().minusDays(1).withNano(0);
+        List<Long> orderIds = new ArrayList<>(createOrders(buyer, withImage, 1, createdDate));
+        orderIds.addAll(createOrders(buyer, withoutImage, 1, createdDate));
+        em.flush();
+
+        //when
+        List<BuyerOrderPerPeriodDTO> result = orderProductQueryRepository.findBuyerOrderProductsByOrderIds(orderIds);
+
+        //then
+        assertThat(result).extracting(BuyerOrderPerPeriodDTO::getOrderId).containsExactlyInAnyOrderElementsOf(orderIds);
+        assertThat(result).filteredOn(dto -> dto.getProductId().equals(withoutImage.getId()))
+                .extracting(BuyerOrderPerPeriodDTO::getPath).containsExactly((String) null);
+    }
+
+    @Test
+    @DisplayName("구매 내역, 판매 내역 페이지 조회 쿼리 수 (목록, 개수, 합계 한번에)")
+    void historyPageQueryCount() throws Exception {
+        //given
+        Buyer buyer = createBuyer("페이징구매자", "keyset", "keyset", "19990512", "keyset@mae.com", "010-1111-2222", createAddress("1111", "봉사산로3", 11111, "3동4호"));
+        Seller seller = createSeller("페이징판매자", "keysetSeller", "keyset", "19990112", "keysetSeller@mae.com", "010-3333-4444", createAddress("1111", "봉사산로", 12345, "1동1호"), "상호명");
+        em.persist(buyer);
+        em.persist(seller);
+        Product product = getProductWithImage("페이징상품", 1000, "상품입니다", 432L, seller);
+
+        LocalDateTime createdDate = LocalDateTime.now().minusDays(1).withNano(0);
+        createOrders(buyer, product, 3, createdDate);
+        em.flush();
+        LocalDateTime startDate = createdDate.minusDays(1);
+        LocalDateTime endDate = LocalDateTime.now();
+
+        //when
+        QueryCountAssert.reset();
+        PageWithTotalDTO<OrderHistoryDTO> orderHistory = orderProductQueryService.findBuyerOrderHistoryPage(startDate, endDate, buyer.getId(), null, 0, 2);
+
+        //then
+        QueryCountAssert.assertSelectCount(2); // 주문 아이디 + 개수 + 합계, 주문 상품 한번에
+        assertThat(orderHistory.getContent()).hasSize(2);
+
+        //when
+        QueryCountAssert.reset();
+        PageWithTotalDTO<SaleHistoryRes> saleHistory = orderProductQueryService.findSaleHistoryPage(startDate, endDate, seller.getId(), 0, 2);
+
+        //then
+        QueryCountAssert.assertSelectCount(1);
+        assertThat(saleHistory.getContent()).hasSize(2);
+    }
+
+    private List<Long> createOrders(Buyer buyer, Product product, int count, LocalDateTime createdDate) { // 같은 주문일로 count 번 주문 (아이디 오름차순)
+        Address orderAddress = createAddress("1111", "봉사산로", 12345, "동호수");
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Long orderId = orderService.order(buyer.getId(), addOrderProductParamDTO(new OrderProductParamDTO(i + 1, product.getId())), orderAddress);
+            orderRepository.findById(orderId).orElseThrow(() -> new NoSuchElementException("주문 내역이 존재하지 않습니다."))
+                    .changeCreatedDate(createdDate);
+            orderIds.add(orderId);
+        }
+        return orderIds;
+    }
+
+    private List<Long> orderIds(List<BuyerOrderSummaryDTO> orders) {
+        return orders.stream()
+                .map(BuyerOrderSummaryDTO::getOrderId)
+                .collect(Collectors.toList());
+    }
+
+    private Product getProductWithImage(String name, int price, String info, Long kindGradeId, Seller seller) { // 판매, 구매 내역 조회는 대표 사진 조인
+        KindGrade kindGrade = kindGradeRepository.findById(kindGradeId).orElseThrow(() -> new NoSuchElementException("존재하지 않는 카테고리입니다"));
+        Product product = Product.builder()
+                .name(name)
+                .price(price)
+                .info(info)
+                .kindGrade(kindGrade)
+                .user(seller)
+                .signatureProductImage(ProductImage.builder().name("대표.png").path("product/대표.png").type(ProductImageType.SIGNATURE).build())
+                .build();
+        productRepository.save(product);
+        return product;
+    }
+
     private void sellerTotalPriceGraphInit(Seller productOwner1, Seller productOwner2, Buyer productBuyer) {
         Address orderAddress = createAddress("1111", "봉사산로", 12345, "동호수");
 
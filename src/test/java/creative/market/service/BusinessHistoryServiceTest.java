@@ -0,0 +1,79 @@
+package creative.market.service;
+
+import creative.market.domain.Address;
+import creative.market.domain.business.BusinessHistory;
+import creative.market.domain.business.BusinessStatus;
+import creative.market.domain.user.Buyer;
+import creative.market.exception.DuplicateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class BusinessHistoryServiceTest {
+
+    @Autowired
+    BusinessHistoryService businessHistoryService;
+    @Autowired
+    EntityManager em;
+
+    @Test
+    @DisplayName("사업자 신청 실패, 대기중인 신청이 있는 경우 (wait_user_id 유니크 인덱스 충돌)")
+    void createBusinessFailDuplicateWait() throws Exception {
+        //given
+        Buyer buyer = createBuyer();
+        em.persist(buyer);
+        businessHistoryService.createBusiness(createBusiness(buyer));
+
+        //then
+        assertThatThrownBy(() -> businessHistoryService.createBusiness(createBusiness(buyer)))
+                .isInstanceOf(DuplicateException.class)
+                .hasMessage("이미 사업자를 신청했습니다");
+    }
+
+    @Test
+    @DisplayName("사업자 신청 거절 후 다시 신청 성공")
+    void createBusinessAfterReject() throws Exception {
+        //given
+        Buyer buyer = createBuyer();
+        em.persist(buyer);
+        Long rejectedId = businessHistoryService.createBusiness(createBusiness(buyer));
+        businessHistoryService.rejectBusiness(rejectedId);
+        em.flush();
+
+        //when
+        Long businessId = businessHistoryService.createBusiness(createBusiness(buyer));
+
+        //then
+        assertThat(businessId).isNotEqualTo(rejectedId);
+        assertThat(em.find(BusinessHistory.class, rejectedId).getWaitUserId()).isNull();
+        assertThat(em.find(BusinessHistory.class, businessId).getWaitUserId()).isEqualTo(buyer.getId());
+    }
+
+    private BusinessHistory createBusiness(Buyer buyer) {
+        return BusinessHistory.builder()
+                .businessName("상호명")
+                .businessNumber("123-45-67890")
+                .status(BusinessStatus.WAIT)
+                .user(buyer)
+                .build();
+    }
+
+    private Buyer createBuyer() {
+        return Buyer.builder().name("사업자신청")
+                .loginId("business")
+                .password("business")
+                .birth("19990512")
+                .email("business@mae.com")
+                .phoneNumber("010-5555-6666")
+                .address(Address.builder().jibun("1111").road("봉사산로").zipcode(12345).detailAddress("1동1호").build())
+                .build();
+    }
+}
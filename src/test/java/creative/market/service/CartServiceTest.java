@@ -9,6 +9,8 @@ import creative.market.exception.DuplicateException;
 import creative.market.exception.LoginAuthenticationException;
 import creative.market.repository.CartRepository;
 import creative.market.repository.ProductRepository;
+import creative.market.repository.dto.CartInfoRes;
+import creative.market.service.query.CartQueryService;
 import creative.market.service.dto.RegisterProductDTO;
 import creative.market.service.dto.UploadFileDTO;
 import creative.market.util.FileStoreUtils;
@@ -52,6 +54,8 @@ class CartServiceTest {
     CartService cartService;
     @Autowired
     CartRepository cartRepository;
+    @Autowired
+    CartQueryService cartQueryService;
 
     @BeforeEach
     private void before() throws IOException {
@@ -301,6 +305,66 @@ class CartServiceTest {
                 .hasMessage("삭제 권한이 없습니다.");
     }
 
+    @Test
+    @DisplayName("장바구니 등록시 캐시된 장바구니 목록 제거")
+    void registerEvictsCartCache() throws Exception {
+        //given
+        Product product = productRepository.findAll().get(0);
+        Seller seller = createSeller("성호창222", createAddress("122", "122", 12222, "2311114"));
+        em.persist(seller);
+        assertThat(cartQueryService.getCartList(seller.getId())).isEmpty(); // 빈 목록 캐시
+
+        //when
+        Long cartId = cartService.register(product.getId(), 4, seller.getId());
+
+        //then
+        assertThat(cartQueryService.getCartList(seller.getId()))
+                .extracting(CartInfoRes::getCartId)
+                .containsExactly(cartId);
+    }
+
+    @Test
+    @DisplayName("장바구니 삭제시 캐시된 장바구니 목록 제거")
+    void deleteEvictsCartCache() throws Exception {
+        //given
+        Product product1 = productRepository.findAll().get(0);
+        Product product2 = productRepository.findAll().get(1);
+        Seller seller = createSeller("성호창222", createAddress("122", "122", 12222, "2311114"));
+        em.persist(seller);
+        Long cartId1 = cartService.register(product1.getId(), 4, seller.getId());
+        Long cartId2 = cartService.register(product2.getId(), 3, seller.getId());
+        assertThat(cartQueryService.getCartList(seller.getId())).hasSize(2); // 두 건 캐시
+
+        //when
+        cartService.delete(cartId1, seller.getId());
+
+        //then
+        assertThat(cartQueryService.getCartList(seller.getId()))
+                .extracting(CartInfoRes::getCartId)
+                .containsExactly(cartId2);
+    }
+
+    @Test
+    @DisplayName("주문한 상품의 장바구니 삭제시 캐시된 장바구니 목록 제거")
+    void deleteByProductIdsEvictsCartCache() throws Exception {
+        //given
+        Product product1 = productRepository.findAll().get(0);
+        Product product2 = productRepository.findAll().get(1);
+        Seller seller = createSeller("성호창222", createAddress("122", "122", 12222, "2311114"));
+        em.persist(seller);
+        cartService.register(product1.getId(), 4, seller.getId());
+        Long cartId2 = cartService.register(product2.getId(), 3, seller.getId());
+        assertThat(cartQueryService.getCartList(seller.getId())).hasSize(2);
+
+        //when
+        cartService.deleteCartListByProductIds(List.of(product1.getId()), seller.getId());
+
+        //then
+        assertThat(cartQueryService.getCartList(seller.getId()))
+                .extracting(CartInfoRes::getCartId)
+                .containsExactly(cartId2);
+    }
+
     private Seller createSeller(String name, Address address) {
         Seller seller = Seller.builder()
                 .name(name)
@@ -2,6 +2,7 @@ package creative.market.service;
 
 import creative.market.domain.Address;
 import creative.market.domain.Cart;
+import creative.market.domain.analytics.BuyerSpendMonth;
 import creative.market.domain.category.KindGrade;
 import creative.market.domain.order.Order;
 import creative.market.domain.order.OrderProduct;
@@ -12,11 +13,14 @@ import creative.market.domain.user.Seller;
 import creative.market.exception.LoginAuthenticationException;
 import creative.market.repository.CartRepository;
 import creative.market.repository.category.KindGradeRepository;
+import creative.market.repository.order.BuyerSpendMonthRepository;
 import creative.market.repository.order.OrderProductRepository;
 import creative.market.repository.order.OrderRepository;
 import creative.market.repository.ProductRepository;
 import creative.market.service.dto.OrderProductParamDTO;
+import creative.market.util.QueryCountAssert;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -48,6 +53,8 @@ class OrderServiceTest {
     ProductRepository productRepository;
     @Autowired
     OrderProductRepository orderProductRepository;
+    @Autowired
+    BuyerSpendMonthRepository buyerSpendMonthRepository;
 
     @Autowired
     ProductService productService;
@@ -61,6 +68,11 @@ class OrderServiceTest {
     @Autowired
     EntityManager em;
 
+    @AfterEach
+    void afterEach() {
+        QueryCountAssert.clear();
+    }
+
     @Test
     @DisplayName("상품 주문 성공, userType=BUYER가 주문")
     void orderSuccess1() throws Exception {
@@ -87,12 +99,16 @@ class OrderServiceTest {
 
         //when
         Address orderAddress = createAddress("1111", "봉사산로", 12345, "동호수");
+        QueryCountAssert.reset();
         Long orderId = orderService.order(productBuyer.getId(), orderParamList, orderAddress);
+        QueryCountAssert.assertSelectCount(2); // 회원 + 주문할 상품 한번에 (상품마다 조회 안함)
         Order findOrder = orderRepository.findById(orderId).orElseThrow(() -> new NoSuchElementException("주문이 존재하지 않습니다"));
 
         //then
         //10000*3 + 3000*5 + 40000*1 = 85000
         assertThat(findOrder.getTotalPrice()).isEqualTo(85000);
+        assertThat(findOrder.getActiveTotalPrice()).isEqualTo(85000L);
+        assertThat(findOrder.getActiveLineCount()).isEqualTo(3);
         assertThat(findOrder.getUser().getId()).isEqualTo(productBuyer.getId());
         assertThat(findOrder.getAddress().equals(orderAddress)).isTrue();
 
@@ -329,15 +345,26 @@ class OrderServiceTest {
                 .filter(orderProduct -> orderProduct.getCount() == 5)
                 .findFirst().orElseThrow(() -> new NoSuchElementException("존재하지 않는 주문 내역입니다"));
 
+        QueryCountAssert.reset();
         orderService.orderCancel(findOrderProduct.getId(), productBuyer.getId()); // 주문 취소(count =5 인 주문 취소)
 
         //then
+        QueryCountAssert.assertSelectCount(2); // 주문 상품(주문, 상품 fetch join) + 취소 후 주문 상품 다시 조회 (결제 금액 차감은 update 문)
         OrderProduct cancelOrderProduct = orderProductRepository.findById(findOrderProduct.getId()).orElseThrow(() -> new NoSuchElementException("주문이 존재하지 않습니다"));
         assertThat(cancelOrderProduct.getCount()).isEqualTo(5);
         assertThat(cancelOrderProduct.getPrice()).isEqualTo(3000);
         assertThat(cancelOrderProduct.getTotalPrice()).isEqualTo(15000);
         assertThat(cancelOrderProduct.getStatus()).isEqualTo(OrderStatus.CANCEL);
 
+        em.clear(); // 주문 결제 금액은 벌크 update 로 차감
+        Order cancelOrder = orderRepository.findById(orderId).orElseThrow(() -> new NoSuchElementException("주문이 존재하지 않습니다"));
+        assertThat(cancelOrder.getActiveTotalPrice()).isEqualTo(70000L);
+        assertThat(cancelOrder.getActiveLineCount()).isEqualTo(2);
+
+        YearMonth orderMonth = YearMonth.from(cancelOrder.getCreatedDate());
+        assertThat(buyerSpendMonthRepository.findPerMonth(productBuyer.getId(), orderMonth, orderMonth))
+                .extracting(BuyerSpendMonth::getTotal, BuyerSpendMonth::getLineCount)
+                .containsExactly(tuple(70000L, 2L));
     }
 
     @Test
@@ -507,6 +534,32 @@ class OrderServiceTest {
 
     }
 
+    @Test
+    @DisplayName("주문 상태인 경우에만 조건부 취소, 이미 취소된 주문 내역은 취소되지 않음")
+    void conditionalCancel() throws Exception {
+        //given
+        Seller productOwner = createSeller("성호창q", "123433", "3123334", "19990112", "sd12fwf@mae.com", "010-3544-4444", createAddress("1111", "봉사산로", 12345, "1동1호"), "상호명1");
+        Buyer productBuyer = createBuyer("성호창3", "133234", "133234", "19990512", "sdfw67f@mae.com", "010-3774-5555", createAddress("1111", "봉사산로3", 11111, "3동4호"));
+        em.persist(productOwner);
+        em.persist(productBuyer);
+
+        Product product = getProduct("상품", 10000, "상품입니다", 432L, productOwner);
+        List<OrderProductParamDTO> orderParamList = new ArrayList<>();
+        orderParamList.add(new OrderProductParamDTO(3, product.getId()));
+        Long orderId = orderService.order(productBuyer.getId(), orderParamList, createAddress("1111", "봉사산로", 12345, "동호수"));
+        OrderProduct findOrderProduct = orderRepository.findById(orderId).orElseThrow(() -> new NoSuchElementException("주문이 존재하지 않습니다"))
+                .getOrderProducts().get(0);
+
+        //when
+        boolean firstCancel = orderProductRepository.cancel(findOrderProduct);
+        boolean secondCancel = orderProductRepository.cancel(findOrderProduct); // 동시 취소 요청 중 늦게 도착한 요청
+
+        //then
+        assertThat(firstCancel).isTrue();
+        assertThat(secondCancel).isFalse();
+        assertThat(findOrderProduct.getStatus()).isEqualTo(OrderStatus.CANCEL);
+    }
+
     @Test
     @DisplayName("주문 취소 실패, 구매일로부터 특정 시간 이내에 취소하지 않는경우")
     void orderCancelFail5() throws Exception {
@@ -5,8 +5,10 @@ import creative.market.domain.Review;
 import creative.market.domain.category.KindGrade;
 import creative.market.domain.order.OrderProduct;
 import creative.market.domain.product.Product;
+import creative.market.domain.product.ProductRatingSummary;
 import creative.market.domain.user.Buyer;
 import creative.market.domain.user.Seller;
+import creative.market.repository.ProductRatingSummaryRepository;
 import creative.market.repository.ProductRepository;
 import creative.market.repository.ReviewRepository;
 import creative.market.repository.category.KindGradeRepository;
@@ -19,6 +21,7 @@ import creative.market.service.dto.RegisterProductDTO;
 import creative.market.service.dto.UploadFileDTO;
 import creative.market.util.FileStoreUtils;
 import creative.market.util.FileSubPath;
+import creative.market.util.QueryCountAssert;
 import creative.market.web.dto.ReviewReq;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
@@ -63,6 +66,8 @@ class ReviewServiceTest {
     @Autowired
     BuyerRepository buyerRepository;
     @Autowired
+    ProductRatingSummaryRepository productRatingSummaryRepository;
+    @Autowired
     EntityManager em;
 
     @BeforeEach
@@ -99,20 +104,29 @@ class ReviewServiceTest {
 
     }
 
+    @AfterEach
+    void afterEach() {
+        QueryCountAssert.clear();
+    }
+
     @Test
     @DisplayName("리뷰 등록 성공")
     void saveSuccess() {
         //given
         Product product = productRepository.findAll().get(0);
+        productRatingSummaryRepository.save(ProductRatingSummary.empty(product.getId())); // 상품 등록시 생성되는 별점 요약
         Buyer buyer = buyerRepository.findByLoginIdAndPassword("3", "33")
                 .orElseThrow(() -> new NoSuchElementException("구매자가 존재하지 않습니다"));
         String content = "리뷰123123";
         Review review = createReview(content);
+        em.flush();
 
         //when
+        QueryCountAssert.reset();
         Long reviewId = reviewService.save(review, product.getId(), buyer.getId());
 
         //then
+        QueryCountAssert.assertSelectCount(3); // 상품 + 회원 + 주문 내역 (별점 요약은 update 문)
         Review findReview = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new NoSuchElementException("리뷰가 존재하지 않습니다."));
         assertThat(findReview.getId()).isEqualTo(reviewId);
@@ -177,6 +191,120 @@ class ReviewServiceTest {
         assertThat(findReview.getRate()).isEqualTo(5.0f);
     }
 
+    @Test
+    @DisplayName("리뷰 등록, 수정, 삭제시 상품 별점 요약 갱신")
+    void ratingSummary() {
+        //given
+        Product product = productRepository.findAll().get(0);
+        Buyer buyer = buyerRepository.findByLoginIdAndPassword("3", "33")
+                .orElseThrow(() -> new NoSuchElementException("구매자가 존재하지 않습니다"));
+
+        //when
+        Long reviewId = reviewService.save(createReview("리뷰123123"), product.getId(), buyer.getId());
+        ProductRatingSummary afterSave = findRatingSummary(product.getId());
+        reviewService.update(reviewId, new ReviewReq(2.0f, "리뷰수정"), buyer.getId());
+        ProductRatingSummary afterUpdate = findRatingSummary(product.getId());
+        reviewService.delete(reviewId, buyer.getId());
+        ProductRatingSummary afterDelete = findRatingSummary(product.getId());
+
+        //then
+        assertThat(afterSave.getReviewCount()).isEqualTo(1);
+        assertThat(afterSave.getRateAvg()).isEqualTo(4.5);
+        assertThat(afterSave.getStarCounts()).containsExactly(0L, 0L, 0L, 1L, 0L);
+        assertThat(afterUpdate.getRateAvg()).isEqualTo(2.0);
+        assertThat(afterUpdate.getStarCounts()).containsExactly(0L, 1L, 0L, 0L, 0L);
+        assertThat(afterDelete.getReviewCount()).isEqualTo(0);
+        assertThat(afterDelete.getStarCounts()).containsExactly(0L, 0L, 0L, 0L, 0L);
+    }
+
+    @Test
+    @DisplayName("상품 리뷰 최신순 페이징 (마지막 리뷰 아이디 다음부터)")
+    void findByProductIdPaging() {
+        //given 같은 상품에 리뷰 2개
+        Product product = productRepository.findAll().get(0);
+        Buyer buyer = buyerRepository.findByLoginIdAndPassword("3", "33")
+                .orElseThrow(() -> new NoSuchElementException("구매자가 존재하지 않습니다"));
+        Buyer otherBuyer = createBuyer("구매자2", "4", "44", "19990512", "sdfw68f@mae.com", "010-3774-6666", createAddress("1111", "봉사산로4", 11111, "4동4호"));
+        em.persist(otherBuyer);
+        orderService.order(otherBuyer.getId(), addOrderProductParamDTO(new OrderProductParamDTO(1, product.getId())), createAddress("1111", "봉사산로", 12345, "동호수"));
+        Long firstReviewId = reviewService.save(createReview("리뷰1"), product.getId(), buyer.getId());
+        Long secondReviewId = reviewService.save(createReview("리뷰2"), product.getId(), otherBuyer.getId());
+
+        em.flush();
+
+        //when
+        QueryCountAssert.reset();
+        List<Review> firstPage = reviewService.findByProductId(product.getId(), null, 1);
+        firstPage.forEach(review -> review.getUser().getName());
+        QueryCountAssert.assertSelectCount(2); // 상품 + 리뷰(작성자 fetch join)
+        List<Review> secondPage = reviewService.findByProductId(product.getId(), firstPage.get(0).getId(), 1);
+
+        //then
+        assertThat(firstPage).extracting(Review::getId).containsExactly(secondReviewId);
+        assertThat(secondPage).extracting(Review::getId).containsExactly(firstReviewId);
+    }
+
+    @Test
+    @DisplayName("별점 요약이 없는 상품 리뷰 등록시 리뷰 테이블에서 집계해 요약 생성")
+    void ratingSummaryCreatedWhenMissing() {
+        //given
+        Product product = productRepository.findAll().get(0);
+        Buyer buyer = buyerRepository.findByLoginIdAndPassword("3", "33")
+                .orElseThrow(() -> new NoSuchElementException("구매자가 존재하지 않습니다"));
+        em.flush();
+        em.createNativeQuery("delete from product_rating_summary where product_id = :productId")
+                .setParameter("productId", product.getId())
+                .executeUpdate();
+
+        //when
+        reviewService.save(createReview("리뷰"), product.getId(), buyer.getId());
+        em.flush();
+        em.clear();
+
+        //then
+        ProductRatingSummary summary = em.find(ProductRatingSummary.class, product.getId());
+        assertThat(summary.getReviewCount()).isEqualTo(1);
+        assertThat(summary.getStarCounts()).containsExactly(0L, 0L, 0L, 1L, 0L);
+    }
+
+    @Test
+    @DisplayName("별점 요약이 이미 있으면 생성하지 않고 기존 요약 유지 (동시에 첫 리뷰 등록)")
+    void insertIfAbsentKeepsExisting() {
+        //given
+        Product product = productRepository.findAll().get(0);
+        em.flush();
+        productRatingSummaryRepository.insertIfAbsent(ProductRatingSummary.empty(product.getId()));
+
+        //when
+        boolean inserted = productRatingSummaryRepository.insertIfAbsent(new ProductRatingSummary(product.getId(), 10, 50, 0, 0, 0, 0, 10));
+
+        //then
+        assertThat(inserted).isFalse();
+        assertThat(findRatingSummary(product.getId()).getReviewCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("상품 리뷰 페이지 크기는 1 ~ 100 으로 제한")
+    void findByProductIdPageSizeClamp() {
+        //given
+        Product product = productRepository.findAll().get(0);
+        Buyer buyer = buyerRepository.findByLoginIdAndPassword("3", "33")
+                .orElseThrow(() -> new NoSuchElementException("구매자가 존재하지 않습니다"));
+        reviewService.save(createReview("리뷰"), product.getId(), buyer.getId());
+
+        //when
+        List<Review> result = reviewService.findByProductId(product.getId(), null, 0);
+
+        //then
+        assertThat(result).hasSize(1);
+    }
+
+    private ProductRatingSummary findRatingSummary(Long productId) {
+        em.flush();
+        em.clear();
+        return productRatingSummaryRepository.findByProductIds(List.of(productId)).get(productId);
+    }
+
     private Review createReview(String content) {
         return Review.builder()
                 .rate(4.5f)
@@ -0,0 +1,40 @@
+package creative.market.util;
+
+import creative.market.util.QueryCounter.QueryCounts;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryCountAssert { // 테스트에서 실행된 쿼리 수 검증 (reset() 이후 실행된 쿼리 기준)
+
+    public static void reset() {
+        QueryCounter.start();
+    }
+
+    public static void clear() { // 테스트 스레드 재사용 -> 테스트 종료 후 집계 제거 (다음 테스트로 집계가 이어지지 않도록)
+        QueryCounter.stop();
+    }
+
+    public static void assertSelectCount(int expected) {
+        assertThat(counts().getSelect()).as("select 쿼리 수 %s", counts()).isEqualTo(expected);
+    }
+
+    public static void assertInsertCount(int expected) {
+        assertThat(counts().getInsert()).as("insert 쿼리 수 %s", counts()).isEqualTo(expected);
+    }
+
+    public static void assertUpdateCount(int expected) {
+        assertThat(counts().getUpdate()).as("update 쿼리 수 %s", counts()).isEqualTo(expected);
+    }
+
+    public static void assertDeleteCount(int expected) {
+        assertThat(counts().getDelete()).as("delete 쿼리 수 %s", counts()).isEqualTo(expected);
+    }
+
+    public static void assertTotalCount(int expected) {
+        assertThat(counts().getTotal()).as("전체 쿼리 수 %s", counts()).isEqualTo(expected);
+    }
+
+    private static QueryCounts counts() {
+        return QueryCounter.current();
+    }
+}